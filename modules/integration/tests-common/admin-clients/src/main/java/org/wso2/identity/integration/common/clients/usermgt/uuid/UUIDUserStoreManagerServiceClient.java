@@ -18,6 +18,8 @@ package org.wso2.identity.integration.common.clients.usermgt.uuid;
 
 import org.apache.axis2.AxisFault;
 import org.wso2.carbon.identity.test.integration.service.stub.AuthenticationResultDTO;
+import org.wso2.carbon.identity.test.integration.service.stub.BulkOperationResultDTO;
+import org.wso2.carbon.identity.test.integration.service.stub.BulkUserDTO;
 import org.wso2.carbon.identity.test.integration.service.stub.ClaimDTO;
 import org.wso2.carbon.identity.test.integration.service.stub.ClaimValue;
 import org.wso2.carbon.identity.test.integration.service.stub.ConditionDTO;
@@ -26,7 +28,9 @@ import org.wso2.carbon.identity.test.integration.service.stub.PermissionDTO;
 import org.wso2.carbon.identity.test.integration.service.stub.UUIDUserStoreManagerServiceStub;
 import org.wso2.carbon.identity.test.integration.service.stub.UUIDUserStoreManagerServiceUserStoreExceptionException;
 import org.wso2.carbon.identity.test.integration.service.stub.UniqueIDUserClaimSearchEntryDAO;
+import org.wso2.carbon.identity.test.integration.service.stub.UserClaimValuesDTO;
 import org.wso2.carbon.identity.test.integration.service.stub.UserDTO;
+import org.wso2.carbon.identity.test.integration.service.stub.UserPageDTO;
 import org.wso2.carbon.identity.test.integration.service.stub.UserRoleListDTO;
 import org.wso2.carbon.user.core.UserStoreException;
 import org.wso2.identity.integration.common.clients.AuthenticateStub;
@@ -34,6 +38,7 @@ import org.wso2.identity.integration.common.clients.AuthenticateStub;
 import java.rmi.RemoteException;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service client for the UUID User Store service.
@@ -257,4 +262,59 @@ public class UUIDUserStoreManagerServiceClient {
 
         uuidUserStoreManagerServiceStub.updateRoleListOfUserWithID(userID, deletedRoles, newRoles);
     }
+
+    public BulkOperationResultDTO addUsersWithID(BulkUserDTO[] users) throws UserStoreException, RemoteException,
+            UUIDUserStoreManagerServiceUserStoreExceptionException {
+
+        return uuidUserStoreManagerServiceStub.addUsersWithID(users);
+    }
+
+    public BulkOperationResultDTO deleteUsersWithID(String[] userIDs) throws UserStoreException, RemoteException,
+            UUIDUserStoreManagerServiceUserStoreExceptionException {
+
+        return uuidUserStoreManagerServiceStub.deleteUsersWithID(userIDs);
+    }
+
+    public BulkOperationResultDTO setUsersClaimValuesWithID(UserClaimValuesDTO[] users, String profileName)
+            throws UserStoreException, RemoteException, UUIDUserStoreManagerServiceUserStoreExceptionException {
+
+        return uuidUserStoreManagerServiceStub.setUsersClaimValuesWithID(users, profileName);
+    }
+
+    public UserPageDTO listUsersPageWithID(String filter, String cursor, int pageSize) throws UserStoreException,
+            RemoteException, UUIDUserStoreManagerServiceUserStoreExceptionException {
+
+        return uuidUserStoreManagerServiceStub.listUsersPageWithID(filter, cursor, pageSize);
+    }
+
+    /**
+     * Walk through the users matching the filter page by page, without holding more than one page in memory. The walk
+     * ends on the first empty page, as the user store may return fewer users than the page size before the last page.
+     *
+     * @param filter   Filter for the user names.
+     * @param pageSize Number of users fetched with a single request.
+     * @param consumer Consumer of the users.
+     * @return Number of users consumed.
+     */
+    public int forEachUserWithID(String filter, int pageSize, Consumer<UserDTO> consumer) throws UserStoreException,
+            RemoteException, UUIDUserStoreManagerServiceUserStoreExceptionException {
+
+        int count = 0;
+        String cursor = null;
+        do {
+            UserPageDTO page = listUsersPageWithID(filter, cursor, pageSize);
+            int pageCount = 0;
+            if (page.getUsers() != null) {
+                for (UserDTO user : page.getUsers()) {
+                    if (user != null) {
+                        consumer.accept(user);
+                        pageCount++;
+                    }
+                }
+            }
+            count += pageCount;
+            cursor = pageCount == 0 ? null : page.getNextCursor();
+        } while (cursor != null);
+        return count;
+    }
 }
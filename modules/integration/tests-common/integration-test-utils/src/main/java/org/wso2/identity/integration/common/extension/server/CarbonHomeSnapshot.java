@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.common.extension.server;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Snapshot of a carbon home, used to set up further servers without extracting the product zip and without the
+ * first boot of the server.
+ * <p>
+ * A snapshot has two parts. The pack is captured from a freshly extracted carbon home and is keyed on the digest of
+ * the product zip. The boot state holds the databases, the configuration and the deployment of a server after its
+ * first clean shutdown, and is keyed on the deployment.toml and the startup parameters of that server. A restored
+ * carbon home hard links the files of the pack which the server only reads, and copies the directories the server
+ * writes to, so a running server never changes a file of the snapshot.
+ */
+public final class CarbonHomeSnapshot {
+
+    /**
+     * System property holding the location of the snapshot of the current execution.
+     */
+    public static final String SNAPSHOT_LOCATION_PROPERTY = "carbon.home.snapshot";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CarbonHomeSnapshot.class);
+    private static final String METADATA_FILE = "snapshot.properties";
+    private static final String CARBON_HOME_NAME = "carbon.home.name";
+    private static final String CARBON_ZIP_DIGEST = "carbon.zip.sha256";
+    private static final String BOOT_STATE_DIRECTORY = "boot-state";
+    private static final String PARTIAL_SUFFIX = ".partial";
+    private static final String H2_LOCK_FILE_SUFFIX = ".lock.db";
+    private static final String H2_TRACE_FILE_SUFFIX = ".trace.db";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Digests of the product zips of this execution, as hashing the zip takes a few seconds. A zip is hashed again
+    // when its size or modification time changes.
+    private static final Map<String, String> ZIP_DIGESTS = new ConcurrentHashMap<>();
+
+    private static final Path DEPLOYMENT_TOML = Paths.get("repository", "conf", "deployment.toml");
+    // Directories the server writes to when it boots. These are captured after the first clean shutdown.
+    private static final List<Path> BOOT_STATE_DIRECTORIES = Arrays.asList(
+            Paths.get("repository", "database"),
+            Paths.get("repository", "conf"),
+            Paths.get("repository", "deployment"),
+            Paths.get("repository", "tenants"),
+            Paths.get("repository", "resources"));
+    // Directories the server or the tests may change files in. These are copied instead of linked when restoring.
+    private static final List<Path> MUTABLE_DIRECTORIES = Arrays.asList(
+            Paths.get("repository", "database"),
+            Paths.get("repository", "conf"),
+            Paths.get("repository", "deployment"),
+            Paths.get("repository", "tenants"),
+            Paths.get("repository", "resources"),
+            Paths.get("repository", "components", "dropins"),
+            Paths.get("repository", "components", "lib"),
+            Paths.get("repository", "components", "default", "configuration"),
+            Paths.get("bin"));
+    // Directories holding the state of a single run, which are not part of a snapshot.
+    private static final List<Path> EXCLUDED_DIRECTORIES = Arrays.asList(
+            Paths.get("repository", "logs"),
+            Paths.get("tmp"));
+
+    private final Path location;
+    private final String carbonHomeName;
+
+    private CarbonHomeSnapshot(Path location, String carbonHomeName) {
+
+        this.location = location;
+        this.carbonHomeName = carbonHomeName;
+    }
+
+    /**
+     * Take a snapshot of the pack of the given carbon home.
+     *
+     * @param carbonHome Carbon home extracted from the product zip, which has not been configured or started yet.
+     * @param location   Directory to keep the snapshot in. An existing snapshot in the directory is replaced.
+     * @param carbonZip  Product zip the carbon home was extracted from, used to detect stale snapshots.
+     * @return The snapshot.
+     * @throws IOException If an error occurred while copying the carbon home.
+     */
+    public static CarbonHomeSnapshot capture(Path carbonHome, Path location, Path carbonZip) throws IOException {
+
+        long startTime = System.nanoTime();
+        deleteDirectory(location);
+        Files.createDirectories(location);
+        String carbonHomeName = carbonHome.getFileName().toString();
+        // The pack is copied, as the extracted carbon home is started right after and must not share its files.
+        CloneStats stats = cloneDirectory(carbonHome, location.resolve(carbonHomeName), false);
+
+        Properties metadata = new Properties();
+        metadata.setProperty(CARBON_HOME_NAME, carbonHomeName);
+        metadata.setProperty(CARBON_ZIP_DIGEST, digest(carbonZip));
+        try (OutputStream outputStream = Files.newOutputStream(location.resolve(METADATA_FILE))) {
+            metadata.store(outputStream, "Carbon home snapshot of " + carbonZip.getFileName());
+        }
+        LOG.info("Captured a snapshot of {} in {} ms ({}).", carbonHome,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), stats);
+        return new CarbonHomeSnapshot(location, carbonHomeName);
+    }
+
+    /**
+     * Load the snapshot kept in the given directory.
+     *
+     * @param location  Directory of the snapshot.
+     * @param carbonZip Product zip the snapshot should be taken from.
+     * @return The snapshot, or null if there is no snapshot or if it was taken from a different product zip.
+     * @throws IOException If an error occurred while reading the snapshot metadata.
+     */
+    public static CarbonHomeSnapshot load(Path location, Path carbonZip) throws IOException {
+
+        Path metadataFile = location.resolve(METADATA_FILE);
+        if (!Files.isRegularFile(metadataFile) || !Files.isRegularFile(carbonZip)) {
+            return null;
+        }
+        Properties metadata = new Properties();
+        try (InputStream inputStream = Files.newInputStream(metadataFile)) {
+            metadata.load(inputStream);
+        }
+        if (!digest(carbonZip).equals(metadata.getProperty(CARBON_ZIP_DIGEST))) {
+            LOG.info("Ignoring the carbon home snapshot at {} as it was taken from a different product zip.",
+                    location);
+            return null;
+        }
+        return new CarbonHomeSnapshot(location, metadata.getProperty(CARBON_HOME_NAME));
+    }
+
+    /**
+     * Get the key of the boot state of a configured carbon home.
+     *
+     * @param carbonHome        Configured carbon home.
+     * @param startupParameters Startup parameters of the server, or null if there are none.
+     * @return Digest of the deployment.toml and the startup parameters.
+     * @throws IOException If an error occurred while reading the deployment.toml.
+     */
+    public static String getConfigurationKey(Path carbonHome, Map<String, String> startupParameters)
+            throws IOException {
+
+        MessageDigest messageDigest = newMessageDigest();
+        messageDigest.update(Files.readAllBytes(carbonHome.resolve(DEPLOYMENT_TOML)));
+        if (startupParameters != null) {
+            for (Map.Entry<String, String> parameter : new TreeMap<>(startupParameters).entrySet()) {
+                messageDigest.update(("\n" + parameter.getKey() + "=" + parameter.getValue())
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    /**
+     * Set up a new carbon home from the pack of this snapshot.
+     *
+     * @param targetDirectory Directory to create the carbon home in.
+     * @return Path of the restored carbon home.
+     * @throws IOException If an error occurred while cloning the snapshot.
+     */
+    public Path restore(Path targetDirectory) throws IOException {
+
+        long startTime = System.nanoTime();
+        Path carbonHome = targetDirectory.resolve(carbonHomeName);
+        if (Files.exists(carbonHome)) {
+            throw new IOException("Cannot restore the carbon home snapshot to an existing directory: " + carbonHome);
+        }
+        CloneStats stats = cloneDirectory(location.resolve(carbonHomeName), carbonHome, true);
+        LOG.info("Restored the carbon home snapshot to {} in {} ms ({}).", carbonHome,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), stats);
+        return carbonHome;
+    }
+
+    /**
+     * Copy the boot state of the given configuration over a configured carbon home, so that the server does not go
+     * through its first boot again.
+     *
+     * @param carbonHome       Carbon home restored from this snapshot and configured.
+     * @param configurationKey Key of the configuration of the carbon home.
+     * @return True if the boot state was restored, false if there is no boot state for the configuration.
+     * @throws IOException If an error occurred while copying the boot state.
+     */
+    public boolean restoreBootState(Path carbonHome, String configurationKey) throws IOException {
+
+        Path bootState = getBootStateLocation(configurationKey);
+        if (!Files.isDirectory(bootState)) {
+            return false;
+        }
+        long startTime = System.nanoTime();
+        CloneStats stats = copyDirectory(bootState, carbonHome);
+        LOG.info("Restored the boot state {} to {} in {} ms ({}).", configurationKey, carbonHome,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), stats);
+        return true;
+    }
+
+    /**
+     * Capture the boot state of a carbon home after the first clean shutdown of its server. Nothing is captured if a
+     * database of the server is still locked, as its files may not be complete.
+     *
+     * @param carbonHome       Carbon home of a server which was started once and shut down.
+     * @param configurationKey Key of the configuration of the carbon home.
+     * @return True if the boot state was captured.
+     * @throws IOException If an error occurred while copying the boot state.
+     */
+    public boolean captureBootState(Path carbonHome, String configurationKey) throws IOException {
+
+        Path database = carbonHome.resolve(BOOT_STATE_DIRECTORIES.get(0));
+        if (Files.isDirectory(database)) {
+            try (Stream<Path> files = Files.list(database)) {
+                if (files.anyMatch(file -> file.getFileName().toString().endsWith(H2_LOCK_FILE_SUFFIX))) {
+                    LOG.warn("Skipping the boot state of {} as its databases are still locked.", carbonHome);
+                    return false;
+                }
+            }
+        }
+        long startTime = System.nanoTime();
+        Path bootState = getBootStateLocation(configurationKey);
+        Path partialBootState = bootState.resolveSibling(configurationKey + PARTIAL_SUFFIX);
+        deleteDirectory(partialBootState);
+        CloneStats stats = new CloneStats();
+        for (Path directory : BOOT_STATE_DIRECTORIES) {
+            if (Files.isDirectory(carbonHome.resolve(directory))) {
+                stats.add(copyDirectory(carbonHome.resolve(directory), partialBootState.resolve(directory)));
+            }
+        }
+        // A boot state is only visible once it is complete.
+        deleteDirectory(bootState);
+        Files.move(partialBootState, bootState, StandardCopyOption.ATOMIC_MOVE);
+        LOG.info("Captured the boot state {} of {} in {} ms ({}).", configurationKey, carbonHome,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), stats);
+        return true;
+    }
+
+    public Path getLocation() {
+
+        return location;
+    }
+
+    private Path getBootStateLocation(String configurationKey) {
+
+        return location.resolve(BOOT_STATE_DIRECTORY).resolve(configurationKey);
+    }
+
+    private static CloneStats cloneDirectory(Path source, Path target, boolean linkImmutableFiles)
+            throws IOException {
+
+        CloneStats stats = new CloneStats();
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+
+                Path relativePath = source.relativize(dir);
+                if (EXCLUDED_DIRECTORIES.contains(relativePath)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                Files.createDirectories(target.resolve(relativePath));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+
+                Path relativePath = source.relativize(file);
+                Path targetFile = target.resolve(relativePath);
+                if (linkImmutableFiles && !isMutable(relativePath) && createLink(targetFile, file)) {
+                    stats.linkedFiles++;
+                } else {
+                    Files.copy(file, targetFile, StandardCopyOption.COPY_ATTRIBUTES);
+                    stats.copiedFiles++;
+                    stats.copiedBytes += attrs.size();
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return stats;
+    }
+
+    private static CloneStats copyDirectory(Path source, Path target) throws IOException {
+
+        CloneStats stats = new CloneStats();
+        Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+
+                Files.createDirectories(target.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+
+                if (file.getFileName().toString().endsWith(H2_TRACE_FILE_SUFFIX)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                // Replacing a file unlinks it first, so a hard linked file is never written through.
+                Files.copy(file, target.resolve(source.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
+                        StandardCopyOption.REPLACE_EXISTING);
+                stats.copiedFiles++;
+                stats.copiedBytes += attrs.size();
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return stats;
+    }
+
+    private static boolean isMutable(Path relativePath) {
+
+        for (Path mutableDirectory : MUTABLE_DIRECTORIES) {
+            if (relativePath.startsWith(mutableDirectory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean createLink(Path link, Path existing) {
+
+        // Java has no copy on write clone, and a hard link is not possible across file stores or on every file
+        // system. The file is copied in that case.
+        try {
+            Files.createLink(link, existing);
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.debug("Could not link {} to {}.", link, existing, e);
+            return false;
+        }
+    }
+
+    private static String digest(Path carbonZip) throws IOException {
+
+        String key = carbonZip.toAbsolutePath().normalize() + ":" + Files.size(carbonZip) + ":" +
+                Files.getLastModifiedTime(carbonZip).toMillis();
+        String digest = ZIP_DIGESTS.get(key);
+        if (digest != null) {
+            return digest;
+        }
+        MessageDigest messageDigest = newMessageDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = Files.newInputStream(carbonZip)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+        }
+        digest = HexFormat.of().formatHex(messageDigest.digest());
+        ZIP_DIGESTS.put(key, digest);
+        return digest;
+    }
+
+    private static MessageDigest newMessageDigest() throws IOException {
+
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Digest algorithm is not available: " + DIGEST_ALGORITHM, e);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+
+        if (!Files.exists(directory)) {
+            return;
+        }
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static class CloneStats {
+
+        private int linkedFiles;
+        private int copiedFiles;
+        private long copiedBytes;
+
+        private void add(CloneStats stats) {
+
+            linkedFiles += stats.linkedFiles;
+            copiedFiles += stats.copiedFiles;
+            copiedBytes += stats.copiedBytes;
+        }
+
+        @Override
+        public String toString() {
+
+            return linkedFiles + " files linked, " + copiedFiles + " files copied, " +
+                    copiedBytes / (1024 * 1024) + " MB";
+        }
+    }
+}
@@ -24,12 +24,15 @@ import org.slf4j.LoggerFactory;
 import org.wso2.carbon.automation.extensions.ExtensionConstants;
 import org.wso2.carbon.automation.extensions.servers.carbonserver.CarbonServerExtension;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
-
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -39,6 +42,9 @@ public class IdentityServerExtension extends CarbonServerExtension {
 
     private static final String BACKUP_TEST_PACK = "backup-test-pack";
     private static final String BACKUP_LOCATION = "backup-location";
+    private static final String SNAPSHOT_CARBON_HOME = "snapshot-carbon-home";
+    private static final String SNAPSHOT_LOCATION = "snapshot-location";
+    private static final String DEFAULT_SNAPSHOT_DIRECTORY = "carbon-home-snapshot";
 
     @Override
     public void initiate() {
@@ -54,6 +60,11 @@ public class IdentityServerExtension extends CarbonServerExtension {
         // We have to override this method since this class is loaded by reflection and "getDeclaredMethod()" is used to
         // call this method. "getDeclaredMethod()" does not go through inheritance hierarchy.
         super.onExecutionStart();
+
+        Map<String, String> testParameters = getParameters();
+        if (Boolean.parseBoolean(testParameters.get(SNAPSHOT_CARBON_HOME))) {
+            snapshotCarbonHome(testParameters.get(SNAPSHOT_LOCATION));
+        }
     }
 
     @Override
@@ -79,26 +90,49 @@ public class IdentityServerExtension extends CarbonServerExtension {
         super.onExecutionFinish();
     }
 
+    /**
+     * Publish the location of the carbon home snapshot for the servers started later in the execution. The snapshot
+     * is captured by the first of those servers from its freshly extracted pack and after its first clean shutdown,
+     * never from the running server of this extension. By default the snapshot is kept next to the directory the
+     * product zip was extracted to, so that it is reused by later executions with the same product zip.
+     */
+    private void snapshotCarbonHome(String location) {
+
+        String carbonHome = System.getProperty(ExtensionConstants.CARBON_HOME);
+        if (StringUtils.isEmpty(location) && StringUtils.isEmpty(carbonHome)) {
+            return;
+        }
+        Path snapshotLocation = StringUtils.isNotEmpty(location) ? Paths.get(location) :
+                Paths.get(carbonHome).getParent().resolveSibling(DEFAULT_SNAPSHOT_DIRECTORY);
+        System.setProperty(CarbonHomeSnapshot.SNAPSHOT_LOCATION_PROPERTY, snapshotLocation.toString());
+    }
+
     private void backUpTheDirectory(String sourceDirPath, String zipFilePath) throws IOException {
 
         zipFilePath = zipFilePath + "wso2is-bak-"  + System.currentTimeMillis() + ".zip";
 
         Path zipPath = Files.createFile(Paths.get(zipFilePath));
-        try (ZipOutputStream zipOutputStream = new ZipOutputStream(Files.newOutputStream(zipPath))) {
-            Path sourcePath = Paths.get(sourceDirPath);
-            Files.walk(sourcePath)
-                    .filter(path -> !Files.isDirectory(path))
+        Path sourcePath = Paths.get(sourceDirPath);
+        AtomicInteger fileCount = new AtomicInteger();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(zipPath)));
+             Stream<Path> paths = Files.walk(sourcePath)) {
+            // The backup is for troubleshooting, so compression speed matters more than the size of the archive.
+            zipOutputStream.setLevel(Deflater.BEST_SPEED);
+            paths.filter(path -> !Files.isDirectory(path))
                     .forEach(path -> {
                         ZipEntry zipEntry = new ZipEntry(sourcePath.relativize(path).toString());
                         try {
                             zipOutputStream.putNextEntry(zipEntry);
                             Files.copy(path, zipOutputStream);
                             zipOutputStream.closeEntry();
-                            log.info("Compressing: {}", path);
+                            fileCount.incrementAndGet();
+                            log.debug("Compressing: {}", path);
                         } catch (IOException e) {
                             log.error("Error while performing zip operation.", e);
                         }
                     });
         }
+        log.info("Backed up {} files of {} to {}", fileCount.get(), sourceDirPath, zipFilePath);
     }
 }
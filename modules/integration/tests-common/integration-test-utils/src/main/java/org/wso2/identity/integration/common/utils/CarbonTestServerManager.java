@@ -18,16 +18,32 @@
 
 package org.wso2.identity.integration.common.utils;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.automation.engine.context.AutomationContext;
 import org.wso2.carbon.automation.engine.exceptions.AutomationFrameworkException;
 import org.wso2.carbon.automation.extensions.servers.carbonserver.TestServerManager;
+import org.wso2.identity.integration.common.extension.server.CarbonHomeSnapshot;
 
 import javax.xml.xpath.XPathExpressionException;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Map;
 
 public class CarbonTestServerManager extends TestServerManager {
 
+    private static final Log log = LogFactory.getLog(CarbonTestServerManager.class);
+    private static final String CARBON_ZIP = "carbon.zip";
+    // Servers of the same execution share the snapshot, so they set up their carbon homes one at a time.
+    private static final Object SNAPSHOT_LOCK = new Object();
+
+    private String snapshotCarbonZip = System.getProperty(CARBON_ZIP);
+    private Map<String, String> startupParameters;
+    private CarbonHomeSnapshot pendingBootStateSnapshot;
+    private String configurationKey;
+
     public CarbonTestServerManager(AutomationContext context) {
         super(context);
     }
@@ -35,6 +51,8 @@ public class CarbonTestServerManager extends TestServerManager {
     public CarbonTestServerManager(AutomationContext context, String carbonZip,
                                       Map<String, String> commandMap) {
         super(context, carbonZip, commandMap);
+        this.snapshotCarbonZip = carbonZip;
+        this.startupParameters = commandMap;
     }
 
     public CarbonTestServerManager(AutomationContext context, int portOffset) {
@@ -43,12 +61,19 @@ public class CarbonTestServerManager extends TestServerManager {
 
     public CarbonTestServerManager(AutomationContext context, String carbonZip) {
         super(context, carbonZip);
+        this.snapshotCarbonZip = carbonZip;
     }
 
     public String startServer() throws IOException, AutomationFrameworkException {
+        if (carbonHome == null) {
+            setUpCarbonHomeWithSnapshot();
+        }
         String carbonHome;
         try {
             carbonHome = super.startServer();
+            if (pendingBootStateSnapshot != null) {
+                carbonHome = captureBootState(carbonHome);
+            }
         } catch (XPathExpressionException e) {
             throw new AutomationFrameworkException("Failed to startup server.", e);
         }
@@ -61,4 +86,56 @@ public class CarbonTestServerManager extends TestServerManager {
         super.stopServer();
     }
 
+    /**
+     * Set up the carbon home from the carbon home snapshot published by the IdentityServerExtension, instead of
+     * extracting the product zip, when a snapshot of the same product zip is available. Otherwise the product zip is
+     * extracted and the snapshot is captured before the carbon home is configured and started. Once configured, the
+     * carbon home gets the boot state of a previous server with the same configuration, if there was one.
+     */
+    private void setUpCarbonHomeWithSnapshot() throws IOException, AutomationFrameworkException {
+
+        String snapshotLocation = System.getProperty(CarbonHomeSnapshot.SNAPSHOT_LOCATION_PROPERTY);
+        if (StringUtils.isEmpty(snapshotLocation) || StringUtils.isEmpty(snapshotCarbonZip)) {
+            return;
+        }
+        Path location = Paths.get(snapshotLocation);
+        Path carbonZipPath = Paths.get(snapshotCarbonZip.trim());
+        synchronized (SNAPSHOT_LOCK) {
+            CarbonHomeSnapshot snapshot = CarbonHomeSnapshot.load(location, carbonZipPath);
+            if (snapshot == null) {
+                carbonHome = carbonServer.setUpCarbonHome(carbonZipPath.toString());
+                snapshot = CarbonHomeSnapshot.capture(Paths.get(carbonHome), location, carbonZipPath);
+            } else {
+                Path targetDirectory = location.resolveSibling("carbontmp" + System.currentTimeMillis());
+                carbonHome = snapshot.restore(targetDirectory).toString();
+                log.info("Carbon home is restored from the snapshot at " + snapshotLocation);
+            }
+            configureServer();
+            configurationKey = CarbonHomeSnapshot.getConfigurationKey(Paths.get(carbonHome), startupParameters);
+            if (!snapshot.restoreBootState(Paths.get(carbonHome), configurationKey)) {
+                pendingBootStateSnapshot = snapshot;
+            }
+        }
+    }
+
+    /**
+     * Capture the boot state of a server which started for the first time with its configuration. The server is
+     * shut down before any test changes it, and started again once its databases and configuration are captured.
+     */
+    private String captureBootState(String carbonHome)
+            throws IOException, AutomationFrameworkException, XPathExpressionException {
+
+        CarbonHomeSnapshot snapshot = pendingBootStateSnapshot;
+        pendingBootStateSnapshot = null;
+        super.stopServer();
+        synchronized (SNAPSHOT_LOCK) {
+            try {
+                snapshot.captureBootState(Paths.get(carbonHome), configurationKey);
+            } catch (IOException e) {
+                log.warn("Failed to capture the boot state of " + carbonHome, e);
+            }
+        }
+        return super.startServer();
+    }
+
 }
@@ -33,6 +33,8 @@ import org.wso2.carbon.automation.test.utils.common.TestConfigurationProvider;
 import org.wso2.carbon.integration.common.admin.client.AuthenticatorClient;
 import org.wso2.carbon.integration.common.utils.LoginLogoutClient;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+import org.wso2.identity.integration.common.utils.isolation.IsolatedTenantAutomationContext;
+import org.wso2.identity.integration.common.utils.isolation.IsolatedTenantRegistry;
 
 import javax.xml.xpath.XPathExpressionException;
 import java.io.File;
@@ -62,7 +64,13 @@ public class ISIntegrationTest {
     }
 
     protected void init(TestUserMode userMode) throws Exception {
-        isServer = new AutomationContext("IDENTITY", userMode);
+        if (IsolatedTenantRegistry.isIsolated(getClass())) {
+            // Classes running in the parallel lane get a tenant of their own instead of the configured tenant.
+            isServer = new IsolatedTenantAutomationContext("IDENTITY", userMode,
+                    IsolatedTenantRegistry.getTenant(getClass(), userMode));
+        } else {
+            isServer = new AutomationContext("IDENTITY", userMode);
+        }
         backendURL = isServer.getContextUrls().getBackEndUrl();
         serverURL = backendURL.replace("services/", "");
         loginLogoutClient = new LoginLogoutClient(isServer);
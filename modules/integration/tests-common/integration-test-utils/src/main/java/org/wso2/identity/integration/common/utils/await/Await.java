@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.common.utils.await;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.time.Duration;
+
+/**
+ * Polls a condition until it is satisfied or a timeout elapses, as a replacement of fixed sleeps in tests.
+ * <p>
+ * The condition is evaluated right away and then with an interval that starts small and grows up to a maximum, so
+ * that fast operations are picked up early while slow ones do not flood the server with requests. When an
+ * {@link AwaitSignal} is given, the wait between two polls ends as soon as the signal is raised.
+ * <pre>
+ * boolean deployed = Await.atMost(Duration.ofSeconds(30))
+ *         .until("user store " + domain + " to be deployed", () -> isDeployed(domain));
+ * </pre>
+ */
+public class Await {
+
+    private static final Log LOG = LogFactory.getLog(Await.class);
+
+    private static final Duration DEFAULT_INITIAL_POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofSeconds(2);
+    private static final double BACKOFF_MULTIPLIER = 1.5;
+
+    private final Duration timeout;
+    private Duration initialPollInterval = DEFAULT_INITIAL_POLL_INTERVAL;
+    private Duration maxPollInterval = DEFAULT_MAX_POLL_INTERVAL;
+    private Duration pollDelay = Duration.ZERO;
+    private AwaitSignal signal;
+
+    private Await(Duration timeout) {
+
+        this.timeout = timeout;
+    }
+
+    /**
+     * Start an await with the given timeout.
+     *
+     * @param timeout Maximum time to wait for the condition.
+     * @return Await.
+     */
+    public static Await atMost(Duration timeout) {
+
+        if (timeout == null || timeout.isNegative()) {
+            throw new IllegalArgumentException("Timeout should be a non negative duration: " + timeout);
+        }
+        return new Await(timeout);
+    }
+
+    /**
+     * Set the poll intervals. The interval grows from the initial value up to the maximum value.
+     *
+     * @param initial Interval after the first evaluation.
+     * @param max     Maximum interval.
+     * @return Await.
+     */
+    public Await pollInterval(Duration initial, Duration max) {
+
+        if (initial.isNegative() || initial.isZero() || max.compareTo(initial) < 0) {
+            throw new IllegalArgumentException("Invalid poll intervals. Initial: " + initial + ", max: " + max);
+        }
+        this.initialPollInterval = initial;
+        this.maxPollInterval = max;
+        return this;
+    }
+
+    /**
+     * Set a fixed poll interval.
+     *
+     * @param interval Poll interval.
+     * @return Await.
+     */
+    public Await pollInterval(Duration interval) {
+
+        return pollInterval(interval, interval);
+    }
+
+    /**
+     * Delay the first evaluation of the condition. The delay is counted within the timeout.
+     *
+     * @param delay Delay before the first evaluation.
+     * @return Await.
+     */
+    public Await pollDelay(Duration delay) {
+
+        this.pollDelay = delay;
+        return this;
+    }
+
+    /**
+     * Evaluate the condition as soon as the given signal is raised, instead of waiting for the poll interval.
+     *
+     * @param signal Signal raised when the awaited state may have changed.
+     * @return Await.
+     */
+    public Await wakeUpOn(AwaitSignal signal) {
+
+        this.signal = signal;
+        return this;
+    }
+
+    /**
+     * Wait until the condition is satisfied. An exception thrown by the condition is treated as not satisfied and is
+     * rethrown if the condition is still not satisfied when the timeout elapses.
+     *
+     * @param description Description of the awaited state, used in the logs.
+     * @param condition   Condition to evaluate.
+     * @return True if the condition was satisfied within the timeout, false otherwise.
+     * @throws Exception If the condition failed on the last evaluation, or if the thread is interrupted.
+     */
+    public boolean until(String description, Condition condition) throws Exception {
+
+        long startTime = System.nanoTime();
+        long deadline = startTime + timeout.toNanos();
+        long interval = initialPollInterval.toMillis();
+        int evaluations = 0;
+        Exception lastFailure = null;
+
+        if (!pollDelay.isZero()) {
+            waitFor(currentGeneration(), Math.min(pollDelay.toMillis(), remainingMillis(deadline)));
+        }
+        while (true) {
+            long generation = currentGeneration();
+            evaluations++;
+            try {
+                if (condition.evaluate()) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Awaited " + description + " for " + elapsedMillis(startTime) + " ms with " +
+                                evaluations + " evaluations.");
+                    }
+                    return true;
+                }
+                lastFailure = null;
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                lastFailure = e;
+            }
+
+            long remaining = remainingMillis(deadline);
+            if (remaining <= 0) {
+                break;
+            }
+            waitFor(generation, Math.min(interval, remaining));
+            interval = Math.min((long) (interval * BACKOFF_MULTIPLIER), maxPollInterval.toMillis());
+        }
+
+        LOG.warn("Timed out after " + elapsedMillis(startTime) + " ms and " + evaluations +
+                " evaluations while waiting for " + description + ".");
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+        return false;
+    }
+
+    private long currentGeneration() {
+
+        return signal == null ? 0L : signal.getGeneration();
+    }
+
+    private void waitFor(long generation, long millis) throws InterruptedException {
+
+        if (millis <= 0) {
+            return;
+        }
+        if (signal == null) {
+            Thread.sleep(millis);
+        } else {
+            signal.awaitSignal(generation, millis);
+        }
+    }
+
+    private static long remainingMillis(long deadline) {
+
+        return (deadline - System.nanoTime()) / 1_000_000L;
+    }
+
+    private static long elapsedMillis(long startTime) {
+
+        return (System.nanoTime() - startTime) / 1_000_000L;
+    }
+
+    /**
+     * Condition evaluated by {@link Await}.
+     */
+    @FunctionalInterface
+    public interface Condition {
+
+        boolean evaluate() throws Exception;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.common.utils.await;
+
+/**
+ * Wakes up the {@link Await} calls waiting on it, so that their condition is evaluated right away instead of after
+ * the current poll interval. Mock servers signal on every request they receive, which lets a test waiting for a
+ * callback from the server continue as soon as the callback arrives.
+ */
+public class AwaitSignal {
+
+    private final Object lock = new Object();
+    private long generation;
+
+    /**
+     * Wake up all the waiters.
+     */
+    public void signal() {
+
+        synchronized (lock) {
+            generation++;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Get the number of signals so far. A waiter reads this before evaluating its condition and passes it to
+     * {@link #awaitSignal(long, long)}, so that a signal raised in between is not missed.
+     *
+     * @return Current signal generation.
+     */
+    long getGeneration() {
+
+        synchronized (lock) {
+            return generation;
+        }
+    }
+
+    /**
+     * Wait until a signal newer than the given generation is raised or the timeout elapses.
+     *
+     * @param seenGeneration Generation read before evaluating the condition.
+     * @param timeoutMillis  Maximum time to wait in milliseconds.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    void awaitSignal(long seenGeneration, long timeoutMillis) throws InterruptedException {
+
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+        synchronized (lock) {
+            long remainingNanos;
+            while (generation == seenGeneration && (remainingNanos = deadline - System.nanoTime()) > 0) {
+                lock.wait(Math.max(1L, remainingNanos / 1_000_000L));
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.common.utils.config;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.IExecutionListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schedules the test classes of a suite by the {@link ConfigProfile} they need and applies the profile of a class
+ * before its first method runs.
+ * <p>
+ * Before the suite runs, the classes with a profile are moved out of their {@code <test>} blocks into blocks added at
+ * the end of the suite, one per profile and original block, grouped by profile in the order the profiles first
+ * appear. Every class without a profile therefore runs first with the baseline configuration, and the suite then
+ * restarts the server once per distinct profile. The baseline configuration is restored at the end of the execution, where the restart count and the time
+ * saved are reported. Register it in the suite after the automation framework listeners.
+ */
+public class ConfigProfileListener implements IAlterSuiteListener, IInvokedMethodListener, IExecutionListener {
+
+    private static final Log LOG = LogFactory.getLog(ConfigProfileListener.class);
+
+    private volatile Class<?> currentClass;
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+
+        for (XmlSuite suite : suites) {
+            regroup(suite);
+        }
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+
+        Class<?> testClass = method.getTestMethod().getRealClass();
+        if (testClass == currentClass) {
+            return;
+        }
+        currentClass = testClass;
+        try {
+            ConfigProfileOrchestrator.getInstance().activate(getProfile(testClass));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to apply the configuration profile of " + testClass.getName(), e);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+
+    }
+
+    @Override
+    public void onExecutionStart() {
+
+    }
+
+    @Override
+    public void onExecutionFinish() {
+
+        ConfigProfileOrchestrator orchestrator = ConfigProfileOrchestrator.getInstance();
+        try {
+            // The server is already stopped by the automation framework, so only the files are restored.
+            orchestrator.restoreBaseline(false);
+        } catch (Exception e) {
+            LOG.error("Failed to restore the baseline server configuration.", e);
+        }
+        if (orchestrator.getRestartCount() > 0) {
+            LOG.info(orchestrator.getReport());
+        }
+    }
+
+    /**
+     * Move the classes with a profile to blocks at the end of the suite. Whole classes are moved, so their methods,
+     * including the ones depending on other methods, stay together. A moved class keeps the settings and parameters
+     * of its original block, and the classes of a block keep their relative order.
+     */
+    private static void regroup(XmlSuite suite) {
+
+        // Blocks of the profile classes, each holding the classes of one original block, grouped by profile.
+        Map<String, List<XmlTest>> profileTests = new LinkedHashMap<>();
+        for (XmlTest test : new ArrayList<>(suite.getTests())) {
+            List<XmlClass> baselineClasses = new ArrayList<>();
+            Map<String, List<XmlClass>> classesByProfile = new LinkedHashMap<>();
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                String profile = getProfile(xmlClass.getName());
+                if (profile == null) {
+                    baselineClasses.add(xmlClass);
+                } else {
+                    classesByProfile.computeIfAbsent(profile, k -> new ArrayList<>()).add(xmlClass);
+                }
+            }
+            if (classesByProfile.isEmpty()) {
+                continue;
+            }
+            setXmlClasses(test, baselineClasses);
+            for (Map.Entry<String, List<XmlClass>> entry : classesByProfile.entrySet()) {
+                profileTests.computeIfAbsent(entry.getKey(), k -> new ArrayList<>())
+                        .add(createProfileTest(test, entry.getKey(), entry.getValue()));
+            }
+        }
+        if (profileTests.isEmpty()) {
+            return;
+        }
+        // The clones were added to the end of the suite in the order of the original blocks, reorder them by profile.
+        List<XmlTest> tests = suite.getTests();
+        profileTests.values().forEach(tests::removeAll);
+        profileTests.values().forEach(tests::addAll);
+        LOG.info("Scheduled the classes of " + profileTests.size() + " configuration profiles at the end of " +
+                suite.getName() + ": " + profileTests.keySet());
+    }
+
+    private static XmlTest createProfileTest(XmlTest test, String profile, List<XmlClass> xmlClasses) {
+
+        // The clone carries the parameters and the groups of the block, and is added to the end of the suite.
+        XmlTest profileTest = (XmlTest) test.clone();
+        profileTest.setName(test.getName() + " [" + profile + "]");
+        profileTest.setPreserveOrder(test.getPreserveOrder());
+        profileTest.setGroupByInstances(test.getGroupByInstances());
+        profileTest.setThreadCount(test.getThreadCount());
+        profileTest.setXmlPackages(new ArrayList<>());
+        setXmlClasses(profileTest, xmlClasses);
+        return profileTest;
+    }
+
+    private static void setXmlClasses(XmlTest test, List<XmlClass> xmlClasses) {
+
+        // preserve-order runs the classes by their index, so the index follows the position in the block.
+        for (int i = 0; i < xmlClasses.size(); i++) {
+            xmlClasses.get(i).setIndex(i);
+        }
+        test.setXmlClasses(xmlClasses);
+    }
+
+    private static String getProfile(String className) {
+
+        try {
+            // The class is only inspected for its annotation, so it is not initialized here.
+            return getProfile(Class.forName(className, false, Thread.currentThread().getContextClassLoader()));
+        } catch (ClassNotFoundException e) {
+            // TestNG reports the missing class itself, leave it where it was declared.
+            return null;
+        }
+    }
+
+    private static String getProfile(Class<?> testClass) {
+
+        ConfigProfile configProfile = testClass.getAnnotation(ConfigProfile.class);
+        return configProfile == null ? null : configProfile.value();
+    }
+}
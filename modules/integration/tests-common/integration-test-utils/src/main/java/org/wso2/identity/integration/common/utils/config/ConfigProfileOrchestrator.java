@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.common.utils.config;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.automation.engine.context.AutomationContext;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.carbon.automation.test.utils.common.TestConfigurationProvider;
+import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
+
+import java.io.File;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Switches the deployment.toml of the server between configuration profiles with as few restarts as possible.
+ * <p>
+ * A class activating the profile that is already applied does not cause a restart, and the baseline configuration is
+ * not restored between two profiles. A class applying its configuration by itself restarts the server once in its
+ * setup, and restores the files without a restart in its tear down, so every activation that did not need a restart
+ * saves one restart.
+ */
+public final class ConfigProfileOrchestrator {
+
+    private static final Log LOG = LogFactory.getLog(ConfigProfileOrchestrator.class);
+    private static final ConfigProfileOrchestrator INSTANCE = new ConfigProfileOrchestrator();
+
+    private ServerConfigurationManager serverConfigurationManager;
+    private String activeProfile;
+    private final Set<String> appliedProfiles = new LinkedHashSet<>();
+    private int activations;
+    private int restarts;
+    private long restartNanos;
+
+    private ConfigProfileOrchestrator() {
+
+    }
+
+    public static ConfigProfileOrchestrator getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Make sure the server runs with the given profile, restarting it only if a different configuration is applied.
+     *
+     * @param profile Path of the deployment.toml of the profile relative to the IS test artifacts location, or null
+     *                for the baseline configuration.
+     * @throws Exception If an error occurred while applying the configuration or restarting the server.
+     */
+    public synchronized void activate(String profile) throws Exception {
+
+        if (profile == null) {
+            restoreBaseline(true);
+            return;
+        }
+        activations++;
+        if (profile.equals(activeProfile)) {
+            LOG.info("Configuration profile " + profile + " is already active.");
+            return;
+        }
+
+        File profileFile = new File(TestConfigurationProvider.getResourceLocation("IS") + File.separator + profile);
+        if (!profileFile.exists()) {
+            throw new IllegalArgumentException("Configuration profile does not exist: " + profileFile);
+        }
+        ServerConfigurationManager configurationManager = getServerConfigurationManager();
+        // Only the baseline is backed up, so that restoring brings back the original configuration.
+        configurationManager.applyConfigurationWithoutRestart(profileFile, getDeploymentTomlFile(),
+                activeProfile == null);
+        LOG.info("Switching the server configuration from " + describe(activeProfile) + " to " + profile);
+        restart(configurationManager);
+        activeProfile = profile;
+        appliedProfiles.add(profile);
+    }
+
+    /**
+     * Restore the baseline configuration if a profile is active.
+     *
+     * @param restartServer Whether to restart the server, which is not needed once the execution is over.
+     * @throws Exception If an error occurred while restoring the configuration or restarting the server.
+     */
+    public synchronized void restoreBaseline(boolean restartServer) throws Exception {
+
+        if (activeProfile == null) {
+            return;
+        }
+        LOG.info("Restoring the baseline server configuration from " + activeProfile);
+        ServerConfigurationManager configurationManager = getServerConfigurationManager();
+        configurationManager.restoreToLastConfiguration(false);
+        activeProfile = null;
+        if (restartServer) {
+            restart(configurationManager);
+        }
+    }
+
+    public synchronized String getActiveProfile() {
+
+        return activeProfile;
+    }
+
+    public synchronized int getRestartCount() {
+
+        return restarts;
+    }
+
+    /**
+     * Number of restarts the activations would have caused if every class applied and restored its configuration,
+     * which is one restart per class.
+     *
+     * @return Number of restarts without the orchestrator.
+     */
+    public synchronized int getUnorchestratedRestartCount() {
+
+        return activations;
+    }
+
+    /**
+     * Estimate of the time saved, based on the average time the server took to restart in this execution.
+     *
+     * @return Time saved in milliseconds.
+     */
+    public synchronized long getEstimatedTimeSavedMillis() {
+
+        if (restarts == 0) {
+            return 0L;
+        }
+        long averageRestartNanos = restartNanos / restarts;
+        return TimeUnit.NANOSECONDS.toMillis(averageRestartNanos *
+                Math.max(0, getUnorchestratedRestartCount() - restarts));
+    }
+
+    /**
+     * Build a summary of the restarts done for configuration profiles.
+     *
+     * @return Summary of the execution.
+     */
+    public synchronized String getReport() {
+
+        return String.format("Configuration profiles: %d distinct profiles, %d class activations, %d restarts " +
+                        "(%d without the orchestrator), %d s spent on restarts, ~%d s saved. Profiles: %s",
+                appliedProfiles.size(), activations, restarts, getUnorchestratedRestartCount(),
+                TimeUnit.NANOSECONDS.toSeconds(restartNanos),
+                TimeUnit.MILLISECONDS.toSeconds(getEstimatedTimeSavedMillis()), appliedProfiles);
+    }
+
+    private void restart(ServerConfigurationManager configurationManager) throws Exception {
+
+        long start = System.nanoTime();
+        configurationManager.restartGracefully();
+        restartNanos += System.nanoTime() - start;
+        restarts++;
+    }
+
+    private ServerConfigurationManager getServerConfigurationManager() throws Exception {
+
+        if (serverConfigurationManager == null) {
+            serverConfigurationManager = new ServerConfigurationManager(
+                    new AutomationContext("IDENTITY", TestUserMode.SUPER_TENANT_ADMIN));
+        }
+        return serverConfigurationManager;
+    }
+
+    private static File getDeploymentTomlFile() {
+
+        // carbon.home points to the last started server when secondary servers are used in the suite.
+        String carbonHome = System.getProperty("original.carbon.home", System.getProperty("carbon.home"));
+        return new File(carbonHome + File.separator + "repository" + File.separator +
+                "conf" + File.separator + "deployment.toml");
+    }
+
+    private static String describe(String profile) {
+
+        return profile == null ? "the baseline" : profile;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.common.utils.isolation;
+
+import org.wso2.carbon.automation.engine.context.AutomationContext;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.carbon.automation.engine.context.beans.Tenant;
+
+import javax.xml.xpath.XPathExpressionException;
+
+/**
+ * Automation context which resolves the context tenant to a tenant provisioned for a single test class instead of
+ * the tenant configured in automation.xml for the user mode.
+ */
+public class IsolatedTenantAutomationContext extends AutomationContext {
+
+    private final Tenant isolatedTenant;
+
+    public IsolatedTenantAutomationContext(String productGroup, TestUserMode userMode, Tenant isolatedTenant)
+            throws XPathExpressionException {
+
+        super(productGroup, userMode);
+        this.isolatedTenant = isolatedTenant;
+    }
+
+    @Override
+    public Tenant getContextTenant() {
+
+        return isolatedTenant;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.common.utils.isolation;
+
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.carbon.automation.engine.context.beans.Tenant;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Keeps track of the test classes which should run in a tenant of their own and the tenants provisioned for them.
+ * Test classes running concurrently in the parallel execution mode are isolated from each other this way, so that
+ * applications, users and configurations created by one class are not visible to another.
+ */
+public final class IsolatedTenantRegistry {
+
+    private static final Set<String> ISOLATED_CLASSES = ConcurrentHashMap.newKeySet();
+    private static final Map<String, Tenant> TENANTS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, FutureTask<Tenant>> PROVISIONING = new ConcurrentHashMap<>();
+    private static volatile TenantProvisioner tenantProvisioner;
+
+    private IsolatedTenantRegistry() {
+
+    }
+
+    /**
+     * Provisions a new tenant for a test class.
+     */
+    @FunctionalInterface
+    public interface TenantProvisioner {
+
+        /**
+         * Create a tenant and return its details with the tenant admin set as the context user.
+         *
+         * @param isolationKey Key of the test class and the user mode the tenant is created for.
+         * @return Details of the created tenant.
+         * @throws Exception If an error occurred while creating the tenant.
+         */
+        Tenant provision(String isolationKey) throws Exception;
+    }
+
+    /**
+     * Enable tenant isolation for the given test classes.
+     *
+     * @param classNames  Fully qualified names of the test classes to be isolated.
+     * @param provisioner Provisioner used to create the tenants on demand.
+     */
+    public static void enable(Collection<String> classNames, TenantProvisioner provisioner) {
+
+        tenantProvisioner = provisioner;
+        ISOLATED_CLASSES.addAll(classNames);
+    }
+
+    public static boolean isIsolated(Class<?> testClass) {
+
+        return tenantProvisioner != null && ISOLATED_CLASSES.contains(testClass.getName());
+    }
+
+    /**
+     * Get the tenant of the given test class, provisioning it on the first call. Each user mode of a class gets a
+     * tenant of its own as factories create one instance per user mode.
+     *
+     * @param testClass Test class.
+     * @param userMode  User mode the test class instance is running with.
+     * @return Tenant of the test class.
+     * @throws Exception If an error occurred while provisioning the tenant.
+     */
+    public static Tenant getTenant(Class<?> testClass, TestUserMode userMode) throws Exception {
+
+        String isolationKey = testClass.getName() + "#" + userMode;
+        Tenant tenant = TENANTS.get(isolationKey);
+        if (tenant != null) {
+            return tenant;
+        }
+        // Only callers of the same key wait for each other, so classes running on different workers provision
+        // their tenants concurrently.
+        TenantProvisioner provisioner = tenantProvisioner;
+        FutureTask<Tenant> provisioning = new FutureTask<>(() -> provisioner.provision(isolationKey));
+        FutureTask<Tenant> existing = PROVISIONING.putIfAbsent(isolationKey, provisioning);
+        if (existing == null) {
+            provisioning.run();
+        } else {
+            provisioning = existing;
+        }
+        try {
+            tenant = provisioning.get();
+        } catch (ExecutionException e) {
+            PROVISIONING.remove(isolationKey, provisioning);
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+        TENANTS.put(isolationKey, tenant);
+        return tenant;
+    }
+
+    public static Map<String, Tenant> getTenants() {
+
+        return Collections.unmodifiableMap(TENANTS);
+    }
+
+    /**
+     * Disable tenant isolation and forget the provisioned tenants.
+     */
+    public static void clear() {
+
+        tenantProvisioner = null;
+        ISOLATED_CLASSES.clear();
+        TENANTS.clear();
+        PROVISIONING.clear();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.common.utils.logs;
+
+/**
+ * Position in the lines read by a {@link LogTailer}. A checkpoint is taken before an action, and the lines written
+ * by the action are then looked up among the lines after the checkpoint only.
+ */
+public class LogCheckpoint {
+
+    private final LogTailer tailer;
+    private final int index;
+    private final long nanos;
+
+    LogCheckpoint(LogTailer tailer, int index, long nanos) {
+
+        this.tailer = tailer;
+        this.index = index;
+        this.nanos = nanos;
+    }
+
+    LogTailer getTailer() {
+
+        return tailer;
+    }
+
+    /**
+     * Get the index of the first line after the checkpoint.
+     *
+     * @return Line index.
+     */
+    public int getIndex() {
+
+        return index;
+    }
+
+    /**
+     * Get the time the checkpoint was taken, as given by {@link System#nanoTime()}.
+     *
+     * @return Checkpoint time in nano seconds.
+     */
+    public long getNanos() {
+
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+
+        return tailer.getName() + "@" + index;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.common.utils.logs;
+
+import java.time.Duration;
+
+/**
+ * A line read by a {@link LogTailer}.
+ */
+public class LogLine {
+
+    private final int index;
+    private final String text;
+    private final long readNanos;
+
+    LogLine(int index, String text, long readNanos) {
+
+        this.index = index;
+        this.text = text;
+        this.readNanos = readNanos;
+    }
+
+    /**
+     * Get the position of the line among the lines read by the tailer.
+     *
+     * @return Index of the line.
+     */
+    public int getIndex() {
+
+        return index;
+    }
+
+    public String getText() {
+
+        return text;
+    }
+
+    /**
+     * Get the time the line was read by the tailer, as given by {@link System#nanoTime()}.
+     *
+     * @return Read time in nano seconds.
+     */
+    public long getReadNanos() {
+
+        return readNanos;
+    }
+
+    /**
+     * Get the time between the given checkpoint and the time this line was read. The line is read when the tailer is
+     * polled, so the delay is an upper bound of the time the server took to write the line, off by at most the poll
+     * interval.
+     *
+     * @param checkpoint Checkpoint taken before the action that wrote the line.
+     * @return Delay between the checkpoint and the line.
+     */
+    public Duration getDelayAfter(LogCheckpoint checkpoint) {
+
+        return Duration.ofNanos(Math.max(0L, readNanos - checkpoint.getNanos()));
+    }
+
+    @Override
+    public String toString() {
+
+        return text;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.common.utils.logs;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Tailers of the log files of a server, shared by all the tests running against the server.
+ * <p>
+ * The audit log is read from the start of the file, so that the lines written before the first query can be looked
+ * up as well. It is searched from its beginning, so none of its lines are dropped from memory. The carbon log and the
+ * HTTP access log are large, so they are followed from their end at the time they are first requested. The HTTP
+ * access log has the date in its name, so the latest file is followed.
+ */
+public final class LogTailService {
+
+    public static final String AUDIT_LOG = "audit.log";
+    public static final String CARBON_LOG = "wso2carbon.log";
+    public static final String HTTP_ACCESS_LOG_PREFIX = "http_access_";
+
+    private static final String LOG_EXTENSION = ".log";
+    private static final Map<String, LogTailService> SERVICES = new ConcurrentHashMap<>();
+
+    private final Path logDirectory;
+    private LogTailer auditLog;
+    private LogTailer carbonLog;
+    private LogTailer httpAccessLog;
+
+    private LogTailService(Path logDirectory) {
+
+        this.logDirectory = logDirectory;
+    }
+
+    /**
+     * Get the log tail service of the server in the given carbon home.
+     *
+     * @param carbonHome Carbon home of the server.
+     * @return Log tail service.
+     */
+    public static LogTailService forCarbonHome(String carbonHome) {
+
+        Path logDirectory = Paths.get(carbonHome, "repository", "logs").toAbsolutePath().normalize();
+        return SERVICES.computeIfAbsent(logDirectory.toString(), key -> new LogTailService(logDirectory));
+    }
+
+    public synchronized LogTailer getAuditLog() {
+
+        if (auditLog == null) {
+            Path file = logDirectory.resolve(AUDIT_LOG);
+            auditLog = new LogTailer(AUDIT_LOG, () -> file, true, Integer.MAX_VALUE);
+        }
+        return auditLog;
+    }
+
+    public synchronized LogTailer getCarbonLog() {
+
+        if (carbonLog == null) {
+            carbonLog = new LogTailer(logDirectory.resolve(CARBON_LOG), false);
+        }
+        return carbonLog;
+    }
+
+    public synchronized LogTailer getHttpAccessLog() {
+
+        if (httpAccessLog == null) {
+            httpAccessLog = new LogTailer(HTTP_ACCESS_LOG_PREFIX + "*" + LOG_EXTENSION, this::getLatestHttpAccessLog,
+                    false);
+        }
+        return httpAccessLog;
+    }
+
+    private Path getLatestHttpAccessLog() {
+
+        if (!Files.isDirectory(logDirectory)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(logDirectory)) {
+            return files.filter(file -> {
+                String fileName = file.getFileName().toString();
+                return fileName.startsWith(HTTP_ACCESS_LOG_PREFIX) && fileName.endsWith(LOG_EXTENSION);
+            }).max(Comparator.comparing(file -> file.getFileName().toString())).orElse(null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while listing the log files in " + logDirectory, e);
+        }
+    }
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.common.utils.logs;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.identity.integration.common.utils.await.Await;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Follows a log file of the server. Each poll reads only the bytes written since the previous poll, starting from the
+ * position the previous poll stopped at, and indexes the new lines in memory by their correlation IDs and content
+ * tokens. Lookups are limited to the lines after a {@link LogCheckpoint}, so the cost of an assertion depends on the
+ * amount of new log data instead of the size of the file.
+ * <pre>
+ * LogCheckpoint checkpoint = auditLog.checkpoint();
+ * // Invoke the action which writes the audit log.
+ * Optional&lt;LogLine&gt; line = auditLog.awaitLine(checkpoint, "Action : Login", Duration.ofSeconds(10));
+ * </pre>
+ * The file is polled on demand by the queries. When the resolved path changes, or the file at the path is replaced or
+ * truncated, the new file is read from the start, so that rotated log files are followed.
+ * <p>
+ * At most "log.tailer.max.lines" lines are kept in memory, unless another limit is given to the constructor. Once the
+ * limit is exceeded, the oldest quarter of the lines is dropped along with its index entries. A lookup from a
+ * checkpoint older than the dropped lines skips them, and a warning is logged so that the missing lines are not
+ * mistaken for lines which were never written.
+ */
+public class LogTailer {
+
+    private static final Log LOG = LogFactory.getLog(LogTailer.class);
+
+    public static final String MAX_LINES_PROPERTY = "log.tailer.max.lines";
+
+    private static final int DEFAULT_MAX_LINES = 200000;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+    private static final Pattern CORRELATION_ID_PATTERN = Pattern.compile(
+            "\\[([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})]");
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("[\\p{Alnum}_.@\\-]+");
+
+    private final String name;
+    private final Supplier<Path> fileResolver;
+    private final boolean fromStart;
+    private final List<LogLine> lines = new ArrayList<>();
+    private final Map<String, List<Integer>> correlationIdIndex = new HashMap<>();
+    private final Map<String, List<Integer>> tokenIndex = new HashMap<>();
+    private final ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+    private final long createdNanos = System.nanoTime();
+    private final int maxLines;
+
+    private Path currentFile;
+    private Object currentFileKey;
+    private long position;
+    // Index of the first line kept in memory. The line indexes keep counting from the start across evictions.
+    private int firstLineIndex;
+    // Value of the first line index at the last warning about a lookup of the dropped lines, to warn once per eviction.
+    private int warnedFirstLineIndex;
+
+    /**
+     * Create a tailer of the file given by the resolver. The resolver is called on every poll, so that a log file
+     * with a date in its name is followed across days.
+     *
+     * @param name         Name of the tailer, used in the logs.
+     * @param fileResolver Resolver of the file to follow. May return null if the file does not exist yet.
+     * @param fromStart    Whether to read the lines which exist in the file already. Otherwise, the first file is
+     *                     followed from its current end.
+     */
+    public LogTailer(String name, Supplier<Path> fileResolver, boolean fromStart) {
+
+        this(name, fileResolver, fromStart, Integer.getInteger(MAX_LINES_PROPERTY, DEFAULT_MAX_LINES));
+    }
+
+    /**
+     * Create a tailer of the file given by the resolver, which keeps at most the given number of lines in memory.
+     *
+     * @param name         Name of the tailer, used in the logs.
+     * @param fileResolver Resolver of the file to follow. May return null if the file does not exist yet.
+     * @param fromStart    Whether to read the lines which exist in the file already.
+     * @param maxLines     Maximum number of lines kept in memory, or {@link Integer#MAX_VALUE} to keep all of them.
+     */
+    public LogTailer(String name, Supplier<Path> fileResolver, boolean fromStart, int maxLines) {
+
+        this.name = name;
+        this.fileResolver = fileResolver;
+        this.fromStart = fromStart;
+        this.maxLines = Math.max(maxLines, 4);
+    }
+
+    /**
+     * Create a tailer of the given file.
+     *
+     * @param file      File to follow.
+     * @param fromStart Whether to read the lines which exist in the file already.
+     */
+    public LogTailer(Path file, boolean fromStart) {
+
+        this(file.getFileName().toString(), () -> file, fromStart);
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    /**
+     * Get a checkpoint after all the lines written so far.
+     *
+     * @return Checkpoint.
+     * @throws IOException If the file could not be read.
+     */
+    public synchronized LogCheckpoint checkpoint() throws IOException {
+
+        poll();
+        return new LogCheckpoint(this, getEndIndex(), System.nanoTime());
+    }
+
+    /**
+     * Get a checkpoint before the first line read by this tailer.
+     *
+     * @return Checkpoint.
+     */
+    public LogCheckpoint beginning() {
+
+        return new LogCheckpoint(this, 0, createdNanos);
+    }
+
+    /**
+     * Get the lines after the checkpoint which contain the given content.
+     *
+     * @param after   Checkpoint.
+     * @param content Content to search for.
+     * @return Matching lines in the order they were written.
+     * @throws IOException If the file could not be read.
+     */
+    public synchronized List<LogLine> findLines(LogCheckpoint after, String content) throws IOException {
+
+        validate(after);
+        poll();
+        warnIfDropped(after);
+        List<LogLine> result = new ArrayList<>();
+        List<Integer> candidates = getCandidates(content);
+        if (candidates == null) {
+            for (int i = Math.max(after.getIndex(), firstLineIndex); i < getEndIndex(); i++) {
+                addIfContains(result, i, content);
+            }
+        } else {
+            for (int i = firstIndexFrom(candidates, after.getIndex()); i < candidates.size(); i++) {
+                addIfContains(result, candidates.get(i), content);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the lines after the checkpoint which were written with the given correlation ID.
+     *
+     * @param after         Checkpoint.
+     * @param correlationId Correlation ID of the request.
+     * @return Matching lines in the order they were written.
+     * @throws IOException If the file could not be read.
+     */
+    public synchronized List<LogLine> findLinesWithCorrelationId(LogCheckpoint after, String correlationId)
+            throws IOException {
+
+        validate(after);
+        poll();
+        warnIfDropped(after);
+        List<Integer> indexes = correlationIdIndex.getOrDefault(correlationId, Collections.emptyList());
+        List<LogLine> result = new ArrayList<>();
+        for (int i = firstIndexFrom(indexes, after.getIndex()); i < indexes.size(); i++) {
+            result.add(getLine(indexes.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Wait until a line containing the given content is written after the checkpoint.
+     *
+     * @param after   Checkpoint.
+     * @param content Content to search for.
+     * @param timeout Maximum time to wait.
+     * @return First matching line, or empty if no line was written within the timeout.
+     * @throws Exception If the file could not be read, or if the thread is interrupted.
+     */
+    public Optional<LogLine> awaitLine(LogCheckpoint after, String content, Duration timeout) throws Exception {
+
+        return awaitLines(after, content, 1, timeout).stream().findFirst();
+    }
+
+    /**
+     * Wait until the given number of lines containing the given content are written after the checkpoint.
+     *
+     * @param after   Checkpoint.
+     * @param content Content to search for.
+     * @param count   Number of lines to wait for.
+     * @param timeout Maximum time to wait.
+     * @return Matching lines found when the wait ended, which may be less than the count if the timeout elapsed.
+     * @throws Exception If the file could not be read, or if the thread is interrupted.
+     */
+    public List<LogLine> awaitLines(LogCheckpoint after, String content, int count, Duration timeout)
+            throws Exception {
+
+        AtomicReference<List<LogLine>> matches = new AtomicReference<>(Collections.emptyList());
+        Await.atMost(timeout).pollInterval(POLL_INTERVAL).until(count + " line(s) containing \"" + content +
+                "\" in " + name + " after " + after, () -> {
+            matches.set(findLines(after, content));
+            return matches.get().size() >= count;
+        });
+        return matches.get();
+    }
+
+    /**
+     * Wait until a line with the given correlation ID is written after the checkpoint.
+     *
+     * @param after         Checkpoint.
+     * @param correlationId Correlation ID of the request.
+     * @param timeout       Maximum time to wait.
+     * @return First matching line, or empty if no line was written within the timeout.
+     * @throws Exception If the file could not be read, or if the thread is interrupted.
+     */
+    public Optional<LogLine> awaitLineWithCorrelationId(LogCheckpoint after, String correlationId, Duration timeout)
+            throws Exception {
+
+        AtomicReference<List<LogLine>> matches = new AtomicReference<>(Collections.emptyList());
+        Await.atMost(timeout).pollInterval(POLL_INTERVAL).until("a line with correlation ID " + correlationId +
+                " in " + name + " after " + after, () -> {
+            matches.set(findLinesWithCorrelationId(after, correlationId));
+            return !matches.get().isEmpty();
+        });
+        return matches.get().stream().findFirst();
+    }
+
+    private void validate(LogCheckpoint checkpoint) {
+
+        if (checkpoint.getTailer() != this) {
+            throw new IllegalArgumentException("Checkpoint " + checkpoint + " does not belong to " + name);
+        }
+    }
+
+    private void warnIfDropped(LogCheckpoint checkpoint) {
+
+        if (checkpoint.getIndex() < firstLineIndex && warnedFirstLineIndex != firstLineIndex) {
+            warnedFirstLineIndex = firstLineIndex;
+            LOG.warn("Lookup in " + name + " from " + checkpoint + " skips the " + (firstLineIndex -
+                    checkpoint.getIndex()) + " line(s) dropped to keep " + maxLines + " lines in memory. Increase " +
+                    MAX_LINES_PROPERTY + " to search them.");
+        }
+    }
+
+    /**
+     * Read the lines written since the previous poll.
+     */
+    private void poll() throws IOException {
+
+        Path file = fileResolver.get();
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+        if (!file.equals(currentFile)) {
+            if (currentFile != null) {
+                // Read the rest of the previous file before switching to the new one.
+                read(currentFile);
+                flushPartialLine();
+                position = 0;
+                currentFileKey = null;
+            } else if (!fromStart) {
+                position = Files.size(file);
+            }
+            currentFile = file;
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Following " + file + " from position " + position + ".");
+            }
+        }
+        read(currentFile);
+    }
+
+    private void read(Path file) throws IOException {
+
+        if (!Files.exists(file)) {
+            return;
+        }
+        // The key identifies the file itself, such as its inode, so that a file moved away by the log rotation and
+        // replaced with a new one at the same path is detected even when the new file has grown past the position.
+        Object fileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            boolean replaced = currentFileKey != null && fileKey != null && !Objects.equals(currentFileKey, fileKey);
+            if (replaced || channel.size() < position) {
+                // The file was replaced or truncated by the log rotation.
+                LOG.debug("Log file " + file + " was rotated. Reading it from the start.");
+                flushPartialLine();
+                position = 0;
+            }
+            currentFileKey = fileKey;
+            channel.position(position);
+            int read;
+            buffer.clear();
+            while ((read = channel.read(buffer)) > 0) {
+                byte[] bytes = buffer.array();
+                int lineStart = 0;
+                for (int i = 0; i < read; i++) {
+                    if (bytes[i] == '\n') {
+                        partialLine.write(bytes, lineStart, i - lineStart);
+                        flushPartialLine();
+                        lineStart = i + 1;
+                    }
+                }
+                partialLine.write(bytes, lineStart, read - lineStart);
+                position += read;
+                buffer.clear();
+            }
+        }
+    }
+
+    private void flushPartialLine() {
+
+        if (partialLine.size() == 0) {
+            return;
+        }
+        String text = partialLine.toString(StandardCharsets.UTF_8);
+        partialLine.reset();
+        if (text.endsWith("\r")) {
+            text = text.substring(0, text.length() - 1);
+        }
+        int index = getEndIndex();
+        lines.add(new LogLine(index, text, System.nanoTime()));
+
+        Matcher correlationIdMatcher = CORRELATION_ID_PATTERN.matcher(text);
+        while (correlationIdMatcher.find()) {
+            addToIndex(correlationIdIndex, correlationIdMatcher.group(1), index);
+        }
+        Matcher tokenMatcher = TOKEN_PATTERN.matcher(text);
+        while (tokenMatcher.find()) {
+            addToIndex(tokenIndex, tokenMatcher.group(), index);
+        }
+        if (lines.size() > maxLines) {
+            evictOldestLines(maxLines / 4);
+        }
+    }
+
+    /**
+     * Drop the given number of the oldest lines, and the entries of the indexes which refer to them.
+     */
+    private void evictOldestLines(int count) {
+
+        lines.subList(0, count).clear();
+        firstLineIndex += count;
+        trimIndex(correlationIdIndex);
+        trimIndex(tokenIndex);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Dropped " + count + " lines of " + name + " before line " + firstLineIndex + ".");
+        }
+    }
+
+    private void trimIndex(Map<String, List<Integer>> index) {
+
+        index.values().removeIf(lineIndexes -> {
+            lineIndexes.subList(0, firstIndexFrom(lineIndexes, firstLineIndex)).clear();
+            return lineIndexes.isEmpty();
+        });
+    }
+
+    private int getEndIndex() {
+
+        return firstLineIndex + lines.size();
+    }
+
+    private LogLine getLine(int lineIndex) {
+
+        return lines.get(lineIndex - firstLineIndex);
+    }
+
+    private static void addToIndex(Map<String, List<Integer>> index, String key, int lineIndex) {
+
+        List<Integer> lineIndexes = index.computeIfAbsent(key, k -> new ArrayList<>());
+        if (lineIndexes.isEmpty() || lineIndexes.get(lineIndexes.size() - 1) != lineIndex) {
+            lineIndexes.add(lineIndex);
+        }
+    }
+
+    /**
+     * Get the indexes of the lines which may contain the given content, using the rarest of the tokens which must
+     * appear in a matching line as a whole. Only the tokens of the content which are delimited on both sides are
+     * used, since the first and the last tokens may be a part of a longer token of the line.
+     *
+     * @param content Content to search for.
+     * @return Candidate line indexes, or null if the content has no such token.
+     */
+    private List<Integer> getCandidates(String content) {
+
+        List<Integer> candidates = null;
+        Matcher tokenMatcher = TOKEN_PATTERN.matcher(content);
+        while (tokenMatcher.find()) {
+            if (tokenMatcher.start() == 0 || tokenMatcher.end() == content.length()) {
+                continue;
+            }
+            List<Integer> lineIndexes = tokenIndex.getOrDefault(tokenMatcher.group(), Collections.emptyList());
+            if (candidates == null || lineIndexes.size() < candidates.size()) {
+                candidates = lineIndexes;
+            }
+        }
+        return candidates;
+    }
+
+    private void addIfContains(List<LogLine> result, int lineIndex, String content) {
+
+        LogLine line = getLine(lineIndex);
+        if (line.getText().contains(content)) {
+            result.add(line);
+        }
+    }
+
+    private static int firstIndexFrom(List<Integer> lineIndexes, int fromLineIndex) {
+
+        int position = Collections.binarySearch(lineIndexes, fromLineIndex);
+        return position >= 0 ? position : -position - 1;
+    }
+}
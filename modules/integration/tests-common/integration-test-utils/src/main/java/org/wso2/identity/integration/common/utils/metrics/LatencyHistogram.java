@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.common.utils.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, recorded in microseconds.
+ * Values below 64 micro seconds are stored exactly and larger values are stored with a relative error of at most
+ * 1/32, which is sufficient for reporting p50/p99/p99.9 of request latencies.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int BUCKET_ARRAY_LENGTH = SUB_BUCKET_COUNT + (64 - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_ARRAY_LENGTH);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0L);
+    private final LongAccumulator minMicros = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
+    /**
+     * Record a latency measured with {@link System#nanoTime()}.
+     *
+     * @param nanos Elapsed time in nano seconds.
+     */
+    public void recordNanos(long nanos) {
+
+        recordMicros(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Record a latency value.
+     *
+     * @param micros Elapsed time in micro seconds.
+     */
+    public void recordMicros(long micros) {
+
+        long value = Math.max(0L, micros);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalMicros.add(value);
+        maxMicros.accumulate(value);
+        minMicros.accumulate(value);
+    }
+
+    /**
+     * Add all the recorded values of the given histogram to this histogram.
+     *
+     * @param other Histogram to be merged.
+     */
+    public void add(LatencyHistogram other) {
+
+        for (int i = 0; i < BUCKET_ARRAY_LENGTH; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.add(other.getCount());
+        totalMicros.add(other.totalMicros.sum());
+        if (other.getCount() > 0) {
+            maxMicros.accumulate(other.maxMicros.get());
+            minMicros.accumulate(other.minMicros.get());
+        }
+    }
+
+    public long getCount() {
+
+        return totalCount.sum();
+    }
+
+    public long getMaxMicros() {
+
+        return maxMicros.get();
+    }
+
+    public long getMinMicros() {
+
+        return getCount() == 0 ? 0L : minMicros.get();
+    }
+
+    public double getMeanMicros() {
+
+        long count = getCount();
+        return count == 0 ? 0.0 : (double) totalMicros.sum() / count;
+    }
+
+    /**
+     * Get the value at the given percentile. The returned value is the highest value that is equivalent to the bucket
+     * the percentile falls into, capped at the maximum recorded value.
+     *
+     * @param percentile Percentile in the range [0, 100].
+     * @return Latency at the given percentile in micro seconds.
+     */
+    public long getValueAtPercentile(double percentile) {
+
+        long count = getCount();
+        if (count == 0) {
+            return 0L;
+        }
+        double boundedPercentile = Math.min(Math.max(percentile, 0.0), 100.0);
+        long targetCount = Math.max(1L, (long) Math.ceil(boundedPercentile / 100.0 * count));
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_ARRAY_LENGTH; i++) {
+            cumulativeCount += counts.get(i);
+            if (cumulativeCount >= targetCount) {
+                return Math.min(highestEquivalentValue(i), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    /**
+     * Clear all the recorded values.
+     */
+    public void reset() {
+
+        for (int i = 0; i < BUCKET_ARRAY_LENGTH; i++) {
+            counts.set(i, 0L);
+        }
+        totalCount.reset();
+        totalMicros.reset();
+        maxMicros.reset();
+        minMicros.reset();
+    }
+
+    private static int indexOf(long value) {
+
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int mostSignificantBit = 63 - Long.numberOfLeadingZeros(value);
+        int shift = mostSignificantBit - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + (subBucket - HALF_SUB_BUCKET_COUNT);
+    }
+
+    private static long highestEquivalentValue(int index) {
+
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = offset % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.common.utils.metrics;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Run-wide latency profile of the HTTP requests sent by the test clients, grouped by method and path template.
+ * Identifiers in the request paths are replaced with placeholders, so that "/api/server/v1/applications/{id}" is
+ * reported as a single operation regardless of the application that is accessed.
+ */
+public final class RequestMetricsRegistry {
+
+    private static final Log log = LogFactory.getLog(RequestMetricsRegistry.class);
+
+    private static final String ID_PLACEHOLDER = "{id}";
+    private static final String TENANT_PLACEHOLDER = "{tenant}";
+    private static final String ORGANIZATION_PLACEHOLDER = "{org}";
+    private static final Pattern UUID_PATTERN =
+            Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("\\d+");
+    // Encoded identifiers such as base64 ids of user stores and claim dialects. A digit or padding is required, so
+    // that long resource names such as "password-recovery-config" are not taken as identifiers.
+    private static final Pattern ENCODED_ID_PATTERN = Pattern.compile("(?=.*[\\d=])[A-Za-z0-9_\\-=%]{16,}");
+    private static final String CSV_HEADER = "method,path,count,status_codes,mean_ms,p50_ms,p99_ms,max_ms,total_ms";
+    private static final String TABLE_FORMAT = "%-7s %-70s %8s %10s %10s %10s%n";
+    private static final int SUMMARY_SIZE = 20;
+
+    private static final ConcurrentMap<String, RequestStats> STATS = new ConcurrentHashMap<>();
+
+    private RequestMetricsRegistry() {
+
+    }
+
+    /**
+     * Record a completed request.
+     *
+     * @param method     HTTP method.
+     * @param requestUri Absolute or relative request URI. Query parameters are ignored.
+     * @param statusCode Status code of the response.
+     * @param nanos      Elapsed time in nano seconds.
+     */
+    public static void record(String method, String requestUri, int statusCode, long nanos) {
+
+        String key = method + " " + toPathTemplate(requestUri);
+        RequestStats stats = STATS.computeIfAbsent(key, k -> new RequestStats(method, k.substring(
+                method.length() + 1)));
+        stats.latency.recordNanos(nanos);
+        stats.statusCodes.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+    }
+
+    /**
+     * Convert a request URI to the path template used to group the requests.
+     *
+     * @param requestUri Absolute or relative request URI.
+     * @return Path with the identifiers replaced with placeholders.
+     */
+    public static String toPathTemplate(String requestUri) {
+
+        String path = requestUri;
+        int schemeEnd = path.indexOf("://");
+        if (schemeEnd >= 0) {
+            int pathStart = path.indexOf('/', schemeEnd + 3);
+            path = pathStart >= 0 ? path.substring(pathStart) : "/";
+        }
+        int queryStart = path.indexOf('?');
+        if (queryStart >= 0) {
+            path = path.substring(0, queryStart);
+        }
+
+        String[] segments = path.split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            String previous = i > 0 ? segments[i - 1] : null;
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if ("t".equals(previous)) {
+                segments[i] = TENANT_PLACEHOLDER;
+            } else if ("o".equals(previous)) {
+                segments[i] = ORGANIZATION_PLACEHOLDER;
+            } else if (UUID_PATTERN.matcher(segment).matches() || NUMBER_PATTERN.matcher(segment).matches() ||
+                    ENCODED_ID_PATTERN.matcher(segment).matches()) {
+                segments[i] = ID_PLACEHOLDER;
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    /**
+     * Log the slowest operations by total time and write the complete profile as a CSV file.
+     *
+     * @param reportFile File to write the profile to.
+     * @throws IOException If an error occurred while writing the report.
+     */
+    public static void writeReport(Path reportFile) throws IOException {
+
+        List<RequestStats> operations = new ArrayList<>(STATS.values());
+        if (operations.isEmpty()) {
+            return;
+        }
+        operations.sort(Comparator.comparingLong(RequestStats::getTotalMicros).reversed()
+                .thenComparing(stats -> stats.path));
+
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%nHTTP requests of the test clients (slowest %d of %d operations)%n",
+                Math.min(SUMMARY_SIZE, operations.size()), operations.size()));
+        table.append(String.format(Locale.ROOT, TABLE_FORMAT, "method", "path", "count", "p50 ms", "p99 ms",
+                "total ms"));
+        for (RequestStats stats : operations.subList(0, Math.min(SUMMARY_SIZE, operations.size()))) {
+            table.append(String.format(Locale.ROOT, TABLE_FORMAT, stats.method, stats.path,
+                    stats.latency.getCount(), toMillis(stats.latency.getValueAtPercentile(50)),
+                    toMillis(stats.latency.getValueAtPercentile(99)), toMillis(stats.getTotalMicros())));
+        }
+        log.info(table.toString());
+
+        Path parent = reportFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            for (RequestStats stats : operations) {
+                LatencyHistogram latency = stats.latency;
+                writer.write(String.join(",", stats.method, stats.path, String.valueOf(latency.getCount()),
+                        stats.getStatusCodeSummary(), toMillis(latency.getMeanMicros()),
+                        toMillis(latency.getValueAtPercentile(50)), toMillis(latency.getValueAtPercentile(99)),
+                        toMillis(latency.getMaxMicros()), toMillis(stats.getTotalMicros())));
+                writer.newLine();
+            }
+        }
+        log.info("HTTP request profile written to " + reportFile.toAbsolutePath());
+    }
+
+    /**
+     * Clear all the recorded requests.
+     */
+    public static void reset() {
+
+        STATS.clear();
+    }
+
+    private static String toMillis(double micros) {
+
+        return String.format(Locale.ROOT, "%.3f", micros / 1000.0);
+    }
+
+    /**
+     * Statistics of a single method and path template.
+     */
+    private static class RequestStats {
+
+        private final String method;
+        private final String path;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final ConcurrentMap<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+
+        RequestStats(String method, String path) {
+
+            this.method = method;
+            this.path = path;
+        }
+
+        long getTotalMicros() {
+
+            return Math.round(latency.getMeanMicros() * latency.getCount());
+        }
+
+        String getStatusCodeSummary() {
+
+            StringBuilder summary = new StringBuilder();
+            for (Map.Entry<Integer, LongAdder> entry : new TreeMap<>(statusCodes).entrySet()) {
+                if (summary.length() > 0) {
+                    summary.append(' ');
+                }
+                summary.append(entry.getKey()).append(':').append(entry.getValue().sum());
+            }
+            return summary.toString();
+        }
+    }
+}
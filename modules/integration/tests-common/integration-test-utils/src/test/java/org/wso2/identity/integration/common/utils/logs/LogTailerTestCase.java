@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.common.utils.logs;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests the incremental reading, the rotation handling, the eviction and the indexes of {@link LogTailer} against log
+ * files written by the tests themselves.
+ */
+public class LogTailerTestCase {
+
+    private static final String CORRELATION_ID_1 = "8d2c3f1e-6b1a-4c7e-9f0a-1d2e3f4a5b6c";
+    private static final String CORRELATION_ID_2 = "0f9e8d7c-6b5a-4948-8372-615a4b3c2d1e";
+
+    private Path directory;
+    private Path logFile;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+
+        directory = Files.createTempDirectory("log-tailer");
+        logFile = directory.resolve("test.log");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test(description = "Only the lines after a checkpoint are returned, and a partial line waits for its end")
+    public void testFindLinesAfterCheckpoint() throws IOException {
+
+        append("Action : Login Result : Success\n");
+        LogTailer tailer = new LogTailer(logFile, true);
+        LogCheckpoint checkpoint = tailer.checkpoint();
+        append("Action : Logout Result : Success\nAction : Login Result : Fail");
+
+        Assert.assertEquals(getTexts(tailer.findLines(tailer.beginning(), "Action : Login")),
+                List.of("Action : Login Result : Success"));
+        Assert.assertTrue(tailer.findLines(checkpoint, "Action : Login").isEmpty(),
+                "A line without its line break was returned.");
+
+        append("ure\r\n");
+        Assert.assertEquals(getTexts(tailer.findLines(checkpoint, "Action : Login")),
+                List.of("Action : Login Result : Failure"));
+        Assert.assertEquals(getTexts(tailer.findLines(checkpoint, "Result")),
+                List.of("Action : Logout Result : Success", "Action : Login Result : Failure"));
+    }
+
+    @Test(description = "A tailer which does not start from the beginning skips the existing lines")
+    public void testFollowFromEnd() throws IOException {
+
+        append("old line\n");
+        LogTailer tailer = new LogTailer(logFile, false);
+        tailer.checkpoint();
+        append("new line\n");
+
+        Assert.assertEquals(getTexts(tailer.findLines(tailer.beginning(), "line")), List.of("new line"));
+    }
+
+    @Test(description = "A file replaced at the same path is read from its start, even when it is larger")
+    public void testRotationByReplacement() throws IOException {
+
+        append("first file line\n");
+        LogTailer tailer = new LogTailer(logFile, true);
+        LogCheckpoint checkpoint = tailer.checkpoint();
+
+        Files.move(logFile, directory.resolve("test.log.1"));
+        append("second file line, which is longer than the whole first file\nsecond file last line\n");
+
+        Assert.assertEquals(getTexts(tailer.findLines(checkpoint, "second")),
+                List.of("second file line, which is longer than the whole first file", "second file last line"));
+        Assert.assertEquals(tailer.findLines(tailer.beginning(), "first file line").size(), 1,
+                "The lines of the rotated file were read again.");
+    }
+
+    @Test(description = "A file truncated in place is read from its start")
+    public void testRotationByTruncation() throws IOException {
+
+        append("a line written before the truncation\n");
+        LogTailer tailer = new LogTailer(logFile, true);
+        LogCheckpoint checkpoint = tailer.checkpoint();
+
+        Files.write(logFile, "after\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.TRUNCATE_EXISTING);
+
+        Assert.assertEquals(getTexts(tailer.findLines(checkpoint, "after")), List.of("after"));
+    }
+
+    @Test(description = "A file given by the resolver is followed across a change of the path")
+    public void testResolvedPathChange() throws IOException {
+
+        AtomicReference<Path> current = new AtomicReference<>(logFile);
+        append("day one\n");
+        LogTailer tailer = new LogTailer("dated", current::get, true);
+        LogCheckpoint checkpoint = tailer.checkpoint();
+
+        // The rest of the previous file is read before switching to the new one.
+        append("day one last\n");
+        Path nextFile = directory.resolve("test-next.log");
+        Files.write(nextFile, "day two\n".getBytes(StandardCharsets.UTF_8));
+        current.set(nextFile);
+
+        Assert.assertEquals(getTexts(tailer.findLines(checkpoint, "day")), List.of("day one last", "day two"));
+    }
+
+    @Test(description = "The oldest lines and their index entries are dropped once the limit is exceeded")
+    public void testEviction() throws IOException {
+
+        LogTailer tailer = new LogTailer("bounded", () -> logFile, true, 8);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 9; i++) {
+            content.append("entry line-").append(i).append(" done\n");
+        }
+        append(content.toString());
+
+        // The ninth line exceeds the limit of eight lines, so the oldest two lines are dropped.
+        List<LogLine> lines = tailer.findLines(tailer.beginning(), "entry");
+        Assert.assertEquals(lines.size(), 7);
+        Assert.assertEquals(lines.get(0).getText(), "entry line-2 done");
+        Assert.assertEquals(lines.get(0).getIndex(), 2, "Line indexes changed with the eviction.");
+        Assert.assertTrue(tailer.findLines(tailer.beginning(), "entry line-0 done").isEmpty(),
+                "The index still refers to a dropped line.");
+
+        LogCheckpoint checkpoint = tailer.checkpoint();
+        append("entry line-9 done\n");
+        Assert.assertEquals(getTexts(tailer.findLines(checkpoint, "entry line-9 done")),
+                List.of("entry line-9 done"));
+        Assert.assertEquals(tailer.findLines(tailer.beginning(), "entry").size(), 8);
+    }
+
+    @Test(description = "Lines are looked up by the correlation ID written in brackets")
+    public void testCorrelationIdIndex() throws IOException {
+
+        append("[" + CORRELATION_ID_1 + "] request received\n[" + CORRELATION_ID_2 + "] request received\n");
+        LogTailer tailer = new LogTailer(logFile, true);
+        LogCheckpoint checkpoint = tailer.checkpoint();
+        append("[" + CORRELATION_ID_1 + "] response sent\n");
+
+        Assert.assertEquals(tailer.findLinesWithCorrelationId(tailer.beginning(), CORRELATION_ID_1).size(), 2);
+        Assert.assertEquals(getTexts(tailer.findLinesWithCorrelationId(checkpoint, CORRELATION_ID_1)),
+                List.of("[" + CORRELATION_ID_1 + "] response sent"));
+        Assert.assertTrue(tailer.findLinesWithCorrelationId(checkpoint, CORRELATION_ID_2).isEmpty());
+    }
+
+    @Test(description = "The token index does not hide lines where the content starts or ends inside a token")
+    public void testTokenIndexWithPartialTokens() throws IOException {
+
+        append("user=alice@example.com logged in\nuser=bob@example.com logged out\n");
+        LogTailer tailer = new LogTailer(logFile, true);
+
+        Assert.assertEquals(getTexts(tailer.findLines(tailer.beginning(), "ice@example.com logg")),
+                List.of("user=alice@example.com logged in"));
+        Assert.assertEquals(tailer.findLines(tailer.beginning(), "example.com logged").size(), 2);
+        Assert.assertTrue(tailer.findLines(tailer.beginning(), "user=carol@example.com logged").isEmpty());
+    }
+
+    @Test(description = "A checkpoint of another tailer is rejected",
+            expectedExceptions = IllegalArgumentException.class)
+    public void testCheckpointOfAnotherTailer() throws IOException {
+
+        append("line\n");
+        LogTailer tailer = new LogTailer(logFile, true);
+        LogTailer otherTailer = new LogTailer(logFile, true);
+        tailer.findLines(otherTailer.checkpoint(), "line");
+    }
+
+    private void append(String content) throws IOException {
+
+        Files.write(logFile, content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    private static List<String> getTexts(List<LogLine> lines) {
+
+        return lines.stream().map(LogLine::getText).collect(Collectors.toList());
+    }
+}
@@ -18,36 +18,52 @@
 
 package org.wso2.carbon.identity.jacoco;
 
-import org.codehaus.plexus.util.DirectoryScanner;
-import org.codehaus.plexus.util.FileUtils;
 import org.jacoco.core.analysis.Analyzer;
 import org.jacoco.core.analysis.CoverageBuilder;
 import org.jacoco.core.analysis.IBundleCoverage;
+import org.jacoco.core.analysis.IClassCoverage;
 import org.jacoco.core.tools.ExecFileLoader;
 import org.jacoco.report.DirectorySourceFileLocator;
+import org.jacoco.report.FileMultiReportOutput;
 import org.jacoco.report.IReportVisitor;
+import org.jacoco.report.MultiReportVisitor;
+import org.jacoco.report.csv.CSVFormatter;
+import org.jacoco.report.html.HTMLFormatter;
 import org.jacoco.report.xml.XMLFormatter;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 /**
- * This will create an XML report projects based on a single execution data store called jacoco.exec.
+ * This will create XML, CSV and HTML reports based on a single execution data store called jacoco.exec.
  */
 public class ReportGenerator {
 
-    private static final String CLASS_FILE_PATTERN = "**/*.class";
-    private static final int BUFFER_SIZE = 1024;
+    private static final String CLASS_FILE_EXTENSION = ".class";
+    private static final String MULTI_RELEASE_PREFIX = "META-INF/versions/";
+    private static final String PARALLELISM_PROPERTY = "report.parallelism";
+    private static final int BUFFER_SIZE = 64 * 1024;
     private static final String INVALID_EXTENSION_ERROR = "Invalid extension: %s is invalid";
     private static final String EXTRACTION_ERROR = "Error on archive extraction";
 
@@ -55,7 +71,14 @@ public class ReportGenerator {
     private final File executionDataFile;
     private final Set<File> classDirectories;
     private final File xmlReport;
-    private final File tempDirectory;
+    private final File csvReport;
+    private final File htmlReportDirectory;
+    private final int parallelism;
+
+    // Names of the classes which are added to the coverage model. The same class can be packed in more than one
+    // archive. Only used while merging the results of the sources, which is done by a single thread.
+    private final Set<String> analyzedClasses = new HashSet<>();
+    private final LongAdder skippedClasses = new LongAdder();
 
     private ExecFileLoader execFileLoader;
 
@@ -69,13 +92,14 @@ public class ReportGenerator {
     public static void main(final String[] args) throws IOException {
 
         if (args.length < 2) {
-            System.err.println("Usage: java -jar ReportGenerator.jar <executionDataFile> <classDirectory1> " +
-                    "[<classDirectory2> ...]");
+            System.err.println("Usage: java [-Dreport.parallelism=<threads>] -jar ReportGenerator.jar " +
+                    "<executionDataFile> <classDirectory1> [<classDirectory2> ...]");
             System.exit(1);
         }
 
         File executionDataFile = new File(args[0]);
-        Set<File> classDirectories = new HashSet<>();
+        // Class directories are kept in the given order, which decides the version of a duplicate class.
+        Set<File> classDirectories = new LinkedHashSet<>();
         for (int i = 1; i < args.length; i++) {
             classDirectories.add(new File(args[i]));
         }
@@ -92,7 +116,7 @@ public class ReportGenerator {
      * Create a new generator based for the given project.
      *
      * @param executionDataFile the execution data file
-     * @param classDirectories  the set of class directories
+     * @param classDirectories  the set of class directories, in the order of precedence for duplicate classes
      */
     public ReportGenerator(File executionDataFile, Set<File> classDirectories) {
 
@@ -100,7 +124,9 @@ public class ReportGenerator {
         this.executionDataFile = executionDataFile;
         this.classDirectories = classDirectories;
         this.xmlReport = new File("./report/jacoco.xml");
-        this.tempDirectory = new File("./tmp");
+        this.csvReport = new File("./report/jacoco.csv");
+        this.htmlReportDirectory = new File("./report/html");
+        this.parallelism = Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors());
 
         // Create report directory if it does not exist
         File reportDir = this.xmlReport.getParentFile();
@@ -116,16 +142,19 @@ public class ReportGenerator {
      */
     public void create() throws IOException {
 
+        long startTime = System.currentTimeMillis();
+
         // Read the jacoco.exec file. Multiple data files could be merged at this point
         loadExecutionData();
 
-        // Run the structure analyzer on a single class folder to build up the coverage model. The process would be
-        // similar if your classes were in a jar file. Typically, you would create a bundle for each class folder and
-        // each jar you want in your report. If you have more than one bundle you will need to add a grouping node to
-        // your report.
+        // Run the structure analyzer on the jar files and the class files to build up the coverage model. The classes
+        // of a jar file are read straight from the archive, so nothing is extracted to the disk.
         final IBundleCoverage bundleCoverage = analyzeStructure();
 
         createReport(bundleCoverage);
+
+        System.out.println("Analyzed " + analyzedClasses.size() + " classes, skipped " + skippedClasses.sum() +
+                " duplicate or invalid classes in " + (System.currentTimeMillis() - startTime) + " ms.");
     }
 
     private void loadExecutionData() throws IOException {
@@ -136,78 +165,86 @@ public class ReportGenerator {
 
     private IBundleCoverage analyzeStructure() throws IOException {
 
-        final CoverageBuilder coverageBuilder = new CoverageBuilder();
-        final Analyzer analyzer = new Analyzer(execFileLoader.getExecutionDataStore(), coverageBuilder);
-
-        // Track analyzed classes to avoid duplicates
-        Set<String> analyzedClasses = new HashSet<>();
-
-        List<File> jarFilesToAnalyze = new ArrayList<>();
-        List<File> classFilesToAnalyze = new ArrayList<>();
-
+        // Sources of the classes in the order of precedence: the class directories in the given order, and within a
+        // directory the jar files by name followed by the class files. When a class is found in more than one
+        // source, the first source it is analyzed from successfully wins.
+        List<Callable<Map<String, IClassCoverage>>> tasks = new ArrayList<>();
+        List<Long> taskSizes = new ArrayList<>();
         for (File classDirectory : classDirectories) {
             // Jar files to analyze
-            File[] files =
-                    classDirectory.listFiles((dir, name)
-                            -> name.startsWith("org.wso2.carbon") && !name.contains(".stub_"));
-            if (files != null) {
-                jarFilesToAnalyze.addAll(Arrays.asList(files));
+            File[] jarFiles = classDirectory.listFiles((dir, name)
+                    -> name.startsWith("org.wso2.carbon") && !name.contains(".stub_"));
+            if (jarFiles != null) {
+                Arrays.sort(jarFiles);
+                for (final File jarFile : jarFiles) {
+                    tasks.add(() -> analyzeJarFile(jarFile));
+                    taskSizes.add(jarFile.length());
+                }
             }
 
             // Class files to analyze
-            files = classDirectory.listFiles((dir, name) -> name.endsWith(".class"));
-            if (files != null) {
-                classFilesToAnalyze.addAll(Arrays.asList(files));
+            File[] classFiles = classDirectory.listFiles((dir, name) -> name.endsWith(CLASS_FILE_EXTENSION));
+            if (classFiles != null && classFiles.length > 0) {
+                Arrays.sort(classFiles);
+                tasks.add(() -> analyzeClassFiles(classFiles));
+                taskSizes.add(Arrays.stream(classFiles).mapToLong(File::length).sum());
             }
         }
 
-        String[] includes = {CLASS_FILE_PATTERN};
-        String[] excludes = {"-*.stub*", "-*.stub_", "-*.stub_4.0.0", "-*.stub-"};
-
-        for (final File jarFile : jarFilesToAnalyze) {
-            String extractedDir = extractJarFile(jarFile.getAbsolutePath(), tempDirectory);
-            String[] classFiles = scanDirectory(extractedDir, includes, excludes);
-
-            for (String classFile : classFiles) {
-                File file = new File(extractedDir + File.separator + classFile);
-                String className = getClassNameFromFile(file);
-                if (!analyzedClasses.contains(className)) {
-                    try (InputStream input = new FileInputStream(file)) {
-                        analyzer.analyzeClass(input, className);
-                        analyzedClasses.add(className);
-                    } catch (Exception e) {
-                        System.err.println("Skipping duplicate or invalid class: " + className);
-                    }
-                }
-            }
-            FileUtils.forceDelete(new File(extractedDir));
+        // Largest sources are started first, so that a big jar picked up last does not keep a single thread busy at
+        // the end. The results are still merged in the order of precedence.
+        List<Integer> startOrder = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            startOrder.add(i);
         }
+        startOrder.sort((task1, task2) -> Long.compare(taskSizes.get(task2), taskSizes.get(task1)));
 
-        for (final File classFile : classFilesToAnalyze) {
-            String className = getClassNameFromFile(classFile);
-            if (!analyzedClasses.contains(className)) {
-                try (InputStream input = new FileInputStream(classFile)) {
-                    analyzer.analyzeClass(input, className);
-                    analyzedClasses.add(className);
-                } catch (Exception e) {
-                    System.err.println("Skipping duplicate or invalid class: " + className);
+        final CoverageBuilder coverageBuilder = new CoverageBuilder();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Future<Map<String, IClassCoverage>>> results = new ArrayList<>(Collections.nCopies(tasks.size(),
+                    null));
+            for (int task : startOrder) {
+                results.set(task, pool.submit(tasks.get(task)));
+            }
+            for (Future<Map<String, IClassCoverage>> result : results) {
+                for (IClassCoverage coverage : result.get().values()) {
+                    if (analyzedClasses.add(coverage.getName())) {
+                        coverageBuilder.visitCoverage(coverage);
+                    } else {
+                        skippedClasses.increment();
+                    }
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while analyzing the classes", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Error while analyzing the classes", e.getCause());
+        } finally {
+            pool.shutdownNow();
         }
 
         return coverageBuilder.getBundle(title);
     }
 
     /**
-     * Create a concrete report visitor based on some supplied configuration. In this case we use the defaults.
+     * Create the XML, CSV and HTML reports in a single pass over the coverage model.
+     *
      * @param bundleCoverage - Bundle coverage
      * @throws IOException
      */
     private void createReport(final IBundleCoverage bundleCoverage) throws IOException {
 
-        try (FileOutputStream fos = new FileOutputStream(xmlReport)) {
-            final XMLFormatter xmlFormatter = new XMLFormatter();
-            final IReportVisitor visitor = xmlFormatter.createVisitor(fos);
+        try (OutputStream xmlOutput = new FileOutputStream(xmlReport);
+             OutputStream csvOutput = new FileOutputStream(csvReport)) {
+            final IReportVisitor visitor = new MultiReportVisitor(Arrays.asList(
+                    new XMLFormatter().createVisitor(xmlOutput),
+                    new CSVFormatter().createVisitor(csvOutput),
+                    new HTMLFormatter().createVisitor(new FileMultiReportOutput(htmlReportDirectory))));
 
             // Initialize the report with all the execution and session information. At this point the report doesn't
             // know about the structure of the report being created
@@ -225,86 +262,105 @@ public class ReportGenerator {
     }
 
     /**
-     * Extract jar files given at jar file path
+     * Analyze the class entries of the given jar file while reading the archive.
      *
-     * @param jarFilePath - Jar file path
-     * @param tempDir     - Temporary directory to extract jar file
-     * @return - Jar file extracted directory.
-     * @throws IOException - Throws if jar extraction fails
+     * @param jarFile - Jar file
+     * @return - Coverage of the classes of the archive by class name, in the order of the entries
+     * @throws IOException - Throws if the archive cannot be read
      */
-    private String extractJarFile(String jarFilePath, File tempDir) throws IOException {
+    private Map<String, IClassCoverage> analyzeJarFile(File jarFile) throws IOException {
 
+        String jarFilePath = jarFile.getPath();
         if (!jarFilePath.endsWith(".war") && !jarFilePath.endsWith(".jar")) {
             throw new IllegalArgumentException(String.format(INVALID_EXTENSION_ERROR, jarFilePath));
         }
 
-        String jarFileName = new File(jarFilePath).getName();
-        String tempExtractedDir = new File(tempDir, jarFileName.substring(0, jarFileName.lastIndexOf('.'))).getPath();
-
-        try {
-            extractFile(jarFilePath, tempExtractedDir);
+        Map<String, IClassCoverage> coverages = new LinkedHashMap<>();
+        Analyzer analyzer = createAnalyzer(coverages);
+        try (ZipInputStream zipInputStream = new ZipInputStream(
+                new BufferedInputStream(new FileInputStream(jarFile), BUFFER_SIZE))) {
+            ZipEntry zipEntry;
+            while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+                String entryName = zipEntry.getName();
+                if (!zipEntry.isDirectory() && entryName.endsWith(CLASS_FILE_EXTENSION)) {
+                    analyzeClass(analyzer, zipInputStream, getClassNameFromEntry(entryName));
+                }
+                zipInputStream.closeEntry();
+            }
         } catch (IOException e) {
-            throw new IOException("Could not extract the file " + jarFileName, e);
+            throw new IOException(EXTRACTION_ERROR + ": " + jarFile.getName(), e);
+        }
+        return coverages;
+    }
+
+    /**
+     * Analyze the given class files.
+     *
+     * @param classFiles - Class files
+     * @return - Coverage of the classes by class name, in the order of the files
+     * @throws IOException - Throws if a class file cannot be read
+     */
+    private Map<String, IClassCoverage> analyzeClassFiles(File[] classFiles) throws IOException {
+
+        Map<String, IClassCoverage> coverages = new LinkedHashMap<>();
+        Analyzer analyzer = createAnalyzer(coverages);
+        for (final File classFile : classFiles) {
+            try (InputStream input = new FileInputStream(classFile)) {
+                analyzeClass(analyzer, input, getClassNameFromFile(classFile));
+            }
         }
-        return tempExtractedDir;
+        return coverages;
     }
 
     /**
-     * Scan given directory for include and exclude patterns.
+     * Create an analyzer collecting the coverage of the classes of a single source. Analyzers are not thread safe,
+     * hence every task uses its own analyzer. Only the first version of a class within the source is kept.
      *
-     * @param jarExtractedDir - Path to check for given include/exclude pattern
-     * @param includes        - Include pattern array
-     * @param excludes        - Exclude class pattern array
-     * @return - Included files
+     * @param coverages - Map to collect the coverage of the classes in
+     * @return - The analyzer
      */
-    private String[] scanDirectory(String jarExtractedDir, String[] includes, String[] excludes) {
+    private Analyzer createAnalyzer(Map<String, IClassCoverage> coverages) {
 
-        DirectoryScanner ds = new DirectoryScanner();
+        return new Analyzer(execFileLoader.getExecutionDataStore(), coverage -> {
+            if (coverages.putIfAbsent(coverage.getName(), coverage) != null) {
+                skippedClasses.increment();
+            }
+        });
+    }
 
-        ds.setIncludes(includes);
-        ds.setExcludes(excludes);
-        ds.setBasedir(new File(jarExtractedDir));
-        ds.setCaseSensitive(true);
+    /**
+     * Analyze a class. A class which cannot be analyzed is skipped, so it does not hide a valid version of the same
+     * class in another source.
+     *
+     * @param analyzer  - Analyzer owned by the calling task
+     * @param input     - Class content. The stream is not closed, since it can be an entry of an archive
+     * @param className - The fully qualified class name
+     */
+    private void analyzeClass(Analyzer analyzer, InputStream input, String className) {
 
-        ds.scan();
-        return ds.getIncludedFiles();
+        try {
+            // Read the class fully, so that a failure of the analyzer does not leave the archive stream half consumed.
+            analyzer.analyzeClass(input.readAllBytes(), className);
+        } catch (Exception e) {
+            skippedClasses.increment();
+            System.err.println("Skipping invalid class: " + className);
+        }
     }
 
     /**
-     * Extract the given archive file to the given directory
+     * Get the class name from an archive entry. Multi release class versions are reported as the base class.
      *
-     * @param sourceFilePath - Path to the archive file
-     * @param extractedDir   - Path to the directory to extract the archive file
-     * @throws IOException - Throws if extraction fails
+     * @param entryName - Name of the archive entry
+     * @return - The fully qualified class name
      */
-    private void extractFile(String sourceFilePath, String extractedDir) throws IOException {
+    private String getClassNameFromEntry(String entryName) {
 
-        byte[] buf = new byte[BUFFER_SIZE];
-        try (ZipInputStream zipInputStream = new ZipInputStream(new FileInputStream(sourceFilePath))) {
-            ZipEntry zipEntry;
-            while ((zipEntry = zipInputStream.getNextEntry()) != null) {
-                File newFile = new File(extractedDir, zipEntry.getName());
-                if (zipEntry.isDirectory()) {
-                    if (!newFile.isDirectory() && !newFile.mkdirs()) {
-                        throw new IOException("Failed to create directory " + newFile);
-                    }
-                } else {
-                    File parent = newFile.getParentFile();
-                    if (!parent.isDirectory() && !parent.mkdirs()) {
-                        throw new IOException("Failed to create directory " + parent);
-                    }
-                    try (FileOutputStream fos = new FileOutputStream(newFile)) {
-                        int len;
-                        while ((len = zipInputStream.read(buf)) > 0) {
-                            fos.write(buf, 0, len);
-                        }
-                    }
-                }
-                zipInputStream.closeEntry();
-            }
-        } catch (IOException e) {
-            throw new IOException(EXTRACTION_ERROR, e);
+        String className = entryName;
+        if (className.startsWith(MULTI_RELEASE_PREFIX)) {
+            int versionEnd = className.indexOf('/', MULTI_RELEASE_PREFIX.length());
+            className = className.substring(versionEnd + 1);
         }
+        return className.substring(0, className.length() - CLASS_FILE_EXTENSION.length());
     }
 
     /**
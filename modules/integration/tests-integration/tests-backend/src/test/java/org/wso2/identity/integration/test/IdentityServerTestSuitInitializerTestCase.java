@@ -20,6 +20,7 @@ package org.wso2.identity.integration.test;
 
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.testng.annotations.Test;
+import org.wso2.identity.integration.test.base.FixtureOrchestrator;
 import org.wso2.identity.integration.test.util.Utils;
 
 public class IdentityServerTestSuitInitializerTestCase {
@@ -33,5 +34,7 @@ public class IdentityServerTestSuitInitializerTestCase {
         if (java.security.Security.getProvider(bouncyCastleProvider.getName()) == null) {
             java.security.Security.addProvider(bouncyCastleProvider);
         }
+        //wait for the fixtures started along with the server
+        FixtureOrchestrator.awaitAllReady();
     }
 }
@@ -33,6 +33,7 @@ import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.cookie.RFC6265CookieSpecProvider;
 import org.json.JSONException;
 import org.wso2.carbon.automation.engine.context.AutomationContext;
+import org.wso2.carbon.automation.engine.exceptions.AutomationFrameworkException;
 import org.wso2.carbon.automation.extensions.servers.carbonserver.MultipleServersManager;
 import org.wso2.carbon.identity.application.common.model.idp.xsd.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.xsd.ServiceProvider;
@@ -62,8 +63,11 @@ import org.wso2.identity.integration.test.utils.CommonConstants;
 import org.wso2.identity.integration.test.utils.IdentityConstants;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -109,6 +113,38 @@ public abstract class AbstractIdentityFederationTestCase extends ISIntegrationTe
         manager.startServers(server);
     }
 
+    /**
+     * Start a carbon server with the given deployment.toml. The configuration is applied to the carbon home before the
+     * first start of the server, so that the server does not need to be restarted to pick it up.
+     *
+     * @param portOffset        Port offset of the server.
+     * @param context           Automation context of the server.
+     * @param startupParameters Startup parameters of the server.
+     * @param deploymentToml    Configuration to be used as the deployment.toml of the server.
+     * @throws Exception If an error occurred while starting the server.
+     */
+    public void startCarbonServer(int portOffset, AutomationContext context, Map<String, String> startupParameters,
+                                  File deploymentToml) throws Exception {
+
+        automationContextMap.put(portOffset, context);
+        CarbonTestServerManager server = new CarbonTestServerManager(context, System.getProperty("carbon.zip"),
+                startupParameters) {
+
+            @Override
+            public void configureServer() throws AutomationFrameworkException {
+
+                try {
+                    Files.copy(deploymentToml.toPath(), getDeploymentTomlFile(carbonHome).toPath(),
+                            StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException e) {
+                    throw new AutomationFrameworkException("Failed to apply the configuration " + deploymentToml +
+                            " to " + carbonHome, e);
+                }
+            }
+        };
+        manager.startServers(server);
+    }
+
     public void stopCarbonServer(int portOffset) throws Exception {
 
         manager.stopAllServers();
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.base;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.identity.integration.common.utils.await.Await;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Starts the {@link SuiteFixture}s of the test run concurrently. Each fixture is started on a thread of its own and is
+ * considered ready once its readiness probe passes, instead of after a fixed sleep. The fixtures are stopped in the
+ * reverse order they were started.
+ * <p>
+ * The fixtures of the suite are registered and started by the {@link FixtureOrchestratorListener} before the primary
+ * identity server is started, so that they boot while the server boots. The initializer test classes of the fixtures
+ * wait on the fixtures through {@link #ensureStarted(String, Supplier)}, which also starts a fixture that is not
+ * registered, so that the initializers keep working in suites without the listener.
+ */
+public final class FixtureOrchestrator {
+
+    private static final Log LOG = LogFactory.getLog(FixtureOrchestrator.class);
+
+    public static final String STARTUP_TIMEOUT_PROPERTY = "fixture.startup.timeout";
+
+    private static final long DEFAULT_STARTUP_TIMEOUT_SECONDS = 300;
+    private static final Duration READINESS_POLL_INTERVAL = Duration.ofMillis(100);
+    private static final int PROBE_CONNECT_TIMEOUT_MILLIS = 500;
+
+    private static final Map<String, SuiteFixture> FIXTURES = new LinkedHashMap<>();
+    private static final Map<String, CompletableFuture<Void>> STARTUPS = new HashMap<>();
+    private static final Deque<SuiteFixture> STARTED = new ArrayDeque<>();
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "fixture-orchestrator-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private FixtureOrchestrator() {
+
+    }
+
+    /**
+     * Register a fixture. A fixture with the same name registered earlier is kept.
+     *
+     * @param fixture Fixture to be registered.
+     */
+    public static synchronized void register(SuiteFixture fixture) {
+
+        if (FIXTURES.putIfAbsent(fixture.getName(), fixture) != null) {
+            LOG.debug("Fixture " + fixture.getName() + " is already registered.");
+        }
+    }
+
+    /**
+     * Start the registered fixtures which are not started yet, concurrently and without waiting for them to be
+     * ready.
+     */
+    public static synchronized void startAll() {
+
+        for (SuiteFixture fixture : FIXTURES.values()) {
+            if (!STARTUPS.containsKey(fixture.getName())) {
+                STARTUPS.put(fixture.getName(), CompletableFuture.runAsync(() -> startFixture(fixture), EXECUTOR));
+            }
+        }
+    }
+
+    /**
+     * Make sure that a fixture is started and wait until it is ready. The fixture is registered and started if it is
+     * not registered yet.
+     *
+     * @param name            Name of the fixture.
+     * @param fixtureSupplier Supplier of the fixture, used if the fixture is not registered.
+     * @throws Exception If the fixture failed to start.
+     */
+    public static void ensureStarted(String name, Supplier<SuiteFixture> fixtureSupplier) throws Exception {
+
+        synchronized (FixtureOrchestrator.class) {
+            if (!FIXTURES.containsKey(name)) {
+                register(fixtureSupplier.get());
+            }
+            startAll();
+        }
+        awaitReady(name);
+    }
+
+    /**
+     * Wait until a started fixture is ready.
+     *
+     * @param name Name of the fixture.
+     * @throws Exception If the fixture failed to start.
+     */
+    public static void awaitReady(String name) throws Exception {
+
+        CompletableFuture<Void> startup;
+        synchronized (FixtureOrchestrator.class) {
+            startup = STARTUPS.get(name);
+        }
+        if (startup == null) {
+            throw new IllegalStateException("Fixture " + name + " is not started.");
+        }
+        try {
+            startup.get(getStartupTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new Exception("Fixture " + name + " failed to start.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new Exception("Fixture " + name + " is not ready within " + getStartupTimeout().getSeconds() +
+                    "s.", e);
+        }
+    }
+
+    /**
+     * Wait until all the started fixtures are ready. A failure of an optional fixture is only logged.
+     *
+     * @throws Exception If a fixture which is not optional failed to start.
+     */
+    public static void awaitAllReady() throws Exception {
+
+        Map<String, SuiteFixture> fixtures;
+        synchronized (FixtureOrchestrator.class) {
+            fixtures = new LinkedHashMap<>();
+            STARTUPS.keySet().forEach(name -> fixtures.put(name, FIXTURES.get(name)));
+        }
+        for (Map.Entry<String, SuiteFixture> fixture : fixtures.entrySet()) {
+            try {
+                awaitReady(fixture.getKey());
+            } catch (Exception e) {
+                if (fixture.getValue() == null || !fixture.getValue().isOptional()) {
+                    throw e;
+                }
+                LOG.error("Optional fixture " + fixture.getKey() + " is not available. The tests which use it " +
+                        "will fail.", e);
+            }
+        }
+    }
+
+    /**
+     * Get a registered fixture.
+     *
+     * @param name Name of the fixture.
+     * @param type Type of the fixture.
+     * @param <T>  Type of the fixture.
+     * @return Fixture, or null if no fixture of the given type is registered with the name.
+     */
+    public static synchronized <T extends SuiteFixture> T getFixture(String name, Class<T> type) {
+
+        SuiteFixture fixture = FIXTURES.get(name);
+        return type.isInstance(fixture) ? type.cast(fixture) : null;
+    }
+
+    /**
+     * Stop a fixture and remove it from the orchestrator. A fixture which is still starting is stopped once its
+     * start completes.
+     *
+     * @param name Name of the fixture.
+     */
+    public static void stop(String name) {
+
+        CompletableFuture<Void> startup;
+        synchronized (FixtureOrchestrator.class) {
+            startup = STARTUPS.get(name);
+        }
+        if (startup != null) {
+            // The outcome of the start does not matter here, a fixture which failed to start is stopped as well.
+            startup.handle((result, error) -> null).join();
+        }
+        SuiteFixture fixture;
+        synchronized (FixtureOrchestrator.class) {
+            fixture = FIXTURES.remove(name);
+            STARTUPS.remove(name);
+            if (fixture == null || !STARTED.remove(fixture)) {
+                return;
+            }
+        }
+        stopFixture(fixture);
+    }
+
+    /**
+     * Stop all the fixtures, in the reverse order they were started. Called at the end of the test run.
+     */
+    public static void shutdown() {
+
+        List<String> names;
+        synchronized (FixtureOrchestrator.class) {
+            names = new ArrayList<>();
+            STARTED.forEach(fixture -> names.add(fixture.getName()));
+            names.addAll(STARTUPS.keySet());
+        }
+        names.stream().distinct().forEach(FixtureOrchestrator::stop);
+    }
+
+    /**
+     * Readiness probe of a fixture which listens on a TCP port.
+     *
+     * @param host Host of the fixture.
+     * @param port Port of the fixture.
+     * @return True if a connection could be opened to the port.
+     */
+    public static boolean isListening(String host, int port) {
+
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), PROBE_CONNECT_TIMEOUT_MILLIS);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void startFixture(SuiteFixture fixture) {
+
+        long start = System.nanoTime();
+        LOG.info("Starting fixture " + fixture.getName() + ".");
+        try {
+            fixture.start();
+            synchronized (FixtureOrchestrator.class) {
+                STARTED.push(fixture);
+            }
+            if (!Await.atMost(getStartupTimeout())
+                    .pollInterval(READINESS_POLL_INTERVAL)
+                    .until("fixture " + fixture.getName() + " to be ready", fixture::isReady)) {
+                throw new IllegalStateException("Fixture " + fixture.getName() + " is not ready within " +
+                        getStartupTimeout().getSeconds() + "s.");
+            }
+        } catch (Exception e) {
+            LOG.error("Failed to start fixture " + fixture.getName() + ".", e);
+            throw new CompletionException(e);
+        }
+        LOG.info("Fixture " + fixture.getName() + " is ready in " +
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms.");
+    }
+
+    private static void stopFixture(SuiteFixture fixture) {
+
+        try {
+            fixture.stop();
+            LOG.info("Stopped fixture " + fixture.getName() + ".");
+        } catch (Exception e) {
+            LOG.error("Failed to stop fixture " + fixture.getName() + ".", e);
+        }
+    }
+
+    private static Duration getStartupTimeout() {
+
+        String timeout = System.getProperty(STARTUP_TIMEOUT_PROPERTY);
+        return Duration.ofSeconds(StringUtils.isBlank(timeout) ? DEFAULT_STARTUP_TIMEOUT_SECONDS :
+                Long.parseLong(timeout.trim()));
+    }
+}
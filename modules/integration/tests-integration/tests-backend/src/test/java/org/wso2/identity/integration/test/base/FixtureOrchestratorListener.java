@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.base;
+
+import org.testng.IExecutionListener;
+
+/**
+ * Listener that registers the fixtures of the test suite with the {@link FixtureOrchestrator} and starts them at the
+ * start of the test run, and stops them at the end. It should be the first listener of the suite, so that the fixtures
+ * are started before the automation framework starts the primary identity server and boot while the server boots.
+ * The first test of the suite waits for the fixtures to be ready.
+ */
+public class FixtureOrchestratorListener implements IExecutionListener {
+
+    @Override
+    public void onExecutionStart() {
+
+        FixtureOrchestrator.register(new TomcatFixture());
+        FixtureOrchestrator.register(new LDAPServerFixture());
+        FixtureOrchestrator.register(new SMTPServerFixture());
+        FixtureOrchestrator.startAll();
+    }
+
+    @Override
+    public void onExecutionFinish() {
+
+        FixtureOrchestrator.shutdown();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.base;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.automation.test.utils.common.TestConfigurationProvider;
+import org.wso2.identity.integration.test.utils.ExternalLDAPServer;
+import org.wso2.identity.integration.test.utils.seeding.LDAPUserStoreSeeder;
+import org.wso2.identity.integration.test.utils.seeding.UserStoreSeedSpec;
+
+import java.io.File;
+
+/**
+ * External LDAP server used by the LDAP user store tests, seeded with the users of the "seed.*" system properties when
+ * seeding is enabled. It is ready once the LDAP port accepts connections.
+ */
+public class LDAPServerFixture implements SuiteFixture {
+
+    public static final String NAME = "ldap";
+
+    private static final Log LOG = LogFactory.getLog(LDAPServerFixture.class);
+    private static final String WORKING_DIRECTORY_PATH = "ldapWorkingDirectory";
+    private static final int LDAP_SERVER_PORT = 10389;
+    private static final int OFFSET = 410;
+
+    private ExternalLDAPServer ldapServer;
+
+    @Override
+    public String getName() {
+
+        return NAME;
+    }
+
+    @Override
+    public void start() throws Exception {
+
+        try {
+            File workDir = new File(WORKING_DIRECTORY_PATH);
+            if (workDir.exists()) {
+                FileUtils.deleteDirectory(workDir);
+            }
+            workDir.mkdir();
+            String schemaZipFilePath = TestConfigurationProvider.getResourceLocation("IS") + File.separator +
+                    "is-default-schema.zip";
+            ldapServer = new ExternalLDAPServer(WORKING_DIRECTORY_PATH, schemaZipFilePath, LDAP_SERVER_PORT + OFFSET);
+            ldapServer.init();
+            ldapServer.startServer(true);
+            LOG.info("External LDAP is started.");
+            UserStoreSeedSpec seedSpec = UserStoreSeedSpec.fromSystemProperties();
+            if (seedSpec.isEnabled()) {
+                new LDAPUserStoreSeeder(ldapServer.getDirectoryService()).seed(seedSpec);
+            }
+        } catch (Exception e) {
+            throw new Exception("Failed to start external LDAP.", e);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+
+        return FixtureOrchestrator.isListening("localhost", LDAP_SERVER_PORT + OFFSET);
+    }
+
+    @Override
+    public void stop() throws Exception {
+
+        try {
+            if (ldapServer != null) {
+                ldapServer.stopServer();
+                LOG.info("External LDAP is stopped.");
+            }
+        } catch (Exception e) {
+            throw new Exception("Failed to stop external LDAP.", e);
+        }
+    }
+
+    /**
+     * Get the LDAP server, so that tests running in the same JVM can work on its directory.
+     *
+     * @return External LDAP server, or null if it is not started.
+     */
+    public ExternalLDAPServer getLDAPServer() {
+
+        return ldapServer;
+    }
+}
@@ -18,16 +18,10 @@
 
 package org.wso2.identity.integration.test.base;
 
-import com.github.tomakehurst.wiremock.WireMockServer;
-import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
-import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
 import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
-import org.wso2.identity.integration.common.utils.ISIntegrationTest;
-import org.wso2.identity.integration.test.util.Utils;
 
-import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -76,7 +70,7 @@ public class MockApplicationServer {
 
     private final Map<String, MockClient> apps = new HashMap<>();
 
-    private WireMockServer wireMockServer;
+    private MockServerScope scope;
 
     public MockApplicationServer() {
         
@@ -86,61 +80,54 @@ public class MockApplicationServer {
         apps.put(Constants.APP2.NAME, app2);
     }
 
+    private final ResponseTransformerV2 authorizationCodeTransformer = new ResponseTransformerV2() {
+
+        @Override
+        public Response transform(Response response, ServeEvent serveEvent) {
+
+            AtomicReference<String> authorizationCode
+                    = (AtomicReference<String>) serveEvent.getTransformerParameters().get("code");
+            authorizationCode.set(serveEvent.getRequest().getQueryParams().get("code")
+                    .firstValue());
+            return response;
+        }
+
+        @Override
+        public boolean applyGlobally() {
+            return false;
+        }
+
+        @Override
+        public String getName() {
+            return "authz-code-transformer";
+        }
+    };
+
+    private final ResponseTransformerV2 errorCodeTransformer = new ResponseTransformerV2() {
+
+        @Override
+        public Response transform(Response response, ServeEvent serveEvent) {
+
+            AtomicReference<String> errorCode
+                    = (AtomicReference<String>) serveEvent.getTransformerParameters().get("error");
+            errorCode.set(serveEvent.getRequest().getQueryParams().get("error").firstValue());
+            return response;
+        }
+
+        @Override
+        public boolean applyGlobally() {
+            return false;
+        }
+
+        @Override
+        public String getName() {
+            return "error-code-transformer";
+        }
+    };
+
     public void start() {
 
-        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig()
-                .httpsPort(8091)
-                .httpDisabled(true)
-                .keystorePath(Paths.get(Utils.getResidentCarbonHome(), "repository", "resources", "security",
-                        ISIntegrationTest.KEYSTORE_NAME).toAbsolutePath().toString())
-                .keystorePassword("wso2carbon")
-                .keyManagerPassword("wso2carbon")
-                .extensions(new ResponseTemplateTransformer(null, true, null, null),
-                        new ResponseTransformerV2() {
-
-                            @Override
-                            public Response transform(Response response, ServeEvent serveEvent) {
-
-                                AtomicReference<String> authorizationCode
-                                        = (AtomicReference<String>) serveEvent.getTransformerParameters().get("code");
-                                authorizationCode.set(serveEvent.getRequest().getQueryParams().get("code")
-                                        .firstValue());
-                                return response;
-                            }
-
-                            @Override
-                            public boolean applyGlobally() {
-                                return false;
-                            }
-
-                            @Override
-                            public String getName() {
-                                return "authz-code-transformer";
-                            }
-                        },
-                        new ResponseTransformerV2() {
-
-                            @Override
-                            public Response transform(Response response, ServeEvent serveEvent) {
-
-                                AtomicReference<String> errorCode
-                                        = (AtomicReference<String>) serveEvent.getTransformerParameters().get("error");
-                                errorCode.set(serveEvent.getRequest().getQueryParams().get("error").firstValue());
-                                return response;
-                            }
-
-                            @Override
-                            public boolean applyGlobally() {
-                                return false;
-                            }
-
-                            @Override
-                            public String getName() {
-                                return "error-code-transformer";
-                            }
-                        }));
-
-        wireMockServer.start();
+        scope = MockServerRegistry.openScope(MockServerRegistry.Role.APPLICATION);
 
         // Configure the mock client endpoints for App 1
         configureMockEndpointsForApp(Constants.APP1.CALLBACK_URL_PATH, apps.get(Constants.APP1.NAME));
@@ -150,53 +137,58 @@ public class MockApplicationServer {
 
     public void stop() {
 
-        if (wireMockServer != null) {
-            wireMockServer.stop();
+        if (scope != null) {
+            scope.close();
         }
     }
 
     private void configureMockEndpointsForApp(String urlPath, MockClient app) {
 
         try {
-            wireMockServer.stubFor(get(urlPathEqualTo(urlPath))
+            scope.stubFor(get(urlPathEqualTo(urlPath))
                     .withQueryParam("code", matching(".*"))
                     .willReturn(aResponse()
-                            .withTransformers("response-template", "authz-code-transformer")
+                            .withTransformers("response-template", MockServerScope.TRANSFORMER)
+                            .withTransformerParameter(MockServerScope.TRANSFORMER, authorizationCodeTransformer)
                             .withTransformerParameter("code", app.getAuthorizationCode())
                             .withTransformerParameter("error", app.getErrorCode())
                             .withStatus(200)));
-            wireMockServer.stubFor(post(urlPathEqualTo(urlPath))
+            scope.stubFor(post(urlPathEqualTo(urlPath))
                     .withQueryParam("code", matching(".*"))
                     .willReturn(aResponse()
-                            .withTransformers("response-template", "authz-code-transformer")
+                            .withTransformers("response-template", MockServerScope.TRANSFORMER)
+                            .withTransformerParameter(MockServerScope.TRANSFORMER, authorizationCodeTransformer)
                             .withTransformerParameter("code", app.getAuthorizationCode())
                             .withTransformerParameter("error", app.getErrorCode())
                             .withStatus(200)));
-            wireMockServer.stubFor(get(urlPathEqualTo(urlPath))
+            scope.stubFor(get(urlPathEqualTo(urlPath))
                     .withQueryParam("code", matching(".*"))
                     .withQueryParam("session_state", matching(".*"))
                     .willReturn(aResponse()
-                            .withTransformers("response-template", "authz-code-transformer")
+                            .withTransformers("response-template", MockServerScope.TRANSFORMER)
+                            .withTransformerParameter(MockServerScope.TRANSFORMER, authorizationCodeTransformer)
                             .withTransformerParameter("code", app.getAuthorizationCode())
                             .withTransformerParameter("error", app.getErrorCode())
                             .withStatus(200)));
-            wireMockServer.stubFor(post(urlPathEqualTo(urlPath))
+            scope.stubFor(post(urlPathEqualTo(urlPath))
                     .withQueryParam("code", matching(".*"))
                     .withQueryParam("session_state", matching(".*"))
                     .willReturn(aResponse()
-                            .withTransformers("response-template", "authz-code-transformer")
+                            .withTransformers("response-template", MockServerScope.TRANSFORMER)
+                            .withTransformerParameter(MockServerScope.TRANSFORMER, authorizationCodeTransformer)
                             .withTransformerParameter("code", app.getAuthorizationCode())
                             .withTransformerParameter("error", app.getErrorCode())
                             .withStatus(200)));
-            wireMockServer.stubFor(get(urlPathEqualTo(urlPath))
+            scope.stubFor(get(urlPathEqualTo(urlPath))
                     .withQueryParam("error_description", matching(".*"))
                     .withQueryParam("error", matching(".*"))
                     .willReturn(aResponse()
-                            .withTransformers("response-template", "error-code-transformer")
+                            .withTransformers("response-template", MockServerScope.TRANSFORMER)
+                            .withTransformerParameter(MockServerScope.TRANSFORMER, errorCodeTransformer)
                             .withTransformerParameter("code", app.getAuthorizationCode())
                             .withTransformerParameter("error", app.getErrorCode())
                             .withStatus(200)));
-            wireMockServer.stubFor(get(urlEqualTo(urlPath))
+            scope.stubFor(get(urlEqualTo(urlPath))
                     .willReturn(aResponse()
                             .withTransformers("response-template")
                             .withStatus(200)));
@@ -207,7 +199,7 @@ public class MockApplicationServer {
 
     public void verifyLogoutRedirectionForApp(String appName) {
 
-        wireMockServer.verify(getRequestedFor(urlEqualTo(getCallbackUrlPath(appName))));
+        scope.verify(getRequestedFor(urlEqualTo(getCallbackUrlPath(appName))));
     }
 
     public String getAuthorizationCodeForApp(String appName) {
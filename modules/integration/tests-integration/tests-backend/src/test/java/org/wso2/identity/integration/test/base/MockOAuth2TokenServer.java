@@ -18,20 +18,14 @@
 
 package org.wso2.identity.integration.test.base;
 
-import com.github.tomakehurst.wiremock.WireMockServer;
-import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
-import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 
 import org.json.JSONException;
 import org.json.JSONObject;
-import org.wso2.identity.integration.common.utils.ISIntegrationTest;
-import org.wso2.identity.integration.test.util.Utils;
 
-import java.nio.file.Paths;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
@@ -50,7 +44,6 @@ public class MockOAuth2TokenServer {
 
     public static final String TOKEN_ENDPOINT_URL = "https://localhost:8093/oauth2/token";
     public static final String TOKEN_ENDPOINT_PATH = "/oauth2/token";
-    private static final int TOKEN_ENDPOINT_PORT = 8093;
     private static final String GRANT_TYPE_CLIENT_CREDENTIALS = "client_credentials";
     private static final String GRANT_TYPE_REFRESH_TOKEN = "refresh_token";
     private static final int DEFAULT_EXPIRES_IN = 3600;
@@ -84,12 +77,13 @@ public class MockOAuth2TokenServer {
     private static final String TOKEN_PREFIX_ACCESS = "access_token_";
     private static final String TOKEN_PREFIX_REFRESH = "refresh_token_";
 
-    private WireMockServer wireMockServer;
+    private MockServerScope scope;
     private final AtomicReference<String> lastAccessToken = new AtomicReference<>();
     private final AtomicReference<String> lastRefreshToken = new AtomicReference<>();
     private final AtomicReference<Map<String, String>> lastRequestHeaders = new AtomicReference<>(new HashMap<>());
     private final AtomicReference<Map<String, String>> lastRequestBodyContent = new AtomicReference<>(new HashMap<>());
     private final Map<String, String> tokenStore = new HashMap<>();
+    private final ResponseTransformerV2 tokenResponseTransformer = new OAuth2TokenResponseTransformer();
 
     /**
      * Start the mock OAuth2 token server.
@@ -98,20 +92,8 @@ public class MockOAuth2TokenServer {
      */
     public void start() throws InterruptedException {
 
-        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig()
-                .httpsPort(TOKEN_ENDPOINT_PORT)
-                .httpDisabled(true)
-                .keystorePath(Paths.get(Utils.getResidentCarbonHome(), "repository", "resources", "security",
-                        ISIntegrationTest.KEYSTORE_NAME).toAbsolutePath().toString())
-                .keystorePassword("wso2carbon")
-                .keyManagerPassword("wso2carbon")
-                .extensions(
-                        new ResponseTemplateTransformer(null, true, null, null),
-                        new OAuth2TokenResponseTransformer()));
-
-        wireMockServer.start();
+        scope = MockServerRegistry.openScope(MockServerRegistry.Role.OAUTH2_TOKEN_SERVER);
         configureMockEndpoints();
-        Thread.sleep(2000);
     }
 
     /**
@@ -119,8 +101,8 @@ public class MockOAuth2TokenServer {
      */
     public void stop() {
 
-        if (wireMockServer != null) {
-            wireMockServer.stop();
+        if (scope != null) {
+            scope.close();
         }
     }
 
@@ -201,9 +183,10 @@ public class MockOAuth2TokenServer {
     private void configureMockEndpoints() {
 
         try {
-            wireMockServer.stubFor(post(urlEqualTo(TOKEN_ENDPOINT_PATH))
+            scope.stubFor(post(urlEqualTo(TOKEN_ENDPOINT_PATH))
                     .willReturn(aResponse()
-                            .withTransformers("response-template", TRANSFORMER_NAME)
+                            .withTransformers("response-template", MockServerScope.TRANSFORMER)
+                            .withTransformerParameter(MockServerScope.TRANSFORMER, tokenResponseTransformer)
                             .withStatus(200)
                             .withHeader(HEADER_CONTENT_TYPE, CONTENT_TYPE_JSON)
                             .withHeader("Connection", "keep-alive")
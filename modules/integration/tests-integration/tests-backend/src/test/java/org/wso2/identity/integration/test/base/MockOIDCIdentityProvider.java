@@ -18,10 +18,7 @@
 
 package org.wso2.identity.integration.test.base;
 
-import com.github.tomakehurst.wiremock.WireMockServer;
-import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
-import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
 import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.nimbusds.jose.JWSAlgorithm;
@@ -64,44 +61,35 @@ public class MockOIDCIdentityProvider {
     public static final String MOCK_IDP_CLIENT_ID = "mockIdPClientID";
     public static final String MOCK_IDP_CLIENT_SECRET = "mockIdPClientSecret";
 
-    private WireMockServer wireMockServer;
+    private MockServerScope scope;
     private final AtomicReference<String> authorizationCode = new AtomicReference<>();
 
+    private final ResponseTransformerV2 authorizationCodeTransformer = new ResponseTransformerV2() {
+        @Override
+        public Response transform(Response response, ServeEvent serveEvent) {
+            // Extract the code parameter from the redirect URL
+            String locationHeader = response.getHeaders().getHeader("Location").firstValue();
+            String codeParam = locationHeader.split("code=")[1].split("&")[0];
+
+            // Store the authorization code
+            authorizationCode.set(codeParam);
+            return response;
+        }
+
+        @Override
+        public boolean applyGlobally() {
+            return false;
+        }
+
+        @Override
+        public String getName() {
+            return "authz-code-transformer";
+        }
+    };
+
     public void start() {
 
-        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig()
-                .httpsPort(8089)
-                .httpDisabled(true)
-                .keystorePath(Paths.get(Utils.getResidentCarbonHome(), "repository", "resources", "security",
-                        ISIntegrationTest.KEYSTORE_NAME).toAbsolutePath().toString())
-                .keystorePassword("wso2carbon")
-                .keyManagerPassword("wso2carbon")
-                .extensions(
-                        new ResponseTemplateTransformer(null, true, null, null),
-                        new ResponseTransformerV2() {
-                            @Override
-                            public Response transform(Response response, ServeEvent serveEvent) {
-                                // Extract the code parameter from the redirect URL
-                                String locationHeader = response.getHeaders().getHeader("Location").firstValue();
-                                String codeParam = locationHeader.split("code=")[1].split("&")[0];
-
-                                // Store the authorization code
-                                authorizationCode.set(codeParam);
-                                return response;
-                            }
-
-                            @Override
-                            public boolean applyGlobally() {
-                                return false;
-                            }
-
-                            @Override
-                            public String getName() {
-                                return "authz-code-transformer";
-                            }
-                        }));
-
-        wireMockServer.start();
+        scope = MockServerRegistry.openScope(MockServerRegistry.Role.OIDC_IDENTITY_PROVIDER);
 
         // Configure the mock OIDC endpoints
         configureMockEndpoints();
@@ -109,14 +97,14 @@ public class MockOIDCIdentityProvider {
 
     public void stop() {
 
-        if (wireMockServer != null) {
-            wireMockServer.stop();
+        if (scope != null) {
+            scope.close();
         }
     }
 
     private void configureMockEndpoints() {
 
-        wireMockServer.stubFor(post(urlEqualTo("/token"))
+        scope.stubFor(post(urlEqualTo("/token"))
                 .withRequestBody(notContaining("grant_type=")
                         .or(notContaining("code="))
                         .or(notContaining("redirect_uri=")))
@@ -127,7 +115,7 @@ public class MockOIDCIdentityProvider {
                                 "\"Missing required parameter\" }")));
 
         try {
-            wireMockServer.stubFor(post(urlEqualTo("/token"))
+            scope.stubFor(post(urlEqualTo("/token"))
                     .withRequestBody(containing("grant_type=authorization_code"))
                     .withRequestBody(containing("code="))
                     .withRequestBody(containing("redirect_uri="))
@@ -141,7 +129,7 @@ public class MockOIDCIdentityProvider {
             throw new RuntimeException(e);
         }
 
-        wireMockServer.stubFor(get(urlPathEqualTo("/authorize"))
+        scope.stubFor(get(urlPathEqualTo("/authorize"))
                 .withQueryParam("response_type", matching(".*"))
                 .withQueryParam("redirect_uri", matching(".*"))
                 .withQueryParam("state", matching(".*"))
@@ -149,13 +137,14 @@ public class MockOIDCIdentityProvider {
                 .withQueryParam("client_id", matching(MOCK_IDP_CLIENT_ID))
                 .withQueryParam("scope", matching(".*"))
                 .willReturn(aResponse()
-                        .withTransformers("response-template", "authz-code-transformer")
+                        .withTransformers("response-template", MockServerScope.TRANSFORMER)
+                        .withTransformerParameter(MockServerScope.TRANSFORMER, authorizationCodeTransformer)
                         .withStatus(302)
                         .withHeader("Location",
                                 "{{request.query.redirect_uri}}?session_state=mockid&code="
                                         + java.util.UUID.randomUUID() + "&state={{request.query.state}}")));
 
-        wireMockServer.stubFor(get(urlPathEqualTo("/oidc/logout"))
+        scope.stubFor(get(urlPathEqualTo("/oidc/logout"))
                 .withQueryParam("state", matching(".*"))
                 .withQueryParam("post_logout_redirect_uri", matching(".*"))
                 .withQueryParam("id_token_hint", matching(".*"))
@@ -168,15 +157,15 @@ public class MockOIDCIdentityProvider {
 
     public void verifyForAuthzCodeFlow() {
 
-        wireMockServer.verify(postRequestedFor(urlPathEqualTo("/token"))
+        scope.verify(postRequestedFor(urlPathEqualTo("/token"))
                 .withRequestBody(containing("grant_type=authorization_code"))
                 .withRequestBody(containing("code=" + authorizationCode.get())));
-        wireMockServer.verify(getRequestedFor(urlPathEqualTo("/authorize")));
+        scope.verify(getRequestedFor(urlPathEqualTo("/authorize")));
     }
 
     public void verifyForLogoutFlow() {
 
-        wireMockServer.verify(getRequestedFor(urlPathEqualTo("/oidc/logout")));
+        scope.verify(getRequestedFor(urlPathEqualTo("/oidc/logout")));
     }
 
     private String buildIdToken() throws Exception {
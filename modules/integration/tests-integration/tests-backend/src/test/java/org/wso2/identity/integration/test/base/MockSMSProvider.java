@@ -18,17 +18,11 @@
 
 package org.wso2.identity.integration.test.base;
 
-import com.github.tomakehurst.wiremock.WireMockServer;
-import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
-import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
 import com.github.tomakehurst.wiremock.http.Response;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.jayway.jsonpath.JsonPath;
-import org.wso2.identity.integration.common.utils.ISIntegrationTest;
-import org.wso2.identity.integration.test.util.Utils;
 
-import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -48,66 +42,57 @@ public class MockSMSProvider {
     public static final String SMS_SENDER_URL = "https://localhost:8090/sms/send";
     public static final String SMS_SENDER_PROVIDER_TYPE = "Custom";
 
-    private WireMockServer wireMockServer;
+    private MockServerScope scope;
     private final AtomicReference<String> otp = new AtomicReference<>();
     private final AtomicReference<String> smsContent = new AtomicReference<>();
     private final AtomicReference<Map<String, String>> headers = new AtomicReference<>(new HashMap<>());
 
+    private final ResponseTransformerV2 otpTransformer = new ResponseTransformerV2() {
+        @Override
+        public Response transform(Response response, ServeEvent serveEvent) {
+
+            // Extract the content value from the request body.
+            String content =
+                    JsonPath.parse(serveEvent.getRequest().getBodyAsString()).read("$.content");
+
+            // Store the content value for later use.
+            smsContent.set(content);
+
+            // Capture headers from the request.
+            clearHeaders();
+            Map<String, String> requestHeaders = new HashMap<>();
+            serveEvent.getRequest().getHeaders().all().forEach(header -> {
+                requestHeaders.put(header.key(), header.firstValue());
+            });
+            headers.set(requestHeaders);
+
+            String regex = "\\b\\d{6}\\b";
+
+            Pattern pattern = Pattern.compile(regex);
+            Matcher matcher = pattern.matcher(content);
+
+            if (matcher.find()) {
+                String extractedOtp = matcher.group();
+                // Store the content value for later use.
+                otp.set(extractedOtp);
+            }
+            return response;
+        }
+
+        @Override
+        public boolean applyGlobally() {
+            return false;
+        }
+
+        @Override
+        public String getName() {
+            return "otp-transformer";
+        }
+    };
+
     public void start() {
 
-        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig()
-                .httpsPort(8090)
-                .httpDisabled(true)
-                .keystorePath(Paths.get(Utils.getResidentCarbonHome(), "repository", "resources", "security",
-                        ISIntegrationTest.KEYSTORE_NAME).toAbsolutePath().toString())
-                .keystorePassword("wso2carbon")
-                .keyManagerPassword("wso2carbon")
-                .extensions(
-                        new ResponseTemplateTransformer(null, true, null, null),
-                        new ResponseTransformerV2() {
-                            @Override
-                            public Response transform(Response response, ServeEvent serveEvent) {
-
-                                // Extract the content value from the request body.
-                                String content =
-                                        JsonPath.parse(serveEvent.getRequest().getBodyAsString()).read("$.content");
-
-                                // Store the content value for later use.
-                                smsContent.set(content);
-
-                                // Capture headers from the request.
-                                clearHeaders();
-                                Map<String, String> requestHeaders = new HashMap<>();
-                                serveEvent.getRequest().getHeaders().all().forEach(header -> {
-                                    requestHeaders.put(header.key(), header.firstValue());
-                                });
-                                headers.set(requestHeaders);
-
-                                String regex = "\\b\\d{6}\\b";
-
-                                Pattern pattern = Pattern.compile(regex);
-                                Matcher matcher = pattern.matcher(content);
-
-                                if (matcher.find()) {
-                                    String extractedOtp = matcher.group();
-                                    // Store the content value for later use.
-                                    otp.set(extractedOtp);
-                                }
-                                return response;
-                            }
-
-                            @Override
-                            public boolean applyGlobally() {
-                                return false;
-                            }
-
-                            @Override
-                            public String getName() {
-                                return "otp-transformer";
-                            }
-                        }));
-
-        wireMockServer.start();
+        scope = MockServerRegistry.openScope(MockServerRegistry.Role.SMS_PROVIDER);
 
         // Configure the mock SMS endpoints.
         configureMockEndpoints();
@@ -115,19 +100,20 @@ public class MockSMSProvider {
 
     public void stop() {
 
-        if (wireMockServer != null) {
-            wireMockServer.stop();
+        if (scope != null) {
+            scope.close();
         }
     }
 
     private void configureMockEndpoints() {
 
         try {
-            wireMockServer.stubFor(post(urlEqualTo("/sms/send"))
+            scope.stubFor(post(urlEqualTo("/sms/send"))
                     .withRequestBody(matchingJsonPath("$.content"))
                     .withRequestBody(matchingJsonPath("$.to"))
                     .willReturn(aResponse()
-                            .withTransformers("response-template", "otp-transformer")
+                            .withTransformers("response-template", MockServerScope.TRANSFORMER)
+                            .withTransformerParameter(MockServerScope.TRANSFORMER, otpTransformer)
                             .withStatus(200)));
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.base;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
+import com.github.tomakehurst.wiremock.extension.ServeEventListener;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.identity.integration.common.utils.ISIntegrationTest;
+import org.wso2.identity.integration.test.util.Utils;
+
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps one long-lived WireMock server per mock role for the whole test run and hands out {@link MockServerScope}s
+ * on them. A scope owns the stubs it registers and the requests served by those stubs, so closing a scope resets only
+ * what the test class added, instead of stopping and starting a Jetty server for every test class.
+ * <p>
+ * The roles keep the ports the mock servers always used, since those ports are configured in the test resources.
+ */
+public final class MockServerRegistry {
+
+    private static final Log LOG = LogFactory.getLog(MockServerRegistry.class);
+    private static final String MAX_REQUEST_JOURNAL_ENTRIES_PROPERTY = "mock.server.max.journal.entries";
+    private static final int DEFAULT_MAX_REQUEST_JOURNAL_ENTRIES = 10000;
+
+    private static final Map<Role, WireMockServer> SERVERS = new EnumMap<>(Role.class);
+    private static final Map<Role, Set<MockServerScope>> OPEN_SCOPES = new EnumMap<>(Role.class);
+    private static final AtomicInteger SCOPE_COUNTER = new AtomicInteger();
+    private static boolean shutdownHookRegistered;
+
+    /**
+     * Roles of the mock servers used by the tests.
+     */
+    public enum Role {
+
+        OIDC_IDENTITY_PROVIDER(8089, true, true),
+        SMS_PROVIDER(8090, true, true),
+        APPLICATION(8091, true, true),
+        OAUTH2_TOKEN_SERVER(8093, true, true),
+        WEBHOOK_ENDPOINT(8580, false, false),
+        SERVICE_EXTENSION(8587, false, false);
+
+        private final int port;
+        private final boolean https;
+        private final boolean templating;
+
+        Role(int port, boolean https, boolean templating) {
+
+            this.port = port;
+            this.https = https;
+            this.templating = templating;
+        }
+
+        public int getPort() {
+
+            return port;
+        }
+
+        public boolean isHttps() {
+
+            return https;
+        }
+    }
+
+    private MockServerRegistry() {
+
+    }
+
+    /**
+     * Open a scope on the server of the given role, starting the server if it is not running yet.
+     *
+     * @param role       Role of the mock server.
+     * @param namespaced Whether the paths of the scope should be prefixed with the scope id. A namespaced scope can be
+     *                   used in parallel with the other scopes of the role, but its URLs are only known at runtime.
+     * @return Scope.
+     * @throws IllegalStateException If a scope without a namespace is requested while another one is open on the
+     *                               server, since their stubs of the same path would override each other.
+     */
+    public static synchronized MockServerScope openScope(Role role, boolean namespaced) {
+
+        Set<MockServerScope> openScopes = OPEN_SCOPES.computeIfAbsent(role, r -> ConcurrentHashMap.newKeySet());
+        if (!namespaced) {
+            for (MockServerScope openScope : openScopes) {
+                if (!openScope.isNamespaced()) {
+                    throw new IllegalStateException("Scope " + openScope.getId() + " without a namespace is still " +
+                            "open on the " + role + " mock server. Close it before opening another one.");
+                }
+            }
+        }
+
+        WireMockServer server = SERVERS.computeIfAbsent(role, MockServerRegistry::startServer);
+        String scopeId = role.name().toLowerCase().replace('_', '-') + "-" + SCOPE_COUNTER.incrementAndGet();
+        MockServerScope scope = new MockServerScope(role, server, scopeId, namespaced);
+        openScopes.add(scope);
+        return scope;
+    }
+
+    /**
+     * Open a scope on the server of the given role, using the paths as they are.
+     *
+     * @param role Role of the mock server.
+     * @return Scope.
+     */
+    public static MockServerScope openScope(Role role) {
+
+        return openScope(role, false);
+    }
+
+    /**
+     * Stop all the mock servers. Called at the end of the test run.
+     */
+    public static synchronized void shutdown() {
+
+        for (Map.Entry<Role, WireMockServer> entry : SERVERS.entrySet()) {
+            if (entry.getValue().isRunning()) {
+                entry.getValue().stop();
+                LOG.info("Stopped the " + entry.getKey() + " mock server.");
+            }
+        }
+        SERVERS.clear();
+        OPEN_SCOPES.clear();
+    }
+
+    static synchronized void closeScope(MockServerScope scope) {
+
+        Set<MockServerScope> openScopes = OPEN_SCOPES.get(scope.getRole());
+        if (openScopes != null) {
+            openScopes.remove(scope);
+        }
+        // Requests which did not match a stub of a scope are only removed once no scope can see them anymore.
+        WireMockServer server = SERVERS.get(scope.getRole());
+        if ((openScopes == null || openScopes.isEmpty()) && server != null && server.isRunning()) {
+            server.resetRequests();
+        }
+    }
+
+    /**
+     * Get the open scopes of a role.
+     */
+    static Set<MockServerScope> getOpenScopes(Role role) {
+
+        Set<MockServerScope> openScopes = OPEN_SCOPES.get(role);
+        return openScopes == null ? Set.of() : openScopes;
+    }
+
+    private static WireMockServer startServer(Role role) {
+
+        WireMockConfiguration configuration = WireMockConfiguration.wireMockConfig();
+        if (role.https) {
+            configuration.httpsPort(role.port)
+                    .httpDisabled(true)
+                    .keystorePath(Paths.get(Utils.getResidentCarbonHome(), "repository", "resources", "security",
+                            ISIntegrationTest.KEYSTORE_NAME).toAbsolutePath().toString())
+                    .keystorePassword("wso2carbon")
+                    .keyManagerPassword("wso2carbon");
+        } else {
+            configuration.port(role.port);
+        }
+        // The servers live for the whole run, so the request journal is capped in case a scope is never closed.
+        configuration.maxRequestJournalEntries(Integer.getInteger(MAX_REQUEST_JOURNAL_ENTRIES_PROPERTY,
+                DEFAULT_MAX_REQUEST_JOURNAL_ENTRIES));
+        if (role.templating) {
+            configuration.extensions(new ResponseTemplateTransformer(null, true, null, null),
+                    new ScopedResponseTransformer(), new ScopeServeEventListener(role));
+        } else {
+            configuration.extensions(new ScopedResponseTransformer(), new ScopeServeEventListener(role));
+        }
+
+        WireMockServer server = new WireMockServer(configuration);
+        server.start();
+        registerShutdownHook();
+        LOG.info("Started the " + role + " mock server on port " + role.port + ".");
+        return server;
+    }
+
+    private static void registerShutdownHook() {
+
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(MockServerRegistry::shutdown));
+            shutdownHookRegistered = true;
+        }
+    }
+
+    /**
+     * Delegates to the transformer passed as the {@link MockServerScope#TRANSFORMER} parameter of the stub. The
+     * transformers of a long-lived server are fixed when it starts, so the mocks hand over their transformers,
+     * which capture their own state, through the stub instead.
+     */
+    private static class ScopedResponseTransformer implements ResponseTransformerV2 {
+
+        @Override
+        public Response transform(Response response, ServeEvent serveEvent) {
+
+            Object transformer = serveEvent.getTransformerParameters().get(MockServerScope.TRANSFORMER);
+            if (transformer instanceof ResponseTransformerV2) {
+                return ((ResponseTransformerV2) transformer).transform(response, serveEvent);
+            }
+            return response;
+        }
+
+        @Override
+        public boolean applyGlobally() {
+
+            return false;
+        }
+
+        @Override
+        public String getName() {
+
+            return MockServerScope.TRANSFORMER;
+        }
+    }
+
+    /**
+     * Notifies the scopes which own a request once it is served.
+     */
+    private static class ScopeServeEventListener implements ServeEventListener {
+
+        private final Role role;
+
+        ScopeServeEventListener(Role role) {
+
+            this.role = role;
+        }
+
+        @Override
+        public void afterComplete(ServeEvent serveEvent, Parameters parameters) {
+
+            for (MockServerScope scope : getOpenScopes(role)) {
+                if (scope.owns(serveEvent)) {
+                    scope.onServeEvent(serveEvent);
+                }
+            }
+        }
+
+        @Override
+        public String getName() {
+
+            return "mock-server-scope-listener";
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.base;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.VerificationException;
+import com.github.tomakehurst.wiremock.common.Metadata;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.matching.StringValuePattern;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.matchingJsonPath;
+
+/**
+ * The part of a shared mock server owned by a single user, typically a test class. Stubs registered through the scope
+ * are tagged with the scope id, so that they and the requests they served can be found and removed without touching
+ * the rest of the server. Requests which did not match any stub are visible to all the scopes open at the time, unless
+ * their path belongs to a namespaced scope.
+ * <p>
+ * A namespaced scope prefixes its paths with the scope id. Stubs should then be registered with
+ * {@link #getPath(String)} and the mock should be given to the server under test with {@link #getUrl(String)}.
+ */
+public class MockServerScope implements AutoCloseable {
+
+    /**
+     * Name of the response transformer which delegates to the transformer given as the stub parameter of this name.
+     */
+    public static final String TRANSFORMER = "scoped-transformer";
+
+    private static final String SCOPE_METADATA_KEY = "mockServerScope";
+
+    private final MockServerRegistry.Role role;
+    private final WireMockServer server;
+    private final String id;
+    private final boolean namespaced;
+    private final List<Consumer<ServeEvent>> serveEventListeners = new CopyOnWriteArrayList<>();
+    private volatile Date requestsResetAt = new Date();
+
+    MockServerScope(MockServerRegistry.Role role, WireMockServer server, String id, boolean namespaced) {
+
+        this.role = role;
+        this.server = server;
+        this.id = id;
+        this.namespaced = namespaced;
+    }
+
+    /**
+     * Register a stub owned by this scope.
+     *
+     * @param mappingBuilder Stub.
+     * @return Registered stub mapping.
+     */
+    public StubMapping stubFor(MappingBuilder mappingBuilder) {
+
+        return server.stubFor(mappingBuilder.withMetadata(Metadata.metadata().attr(SCOPE_METADATA_KEY, id)));
+    }
+
+    /**
+     * Get the requests of this scope matching the given pattern, in the order they were received.
+     *
+     * @param requestPatternBuilder Request pattern.
+     * @return Matching requests.
+     */
+    public List<LoggedRequest> findAll(RequestPatternBuilder requestPatternBuilder) {
+
+        RequestPattern requestPattern = requestPatternBuilder.build();
+        return getServeEvents().stream()
+                .map(ServeEvent::getRequest)
+                .filter(request -> requestPattern.match(request).isExactMatch())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Verify that this scope received at least one request matching the given pattern.
+     *
+     * @param requestPatternBuilder Request pattern.
+     */
+    public void verify(RequestPatternBuilder requestPatternBuilder) {
+
+        if (findAll(requestPatternBuilder).isEmpty()) {
+            throw new VerificationException("Expected at least one request matching: " +
+                    requestPatternBuilder.build() + " in the mock server scope " + id);
+        }
+    }
+
+    /**
+     * Get the requests served for this scope, in the order they were received.
+     *
+     * @return Serve events.
+     */
+    public List<ServeEvent> getServeEvents() {
+
+        Date resetAt = requestsResetAt;
+        List<ServeEvent> serveEvents = new ArrayList<>();
+        for (ServeEvent serveEvent : server.getAllServeEvents()) {
+            if (owns(serveEvent) &&
+                    (getScopeId(serveEvent) != null || !serveEvent.getRequest().getLoggedDate().before(resetAt))) {
+                serveEvents.add(serveEvent);
+            }
+        }
+        // The server returns the most recent request first.
+        Collections.reverse(serveEvents);
+        return serveEvents;
+    }
+
+    /**
+     * Register a listener called once a request of this scope is served.
+     *
+     * @param listener Listener.
+     */
+    public void addServeEventListener(Consumer<ServeEvent> listener) {
+
+        serveEventListeners.add(listener);
+    }
+
+    /**
+     * Remove the requests served for this scope from the request journal.
+     */
+    public void resetRequests() {
+
+        requestsResetAt = new Date();
+        server.removeServeEventsForStubsMatchingMetadata(getMetadataPattern());
+    }
+
+    /**
+     * Remove the stubs and requests of this scope and release it. The server keeps running for the other scopes.
+     */
+    @Override
+    public void close() {
+
+        server.removeStubsByMetadata(getMetadataPattern());
+        resetRequests();
+        serveEventListeners.clear();
+        MockServerRegistry.closeScope(this);
+    }
+
+    /**
+     * Get the path of the scope for the given path.
+     *
+     * @param path Path starting with "/".
+     * @return The path prefixed with the scope id if the scope is namespaced, or the given path otherwise.
+     */
+    public String getPath(String path) {
+
+        return namespaced ? "/" + id + path : path;
+    }
+
+    /**
+     * Get the URL the server under test should call to reach the given path of the scope.
+     *
+     * @param path Path starting with "/".
+     * @return URL.
+     */
+    public String getUrl(String path) {
+
+        return (role.isHttps() ? "https" : "http") + "://localhost:" + role.getPort() + getPath(path);
+    }
+
+    public String getId() {
+
+        return id;
+    }
+
+    public MockServerRegistry.Role getRole() {
+
+        return role;
+    }
+
+    public boolean isNamespaced() {
+
+        return namespaced;
+    }
+
+    /**
+     * Check whether the given request belongs to this scope.
+     *
+     * @param serveEvent Serve event.
+     * @return True if the request was served by a stub of this scope, or did not match any stub and is not outside
+     * the namespace of this scope.
+     */
+    boolean owns(ServeEvent serveEvent) {
+
+        String scopeId = getScopeId(serveEvent);
+        if (scopeId != null) {
+            return id.equals(scopeId);
+        }
+        return !namespaced || serveEvent.getRequest().getUrl().startsWith(getPath("/"));
+    }
+
+    void onServeEvent(ServeEvent serveEvent) {
+
+        for (Consumer<ServeEvent> listener : serveEventListeners) {
+            listener.accept(serveEvent);
+        }
+    }
+
+    /**
+     * Get the id of the scope which owns the stub that served the given request.
+     *
+     * @param serveEvent Serve event.
+     * @return Scope id, or null if the request did not match a stub of a scope.
+     */
+    static String getScopeId(ServeEvent serveEvent) {
+
+        if (!serveEvent.getWasMatched()) {
+            return null;
+        }
+        StubMapping stubMapping = serveEvent.getStubMapping();
+        Metadata metadata = stubMapping == null ? null : stubMapping.getMetadata();
+        if (metadata == null || !metadata.containsKey(SCOPE_METADATA_KEY)) {
+            return null;
+        }
+        return metadata.getString(SCOPE_METADATA_KEY);
+    }
+
+    private StringValuePattern getMetadataPattern() {
+
+        return matchingJsonPath("$." + SCOPE_METADATA_KEY, equalTo(id));
+    }
+}
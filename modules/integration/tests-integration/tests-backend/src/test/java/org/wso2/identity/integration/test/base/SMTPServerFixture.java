@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.base;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.automation.engine.context.AutomationContext;
+import org.wso2.identity.integration.test.util.Utils;
+
+/**
+ * Mock SMTP server receiving the emails sent by the identity server. The server is only started when the email
+ * sender credentials are configured in the automation configuration, and it is ready once the SMTP port accepts
+ * connections. The fixture is optional, as only the tests which read the sent emails need it.
+ */
+public class SMTPServerFixture implements SuiteFixture {
+
+    public static final String NAME = "smtp";
+
+    private static final Log LOG = LogFactory.getLog(SMTPServerFixture.class);
+
+    private GreenMail greenMail;
+
+    @Override
+    public String getName() {
+
+        return NAME;
+    }
+
+    @Override
+    public boolean isOptional() {
+
+        return true;
+    }
+
+    @Override
+    public void start() throws Exception {
+
+        AutomationContext context = new AutomationContext();
+        String smtpUsername = context.getConfigurationValue("//emailSenderConfigs/username");
+        String smtpPassword = context.getConfigurationValue("//emailSenderConfigs/password");
+
+        if (smtpUsername != null && smtpPassword != null) {
+            greenMail = new GreenMail(ServerSetupTest.SMTP);
+            greenMail.setUser(smtpUsername, smtpPassword);
+            greenMail.start();
+            Utils.setMailServer(greenMail);
+            LOG.info("SMTP server is started.");
+        } else {
+            LOG.info("Email sender configuration is not found. SMTP server is not started.");
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+
+        return greenMail == null || FixtureOrchestrator.isListening("localhost", ServerSetupTest.SMTP.getPort());
+    }
+
+    @Override
+    public void stop() {
+
+        if (greenMail != null) {
+            greenMail.stop();
+            Utils.setMailServer(null);
+            LOG.info("SMTP server is stopped.");
+        }
+    }
+}
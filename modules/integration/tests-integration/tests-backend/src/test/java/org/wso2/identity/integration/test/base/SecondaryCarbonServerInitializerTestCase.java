@@ -8,16 +8,12 @@ import org.testng.annotations.BeforeTest;
 import org.wso2.carbon.automation.engine.context.AutomationContext;
 import org.wso2.carbon.automation.engine.context.TestUserMode;
 import org.wso2.carbon.automation.engine.exceptions.AutomationFrameworkException;
-import org.wso2.carbon.integration.common.utils.exceptions.AutomationUtilException;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
 import org.wso2.identity.integration.test.application.mgt.AbstractIdentityFederationTestCase;
 import org.wso2.identity.integration.test.utils.CommonConstants;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
-import javax.xml.xpath.XPathExpressionException;
 
 /**
  * Test class that will start and stop secondary carbon server for the tests in the test suite.
@@ -44,7 +40,6 @@ public class SecondaryCarbonServerInitializerTestCase extends AbstractIdentityFe
 
     private static final Log LOG = LogFactory.getLog(SecondaryCarbonServerInitializerTestCase.class);
     private static final int PORT_OFFSET_1 = 1;
-    private ServerConfigurationManager serverConfigurationManager;
     private static final String DEFAULT_H2_DATABASE_CONFIG = "default_configs_with_h2_db.toml";
 
     @BeforeTest(alwaysRun = true)
@@ -58,20 +53,22 @@ public class SecondaryCarbonServerInitializerTestCase extends AbstractIdentityFe
         startupParameters.put("-DenableRemoteShutdownAndRestart", String.valueOf(true));
         testDataHolder.setAutomationContext(new AutomationContext("IDENTITY", "identity002", TestUserMode
                 .SUPER_TENANT_ADMIN));
-        startCarbonServer(PORT_OFFSET_1, testDataHolder.getAutomationContext(), startupParameters);
+        /*
+        When tests are executed under different profiles, the secondary server might use the same database as used in
+        the already started initial identity server. This is because under certain profiles, the server is configured
+        to use the database defined in the env variables, and those variables are reused for the secondary server as
+        well(ex: test-grid profile scenario). But the secondary server is used for the provisioning purposes. Thus it
+        does not need to have configurable databases for the secondary server, and need to make sure that it's
+        database components are properly isolated from the initial testing identity server. The configuration is
+        applied before the first start of the server, so that the server does not need a restart.
+         */
+        LOG.info("Using the embedded H2 database for the secondary server.");
+        File h2DatabaseConfig = new File(getISResourceLocation() + File.separator + "provisioning" + File.separator +
+                DEFAULT_H2_DATABASE_CONFIG);
+        startCarbonServer(PORT_OFFSET_1, testDataHolder.getAutomationContext(), startupParameters, h2DatabaseConfig);
         // Capture the secondary IS carbon home immediately after startup, before any other server
         // start can overwrite the global carbon.home system property.
         testDataHolder.setSecondaryISCarbonHome(System.getProperty("carbon.home"));
-
-        /*
-        When tests are executed under different profiles, the started secondary server above, might use the same
-        database as used in the already started initial identity server. This is because under certain profiles, the
-        server is configured to use the database defined in the env variables, and those variables are reused for the
-        secondary server as well(ex: test-grid profile scenario). But the secondary server is used for the
-        provisioning purposes. Thus it does not need to have configurable databases for the secondary server, and
-        need to make sure that it's database components are properly isolated from the initial testing identity server.
-         */
-        changeServerConfiguration(DEFAULT_H2_DATABASE_CONFIG, testDataHolder.getAutomationContext());
         LOG.info("Secondary carbon server started.");
     }
 
@@ -90,17 +87,4 @@ public class SecondaryCarbonServerInitializerTestCase extends AbstractIdentityFe
             throw e;
         }
     }
-
-    private void changeServerConfiguration(String fileName, AutomationContext server) throws IOException,
-            XPathExpressionException, AutomationUtilException {
-
-        log.info("Using the embedded H2 database for the secondary server.");
-        String carbonHome = TestDataHolder.getInstance().getSecondaryISCarbonHome();
-        File defaultTomlFile = getDeploymentTomlFile(carbonHome);
-        File configuredTomlFile = new File
-                (getISResourceLocation() + File.separator + "provisioning" + File.separator + fileName);
-        serverConfigurationManager = new ServerConfigurationManager(server);
-        serverConfigurationManager.applyConfigurationWithoutRestart(configuredTomlFile, defaultTomlFile, true);
-        serverConfigurationManager.restartGracefully();
-    }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.base;
+
+/**
+ * Server or service used by the whole test suite, such as the embedded Tomcat or the external LDAP server, which is
+ * started by the {@link FixtureOrchestrator} while the primary identity server boots.
+ */
+public interface SuiteFixture {
+
+    /**
+     * Get the unique name of the fixture.
+     *
+     * @return Name of the fixture.
+     */
+    String getName();
+
+    /**
+     * Whether the suite can run without the fixture. A failure to start an optional fixture does not stop the suite,
+     * only the tests which use the fixture fail.
+     *
+     * @return True if the fixture is optional.
+     */
+    default boolean isOptional() {
+
+        return false;
+    }
+
+    /**
+     * Start the fixture. The fixture does not need to be ready when this returns, since the orchestrator waits on
+     * {@link #isReady()} afterwards.
+     *
+     * @throws Exception If the fixture could not be started.
+     */
+    void start() throws Exception;
+
+    /**
+     * Readiness probe of the fixture, polled by the orchestrator after the fixture is started.
+     *
+     * @return True if the fixture can serve the tests.
+     * @throws Exception If the probe failed. The failure is treated as not ready.
+     */
+    boolean isReady() throws Exception;
+
+    /**
+     * Stop the fixture.
+     *
+     * @throws Exception If the fixture could not be stopped.
+     */
+    void stop() throws Exception;
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.base;
+
+import org.apache.catalina.Container;
+import org.apache.catalina.LifecycleState;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.identity.integration.test.util.Utils;
+import org.wso2.identity.integration.test.utils.CommonConstants;
+
+import java.net.URL;
+
+/**
+ * Embedded Tomcat server hosting the sample applications used by the tests. It is ready once the connector accepts
+ * connections and all the applications are started.
+ */
+public class TomcatFixture implements SuiteFixture {
+
+    public static final String NAME = "tomcat";
+
+    private static final Log LOG = LogFactory.getLog(TomcatFixture.class);
+    private static final String[] APPLICATIONS = {
+            "travelocity.com",
+            "travelocity.com-saml-supertenantwithoutsigning",
+            "travelocity.com-saml-tenantwithoutsigning",
+            "travelocity.com-registrymount",
+            "avis.com",
+            "PassiveSTSSampleApp",
+            "playground2"
+    };
+
+    private Tomcat tomcat;
+
+    @Override
+    public String getName() {
+
+        return NAME;
+    }
+
+    @Override
+    public void start() throws Exception {
+
+        tomcat = Utils.getTomcat(getClass());
+        for (String application : APPLICATIONS) {
+            URL resourceUrl = getClass().getResource("/samples/" + application + ".war");
+            tomcat.addWebapp(tomcat.getHost(), "/" + application, resourceUrl.getPath());
+            LOG.info("Deployed tomcat application " + application);
+        }
+        tomcat.start();
+        LOG.info("Tomcat LocalPort: " + tomcat.getConnector().getLocalPort());
+    }
+
+    @Override
+    public boolean isReady() {
+
+        if (tomcat == null || tomcat.getServer().getState() != LifecycleState.STARTED) {
+            return false;
+        }
+        for (Container application : tomcat.getHost().findChildren()) {
+            if (application.getState() != LifecycleState.STARTED) {
+                return false;
+            }
+        }
+        return FixtureOrchestrator.isListening("localhost", CommonConstants.DEFAULT_TOMCAT_PORT);
+    }
+
+    @Override
+    public void stop() throws Exception {
+
+        if (tomcat != null) {
+            tomcat.stop();
+            tomcat.destroy();
+            LOG.info("Tomcat server stopped.");
+        }
+    }
+}
@@ -25,9 +25,8 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.carbon.automation.engine.annotations.ExecutionEnvironment;
 import org.wso2.carbon.automation.engine.annotations.SetEnvironment;
-import org.wso2.carbon.integration.common.utils.exceptions.AutomationUtilException;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
 import org.wso2.identity.integration.common.utils.ISIntegrationTest;
+import org.wso2.identity.integration.common.utils.config.ConfigProfile;
 import org.wso2.identity.integration.test.rest.api.user.common.model.ListObject;
 import org.wso2.identity.integration.test.rest.api.user.common.model.PatchOperationRequestObject;
 import org.wso2.identity.integration.test.rest.api.user.common.model.RoleItemAddGroupobj;
@@ -35,24 +34,19 @@ import org.wso2.identity.integration.test.rest.api.user.common.model.ScimSchemaE
 import org.wso2.identity.integration.test.rest.api.user.common.model.UserObject;
 import org.wso2.identity.integration.test.restclients.AuthenticatorRestClient;
 import org.wso2.identity.integration.test.restclients.SCIM2RestClient;
-import org.wso2.identity.integration.test.util.Utils;
 
-import java.io.File;
-import java.io.IOException;
-
-import javax.xml.xpath.XPathExpressionException;
 
 /**
  * This test class is to test the user account locking process while the caseInsensitiveUserName and
  * useCaseSensitiveUsernameForCacheKey properties are false in the primary user store.
  */
+@ConfigProfile("identityMgt/case_insensitive_user_false.toml")
 public class AccountLockWhileCaseInsensitiveUserFalseTestCase extends ISIntegrationTest {
 
     private static final String TEST_USER_1 = "testDemo";
     private static final String TEST_USER_2 = "TestDemo";
     private static final String TEST_USER_1_PASSWORD = "testDemo@Pass123";
     private static final String USERS_PATH = "users";
-    private ServerConfigurationManager configurationManager;
     private SCIM2RestClient scim2RestClient;
     private String userId;
     private AuthenticatorRestClient authenticatorRestClient;
@@ -61,11 +55,6 @@ public class AccountLockWhileCaseInsensitiveUserFalseTestCase extends ISIntegrat
     public void testInit() throws Exception {
 
         super.init();
-        String carbonHome = Utils.getResidentCarbonHome();
-        configureServerWithRestart(carbonHome);
-
-        //Initiating after the restart.
-        super.init();
 
         scim2RestClient = new SCIM2RestClient(serverURL, tenantInfo);
         authenticatorRestClient = new AuthenticatorRestClient(serverURL);
@@ -77,8 +66,6 @@ public class AccountLockWhileCaseInsensitiveUserFalseTestCase extends ISIntegrat
 
         log.info("Deleting the user : " + TEST_USER_1 + ".");
         scim2RestClient.deleteUser(userId);
-        log.info("Replacing the default configurations.");
-        configurationManager.restoreToLastConfiguration(false);
         scim2RestClient.closeHttpClient();
     }
 
@@ -92,20 +79,6 @@ public class AccountLockWhileCaseInsensitiveUserFalseTestCase extends ISIntegrat
         Assert.assertNull(authenticationResponse.get("token"));
     }
 
-    private void configureServerWithRestart(String carbonHome)
-            throws AutomationUtilException, XPathExpressionException, IOException {
-
-        File defaultTomlFile = getDeploymentTomlFile(carbonHome);
-        File configuredTomlFile = new File(getISResourceLocation() + File.separator + "identityMgt"
-                + File.separator + "case_insensitive_user_false.toml");
-
-        log.info("Applying configured toml file.");
-        configurationManager = new ServerConfigurationManager(isServer);
-        configurationManager.applyConfigurationWithoutRestart(configuredTomlFile, defaultTomlFile, true);
-        configurationManager.restartGracefully();
-        log.info("Toml configurations applied.");
-    }
-
     private String createLockedUser() throws Exception {
 
         log.info("Creating a locked user account.");
@@ -20,10 +20,21 @@
 package org.wso2.identity.integration.test.listeners;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.testng.IExecutionListener;
+import org.wso2.identity.integration.common.utils.metrics.RequestMetricsRegistry;
+import org.wso2.identity.integration.test.base.MockServerRegistry;
+
+import java.io.IOException;
+import java.nio.file.Paths;
 
 public class IdentityTestListener implements IExecutionListener {
 
+    private static final Log LOG = LogFactory.getLog(IdentityTestListener.class);
+    private static final String REST_CLIENT_METRICS_REPORT_PROPERTY = "rest.client.metrics.report";
+    private static final String DEFAULT_REST_CLIENT_METRICS_REPORT = "target/rest-client-metrics.csv";
+
     @Override
     public void onExecutionStart() {
 
@@ -36,5 +47,14 @@ public class IdentityTestListener implements IExecutionListener {
     @Override
     public void onExecutionFinish() {
 
+        // Latency profile of the requests sent through the RestBaseClient based clients during the run.
+        String reportFile = StringUtils.defaultIfBlank(System.getProperty(REST_CLIENT_METRICS_REPORT_PROPERTY),
+                DEFAULT_REST_CLIENT_METRICS_REPORT);
+        try {
+            RequestMetricsRegistry.writeReport(Paths.get(reportFile.trim()));
+        } catch (IOException e) {
+            LOG.warn("Error while writing the REST client metrics report to " + reportFile, e);
+        }
+        MockServerRegistry.shutdown();
     }
 }
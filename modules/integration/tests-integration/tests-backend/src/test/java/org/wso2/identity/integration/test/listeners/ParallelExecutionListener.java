@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.listeners;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.testng.IExecutionListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.wso2.carbon.automation.engine.context.AutomationContext;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.carbon.automation.engine.context.beans.Tenant;
+import org.wso2.carbon.automation.engine.context.beans.User;
+import org.wso2.identity.integration.common.utils.isolation.IsolatedTenantRegistry;
+import org.wso2.identity.integration.test.rest.api.server.tenant.management.v1.model.Owner;
+import org.wso2.identity.integration.test.rest.api.server.tenant.management.v1.model.TenantModel;
+import org.wso2.identity.integration.test.restclients.TenantMgtRestClient;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Listener enabling the parallel execution mode of the test suite.
+ * <p>
+ * The test classes of the {@code <test>} blocks having the {@value #TENANT_ISOLATION_PARAMETER} parameter set to
+ * {@code true} run concurrently, each in a tenant of its own which is created through the tenant management REST API
+ * the first time the class initializes its automation context. Classes running on different threads create their
+ * tenants concurrently. The number of threads of those blocks can be overridden with the
+ * {@value #THREAD_COUNT_PROPERTY} system property.
+ */
+public class ParallelExecutionListener implements IExecutionListener, ISuiteListener {
+
+    public static final String TENANT_ISOLATION_PARAMETER = "tenant-isolation";
+    public static final String SUITE_FILE_PROPERTY = "testng.suite.file";
+    public static final String THREAD_COUNT_PROPERTY = "parallel.thread.count";
+
+    private static final Log LOG = LogFactory.getLog(ParallelExecutionListener.class);
+    private static final String TENANT_DOMAIN_PREFIX = "isolated";
+    private static final String TENANT_DOMAIN_SUFFIX = ".com";
+    private static final String TENANT_ADMIN_USERNAME = "admin";
+    private static final String TENANT_ADMIN_PASSWORD = "Wso2@isolated";
+
+    private final AtomicInteger tenantCounter = new AtomicInteger();
+    private volatile TenantMgtRestClient tenantMgtRestClient;
+
+    @Override
+    public void onExecutionStart() {
+
+        String suiteFile = System.getProperty(SUITE_FILE_PROPERTY);
+        if (StringUtils.isBlank(suiteFile)) {
+            return;
+        }
+        try {
+            Set<String> isolatedClasses = new LinkedHashSet<>();
+            for (XmlSuite suite : new Parser(suiteFile.trim()).parse()) {
+                for (XmlTest test : suite.getTests()) {
+                    if (Boolean.parseBoolean(test.getParameter(TENANT_ISOLATION_PARAMETER))) {
+                        for (XmlClass xmlClass : test.getXmlClasses()) {
+                            isolatedClasses.add(xmlClass.getName());
+                        }
+                    }
+                }
+            }
+            if (!isolatedClasses.isEmpty()) {
+                IsolatedTenantRegistry.enable(isolatedClasses, this::provisionTenant);
+                LOG.info("Tenant isolation is enabled for " + isolatedClasses.size() + " test classes.");
+            }
+        } catch (Exception e) {
+            LOG.error("Failed to read the isolated test classes from " + suiteFile, e);
+        }
+    }
+
+    @Override
+    public void onExecutionFinish() {
+
+        if (!IsolatedTenantRegistry.getTenants().isEmpty()) {
+            LOG.info(IsolatedTenantRegistry.getTenants().size() + " tenants were provisioned for isolated test " +
+                    "classes.");
+        }
+        IsolatedTenantRegistry.clear();
+        if (tenantMgtRestClient != null) {
+            try {
+                tenantMgtRestClient.closeHttpClient();
+            } catch (IOException e) {
+                LOG.error("Failed to close the tenant management client.", e);
+            }
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+
+        String threadCount = System.getProperty(THREAD_COUNT_PROPERTY);
+        if (StringUtils.isBlank(threadCount)) {
+            return;
+        }
+        for (XmlTest test : suite.getXmlSuite().getTests()) {
+            if (Boolean.parseBoolean(test.getParameter(TENANT_ISOLATION_PARAMETER))) {
+                test.setThreadCount(Integer.parseInt(threadCount.trim()));
+            }
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+
+    }
+
+    private Tenant provisionTenant(String isolationKey) throws Exception {
+
+        String tenantDomain = TENANT_DOMAIN_PREFIX + tenantCounter.incrementAndGet() + TENANT_DOMAIN_SUFFIX;
+
+        Owner tenantOwner = new Owner();
+        tenantOwner.setUsername(TENANT_ADMIN_USERNAME);
+        tenantOwner.setPassword(TENANT_ADMIN_PASSWORD);
+        tenantOwner.setEmail(TENANT_ADMIN_USERNAME + "@" + tenantDomain);
+        tenantOwner.setFirstname("FirstName");
+        tenantOwner.setLastname("LastName");
+        tenantOwner.setProvisioningMethod("inline-password");
+
+        TenantModel tenantReqModel = new TenantModel();
+        tenantReqModel.setDomain(tenantDomain);
+        tenantReqModel.addOwnersItem(tenantOwner);
+        getTenantMgtRestClient().addTenant(tenantReqModel);
+        LOG.info("Created tenant " + tenantDomain + " for " + isolationKey);
+
+        User tenantAdmin = new User();
+        tenantAdmin.setUserName(TENANT_ADMIN_USERNAME + "@" + tenantDomain);
+        tenantAdmin.setPassword(TENANT_ADMIN_PASSWORD);
+
+        Tenant tenant = new Tenant();
+        tenant.setDomain(tenantDomain);
+        tenant.setTenantAdmin(tenantAdmin);
+        tenant.setContextUser(tenantAdmin);
+        return tenant;
+    }
+
+    private synchronized TenantMgtRestClient getTenantMgtRestClient() throws Exception {
+
+        if (tenantMgtRestClient == null) {
+            AutomationContext context = new AutomationContext("IDENTITY", TestUserMode.SUPER_TENANT_ADMIN);
+            String serverURL = context.getContextUrls().getBackEndUrl().replace("services/", "");
+            tenantMgtRestClient = new TenantMgtRestClient(serverURL, context.getContextTenant());
+        }
+        return tenantMgtRestClient;
+    }
+}
@@ -46,22 +46,20 @@ import org.json.JSONException;
 import org.json.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.testng.annotations.AfterClass;
-import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Factory;
 import org.testng.annotations.Test;
 import org.wso2.carbon.automation.engine.context.TestUserMode;
 import org.wso2.carbon.automation.engine.context.beans.Tenant;
 import org.wso2.carbon.automation.engine.context.beans.User;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+import org.wso2.identity.integration.common.utils.config.ConfigProfile;
 import org.wso2.identity.integration.test.oauth2.dataprovider.model.ApplicationConfig;
 import org.wso2.identity.integration.test.oauth2.dataprovider.model.UserClaimConfig;
 import org.wso2.identity.integration.test.rest.api.common.RESTTestBase;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.ApplicationModel;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.ApplicationResponseModel;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
-import org.wso2.identity.integration.test.util.Utils;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.ApplicationSharePOSTRequest;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.AccessTokenConfiguration;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.IdTokenConfiguration;
@@ -85,7 +83,6 @@ import org.wso2.identity.integration.test.restclients.SCIM2RestClient;
 import org.wso2.identity.integration.test.utils.DataExtractUtil;
 import org.wso2.identity.integration.test.utils.OAuth2Constant;
 
-import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
@@ -118,6 +115,7 @@ import static org.wso2.identity.integration.test.utils.OAuth2Constant.ACCESS_TOK
  * a tenant. A sub org can utilize /t/<SUB_ORG_TENANT_DOMAIN>/... paths similar to tenanted paths. These tests will
  * verify no breaking changes could happen for existing usages of this pattern.
  */
+@ConfigProfile("oauth/introspection-config.toml")
 public class OAuth2AuthorizationForSubOrgAppsWithMultiTenancyPathsTestCase extends OAuth2ServiceAbstractIntegrationTest {
 
     private static final String API_SERVER_BASE_PATH = "api/server/v1";
@@ -151,8 +149,6 @@ public class OAuth2AuthorizationForSubOrgAppsWithMultiTenancyPathsTestCase exten
     private static final String FILTER_IDENTIFIER_EQ = "?filter=identifier+eq+";
     private static String CLIENT_ID;
     private static String CLIENT_SECRET;
-    private static boolean isServerConfigured = false;
-    private static ServerConfigurationManager staticServerConfigurationManager;
 
     // Instance variables per user mode
     private final TestUserMode userMode;
@@ -196,24 +192,6 @@ public class OAuth2AuthorizationForSubOrgAppsWithMultiTenancyPathsTestCase exten
         this.ORGANIZATION_HANDLE = orgHandle;
     }
 
-
-    @BeforeClass(alwaysRun = true)
-    public void initTestClass() throws Exception {
-
-        // Configure deployment.toml only once before all tests
-        synchronized (OAuth2AuthorizationForSubOrgAppsWithMultiTenancyPathsTestCase.class) {
-            if (!isServerConfigured) {
-                // Initialize with super tenant admin to configure server
-                super.init(TestUserMode.SUPER_TENANT_ADMIN);
-                configureIntrospectionEndpoint();
-                // Reinitialize after server restart to refresh context for both super tenant and tenant modes
-                super.init(TestUserMode.SUPER_TENANT_ADMIN);
-                log.info("Server configured with introspection endpoint settings");
-                isServerConfigured = true;
-            }
-        }
-    }
-
     @Test(priority = 1)
     public void testInit() throws Exception {
 
@@ -525,15 +503,6 @@ public class OAuth2AuthorizationForSubOrgAppsWithMultiTenancyPathsTestCase exten
         if (client != null) {
             client.close();
         }
-
-        // Restore original deployment.toml configuration after all tests complete
-        synchronized (OAuth2AuthorizationForSubOrgAppsWithMultiTenancyPathsTestCase.class) {
-            if (isServerConfigured && staticServerConfigurationManager != null) {
-                log.info("Resetting deployment.toml to original configuration");
-                staticServerConfigurationManager.restoreToLastConfiguration(true);
-                isServerConfigured = false;
-            }
-        }
     }
 
     private void addAndShareApp() throws Exception {
@@ -1126,19 +1095,4 @@ public class OAuth2AuthorizationForSubOrgAppsWithMultiTenancyPathsTestCase exten
 
         log.info("HTTP client recreated with fresh session state");
     }
-
-    /**
-     * Add the configuration to the deployment.toml to enable introspection endpoint with BasicClientAuthentication.
-     */
-    private void configureIntrospectionEndpoint() throws Exception {
-
-        String carbonHome = Utils.getResidentCarbonHome();
-        File defaultTomlFile = getDeploymentTomlFile(carbonHome);
-        File introspectionConfigFile = new File(getISResourceLocation() + File.separator + "oauth" +
-                File.separator + "introspection-config.toml");
-
-        staticServerConfigurationManager = new ServerConfigurationManager(isServer);
-        staticServerConfigurationManager.applyConfigurationWithoutRestart(introspectionConfigFile, defaultTomlFile, true);
-        staticServerConfigurationManager.restartForcefully();
-    }
 }
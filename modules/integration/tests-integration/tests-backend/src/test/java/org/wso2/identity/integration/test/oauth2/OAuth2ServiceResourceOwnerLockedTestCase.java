@@ -38,37 +38,29 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.automation.engine.context.AutomationContext;
 import org.wso2.carbon.automation.engine.context.TestUserMode;
 import org.wso2.carbon.automation.engine.context.beans.Tenant;
-import org.wso2.carbon.integration.common.utils.exceptions.AutomationUtilException;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
+import org.wso2.identity.integration.common.utils.config.ConfigProfile;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.ApplicationResponseModel;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
 import org.wso2.identity.integration.test.rest.api.user.common.model.ScimSchemaExtensionSystem;
 import org.wso2.identity.integration.test.rest.api.user.common.model.UserObject;
 import org.wso2.identity.integration.test.restclients.OAuth2RestClient;
 import org.wso2.identity.integration.test.restclients.SCIM2RestClient;
-import org.wso2.identity.integration.test.util.Utils;
 import org.wso2.identity.integration.test.utils.DataExtractUtil;
 import org.wso2.identity.integration.test.utils.OAuth2Constant;
 
 import java.io.BufferedReader;
-import java.io.File;
-import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import javax.xml.xpath.XPathExpressionException;
-
 import static org.wso2.identity.integration.test.utils.CommonConstants.USER_IS_LOCKED;
 import static org.wso2.identity.integration.test.utils.DataExtractUtil.KeyValue;
 
+@ConfigProfile("oauth/oauth2_service_resource_owner.toml")
 public class OAuth2ServiceResourceOwnerLockedTestCase extends OAuth2ServiceAbstractIntegrationTest {
 
-	public static final String OAUTH_2_SERVICE_RESOURCE_OWNER_TOML = "oauth2_service_resource_owner.toml";
-
-	private ServerConfigurationManager serverConfigurationManager;
 	private String consumerKey;
 	private String consumerSecret;
 
@@ -86,8 +78,6 @@ public class OAuth2ServiceResourceOwnerLockedTestCase extends OAuth2ServiceAbstr
 	@BeforeClass(alwaysRun = true)
 	public void testInit() throws Exception {
 
-		super.init();
-		changeISConfiguration();
 		super.init();
 		context = new AutomationContext("IDENTITY", TestUserMode.SUPER_TENANT_ADMIN);
 		this.activeTenant = context.getContextTenant().getDomain();
@@ -114,21 +104,6 @@ public class OAuth2ServiceResourceOwnerLockedTestCase extends OAuth2ServiceAbstr
 		restClient.closeHttpClient();
 		scim2RestClient.closeHttpClient();
 		consumerKey = null;
-		serverConfigurationManager.restoreToLastConfiguration(false);
-	}
-
-	private void changeISConfiguration() throws IOException,
-			XPathExpressionException, AutomationUtilException {
-
-		log.info("Replacing the deployment.toml file to enabling showing auth failure reason for password grant");
-		String carbonHome = Utils.getResidentCarbonHome();
-		File defaultTomlFile = getDeploymentTomlFile(carbonHome);
-		File configuredTomlFile = new File
-					(getISResourceLocation() + File.separator + "oauth" +
-							File.separator + OAUTH_2_SERVICE_RESOURCE_OWNER_TOML);
-		serverConfigurationManager = new ServerConfigurationManager(isServer);
-		serverConfigurationManager.applyConfigurationWithoutRestart(configuredTomlFile, defaultTomlFile, true);
-		serverConfigurationManager.restartForcefully();
 	}
 
 	@Test(description = "Send authorize request for locked user")
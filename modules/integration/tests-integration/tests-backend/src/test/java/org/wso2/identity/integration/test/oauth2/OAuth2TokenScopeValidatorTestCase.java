@@ -32,7 +32,6 @@ import com.nimbusds.oauth2.sdk.http.HTTPRequest;
 import com.nimbusds.oauth2.sdk.http.HTTPResponse;
 import com.nimbusds.oauth2.sdk.id.ClientID;
 import com.nimbusds.oauth2.sdk.token.AccessToken;
-import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -45,25 +44,23 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.carbon.automation.engine.context.AutomationContext;
 import org.wso2.carbon.automation.engine.context.TestUserMode;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
+import org.wso2.identity.integration.common.utils.config.ConfigProfile;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.AccessTokenConfiguration;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.ApplicationModel;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.InboundProtocols;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
 import org.wso2.identity.integration.test.restclients.OAuth2RestClient;
-import org.wso2.identity.integration.test.util.Utils;
 import org.wso2.identity.integration.test.utils.CarbonUtils;
 import org.wso2.identity.integration.test.utils.OAuth2Constant;
 
+@ConfigProfile("oauth/add_scope_deployment.toml")
 public class OAuth2TokenScopeValidatorTestCase extends OAuth2ServiceAbstractIntegrationTest {
 
-    public static final String ADD_SCOPE_DEPLOYMENT_CONFIG = "add_scope_deployment.toml";
     private static final String TENANT_DOMAIN = "wso2.com";
     private static final String tokenType = "Default";
     private ClientID consumerKey;
     private Secret consumerSecret;
     private String activeTenant;
-    private ServerConfigurationManager serverConfigurationManager;
     private String applicationId;
     private String adminUsername;
     private String adminPassword;
@@ -71,15 +68,6 @@ public class OAuth2TokenScopeValidatorTestCase extends OAuth2ServiceAbstractInte
     @BeforeClass(alwaysRun = true)
     public void testInit() throws Exception {
 
-        super.init();
-        String carbonHome = Utils.getResidentCarbonHome();
-        File defaultConfigFile = getDeploymentTomlFile(carbonHome);
-        File emailLoginConfigFile = new File(
-                getISResourceLocation() + File.separator + "oauth" + File.separator + ADD_SCOPE_DEPLOYMENT_CONFIG);
-        serverConfigurationManager = new ServerConfigurationManager(isServer);
-        serverConfigurationManager.applyConfigurationWithoutRestart(emailLoginConfigFile, defaultConfigFile, true);
-        serverConfigurationManager.restartGracefully();
-
         super.init();
         AutomationContext context = new AutomationContext("IDENTITY", TestUserMode.SUPER_TENANT_ADMIN);
         this.activeTenant = context.getContextTenant().getDomain();
@@ -93,7 +81,6 @@ public class OAuth2TokenScopeValidatorTestCase extends OAuth2ServiceAbstractInte
     public void atEnd() throws Exception {
 
         deleteApp(applicationId);
-        serverConfigurationManager.restoreToLastConfiguration(false);
         restClient.closeHttpClient();
     }
 
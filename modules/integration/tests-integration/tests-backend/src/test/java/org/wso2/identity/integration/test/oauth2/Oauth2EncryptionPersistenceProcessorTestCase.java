@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.oauth2;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.common.utils.config.ConfigProfile;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.ApplicationResponseModel;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
+
+/**
+ * Oauth2 client id & client secret persistence with the EncryptionDecryptionPersistenceProcessor. The plain text
+ * persistence processor of the default configuration is covered by {@link Oauth2PersistenceProcessorTestCase}.
+ */
+@ConfigProfile("identity_encryption_enabled.toml")
+public class Oauth2EncryptionPersistenceProcessorTestCase extends OAuth2ServiceAbstractIntegrationTest {
+
+    private String applicationId;
+
+    @BeforeClass(alwaysRun = true)
+    public void testInit() throws Exception {
+
+        super.init(TestUserMode.SUPER_TENANT_USER);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        if (applicationId != null) {
+            deleteApp(applicationId);
+        }
+        restClient.closeHttpClient();
+    }
+
+    @Test(groups = "wso2.is", description = "Test EncryptionDecryptionPersistenceProcessor")
+    public void testEncryptionDecryptionPersistenceProcessor() throws Exception {
+
+        ApplicationResponseModel application = addApplication();
+        Assert.assertNotNull(application, "Application creation failed.");
+        applicationId = application.getId();
+
+        OpenIDConnectConfiguration oidcConfig = getOIDCInboundDetailsOfApplication(applicationId);
+        Assert.assertNotNull(oidcConfig.getClientId(), "Application creation failed.");
+        Assert.assertNotNull(oidcConfig.getClientSecret(), "Application creation failed.");
+    }
+}
@@ -35,13 +35,12 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.carbon.automation.engine.context.TestUserMode;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
+import org.wso2.identity.integration.common.utils.config.ConfigProfile;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
 import org.wso2.identity.integration.test.util.Utils;
 import org.wso2.identity.integration.test.utils.DataExtractUtil;
 import org.wso2.identity.integration.test.utils.OAuth2Constant;
 
-import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -53,6 +52,7 @@ import static org.wso2.identity.integration.test.utils.OAuth2Constant.USER_AGENT
 /**
  * Oauth2 insert token with authorization code grant test case with encryption enabled.
  */
+@ConfigProfile("identity_encryption_enabled.toml")
 public class Oauth2PersistenceProcessorInsertTokenTestCase extends OAuth2ServiceAbstractIntegrationTest {
 
     private String accessToken;
@@ -62,21 +62,11 @@ public class Oauth2PersistenceProcessorInsertTokenTestCase extends OAuth2Service
     private Lookup<CookieSpecProvider> cookieSpecRegistry;
     private RequestConfig requestConfig;
     private CloseableHttpClient client;
-    private ServerConfigurationManager serverConfigurationManager;
     private String applicationId;
 
     @BeforeClass(alwaysRun = true)
     public void testInit() throws Exception {
 
-        super.init(TestUserMode.SUPER_TENANT_ADMIN);
-        String carbonHome = Utils.getResidentCarbonHome();
-        //apply encryption enabled identity xml
-        File defaultTomlFile = getDeploymentTomlFile(carbonHome);
-        File configuredTomlFile = new File(getISResourceLocation() + File.separator
-                + "identity_encryption_enabled.toml");
-        serverConfigurationManager = new ServerConfigurationManager(isServer);
-        serverConfigurationManager.applyConfigurationWithoutRestart(configuredTomlFile, defaultTomlFile, true);
-        serverConfigurationManager.restartForcefully();
         super.init(TestUserMode.SUPER_TENANT_ADMIN);
         cookieSpecRegistry = RegistryBuilder.<CookieSpecProvider>create()
                 .register(CookieSpecs.DEFAULT, new RFC6265CookieSpecProvider())
@@ -102,9 +92,6 @@ public class Oauth2PersistenceProcessorInsertTokenTestCase extends OAuth2Service
 
         consumerKey = null;
         accessToken = null;
-
-        serverConfigurationManager.restoreToLastConfiguration(false);
-        client.close();
     }
 
     @Test(groups = "wso2.is", description = "Send authorize user request")
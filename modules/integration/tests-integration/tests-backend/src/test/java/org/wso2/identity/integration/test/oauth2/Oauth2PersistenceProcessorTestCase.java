@@ -23,26 +23,22 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.carbon.automation.engine.context.TestUserMode;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.ApplicationModel;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.ApplicationResponseModel;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.InboundProtocols;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
-import org.wso2.identity.integration.test.util.Utils;
 import org.wso2.identity.integration.test.utils.OAuth2Constant;
 
-import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 /**
- * Oauth2 client id & client secret persistence processor test case.
+ * Oauth2 client id & client secret persistence processor test case. The EncryptionDecryptionPersistenceProcessor needs
+ * another configuration, so it is covered by {@link Oauth2EncryptionPersistenceProcessorTestCase}.
  */
 public class Oauth2PersistenceProcessorTestCase extends OAuth2ServiceAbstractIntegrationTest {
 
-    private ServerConfigurationManager serverConfigurationManager;
-
     @BeforeClass(alwaysRun = true)
     public void testInit() throws Exception {
 
@@ -52,7 +48,6 @@ public class Oauth2PersistenceProcessorTestCase extends OAuth2ServiceAbstractInt
     @AfterClass(alwaysRun = true)
     public void atEnd() throws Exception {
 
-        resetISConfiguration();
         restClient.closeHttpClient();
     }
 
@@ -73,27 +68,6 @@ public class Oauth2PersistenceProcessorTestCase extends OAuth2ServiceAbstractInt
         deleteApp(applicationId1);
     }
 
-    @Test(groups = "wso2.is", description = "Test EncryptionDecryptionPersistenceProcessor",
-            dependsOnMethods = "testPlainTextPersistenceProcessor")
-    public void testEncryptionDecryptionPersistenceProcessor() throws Exception {
-
-        changeISConfiguration();
-        super.init(TestUserMode.SUPER_TENANT_USER);
-
-        ApplicationResponseModel application = createApplication("app2");
-        Assert.assertNotNull(application, "Application creation failed.");
-        String applicationId2 = application.getId();
-
-        OpenIDConnectConfiguration oidcConfig = getOIDCInboundDetailsOfApplication(applicationId2);
-        String consumerKey2 = oidcConfig.getClientId();
-        Assert.assertNotNull(consumerKey2, "Application creation failed.");
-
-        String consumerSecret2 = oidcConfig.getClientSecret();
-        Assert.assertNotNull(consumerSecret2, "Application creation failed.");
-
-        deleteApp(applicationId2);
-    }
-
     private ApplicationResponseModel createApplication(String applicationName) throws Exception {
 
         ApplicationModel application = new ApplicationModel();
@@ -120,22 +94,4 @@ public class Oauth2PersistenceProcessorTestCase extends OAuth2ServiceAbstractInt
 
         return getApplication(appId);
     }
-
-    private void changeISConfiguration() throws Exception {
-
-        log.info("Enabling EncryptionDecryptionPersistenceProcessor.");
-
-        String carbonHome = Utils.getResidentCarbonHome();
-        File defaultTomlFile = getDeploymentTomlFile(carbonHome);
-        File configuredTomlFile = new File(getISResourceLocation() + File.separator
-                + "identity_encryption_enabled.toml");
-        serverConfigurationManager = new ServerConfigurationManager(isServer);
-        serverConfigurationManager.applyConfigurationWithoutRestart(configuredTomlFile, defaultTomlFile, true);
-        serverConfigurationManager.restartGracefully();
-    }
-
-    private void resetISConfiguration() throws Exception {
-
-        serverConfigurationManager.restoreToLastConfiguration(false);
-    }
 }
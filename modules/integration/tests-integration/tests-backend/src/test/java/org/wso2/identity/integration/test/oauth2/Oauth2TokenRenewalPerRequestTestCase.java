@@ -45,23 +45,21 @@ import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.carbon.automation.engine.context.TestUserMode;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
+import org.wso2.identity.integration.common.utils.config.ConfigProfile;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
-import org.wso2.identity.integration.test.util.Utils;
 import org.wso2.identity.integration.test.utils.DataExtractUtil;
 import org.wso2.identity.integration.test.utils.OAuth2Constant;
 
-import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * This test class is used to test token renewal and old token revocation per token issue request.
  */
+@ConfigProfile("oauth/token_renewal_per_request_enabled.toml")
 public class Oauth2TokenRenewalPerRequestTestCase extends OAuth2ServiceAbstractIntegrationTest {
 
     protected Log log = LogFactory.getLog(getClass());
-    private ServerConfigurationManager serverConfigurationManager;
     private Lookup<CookieSpecProvider> cookieSpecRegistry;
     private RequestConfig requestConfig;
     private CloseableHttpClient client;
@@ -75,8 +73,6 @@ public class Oauth2TokenRenewalPerRequestTestCase extends OAuth2ServiceAbstractI
     public void setup() throws Exception {
 
         super.init(TestUserMode.SUPER_TENANT_ADMIN);
-        changeISConfiguration();
-        super.init(TestUserMode.SUPER_TENANT_ADMIN);
         
         applicationId = addApplication().getId();
         OpenIDConnectConfiguration oidcConfig = getOIDCInboundDetailsOfApplication(applicationId);
@@ -103,9 +99,6 @@ public class Oauth2TokenRenewalPerRequestTestCase extends OAuth2ServiceAbstractI
 
         deleteApp(applicationId);
         restClient.closeHttpClient();
-
-        log.info("Replacing deployment.toml with default configurations.");
-        serverConfigurationManager.restoreToLastConfiguration(false);
     }
 
     @Test(description = "Test token renewal per request and old token revocation using authzCode grant type.")
@@ -322,18 +315,6 @@ public class Oauth2TokenRenewalPerRequestTestCase extends OAuth2ServiceAbstractI
         return json;
     }
 
-    private void changeISConfiguration() throws Exception {
-
-        log.info("Replacing deployment.toml to enable token renewal per request.");
-        String carbonHome = Utils.getResidentCarbonHome();
-        File defaultTomlFile = getDeploymentTomlFile(carbonHome);
-        File configuredTomlFile = new File(getISResourceLocation() + File.separator + "oauth" +
-                File.separator + "token_renewal_per_request_enabled.toml");
-        serverConfigurationManager = new ServerConfigurationManager(isServer);
-        serverConfigurationManager.applyConfigurationWithoutRestart(configuredTomlFile, defaultTomlFile, true);
-        serverConfigurationManager.restartGracefully();
-    }
-
     /**
      * Refresh the cookie store and http client.
      */
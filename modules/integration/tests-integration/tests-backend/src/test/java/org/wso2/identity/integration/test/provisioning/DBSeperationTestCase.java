@@ -25,38 +25,25 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.identity.application.common.model.idp.xsd.IdentityProvider;
 import org.wso2.carbon.identity.application.common.model.idp.xsd.Property;
 import org.wso2.carbon.identity.application.common.model.idp.xsd.ProvisioningConnectorConfig;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
 import org.wso2.identity.integration.common.clients.Idp.IdentityProviderMgtServiceClient;
 import org.wso2.identity.integration.common.clients.TenantManagementServiceClient;
 import org.wso2.identity.integration.common.utils.ISIntegrationTest;
-import org.wso2.identity.integration.test.util.Utils;
-
-import java.io.File;
+import org.wso2.identity.integration.common.utils.config.ConfigProfile;
 
 /**
  * This test case tests provisioning functionality when UM tables and IDN tables are separated into two databases
  */
+@ConfigProfile("provisioning/db_separation_config.toml")
 public class DBSeperationTestCase extends ISIntegrationTest {
 
     private static final String TENANT_IDP = "tenantIdp";
     private static final String TENANT_ADMIN = "admin";
-    private ServerConfigurationManager serverConfigurationManager;
     private IdentityProviderMgtServiceClient identityProviderMgtServiceClient;
     private static final String TENANT_DOMAIN = "tenant.com";
 
     @BeforeClass(alwaysRun = true)
     public void setUp() throws Exception {
 
-        String carbonHome = Utils.getResidentCarbonHome();
-        File defaultTomlFile = getDeploymentTomlFile(carbonHome);
-        File configuredTomlFile = new File(getISResourceLocation() + File.separator + File.separator +
-                "provisioning" + File.separator + "db_separation_config.toml");
-
-        super.init();
-        serverConfigurationManager = new ServerConfigurationManager(isServer);
-        serverConfigurationManager.applyConfigurationWithoutRestart(configuredTomlFile, defaultTomlFile, true);
-        serverConfigurationManager.restartGracefully();
-
         super.init();
         TenantManagementServiceClient tenantServiceClient = new TenantManagementServiceClient(backendURL, sessionCookie);
         tenantServiceClient.addTenant(TENANT_DOMAIN, TENANT_ADMIN, "password", TENANT_ADMIN + "@" + TENANT_DOMAIN,
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.rest.api.common;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.atlassian.oai.validator.model.Request;
+import com.atlassian.oai.validator.model.SimpleResponse;
+import com.atlassian.oai.validator.report.SimpleValidationReportFormat;
+import com.atlassian.oai.validator.report.ValidationReport;
+import com.atlassian.oai.validator.restassured.RestAssuredRequest;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RestAssured filter which validates the requests and responses against an OpenAPI definition off the request
+ * thread. The response is returned to the test as soon as it is received, and the validation is run on a shared pool.
+ * The violations are collected and reported through {@link #awaitViolations(Duration)}, instead of failing the
+ * request which violated the definition.
+ */
+public class AsyncOpenApiValidationFilter implements Filter {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors() / 2), runnable -> {
+                Thread thread = new Thread(runnable, "openapi-validator-" + THREAD_COUNTER.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final OpenApiInteractionValidator validator;
+    private final Queue<Future<?>> pendingValidations = new ConcurrentLinkedQueue<>();
+    private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+
+    public AsyncOpenApiValidationFilter(OpenApiInteractionValidator validator) {
+
+        this.validator = validator;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        String interaction = requestSpec.getMethod() + " " + requestSpec.getURI();
+        Request request = RestAssuredRequest.of(requestSpec);
+        // The response is copied on the request thread, since the test reads the same response concurrently.
+        com.atlassian.oai.validator.model.Response responseCopy = copyOf(response);
+        pendingValidations.add(EXECUTOR.submit(() -> validate(interaction, request, responseCopy)));
+        return response;
+    }
+
+    /**
+     * Wait for the pending validations and get the violations found so far. The returned violations are cleared from
+     * the filter.
+     *
+     * @param timeout Maximum time to wait for the pending validations.
+     * @return Violations, with the request each violation was found in.
+     */
+    public List<String> awaitViolations(Duration timeout) {
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Future<?> validation;
+        while ((validation = pendingValidations.poll()) != null) {
+            try {
+                validation.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                violations.add("Interrupted while waiting for the response validations.");
+                break;
+            } catch (ExecutionException e) {
+                violations.add("Response validation failed: " + e.getCause());
+            } catch (TimeoutException e) {
+                validation.cancel(true);
+                violations.add("Response validation did not complete within " + timeout.getSeconds() + "s.");
+            }
+        }
+        List<String> result = new ArrayList<>();
+        String violation;
+        while ((violation = violations.poll()) != null) {
+            result.add(violation);
+        }
+        return result;
+    }
+
+    private void validate(String interaction, Request request, com.atlassian.oai.validator.model.Response response) {
+
+        ValidationReport report = validator.validate(request, response);
+        if (report.hasErrors()) {
+            violations.add(interaction + System.lineSeparator() +
+                    SimpleValidationReportFormat.getInstance().apply(report));
+        }
+    }
+
+    private static com.atlassian.oai.validator.model.Response copyOf(Response response) {
+
+        SimpleResponse.Builder builder = SimpleResponse.Builder.status(response.getStatusCode())
+                .withBody(response.getBody().asString());
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Header header : response.getHeaders()) {
+            headers.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+        }
+        headers.forEach((name, values) -> builder.withHeader(name, values.toArray(new String[0])));
+        return builder.build();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.rest.api.common;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.atlassian.oai.validator.report.LevelResolverFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process wide cache of the OpenAPI definitions and the validators built from them. Reading a definition from the
+ * "api" webapp and building a validator from it parses the whole definition, while many test classes validate
+ * against the same definitions. Both are built lazily on the first request and shared by all the test classes,
+ * including the ones running in parallel. The validators are thread safe once built.
+ */
+public final class OpenApiValidatorCache {
+
+    private static final Map<String, String> DEFINITIONS = new ConcurrentHashMap<>();
+    private static final Map<ValidatorKey, OpenApiInteractionValidator> VALIDATORS = new ConcurrentHashMap<>();
+
+    private OpenApiValidatorCache() {
+
+    }
+
+    /**
+     * Get a definition from the cache, loading it if it is not loaded yet.
+     *
+     * @param location Location the definition is loaded from, used as the key of the cache.
+     * @param loader   Loader of the definition.
+     * @return Definition as a JSON string.
+     * @throws IOException If the definition could not be loaded.
+     */
+    public static String getDefinition(String location, DefinitionLoader loader) throws IOException {
+
+        try {
+            return DEFINITIONS.computeIfAbsent(location, key -> {
+                try {
+                    return loader.load();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Get the validator of a definition for the given base path, building it if it is not built yet. All the
+     * occurrences of the base path in the definition are replaced with the base path of the test run before building
+     * the validator.
+     *
+     * @param definition        Definition as a JSON string.
+     * @param basePathInSwagger Base path that is defined in the definition (ex: /api/users/v1).
+     * @param basePath          Base path of the test run (ex: /t/carbon.super/api/users/v1).
+     * @return Validator of the definition.
+     */
+    public static OpenApiInteractionValidator getValidator(String definition, String basePathInSwagger,
+                                                           String basePath) {
+
+        return VALIDATORS.computeIfAbsent(new ValidatorKey(definition, basePathInSwagger, basePath),
+                key -> OpenApiInteractionValidator
+                        .createForInlineApiSpecification(definition.replaceAll(basePathInSwagger, basePath))
+                        .withLevelResolver(LevelResolverFactory.withAdditionalPropertiesIgnored())
+                        .build());
+    }
+
+    /**
+     * Clear the cached definitions and validators.
+     */
+    public static void clear() {
+
+        DEFINITIONS.clear();
+        VALIDATORS.clear();
+    }
+
+    /**
+     * Loader of a definition that is not in the cache.
+     */
+    @FunctionalInterface
+    public interface DefinitionLoader {
+
+        String load() throws IOException;
+    }
+
+    /**
+     * Key of a validator. The definition is compared by its content, so that the test classes which read the same
+     * definition separately share the validator.
+     */
+    private static final class ValidatorKey {
+
+        private final String definition;
+        private final String basePathInSwagger;
+        private final String basePath;
+
+        private ValidatorKey(String definition, String basePathInSwagger, String basePath) {
+
+            this.definition = definition;
+            this.basePathInSwagger = basePathInSwagger;
+            this.basePath = basePath;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ValidatorKey)) {
+                return false;
+            }
+            ValidatorKey that = (ValidatorKey) o;
+            return definition.equals(that.definition) && basePathInSwagger.equals(that.basePathInSwagger) &&
+                    basePath.equals(that.basePath);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(definition, basePathInSwagger, basePath);
+        }
+    }
+}
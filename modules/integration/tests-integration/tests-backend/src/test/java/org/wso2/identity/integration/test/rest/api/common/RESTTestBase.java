@@ -19,15 +19,16 @@
 package org.wso2.identity.integration.test.rest.api.common;
 
 import com.atlassian.oai.validator.OpenApiInteractionValidator;
-import com.atlassian.oai.validator.report.LevelResolverFactory;
 import com.atlassian.oai.validator.restassured.OpenApiValidationFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.restassured.RestAssured;
 import io.restassured.config.EncoderConfig;
+import io.restassured.filter.Filter;
 import io.restassured.filter.log.LogDetail;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -36,6 +37,8 @@ import org.apache.http.HttpHeaders;
 import org.apache.http.ParseException;
 import org.apache.jmeter.protocol.http.util.HTTPConstants;
 import org.hamcrest.Matcher;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
 import org.wso2.carbon.automation.engine.context.AutomationContext;
 import org.wso2.identity.integration.common.clients.Idp.IdentityProviderMgtServiceClient;
 import org.wso2.identity.integration.common.clients.UserProfileMgtServiceClient;
@@ -57,7 +60,9 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.rmi.RemoteException;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.jar.JarEntry;
@@ -83,6 +88,8 @@ public class RESTTestBase extends ISIntegrationTest {
             + "lib" + File.separator;
     private static final String JAR_EXTENSION = ".jar";
     protected static final String SERVICES = "/services";
+    private static final String ASYNC_VALIDATION_PROPERTY = "rest.api.validation.async";
+    private static final Duration ASYNC_VALIDATION_TIMEOUT = Duration.ofSeconds(60);
 
     private static final String BUNDLE = "RESTAPIErrors";
     private static ResourceBundle errorProperties = ResourceBundle.getBundle(BUNDLE);
@@ -98,12 +105,17 @@ public class RESTTestBase extends ISIntegrationTest {
     protected String swaggerDefinition;
 
     protected String basePath = StringUtils.EMPTY;
+    private String requestBasePath = StringUtils.EMPTY;
 
-    private OpenApiValidationFilter validationFilter;
+    private Filter validationFilter;
+    private AsyncOpenApiValidationFilter asyncValidationFilter;
     private EncoderConfig encoderconfig = new EncoderConfig();
 
     /**
-     * Initialize the RestAssured environment and create SwaggerRequestResponseValidator with the swagger definition
+     * Initialize the RestAssured environment and create SwaggerRequestResponseValidator with the swagger definition.
+     * The validator is shared with the other test classes using the same swagger definition and base path. When the
+     * "rest.api.validation.async" system property is set, the responses are validated off the request thread and the
+     * violations are reported when the test class concludes.
      *
      * @param swaggerDefinition swagger definition name
      * @param basePathInSwagger basepath that is defined in the swagger definition (ex: /api/users/v1)
@@ -117,12 +129,14 @@ public class RESTTestBase extends ISIntegrationTest {
         this.basePath = basePath;
         this.swaggerDefinition = swaggerDefinition;
         RestAssured.baseURI = backendURL.replace(SERVICES, "");
-        String swagger = replaceInSwaggerDefinition(swaggerDefinition, basePathInSwagger, basePath);
-        OpenApiInteractionValidator openAPIValidator = OpenApiInteractionValidator
-                .createForInlineApiSpecification(swagger)
-                .withLevelResolver(LevelResolverFactory.withAdditionalPropertiesIgnored())
-                .build();
-        validationFilter = new OpenApiValidationFilter(openAPIValidator);
+        OpenApiInteractionValidator openAPIValidator = OpenApiValidatorCache.getValidator(swaggerDefinition,
+                basePathInSwagger, basePath);
+        if (Boolean.getBoolean(ASYNC_VALIDATION_PROPERTY)) {
+            asyncValidationFilter = new AsyncOpenApiValidationFilter(openAPIValidator);
+            validationFilter = asyncValidationFilter;
+        } else {
+            validationFilter = new OpenApiValidationFilter(openAPIValidator);
+        }
         remoteUSMServiceClient = new RemoteUserStoreManagerServiceClient(backendURL, sessionCookie);
         userProfileMgtServiceClient = new UserProfileMgtServiceClient(backendURL, sessionCookie);
         identityProviderMgtServiceClient = new IdentityProviderMgtServiceClient(sessionCookie, backendURL);
@@ -130,11 +144,47 @@ public class RESTTestBase extends ISIntegrationTest {
 
     protected void conclude() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
+    }
+
+    /**
+     * Fail the test class if any of the responses validated off the request thread violated the swagger definition.
+     * This runs after the @AfterClass methods of the test class, so that the cleanup of the test class is not skipped.
+     */
+    @AfterClass(alwaysRun = true)
+    public void verifyAsyncResponseValidations() {
+
+        if (asyncValidationFilter == null) {
+            return;
+        }
+        List<String> violations = asyncValidationFilter.awaitViolations(ASYNC_VALIDATION_TIMEOUT);
+        if (!violations.isEmpty()) {
+            Assert.fail(violations.size() + " request(s) of " + getClass().getName() +
+                    " violated the swagger definition:" + System.lineSeparator() +
+                    String.join(System.lineSeparator(), violations));
+        }
+    }
+
+    /**
+     * Set the base path of the requests sent by this test instance. The base path is applied per request instead of
+     * relying only on the static RestAssured.basePath, so that test classes running in parallel do not override the
+     * base path of each other.
+     *
+     * @param requestBasePath base path of the requests (ex: /t/carbon.super/api/server/v1)
+     */
+    protected void setRequestBasePath(String requestBasePath) {
+
+        this.requestBasePath = requestBasePath;
+        RestAssured.basePath = requestBasePath;
+    }
+
+    protected String getRequestBasePath() {
+
+        return requestBasePath;
     }
 
     /**
-     * Read the Swagger Definition from the .jar file in the "api" webapp
+     * Read the Swagger Definition from the .jar file in the "api" webapp. The definition is read once per test run.
      *
      * @param jarName         .jar name
      * @param swaggerYamlName .yaml name
@@ -143,6 +193,12 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected static String getAPISwaggerDefinition(String jarName, String swaggerYamlName) throws IOException {
 
+        return OpenApiValidatorCache.getDefinition(jarName + "!/" + swaggerYamlName,
+                () -> readAPISwaggerDefinition(jarName, swaggerYamlName));
+    }
+
+    private static String readAPISwaggerDefinition(String jarName, String swaggerYamlName) throws IOException {
+
         File dir = new File(Utils.getResidentCarbonHome() + API_WEB_APP_ROOT);
         File[] files = dir.listFiles((dir1, name) -> name.startsWith(jarName) && name.endsWith(JAR_EXTENSION));
         JarFile jarFile = new JarFile(files[0]);
@@ -154,7 +210,7 @@ public class RESTTestBase extends ISIntegrationTest {
     }
 
     /**
-     * Read the Swagger Definition from the filePath.
+     * Read the Swagger Definition from the filePath. The definition is read once per test run.
      *
      * @param filePath
      * @return
@@ -162,22 +218,8 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected static String getAPISwaggerDefinition(String filePath) throws IOException {
 
-        String content = new String(Files.readAllBytes(Paths.get(filePath)));
-        return convertYamlToJson(content);
-    }
-
-    /**
-     * Override all the occurrences of "find" values in content with "replace"
-     *
-     * @param find    existing base path
-     * @param replace actual base path for tests run
-     * @return content of the specified swagger definition
-     * @throws IOException
-     */
-    private String replaceInSwaggerDefinition(String content, String find, String replace) {
-
-        content = content.replaceAll(find, replace);
-        return content;
+        return OpenApiValidatorCache.getDefinition(filePath,
+                () -> convertYamlToJson(new String(Files.readAllBytes(Paths.get(filePath)))));
     }
 
     /**
@@ -253,7 +295,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfGet(String endpointUri) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .contentType(ContentType.JSON)
                 .header(HttpHeaders.ACCEPT, ContentType.JSON)
                 .log().ifValidationFails()
@@ -271,7 +313,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfGetNoFilter(String endpointUri) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .contentType(ContentType.JSON)
                 .header(HttpHeaders.ACCEPT, ContentType.JSON)
                 .log().ifValidationFails()
@@ -289,7 +331,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfGet(String endpointUri, String contentType) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .config(RestAssured.config().encoderConfig(encoderconfig
                         .appendDefaultContentCharsetToContentTypeIfUndefined(false)))
                 .contentType(contentType)
@@ -310,7 +352,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfGet(String endpointUri, Map<String, Object> params) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .contentType(ContentType.JSON)
                 .header(HttpHeaders.ACCEPT, ContentType.JSON)
                 .params(params)
@@ -330,7 +372,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfGetWithQueryParams(String endpointUri, Map<String, Object> queryParams) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .contentType(ContentType.JSON)
                 .header(HttpHeaders.ACCEPT, ContentType.JSON)
                 .queryParams(queryParams)
@@ -349,7 +391,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfGetWithOAuth2(String endpointURL, String accessToken) {
 
-        return given().auth().preemptive().oauth2(accessToken)
+        return givenRequest().auth().preemptive().oauth2(accessToken)
                 .contentType(ContentType.JSON)
                 .when()
                 .get(endpointURL);
@@ -366,7 +408,7 @@ public class RESTTestBase extends ISIntegrationTest {
     protected Response getResponseOfGetWithOAuth2(String endpointURL, String accessToken,
                                                   Map<String, Object> queryParams) {
 
-        return given().auth().preemptive().oauth2(accessToken)
+        return givenRequest().auth().preemptive().oauth2(accessToken)
                 .header(HttpHeaders.ACCEPT, ContentType.JSON)
                 .queryParams(queryParams)
                 .when()
@@ -382,7 +424,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfGetWithoutAuthentication(String endpointUri, String contentType) {
 
-        return given()
+        return givenRequest()
                 .config(RestAssured.config().encoderConfig(encoderconfig
                         .appendDefaultContentCharsetToContentTypeIfUndefined(false)))
                 .contentType(contentType)
@@ -403,7 +445,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfPost(String endpointUri, String body) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .contentType(ContentType.JSON)
                 .header(HttpHeaders.ACCEPT, ContentType.JSON)
                 .body(body)
@@ -426,7 +468,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfPostNoFilter(String endpointUri, String body) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .contentType(ContentType.JSON)
                 .header(HttpHeaders.ACCEPT, ContentType.JSON)
                 .body(body)
@@ -447,7 +489,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfPost(String endpointUri, String body, String contentType) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .config(RestAssured.config().encoderConfig(encoderconfig
                         .appendDefaultContentCharsetToContentTypeIfUndefined(false)))
                 .contentType(contentType)
@@ -472,7 +514,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfPostWithOAuth2(String endpointURL, String body, String accessToken) {
 
-        return given().auth().preemptive().oauth2(accessToken)
+        return givenRequest().auth().preemptive().oauth2(accessToken)
                 .contentType(ContentType.JSON)
                 .body(body)
                 .when()
@@ -489,7 +531,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfMultipartFilePost(String endpointUri, String fileField, String filePath) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .config(RestAssured.config().encoderConfig(encoderconfig
                         .appendDefaultContentCharsetToContentTypeIfUndefined(false)))
                 .multiPart(fileField, new File(filePath))
@@ -509,7 +551,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfMultipartFilePost(String endpointUri, String filePath) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .config(RestAssured.config().encoderConfig(encoderconfig
                         .appendDefaultContentCharsetToContentTypeIfUndefined(false)))
                 .multiPart(new File(filePath))
@@ -529,7 +571,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfMultipartFilePut(String endpointUri, String filePath) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .config(RestAssured.config().encoderConfig(encoderconfig
                         .appendDefaultContentCharsetToContentTypeIfUndefined(false)))
                 .multiPart(new File(filePath))
@@ -547,7 +589,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfMultipartFilePut(String endpointUri, String fileField, String filePath) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .config(RestAssured.config().encoderConfig(encoderconfig
                         .appendDefaultContentCharsetToContentTypeIfUndefined(false)))
                 .multiPart(fileField, new File(filePath))
@@ -659,7 +701,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfJSONPost(String endpointUri, String body, Map<String, String> headers) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                       .contentType(ContentType.JSON)
                       .headers(headers)
                       .body(body)
@@ -680,7 +722,7 @@ public class RESTTestBase extends ISIntegrationTest {
     protected Response getResponseOfFormPostWithAuth(String endpointUri, Map<String, String> params, Map<String, String>
             headers, String username, String password) {
 
-        return given().auth().preemptive().basic(username, password)
+        return givenRequest().auth().preemptive().basic(username, password)
                       .headers(headers)
                       .params(params)
                       .when()
@@ -697,7 +739,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfPut(String endpointUri, String body) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .contentType(ContentType.JSON)
                 .header(HttpHeaders.ACCEPT, ContentType.JSON)
                 .body(body)
@@ -720,7 +762,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfPutWithNoFilter(String endpointUri, String body) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .contentType(ContentType.JSON)
                 .header(HttpHeaders.ACCEPT, ContentType.JSON)
                 .body(body)
@@ -741,7 +783,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfPut(String endpointUri, String body, String contentType) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .config(RestAssured.config().encoderConfig(encoderconfig
                         .appendDefaultContentCharsetToContentTypeIfUndefined(false)))
                 .contentType(contentType)
@@ -766,7 +808,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfPutWithOAuth2(String endpointURL, String body, String accessToken) {
 
-        return given().auth().preemptive().oauth2(accessToken)
+        return givenRequest().auth().preemptive().oauth2(accessToken)
                 .contentType(ContentType.JSON)
                 .body(body)
                 .when()
@@ -784,7 +826,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfPatchWithOAuth2(String endpointURL, String body, String accessToken) {
 
-        return given().auth().preemptive().oauth2(accessToken)
+        return givenRequest().auth().preemptive().oauth2(accessToken)
                 .contentType(ContentType.JSON)
                 .body(body)
                 .when()
@@ -802,7 +844,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfPatch(String endpointURI, String body, String contentType) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .config(RestAssured.config().encoderConfig(encoderconfig
                         .appendDefaultContentCharsetToContentTypeIfUndefined(false)))
                 .contentType(contentType)
@@ -827,7 +869,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfPatch(String endpointURI, String body) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .config(RestAssured.config().encoderConfig(encoderconfig
                         .appendDefaultContentCharsetToContentTypeIfUndefined(false)))
                 .contentType(ContentType.JSON)
@@ -850,7 +892,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfDelete(String endpointURI) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .contentType(ContentType.JSON)
                 .header(HttpHeaders.ACCEPT, ContentType.JSON)
                 .log().ifValidationFails()
@@ -869,7 +911,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfDelete(String endpointURI, String contentType) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .contentType(ContentType.JSON)
                 .header(HttpHeaders.ACCEPT, contentType)
                 .log().ifValidationFails()
@@ -890,7 +932,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfDelete(String endpointURI, Map<String, String> headers) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .contentType(ContentType.JSON)
                 .headers(headers)
                 .when()
@@ -907,7 +949,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfDeleteWithQueryParams(String endpointURI, Map<String, Object> queryParams) {
 
-        return given().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
+        return givenRequest().auth().preemptive().basic(authenticatingUserName, authenticatingCredential)
                 .queryParams(queryParams)
                 .when()
                 .delete(endpointURI);
@@ -922,7 +964,7 @@ public class RESTTestBase extends ISIntegrationTest {
      */
     protected Response getResponseOfDeleteWithOAuth2(String endpointURL, String accessToken) {
 
-        return given().auth().preemptive().oauth2(accessToken)
+        return givenRequest().auth().preemptive().oauth2(accessToken)
                 .contentType(ContentType.JSON)
                 .when()
                 .delete(endpointURL);
@@ -1057,4 +1099,13 @@ public class RESTTestBase extends ISIntegrationTest {
                 .body(element, responseAwareMatcher);
     }
 
+    /**
+     * Start a request specification with the base path of this test instance.
+     *
+     * @return request specification
+     */
+    private RequestSpecification givenRequest() {
+
+        return given().basePath(requestBasePath);
+    }
 }
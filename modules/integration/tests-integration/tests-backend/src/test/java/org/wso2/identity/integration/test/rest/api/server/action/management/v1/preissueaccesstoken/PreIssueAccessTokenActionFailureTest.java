@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.action.management.v1.preissueaccesstoken;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
@@ -82,13 +81,13 @@ public class PreIssueAccessTokenActionFailureTest extends ActionTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @Test
@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.action.management.v1.preissueidtoken;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
@@ -77,7 +76,7 @@ public class PreIssueIDTokenActionFailureTest extends ActionTestBase {
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @Test
@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.admin.advisory.management.v1;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
@@ -74,13 +73,13 @@ public class AdminAdvisoryManagementSuccessTest extends AdminAdvisoryManagementT
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     // Get admin advisory config from the API.
@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.application.management.v1;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 
 import java.io.IOException;
@@ -95,13 +94,13 @@ public class ApplicationManagementBaseTest extends RESTAPIServerTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @DataProvider(name = "restAPIUserConfigProvider")
@@ -105,7 +105,7 @@ public class ApplicationManagementFapiProfileSuccessTest extends ApplicationMana
             .assertThat()
             .statusCode(HttpStatus.SC_OK);
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
         deleteAppIfPresent(fapi1AppId);
         deleteAppIfPresent(fapi2AppId);
         deleteAppIfPresent(legacyFapiAppId);
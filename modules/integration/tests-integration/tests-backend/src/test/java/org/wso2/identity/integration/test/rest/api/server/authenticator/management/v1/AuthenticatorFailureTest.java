@@ -20,7 +20,6 @@
 package org.wso2.identity.integration.test.rest.api.server.authenticator.management.v1;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
@@ -82,7 +81,7 @@ public class AuthenticatorFailureTest extends AuthenticatorTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
         creationPayload = UserDefinedLocalAuthenticatorPayload
                 .getBasedUserDefinedLocalAuthenticatorCreation(testAuthenticatorConfig);
         updatePayload = UserDefinedLocalAuthenticatorPayload
@@ -92,7 +91,7 @@ public class AuthenticatorFailureTest extends AuthenticatorTestBase {
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @DataProvider(name = "restAPIUserConfigProvider")
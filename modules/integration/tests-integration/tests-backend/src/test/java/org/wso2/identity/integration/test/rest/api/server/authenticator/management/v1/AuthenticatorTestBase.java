@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.authenticator.management.v1;
 
-import io.restassured.RestAssured;
 import org.apache.commons.lang3.StringUtils;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
@@ -91,13 +90,13 @@ public class AuthenticatorTestBase extends RESTAPIServerTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     protected UserDefinedLocalAuthenticatorConfig createBaseUserDefinedLocalAuthenticator(
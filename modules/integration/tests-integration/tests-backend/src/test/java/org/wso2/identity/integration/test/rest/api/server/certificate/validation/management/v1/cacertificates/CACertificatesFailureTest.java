@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.certificate.validation.management.v1.cacertificates;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.http.HttpStatus;
 import org.testng.annotations.AfterClass;
@@ -83,7 +82,7 @@ public class CACertificatesFailureTest extends CACertificatesTestBase {
     @Override
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @Test
@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.certificate.validation.management.v1.cacertificates;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.http.HttpStatus;
 import org.testng.annotations.AfterClass;
@@ -85,7 +84,7 @@ public class CACertificatesSuccessTest extends CACertificatesTestBase {
     @Override
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @Test
@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.configs.v1;
 
-import io.restassured.RestAssured;
 import org.apache.http.HttpStatus;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -64,7 +63,7 @@ public class AgentConfigSuccessTest extends ConfigTestBase {
 
         try {
             // Revert the agent configuration to its default state to avoid affecting subsequent tests.
-            RestAssured.basePath = basePath;
+            setRequestBasePath(basePath);
             getResponseOfDelete(CONFIGS_AGENT_API_BASE_PATH);
         } finally {
             super.conclude();
@@ -77,7 +77,7 @@ public class ConsentPurposesSuccessTest extends ConsentPurposesTestBase {
         String consentMgtBasePath = getConsentMgtBasePath(tenant);
 
         // Create element (prerequisite for purpose creation).
-        RestAssured.basePath = consentMgtBasePath;
+        setRequestBasePath(consentMgtBasePath);
         Response elementResponse = getResponseOfPostNoFilter(CONSENT_MGT_ELEMENTS_PATH,
                 readResource("create-consent-element.json"));
         elementResponse.then().assertThat().statusCode(HttpStatus.SC_CREATED);
@@ -92,7 +92,7 @@ public class ConsentPurposesSuccessTest extends ConsentPurposesTestBase {
         createdPurposeId = purposeResponse.jsonPath().getString("id");
         Assert.assertNotNull(createdPurposeId, "Purpose creation returned a null ID");
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
 
         // Create application.
         ApplicationModel app = new ApplicationModel();
@@ -110,7 +110,7 @@ public class ConsentPurposesSuccessTest extends ConsentPurposesTestBase {
                 createdAppId = null;
             }
             String consentMgtBasePath = getConsentMgtBasePath(tenant);
-            RestAssured.basePath = consentMgtBasePath;
+            setRequestBasePath(consentMgtBasePath);
             if (createdPurposeId != null) {
                 deleteNoFilter(CONSENT_MGT_PURPOSES_PATH + "/" + createdPurposeId);
                 createdPurposeId = null;
@@ -119,7 +119,7 @@ public class ConsentPurposesSuccessTest extends ConsentPurposesTestBase {
                 deleteNoFilter(CONSENT_MGT_ELEMENTS_PATH + "/" + createdElementId);
                 createdElementId = null;
             }
-            RestAssured.basePath = basePath;
+            setRequestBasePath(basePath);
         } finally {
             super.testConclude();
         }
@@ -190,9 +190,9 @@ public class ConsentPurposesSuccessTest extends ConsentPurposesTestBase {
 
         String purposeId = createdPurposeId;
         String consentMgtBasePath = getConsentMgtBasePath(tenant);
-        RestAssured.basePath = consentMgtBasePath;
+        setRequestBasePath(consentMgtBasePath);
         deleteNoFilter(CONSENT_MGT_PURPOSES_PATH + "/" + purposeId);
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
         createdPurposeId = null;
 
         getResponseOfGet(CONSENT_PURPOSES_API_PATH + "/" + purposeId + APPLICATIONS_SUFFIX)
@@ -204,7 +204,7 @@ public class ConsentPurposesSuccessTest extends ConsentPurposesTestBase {
 
     /**
      * Sends a DELETE to the given endpoint path without swagger validation.
-     * Caller is responsible for setting RestAssured.basePath before calling.
+     * Caller is responsible for setting the request base path before calling.
      */
     private void deleteNoFilter(String endpointPath) {
 
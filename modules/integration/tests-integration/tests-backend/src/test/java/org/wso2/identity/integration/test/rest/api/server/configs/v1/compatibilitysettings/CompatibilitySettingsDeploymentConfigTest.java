@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.configs.v1.compatibilitysettings;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -111,7 +110,7 @@ public class CompatibilitySettingsDeploymentConfigTest extends ConfigTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @Test(description = "After deployment.toml override and restart, GET all compatibility settings returns 200.")
@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.configs.v1.compatibilitysettings;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
@@ -100,13 +99,13 @@ public class CompatibilitySettingsSubOrgInheritanceTest extends ConfigTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @DataProvider(name = "restAPIUserConfigProvider")
@@ -167,9 +166,9 @@ public class CompatibilitySettingsSubOrgInheritanceTest extends ConfigTestBase {
 
     private String getEnableLegacyFlowsFromSubOrg() {
 
-        String previousBasePath = RestAssured.basePath;
+        String previousBasePath = getRequestBasePath();
         try {
-            RestAssured.basePath = subOrgBasePath;
+            setRequestBasePath(subOrgBasePath);
             Response response = getResponseOfGetWithOAuth2(
                     CONFIGS_COMPATIBILITY_SETTINGS_API_BASE_PATH + PATH_SEPARATOR + FLOW_EXECUTION_GROUP,
                     switchedM2MToken);
@@ -179,7 +178,7 @@ public class CompatibilitySettingsSubOrgInheritanceTest extends ConfigTestBase {
                     .statusCode(HttpStatus.SC_OK);
             return response.then().extract().jsonPath().getString(ENABLE_LEGACY_FLOWS);
         } finally {
-            RestAssured.basePath = previousBasePath;
+            setRequestBasePath(previousBasePath);
         }
     }
 
@@ -195,9 +194,9 @@ public class CompatibilitySettingsSubOrgInheritanceTest extends ConfigTestBase {
 
     private void patchEnableLegacyFlowsInSubOrg(String value) {
 
-        String previousBasePath = RestAssured.basePath;
+        String previousBasePath = getRequestBasePath();
         try {
-            RestAssured.basePath = subOrgBasePath;
+            setRequestBasePath(subOrgBasePath);
             Response patchResponse = getResponseOfPatchWithOAuth2(CONFIGS_COMPATIBILITY_SETTINGS_API_BASE_PATH,
                     buildFlowExecutionPatchBody(value), switchedM2MToken);
             patchResponse.then()
@@ -205,7 +204,7 @@ public class CompatibilitySettingsSubOrgInheritanceTest extends ConfigTestBase {
                     .assertThat()
                     .statusCode(HttpStatus.SC_OK);
         } finally {
-            RestAssured.basePath = previousBasePath;
+            setRequestBasePath(previousBasePath);
         }
     }
 
@@ -231,7 +230,7 @@ public class CompatibilitySettingsSubOrgInheritanceTest extends ConfigTestBase {
 
     private void restoreCompatibilitySettings() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
         try {
             // Restore root first (if we captured it).
             if (rootOriginalValue != null) {
@@ -242,7 +241,7 @@ public class CompatibilitySettingsSubOrgInheritanceTest extends ConfigTestBase {
                 patchEnableLegacyFlowsInSubOrg(rootOriginalValue);
             }
         } finally {
-            RestAssured.basePath = StringUtils.EMPTY;
+            setRequestBasePath(StringUtils.EMPTY);
         }
     }
 }
@@ -142,7 +142,7 @@ public class ConsentManagementV2AdminModeTest extends ConsentManagementV2TestBas
             authorizeAPIForApp(CONSENT_MANAGEMENT_API_IDENTIFIER);
         }
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
         try {
             Response elementResponse = getResponseOfPost(ELEMENTS_ENDPOINT,
                     "{\"name\": \"consent_admin_mode_elem\", \"displayName\": \"Admin Mode Elem\","
@@ -173,7 +173,7 @@ public class ConsentManagementV2AdminModeTest extends ConsentManagementV2TestBas
             consentResponse.then().assertThat().statusCode(HttpStatus.SC_CREATED);
             adminTestConsentId = consentResponse.jsonPath().getString("id");
         } finally {
-            RestAssured.basePath = "";
+            setRequestBasePath("");
         }
     }
 
@@ -181,7 +181,7 @@ public class ConsentManagementV2AdminModeTest extends ConsentManagementV2TestBas
     @Override
     public void testConclude() throws Exception {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
         try {
             if (adminTestUserId != null) {
                 scim2RestClient.deleteUser(adminTestUserId);
@@ -205,7 +205,7 @@ public class ConsentManagementV2AdminModeTest extends ConsentManagementV2TestBas
             if (httpClient != null) {
                 httpClient.close();
             }
-            RestAssured.basePath = "";
+            setRequestBasePath("");
             super.testConclude();
         }
     }
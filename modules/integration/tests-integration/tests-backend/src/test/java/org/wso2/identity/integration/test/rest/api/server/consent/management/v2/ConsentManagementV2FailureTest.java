@@ -88,7 +88,7 @@ public class ConsentManagementV2FailureTest extends ConsentManagementV2TestBase
     @Override
     public void testConclude() throws Exception {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
         try {
             if (crossUserUserAId != null) {
                 scim2RestClient.deleteUser(crossUserUserAId);
@@ -106,7 +106,7 @@ public class ConsentManagementV2FailureTest extends ConsentManagementV2TestBase
             if (scim2RestClient != null) {
                 scim2RestClient.closeHttpClient();
             }
-            RestAssured.basePath = "";
+            setRequestBasePath("");
             super.testConclude();
         }
     }
@@ -721,7 +721,7 @@ public class ConsentManagementV2FailureTest extends ConsentManagementV2TestBase
 
     private void setupCrossUserTestData() throws Exception {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
         try {
             Response elementResponse = getResponseOfPost(ELEMENTS_ENDPOINT,
                     "{\"name\": \"consent_fail_crossuser_elem\", \"displayName\": \"Cross User Elem\","
@@ -754,7 +754,7 @@ public class ConsentManagementV2FailureTest extends ConsentManagementV2TestBase
             consentResponse.then().assertThat().statusCode(HttpStatus.SC_CREATED);
             crossUserConsentId = consentResponse.jsonPath().getString("id");
         } finally {
-            RestAssured.basePath = "";
+            setRequestBasePath("");
         }
     }
 
@@ -109,8 +109,8 @@ public class ConsentManagementV2SuccessTest extends ConsentManagementV2TestBase
     @Override
     public void testConclude() throws Exception {
 
-        // @AfterMethod resets RestAssured.basePath; restore it so cleanup requests hit the right endpoints.
-        RestAssured.basePath = basePath;
+        // @AfterMethod resets the request base path; restore it so cleanup requests hit the right endpoints.
+        setRequestBasePath(basePath);
         try {
             if (scim2RestClient != null && testUserId != null) {
                 scim2RestClient.deleteUser(testUserId);
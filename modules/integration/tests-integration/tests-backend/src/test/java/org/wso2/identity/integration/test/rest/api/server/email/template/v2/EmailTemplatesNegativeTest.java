@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.email.template.v2;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import java.io.IOException;
 import java.util.HashMap;
@@ -69,13 +68,13 @@ public class EmailTemplatesNegativeTest extends EmailTemplatesTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @DataProvider(name = "restAPIUserConfigProvider")
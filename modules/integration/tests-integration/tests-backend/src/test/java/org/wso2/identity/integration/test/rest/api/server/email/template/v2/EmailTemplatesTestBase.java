@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.email.template.v2;
 
-import io.restassured.RestAssured;
 import java.io.IOException;
 import org.apache.commons.lang3.StringUtils;
 import org.testng.Assert;
@@ -67,12 +66,12 @@ public class EmailTemplatesTestBase extends RESTAPIServerTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 }
@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.extension.management.v1;
 
-import io.restassured.RestAssured;
 import java.io.IOException;
 import org.apache.commons.lang3.StringUtils;
 import org.testng.Assert;
@@ -76,13 +75,13 @@ public class ExtensionManagementBaseTest extends RESTAPIServerTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @DataProvider(name = "restAPIUserConfigProvider")
@@ -19,7 +19,6 @@
 package org.wso2.identity.integration.test.rest.api.server.notification.sender.v2;
 
 import com.google.gson.Gson;
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHeaders;
@@ -84,7 +83,7 @@ public class EmailSenderSuccessTest extends EmailSenderTestBase {
         try {
             // Cleanup any leftover email sender to prevent conflicts in subsequent test classes.
             if (!StringUtils.equals(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME, tenant)) {
-                RestAssured.basePath = basePath;
+                setRequestBasePath(basePath);
                 getResponseOfDelete(NOTIFICATION_SENDER_API_BASE_PATH + PATH_SEPARATOR +
                         EMAIL_SENDERS_PATH + PATH_SEPARATOR + emailNotificationSenderName);
                 // Ignore the response status - it may be 204 (deleted) or 404 (not found).
@@ -98,14 +97,14 @@ public class EmailSenderSuccessTest extends EmailSenderTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @Override
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @DataProvider(name = "restAPIUserConfigProvider")
@@ -16,7 +16,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.permission.management.v1;
 
-import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import org.apache.axis2.AxisFault;
 import org.apache.commons.lang3.StringUtils;
@@ -83,13 +82,13 @@ public class PermissionManagementTest extends RESTAPIServerTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @DataProvider(name = "restAPIUserConfigProvider")
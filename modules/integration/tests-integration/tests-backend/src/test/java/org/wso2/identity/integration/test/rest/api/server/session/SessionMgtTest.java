@@ -27,11 +27,13 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Factory;
 import org.testng.annotations.Test;
 import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.common.utils.await.Await;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.ApplicationModel;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.InboundProtocols;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
 import org.wso2.identity.integration.test.restclients.OAuth2RestClient;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 
@@ -46,6 +48,7 @@ public class SessionMgtTest extends SessionMgtTestBase {
 
     private static final String APPLICATION_NAME = "SessionTestApp";
     private static final String CALLBACK_URL = "https://example.com/callback";
+    private static final Duration SESSION_EXPIRY_GRACE_PERIOD = Duration.ofSeconds(15);
     
     private OAuth2RestClient restClient;
     private String appId;
@@ -159,10 +162,8 @@ public class SessionMgtTest extends SessionMgtTestBase {
         sessionActive = checkSessionActive(cookieStore);
         assertTrue(sessionActive, "Session should be active after second extension");
 
-        Thread.sleep(30 * 1000);
-
-        sessionActive = checkSessionActive(cookieStore);
-        assertFalse(sessionActive, "Session should be expired due to maximum timeout cap");
+        assertTrue(awaitSessionExpiry(cookieStore, Duration.ofSeconds(30)),
+                "Session should be expired due to maximum timeout cap");
     }
 
     /**
@@ -184,11 +185,8 @@ public class SessionMgtTest extends SessionMgtTestBase {
         sessionActive = checkSessionActive(cookieStore);
         assertTrue(sessionActive, "Session should still be within max timeout");
 
-        Thread.sleep(30 * 1000);
-
-        sessionActive = checkSessionActive(cookieStore);
-        assertFalse(sessionActive, "Session should be expired due to maximum timeout cap, " +
-                "even with remember me enabled");
+        assertTrue(awaitSessionExpiry(cookieStore, Duration.ofSeconds(30)),
+                "Session should be expired due to maximum timeout cap, even with remember me enabled");
     }
 
     /**
@@ -253,4 +251,23 @@ public class SessionMgtTest extends SessionMgtTestBase {
 
         return checkSessionActive(cookieStore, clientId, CALLBACK_URL);
     }
+
+    /**
+     * Waits for a session capped by the maximum session timeout to expire. The first check is done after the given
+     * delay and the session is checked again until the grace period elapses, which tolerates the expiry being
+     * observed slightly late. Checking the session extends only the idle timeout, hence it does not delay the expiry
+     * due to the maximum timeout.
+     *
+     * @param cookieStore Cookie store containing session cookies.
+     * @param delay       Time until the maximum timeout is expected to be reached.
+     * @return True if the session expired, false otherwise.
+     * @throws Exception If an error occurs during session check.
+     */
+    private boolean awaitSessionExpiry(CookieStore cookieStore, Duration delay) throws Exception {
+
+        return Await.atMost(delay.plus(SESSION_EXPIRY_GRACE_PERIOD))
+                .pollDelay(delay)
+                .pollInterval(Duration.ofSeconds(1), Duration.ofSeconds(5))
+                .until("session to expire due to the maximum timeout", () -> !checkSessionActive(cookieStore));
+    }
 }
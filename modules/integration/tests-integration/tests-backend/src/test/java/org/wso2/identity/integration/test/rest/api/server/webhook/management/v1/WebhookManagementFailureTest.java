@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.webhook.management.v1;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
@@ -60,13 +59,13 @@ public class WebhookManagementFailureTest extends WebhookManagementTestBase {
     @BeforeMethod(alwaysRun = true)
     public void setBasePath() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void clearBasePath() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @Test
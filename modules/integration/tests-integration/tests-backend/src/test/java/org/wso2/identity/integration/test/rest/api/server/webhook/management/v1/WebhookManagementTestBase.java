@@ -20,7 +20,6 @@ package org.wso2.identity.integration.test.rest.api.server.webhook.management.v1
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import io.restassured.RestAssured;
 import org.apache.http.HttpStatus;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
@@ -83,7 +82,7 @@ public class WebhookManagementTestBase extends RESTAPIServerTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @DataProvider(name = "restAPIUserConfigProvider")
@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.webhook.metadata.v1;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.http.HttpStatus;
 import org.hamcrest.CoreMatchers;
@@ -64,7 +63,7 @@ public class WebhookMetadataSuccessTest extends WebhookMetadataTestBase {
     @BeforeMethod(alwaysRun = true)
     public void setBasePath() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     /**
@@ -20,7 +20,6 @@ package org.wso2.identity.integration.test.rest.api.server.webhook.metadata.v1;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import io.restassured.RestAssured;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -75,7 +74,7 @@ public class WebhookMetadataTestBase extends RESTAPIServerTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @DataProvider(name = "restAPIUserConfigProvider")
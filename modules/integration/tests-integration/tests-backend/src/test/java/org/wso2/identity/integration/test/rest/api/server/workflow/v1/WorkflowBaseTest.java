@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.server.workflow.v1;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
@@ -65,13 +64,13 @@ public class WorkflowBaseTest extends RESTAPIServerTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     /**
@@ -80,7 +79,7 @@ public class WorkflowBaseTest extends RESTAPIServerTestBase {
      */
     protected void cleanupWorkflowByName(String name) {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
         Response assocResp = getResponseOfGet(WORKFLOW_ASSOCIATION_API_BASE_PATH);
         if (assocResp.getStatusCode() == HttpStatus.SC_OK) {
             List<Map<String, Object>> assocs = assocResp.jsonPath().getList("workflowAssociations");
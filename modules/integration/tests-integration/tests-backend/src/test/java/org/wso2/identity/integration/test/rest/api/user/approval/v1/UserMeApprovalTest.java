@@ -16,7 +16,6 @@
 
 package org.wso2.identity.integration.test.rest.api.user.approval.v1;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -100,7 +99,7 @@ public class UserMeApprovalTest extends UserApprovalTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @Test
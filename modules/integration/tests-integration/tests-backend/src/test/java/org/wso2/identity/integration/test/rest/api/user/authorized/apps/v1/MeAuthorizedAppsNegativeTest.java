@@ -16,7 +16,6 @@
 
 package org.wso2.identity.integration.test.rest.api.user.authorized.apps.v1;
 
-import io.restassured.RestAssured;
 import org.apache.axis2.AxisFault;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
@@ -46,13 +45,13 @@ public class MeAuthorizedAppsNegativeTest extends UserAuthorizedAppsBaseTest {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
 
@@ -16,7 +16,6 @@
 
 package org.wso2.identity.integration.test.rest.api.user.authorized.apps.v1;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.http.HttpStatus;
 import org.testng.Assert;
@@ -118,6 +117,6 @@ public class UserAuthorizedAppsBaseTest extends RESTAPIUserTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 }
@@ -16,7 +16,6 @@
 
 package org.wso2.identity.integration.test.rest.api.user.challenge.v1;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.axis2.AxisFault;
 import org.apache.commons.lang3.StringUtils;
@@ -86,13 +85,13 @@ public class UserMeNegativeTest extends UserChallengeTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @DataProvider(name = "restAPIUserConfigProvider")
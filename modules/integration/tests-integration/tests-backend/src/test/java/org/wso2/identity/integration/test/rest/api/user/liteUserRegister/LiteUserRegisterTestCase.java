@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.user.liteUserRegister;
 
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
@@ -51,13 +50,13 @@ public class LiteUserRegisterTestCase extends LiteUserRegisterTestBase {
     @BeforeMethod(alwaysRun = true)
     public void testInit() throws Exception {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void endTest() throws Exception {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @AfterClass(alwaysRun = true)
@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.rest.api.user.session.v1;
 
-import io.restassured.RestAssured;
 import org.apache.axis2.AxisFault;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpStatus;
@@ -80,13 +79,13 @@ public class UserSessionMeSuccessTest extends UserSessionTest {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
     public void testFinish() {
 
-        RestAssured.basePath = StringUtils.EMPTY;
+        setRequestBasePath(StringUtils.EMPTY);
     }
 
     @Test
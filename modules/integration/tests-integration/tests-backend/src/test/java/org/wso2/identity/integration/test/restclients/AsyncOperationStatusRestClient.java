@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.restclients;
+
+import io.restassured.http.ContentType;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.Header;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.util.EntityUtils;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.testng.Assert;
+import org.wso2.carbon.automation.engine.context.beans.Tenant;
+import org.wso2.identity.integration.common.utils.ISIntegrationTest;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Rest client for the asynchronous operation status management API, which tracks the progress of asynchronous
+ * operations such as B2B user sharing. An operation is recorded per shared resource and a unit operation is recorded
+ * per target organization of the operation.
+ */
+public class AsyncOperationStatusRestClient extends RestBaseClient {
+
+    private static final String API_SERVER_BASE_PATH = "/api/server/v1";
+    private static final String ASYNC_OPERATIONS_PATH = "/async-operations";
+    private static final String UNIT_OPERATIONS_PATH = "/unit-operations";
+
+    public static final String OPERATIONS = "operations";
+    public static final String UNIT_OPERATIONS = "unitOperations";
+    public static final String OPERATION_ID = "operationId";
+    public static final String SUBJECT_ID = "subjectId";
+    public static final String TARGET_ORG_ID = "targetOrgId";
+    public static final String STATUS = "status";
+    public static final String STATUS_MESSAGE = "statusMessage";
+    public static final String CREATED_TIME = "createdTime";
+    public static final String MODIFIED_TIME = "modifiedTime";
+
+    private static final String LINKS = "links";
+    private static final String REL = "rel";
+    private static final String HREF = "href";
+    private static final String NEXT = "next";
+    private static final Pattern AFTER_PARAMETER = Pattern.compile("[?&]after=([^&]+)");
+
+    public static final String STATUS_ONGOING = "ONGOING";
+    public static final String STATUS_SUCCESS = "SUCCESS";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_PARTIALLY_COMPLETED = "PARTIALLY_COMPLETED";
+
+    private final String asyncOperationsEndpoint;
+    private final String username;
+    private final String password;
+
+    public AsyncOperationStatusRestClient(String serverUrl, Tenant tenantInfo) {
+
+        String tenantDomain = tenantInfo.getContextUser().getUserDomain();
+        this.username = tenantInfo.getContextUser().getUserName();
+        this.password = tenantInfo.getContextUser().getPassword();
+
+        asyncOperationsEndpoint = serverUrl + ISIntegrationTest.getTenantedRelativePath(
+                API_SERVER_BASE_PATH + ASYNC_OPERATIONS_PATH, tenantDomain);
+    }
+
+    /**
+     * Get the asynchronous operations matching the given filter.
+     *
+     * @param filter Filter such as "subjectId eq {id}", or null to get all the operations.
+     * @param limit  Maximum number of operations to return.
+     * @return JSON object of the response, with the operations under {@link #OPERATIONS}.
+     * @throws Exception If an error occurred while getting the operations.
+     */
+    public JSONObject getOperations(String filter, int limit) throws Exception {
+
+        return get(asyncOperationsEndpoint + getQueryString(filter, limit));
+    }
+
+    /**
+     * Get an asynchronous operation.
+     *
+     * @param operationId Id of the operation.
+     * @return JSON object of the operation.
+     * @throws Exception If an error occurred while getting the operation.
+     */
+    public JSONObject getOperation(String operationId) throws Exception {
+
+        return get(asyncOperationsEndpoint + PATH_SEPARATOR + operationId);
+    }
+
+    /**
+     * Get a page of the unit operations of an asynchronous operation, one per target organization.
+     *
+     * @param operationId Id of the operation.
+     * @param filter      Filter such as "status eq FAILED", or null to get all the unit operations.
+     * @param limit       Maximum number of unit operations to return.
+     * @param after       Cursor of the page given by {@link #getNextPageCursor(JSONObject)}, or null for the first
+     *                    page.
+     * @return JSON object of the response, with the unit operations under {@link #UNIT_OPERATIONS}.
+     * @throws Exception If an error occurred while getting the unit operations.
+     */
+    public JSONObject getUnitOperations(String operationId, String filter, int limit, String after) throws Exception {
+
+        String endpoint = asyncOperationsEndpoint + PATH_SEPARATOR + operationId + UNIT_OPERATIONS_PATH +
+                getQueryString(filter, limit);
+        if (StringUtils.isNotBlank(after)) {
+            endpoint += "&after=" + URLEncoder.encode(after, StandardCharsets.UTF_8.name());
+        }
+        return get(endpoint);
+    }
+
+    /**
+     * Get the cursor of the next page from the pagination links of a list response.
+     *
+     * @param response List response.
+     * @return Cursor to be given as the "after" parameter, or null if this is the last page.
+     */
+    public static String getNextPageCursor(JSONObject response) {
+
+        Object links = response.get(LINKS);
+        if (!(links instanceof JSONArray)) {
+            return null;
+        }
+        for (Object link : (JSONArray) links) {
+            if (link instanceof JSONObject && NEXT.equals(((JSONObject) link).get(REL))) {
+                Matcher matcher = AFTER_PARAMETER.matcher(String.valueOf(((JSONObject) link).get(HREF)));
+                if (matcher.find()) {
+                    return URLDecoder.decode(matcher.group(1), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check whether an operation or unit operation status is final.
+     *
+     * @param status Status of the operation.
+     * @return True if the operation is no longer in progress.
+     */
+    public static boolean isCompleted(String status) {
+
+        return STATUS_SUCCESS.equals(status) || STATUS_FAILED.equals(status) ||
+                STATUS_PARTIALLY_COMPLETED.equals(status);
+    }
+
+    /**
+     * Close the HTTP client.
+     *
+     * @throws IOException If an error occurred while closing the Http Client.
+     */
+    public void closeHttpClient() throws IOException {
+
+        client.close();
+    }
+
+    private JSONObject get(String endpoint) throws Exception {
+
+        try (CloseableHttpResponse response = getResponseOfHttpGet(endpoint, getHeaders())) {
+            Assert.assertEquals(response.getStatusLine().getStatusCode(), HttpServletResponse.SC_OK,
+                    "Failed to get the asynchronous operations from " + endpoint);
+            return getJSONObject(EntityUtils.toString(response.getEntity()));
+        }
+    }
+
+    private static String getQueryString(String filter, int limit) throws UnsupportedEncodingException {
+
+        String query = "?limit=" + limit;
+        if (StringUtils.isNotBlank(filter)) {
+            query += "&filter=" + URLEncoder.encode(filter, StandardCharsets.UTF_8.name());
+        }
+        return query;
+    }
+
+    private Header[] getHeaders() {
+
+        Header[] headerList = new Header[2];
+        headerList[0] = new BasicHeader(AUTHORIZATION_ATTRIBUTE, BASIC_AUTHORIZATION_ATTRIBUTE +
+                Base64.encodeBase64String((username + ":" + password).getBytes()).trim());
+        headerList[1] = new BasicHeader(CONTENT_TYPE_ATTRIBUTE, String.valueOf(ContentType.JSON));
+        return headerList;
+    }
+}
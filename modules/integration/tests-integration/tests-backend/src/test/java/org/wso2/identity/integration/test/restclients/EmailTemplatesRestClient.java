@@ -23,7 +23,6 @@ import org.apache.http.Header;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.util.EntityUtils;
 import org.json.simple.JSONObject;
@@ -46,7 +45,7 @@ public class EmailTemplatesRestClient extends RestBaseClient {
 
     public EmailTemplatesRestClient(String backendURL, Tenant tenantInfo) {
 
-        client = HttpClients.createDefault();
+        client = createHttpClient();
 
         this.username = tenantInfo.getContextUser().getUserName();
         this.password = tenantInfo.getContextUser().getPassword();
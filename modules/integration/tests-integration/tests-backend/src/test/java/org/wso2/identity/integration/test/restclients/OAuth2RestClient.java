@@ -51,8 +51,6 @@ import org.apache.http.config.Lookup;
 import org.apache.http.config.RegistryBuilder;
 import org.apache.http.cookie.CookieSpecProvider;
 import org.apache.http.impl.client.BasicCookieStore;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.cookie.RFC6265CookieSpecProvider;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.util.EntityUtils;
@@ -580,7 +578,7 @@ public class OAuth2RestClient extends RestBaseClient {
         String authorizationCode = getAuthorizationCode(sessionDataKey, username, password, false, null);
         String accessToken =
                 getAccessToken(authorizationCode, oidcConfig.getClientId(), oidcConfig.getClientSecret(), redirectUrl);
-        client = HttpClients.createDefault();
+        client = createHttpClient();
         return accessToken;
     }
 
@@ -607,7 +605,7 @@ public class OAuth2RestClient extends RestBaseClient {
         String authorizationCode = getAuthorizationCode(subOrgSessionDataKey, username, password, true, ordId);
         String accessToken =
                 getAccessToken(authorizationCode, oidcConfig.getClientId(), oidcConfig.getClientSecret(), redirectUrl);
-        client = HttpClients.createDefault();
+        client = createHttpClient();
         return accessToken;
     }
 
@@ -632,12 +630,14 @@ public class OAuth2RestClient extends RestBaseClient {
             queryParams.put(FIDP_PARAM, "OrganizationSSO");
         }
 
-        HttpResponse response = getResponseOfHttpPostWithParameters(authorizeEndpoint,
-                new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE, USER_AGENT)}, queryParams);
-        if (response == null) {
-            throw new Error("Authorized response is null");
+        Header locationHeader;
+        try (CloseableHttpResponse response = getResponseOfHttpPostWithParameters(authorizeEndpoint,
+                new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE, USER_AGENT)}, queryParams)) {
+            if (response == null) {
+                throw new Error("Authorized response is null");
+            }
+            locationHeader = getLocationHeader(response);
         }
-        Header locationHeader = getLocationHeader(response);
         Map<String, String> redirectURLQueryParams = extractQueryParams(locationHeader.getValue());
         return redirectURLQueryParams.get(SESSION_DATA_KEY);
     }
@@ -664,38 +664,24 @@ public class OAuth2RestClient extends RestBaseClient {
         String commonAuthEndpoint =
                 isOrganizationSSO ? subOrgCommonAuthURL.replace(ORG_ID_PLACEHOLDER, orgId) : commonAuthURL;
 
-        HttpResponse response = getResponseOfHttpPostWithParameters(commonAuthEndpoint,
-                new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE, USER_AGENT)}, params);
-        if (response == null) {
-            if (isOrganizationSSO) {
-                throw new Error("Sub organization commonauth response is null");
-            }
-            throw new Error("Commonauth response is null");
-        }
-        Header locationHeader = getLocationHeader(response);
-
-        if (isOrganizationSSO) {
-            response = getResponseOfHttpGet(locationHeader.getValue(),
-                    new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE, USER_AGENT)});
-            if (response == null) {
-                throw new Error("Sub organization authorized response is null");
-            }
-            locationHeader = getLocationHeader(response);
-
-            response = getResponseOfHttpGet(locationHeader.getValue(),
-                    new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE, USER_AGENT)});
+        Header locationHeader;
+        try (CloseableHttpResponse response = getResponseOfHttpPostWithParameters(commonAuthEndpoint,
+                new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE, USER_AGENT)}, params)) {
             if (response == null) {
+                if (isOrganizationSSO) {
+                    throw new Error("Sub organization commonauth response is null");
+                }
                 throw new Error("Commonauth response is null");
             }
             locationHeader = getLocationHeader(response);
         }
 
-        response = getResponseOfHttpGet(locationHeader.getValue(),
-                new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE, USER_AGENT)});
-        if (response == null) {
-            throw new Error("Authorized response is null");
+        if (isOrganizationSSO) {
+            locationHeader = followRedirect(locationHeader, "Sub organization authorized response is null");
+            locationHeader = followRedirect(locationHeader, "Commonauth response is null");
         }
-        locationHeader = getLocationHeader(response);
+
+        locationHeader = followRedirect(locationHeader, "Authorized response is null");
         Map<String, String> queryParams = extractQueryParams(locationHeader.getValue());
         return queryParams.get("code");
     }
@@ -716,19 +702,16 @@ public class OAuth2RestClient extends RestBaseClient {
         urlParameters.put("idp", "SSO");
         urlParameters.put("authenticator", "OrganizationAuthenticator");
 
-        HttpResponse response = getResponseOfHttpPostWithParameters(commonAuthURL,
-                new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE, USER_AGENT)}, urlParameters);
-        if (response == null) {
-            throw new Error("Commonauth response is null");
+        Header locationHeader;
+        try (CloseableHttpResponse response = getResponseOfHttpPostWithParameters(commonAuthURL,
+                new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE, USER_AGENT)}, urlParameters)) {
+            if (response == null) {
+                throw new Error("Commonauth response is null");
+            }
+            locationHeader = getLocationHeader(response);
         }
-        Header locationHeader = getLocationHeader(response);
 
-        response = getResponseOfHttpGet(locationHeader.getValue(), new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE,
-                USER_AGENT)});
-        if (response == null) {
-            throw new Error("Authorized user response is null.");
-        }
-        locationHeader = getLocationHeader(response);
+        locationHeader = followRedirect(locationHeader, "Authorized user response is null.");
         Map<String, String> redirectURLQueryParams = extractQueryParams(locationHeader.getValue());
         return redirectURLQueryParams.get(SESSION_DATA_KEY);
     }
@@ -753,18 +736,18 @@ public class OAuth2RestClient extends RestBaseClient {
         params.put(OAUTH2_CLIENT_ID, clientId);
         params.put(OAUTH2_CLIENT_SECRET, clientSecret);
 
-        HttpResponse response = getResponseOfHttpPostWithParameters(tokenEndpoint,
-                new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE, USER_AGENT)}, params);
-        if (response == null) {
-            throw new Error("Access token response is null");
-        }
-        if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
-            throw new Error("Unexpected response status code.");
-        }
+        try (CloseableHttpResponse response = getResponseOfHttpPostWithParameters(tokenEndpoint,
+                new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE, USER_AGENT)}, params)) {
+            if (response == null) {
+                throw new Error("Access token response is null");
+            }
+            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                throw new Error("Unexpected response status code.");
+            }
 
-        JSONObject responseData = new JSONObject(EntityUtils.toString(response.getEntity()));
-        EntityUtils.consume(response.getEntity());
-        return responseData.getString(ACCESS_TOKEN);
+            JSONObject responseData = new JSONObject(EntityUtils.toString(response.getEntity()));
+            return responseData.getString(ACCESS_TOKEN);
+        }
     }
 
     /**
@@ -779,17 +762,36 @@ public class OAuth2RestClient extends RestBaseClient {
         Lookup<CookieSpecProvider> cookieSpecRegistry = RegistryBuilder.<CookieSpecProvider>create()
                 .register(CookieSpecs.DEFAULT, new RFC6265CookieSpecProvider())
                 .build();
-        RequestConfig requestConfig = RequestConfig.custom()
+        RequestConfig requestConfig = RequestConfig.copy(DEFAULT_REQUEST_CONFIG)
                 .setCookieSpec(CookieSpecs.DEFAULT)
                 .build();
         cookieStore.clear();
-        client = HttpClientBuilder.create().disableRedirectHandling()
+        client = newHttpClientBuilder().disableRedirectHandling()
                 .setDefaultRequestConfig(requestConfig)
                 .setDefaultCookieStore(cookieStore)
                 .setDefaultCookieSpecRegistry(cookieSpecRegistry)
                 .build();
     }
 
+    /**
+     * Send a GET request to the given location and get the location header of the redirect response.
+     *
+     * @param location     Location header of the previous response.
+     * @param errorMessage Error message if there is no response.
+     * @return Location header of the response.
+     * @throws IOException If an error occurred while sending the request.
+     */
+    private Header followRedirect(Header location, String errorMessage) throws IOException {
+
+        try (CloseableHttpResponse response = getResponseOfHttpGet(location.getValue(),
+                new Header[] {new BasicHeader(USER_AGENT_ATTRIBUTE, USER_AGENT)})) {
+            if (response == null) {
+                throw new Error(errorMessage);
+            }
+            return getLocationHeader(response);
+        }
+    }
+
     /**
      * Get the location header from the response.
      *
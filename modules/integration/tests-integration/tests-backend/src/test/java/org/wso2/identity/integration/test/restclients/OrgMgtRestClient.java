@@ -33,7 +33,6 @@ import io.restassured.http.ContentType;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Header;
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.NameValuePair;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
@@ -57,6 +56,7 @@ import org.wso2.identity.integration.test.utils.OAuth2Constant;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -191,6 +191,28 @@ public class OrgMgtRestClient extends RestBaseClient {
         }
     }
 
+    /**
+     * Add an organization within another organization.
+     *
+     * @param orgName          Name of the sub-organization.
+     * @param parentOrgId      ID of the parent organization.
+     * @param switchedM2MToken Switched M2M token of the parent organization.
+     * @return ID of the created sub-organization.
+     * @throws Exception If an error occurs while creating the sub-organization.
+     */
+    public String addSubOrganizationWithToken(String orgName, String parentOrgId, String switchedM2MToken)
+            throws Exception {
+
+        String body = buildOrgCreationRequestBody(orgName, parentOrgId, null);
+        try (CloseableHttpResponse response = getResponseOfHttpPost(subOrganizationManagementApiBasePath, body,
+                getHeadersWithBearerToken(switchedM2MToken))) {
+            assertEquals(response.getStatusLine().getStatusCode(), HttpStatus.SC_CREATED,
+                    "Sub-organization creation failed for organization: " + orgName);
+            String[] locationElements = response.getHeaders(LOCATION_HEADER)[0].toString().split(PATH_SEPARATOR);
+            return locationElements[locationElements.length - 1];
+        }
+    }
+
     /**
      * Delete an organization within root organization.
      *
@@ -240,6 +262,56 @@ public class OrgMgtRestClient extends RestBaseClient {
         }
     }
 
+    /**
+     * Delete an organization within another organization.
+     *
+     * @param orgId            ID of the organization that needs to be deleted.
+     * @param switchedM2MToken Switched M2M token of the parent organization.
+     * @throws Exception If an error occurs while deleting the organization.
+     */
+    public void deleteSubOrganizationWithToken(String orgId, String switchedM2MToken) throws Exception {
+
+        try (CloseableHttpResponse response = getResponseOfHttpDelete(subOrganizationManagementApiBasePath +
+                PATH_SEPARATOR + orgId, getHeadersWithBearerToken(switchedM2MToken))) {
+            assertEquals(response.getStatusLine().getStatusCode(), HttpStatus.SC_NO_CONTENT,
+                    "Sub-organization deletion failed for organization with ID: " + orgId);
+        }
+    }
+
+    /**
+     * List the organizations within the root organization.
+     *
+     * @param filter      Filter of the organizations, or null to list all of them.
+     * @param limit       Maximum number of organizations returned.
+     * @param recursive   Whether the organizations of all the levels of the hierarchy should be listed instead of
+     *                    the immediate child organizations.
+     * @param accessToken Authorized token to list the organizations.
+     * @return Organization list response.
+     * @throws Exception If an error occurs while listing the organizations.
+     */
+    public JSONObject getOrganizations(String filter, int limit, boolean recursive, String accessToken)
+            throws Exception {
+
+        return getOrganizations(organizationManagementApiBasePath, filter, limit, recursive, accessToken);
+    }
+
+    /**
+     * List the organizations within the organization of the given switched token.
+     *
+     * @param filter           Filter of the organizations, or null to list all of them.
+     * @param limit            Maximum number of organizations returned.
+     * @param recursive        Whether the organizations of all the levels below the organization should be listed
+     *                         instead of the immediate child organizations.
+     * @param switchedM2MToken Switched M2M token of the organization.
+     * @return Organization list response.
+     * @throws Exception If an error occurs while listing the organizations.
+     */
+    public JSONObject getSubOrganizations(String filter, int limit, boolean recursive, String switchedM2MToken)
+            throws Exception {
+
+        return getOrganizations(subOrganizationManagementApiBasePath, filter, limit, recursive, switchedM2MToken);
+    }
+
     /**
      * Get an M2M access token from the B2B application.
      *
@@ -270,9 +342,23 @@ public class OrgMgtRestClient extends RestBaseClient {
      */
     public String switchM2MToken(String organizationID) throws Exception {
 
+        return switchM2MToken(organizationID, getM2MAccessToken());
+    }
+
+    /**
+     * Retrieve a switched M2M token for the given organization with an M2M token obtained earlier with
+     * {@link #getM2MAccessToken()}, so that the switch is a single token request.
+     *
+     * @param organizationID ID of the organization.
+     * @param m2mToken       M2M access token of the B2B application.
+     * @return Switched M2M token for the given organization.
+     * @throws Exception If an error occurs while switching the M2M token.
+     */
+    public String switchM2MToken(String organizationID, String m2mToken) throws Exception {
+
         List<NameValuePair> urlParameters = new ArrayList<>();
         urlParameters.add(new BasicNameValuePair(OAuth2Constant.GRANT_TYPE_NAME, "organization_switch"));
-        urlParameters.add(new BasicNameValuePair("token", getM2MAccessToken()));
+        urlParameters.add(new BasicNameValuePair("token", m2mToken));
         urlParameters.add(new BasicNameValuePair("scope", "SYSTEM"));
         urlParameters.add(new BasicNameValuePair("switching_organization", organizationID));
 
@@ -283,9 +369,10 @@ public class OrgMgtRestClient extends RestBaseClient {
         httpPost.setHeader(CONTENT_TYPE_ATTRIBUTE, "application/x-www-form-urlencoded");
         httpPost.setEntity(new UrlEncodedFormEntity(urlParameters));
 
-        HttpResponse response = client.execute(httpPost);
-        String responseBody = EntityUtils.toString(response.getEntity(), "UTF-8");
-        EntityUtils.consume(response.getEntity());
+        String responseBody;
+        try (CloseableHttpResponse response = client.execute(httpPost)) {
+            responseBody = EntityUtils.toString(response.getEntity(), "UTF-8");
+        }
 
         JSONParser parser = new JSONParser();
         org.json.simple.JSONObject responseJSONBody = (org.json.simple.JSONObject) parser.parse(responseBody);
@@ -353,6 +440,23 @@ public class OrgMgtRestClient extends RestBaseClient {
         }
     }
 
+    private JSONObject getOrganizations(String basePath, String filter, int limit, boolean recursive,
+                                        String accessToken) throws Exception {
+
+        StringBuilder endpointUrl = new StringBuilder(basePath)
+                .append("?limit=").append(limit)
+                .append("&recursive=").append(recursive);
+        if (StringUtils.isNotBlank(filter)) {
+            endpointUrl.append("&filter=").append(URLEncoder.encode(filter, StandardCharsets.UTF_8.name()));
+        }
+        try (CloseableHttpResponse response = getResponseOfHttpGet(endpointUrl.toString(),
+                getHeadersWithBearerToken(accessToken))) {
+            assertEquals(response.getStatusLine().getStatusCode(), HttpStatus.SC_OK,
+                    "Organization listing failed for filter: " + filter);
+            return new JSONObject(EntityUtils.toString(response.getEntity()));
+        }
+    }
+
     private JSONArray buildOrganizationVersionUpdateRequestBody(String newVersion) throws Exception {
 
         JSONArray orgVersionUpdateRequestBody = new JSONArray();
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.restclients;
+
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpCoreContext;
+import org.wso2.identity.integration.common.utils.metrics.RequestMetricsRegistry;
+
+/**
+ * Measures the time from sending a request until its response head is received and records it in the
+ * {@link RequestMetricsRegistry}. Each hop of a redirect is recorded as a separate request.
+ */
+public class RequestTimingInterceptor implements HttpRequestInterceptor, HttpResponseInterceptor {
+
+    private static final String START_TIME_ATTRIBUTE = RequestTimingInterceptor.class.getName() + ".startTime";
+
+    @Override
+    public void process(HttpRequest request, HttpContext context) {
+
+        context.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
+    }
+
+    @Override
+    public void process(HttpResponse response, HttpContext context) {
+
+        Object startTime = context.getAttribute(START_TIME_ATTRIBUTE);
+        HttpRequest request = HttpCoreContext.adapt(context).getRequest();
+        if (!(startTime instanceof Long) || request == null) {
+            return;
+        }
+        RequestMetricsRegistry.record(request.getRequestLine().getMethod(), request.getRequestLine().getUri(),
+                response.getStatusLine().getStatusCode(), System.nanoTime() - (Long) startTime);
+    }
+}
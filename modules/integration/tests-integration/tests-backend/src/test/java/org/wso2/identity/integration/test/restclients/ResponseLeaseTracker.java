@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.restclients;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+
+import java.io.Closeable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps track of the streamed responses of a HTTP client, and releases their connections back to the shared pool
+ * when the client is closed. A response which is never consumed or closed otherwise keeps its pooled connection
+ * leased for the rest of the run, since the shared pool is not shut down with the client.
+ */
+public class ResponseLeaseTracker implements HttpResponseInterceptor, Closeable {
+
+    // Responses older than this are long done with, so long lived clients release them early instead of on close.
+    private static final int MAX_TRACKED_RESPONSES = 1024;
+
+    private final Queue<HttpEntity> streamedEntities = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger trackedCount = new AtomicInteger();
+
+    @Override
+    public void process(HttpResponse response, HttpContext context) {
+
+        HttpEntity entity = response.getEntity();
+        if (entity == null || entity.isRepeatable()) {
+            return;
+        }
+        streamedEntities.add(entity);
+        if (trackedCount.incrementAndGet() > MAX_TRACKED_RESPONSES) {
+            HttpEntity oldest = streamedEntities.poll();
+            if (oldest != null) {
+                trackedCount.decrementAndGet();
+                // The connection of the evicted response would otherwise stay leased, as nothing tracks it anymore.
+                EntityUtils.consumeQuietly(oldest);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+
+        HttpEntity entity;
+        while ((entity = streamedEntities.poll()) != null) {
+            trackedCount.decrementAndGet();
+            // Consuming an entity which is already consumed or closed is a no-op.
+            EntityUtils.consumeQuietly(entity);
+        }
+    }
+}
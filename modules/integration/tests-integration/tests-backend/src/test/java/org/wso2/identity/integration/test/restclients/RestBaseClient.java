@@ -27,7 +27,10 @@ import java.util.List;
 import java.util.Map;
 
 import org.apache.http.Header;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
 import org.apache.http.NameValuePair;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
@@ -38,7 +41,8 @@ import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
@@ -58,10 +62,60 @@ public class RestBaseClient {
     public static final String PATH_SEPARATOR = "/";
     public static final String OIDC = "oidc";
     public static final String SAML = "saml";
+    public static final String MAX_CONNECTIONS_PROPERTY = "rest.client.max.connections";
+    public static final String MAX_CONNECTIONS_PER_ROUTE_PROPERTY = "rest.client.max.connections.per.route";
+
+    // Leaked responses hold on to pooled connections, so fail the request instead of waiting forever for a connection.
+    protected static final RequestConfig DEFAULT_REQUEST_CONFIG = RequestConfig.custom()
+            .setConnectionRequestTimeout(60000)
+            .build();
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 200;
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 100;
+    private static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final ThreadLocal<JSONParser> JSON_PARSER = ThreadLocal.withInitial(JSONParser::new);
+    private static final RequestTimingInterceptor REQUEST_TIMING_INTERCEPTOR = new RequestTimingInterceptor();
+
     public CloseableHttpClient client;
 
     public RestBaseClient() {
-        client = HttpClients.createDefault();
+        client = createHttpClient();
+    }
+
+    /**
+     * Create a HTTP client builder backed by the connection pool shared by all the REST clients. Connections are kept
+     * alive between the test classes and the TLS sessions are reused, since every client uses the same SSL context.
+     * Closing a client built from this builder does not close the shared pool, but releases the connections still
+     * leased by the responses of the client which were not consumed or closed.
+     *
+     * @return HTTP client builder.
+     */
+    protected static HttpClientBuilder newHttpClientBuilder() {
+
+        ResponseLeaseTracker leaseTracker = new ResponseLeaseTracker();
+        // Closeables of a client can only be registered by a subclass of the builder.
+        HttpClientBuilder builder = new HttpClientBuilder() {
+            {
+                addCloseable(leaseTracker);
+            }
+        };
+        return builder.addInterceptorLast((HttpResponseInterceptor) leaseTracker)
+                .setConnectionManager(ConnectionManagerHolder.CONNECTION_MANAGER)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(DEFAULT_REQUEST_CONFIG)
+                .addInterceptorLast((HttpRequestInterceptor) REQUEST_TIMING_INTERCEPTOR)
+                .addInterceptorFirst((HttpResponseInterceptor) REQUEST_TIMING_INTERCEPTOR);
+    }
+
+    /**
+     * Create a HTTP client with the default configuration, backed by the shared connection pool.
+     *
+     * @return HTTP client.
+     */
+    protected static CloseableHttpClient createHttpClient() {
+
+        return newHttpClientBuilder().build();
     }
 
     /**
@@ -72,8 +126,7 @@ public class RestBaseClient {
      */
     public String toJSONString(java.lang.Object object) {
 
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        return gson.toJson(object);
+        return GSON.toJson(object);
     }
 
     /**
@@ -85,8 +138,7 @@ public class RestBaseClient {
      */
     public JSONObject getJSONObject(String responseString) throws Exception {
 
-        JSONParser parser = new JSONParser();
-        JSONObject json = (JSONObject) parser.parse(responseString);
+        JSONObject json = (JSONObject) JSON_PARSER.get().parse(responseString);
         if (json == null) {
             throw new Exception("Error occurred while getting the response");
         }
@@ -103,8 +155,7 @@ public class RestBaseClient {
      */
     public JSONArray getJSONArray(String responseString) throws Exception {
 
-        JSONParser parser = new JSONParser();
-        JSONArray jsonArray = (JSONArray) parser.parse(responseString);
+        JSONArray jsonArray = (JSONArray) JSON_PARSER.get().parse(responseString);
         if (jsonArray == null) {
             throw new Exception("Error occurred while getting the response");
         }
@@ -248,4 +299,24 @@ public class RestBaseClient {
 
         return client.execute(request);
     }
+
+    /**
+     * Lazily creates the shared connection manager, so that the default SSL context is only built after the test
+     * framework has set the trust store properties.
+     */
+    private static class ConnectionManagerHolder {
+
+        private static final PoolingHttpClientConnectionManager CONNECTION_MANAGER = createConnectionManager();
+
+        private static PoolingHttpClientConnectionManager createConnectionManager() {
+
+            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+            connectionManager.setMaxTotal(Integer.getInteger(MAX_CONNECTIONS_PROPERTY, DEFAULT_MAX_CONNECTIONS));
+            connectionManager.setDefaultMaxPerRoute(Integer.getInteger(MAX_CONNECTIONS_PER_ROUTE_PROPERTY,
+                    DEFAULT_MAX_CONNECTIONS_PER_ROUTE));
+            // The server closes idle keep-alive connections, hence check a connection before reusing it after a pause.
+            connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+            return connectionManager;
+        }
+    }
 }
@@ -23,7 +23,6 @@ import org.apache.commons.codec.binary.Base64;
 import org.apache.http.Header;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.util.EntityUtils;
 import org.json.simple.JSONArray;
@@ -31,10 +30,12 @@ import org.json.simple.JSONObject;
 import org.testng.Assert;
 import org.wso2.carbon.automation.engine.context.beans.Tenant;
 import org.wso2.identity.integration.common.utils.ISIntegrationTest;
+import org.wso2.identity.integration.common.utils.await.Await;
 import org.wso2.identity.integration.test.rest.api.server.user.store.v1.model.UserStoreReq;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Duration;
 
 public class UserStoreMgtRestClient extends RestBaseClient {
 
@@ -44,7 +45,7 @@ public class UserStoreMgtRestClient extends RestBaseClient {
     public static final String PATH_SEPARATOR = "/";
     public static final int TIMEOUT_MILLIS = 30000;
     public static final int POLLING_INTERVAL_MILLIS = 500;
-    public static final int WAIT_TIME_MILLIS = 5000;
+    private static final int INITIAL_POLLING_INTERVAL_MILLIS = 100;
 
     private final CloseableHttpClient client;
     private final String username;
@@ -54,7 +55,7 @@ public class UserStoreMgtRestClient extends RestBaseClient {
 
     public UserStoreMgtRestClient(String backendURL, Tenant tenantInfo) {
 
-        client = HttpClients.createDefault();
+        client = createHttpClient();
 
         this.username = tenantInfo.getContextUser().getUserName();
         this.password = tenantInfo.getContextUser().getPassword();
@@ -171,19 +172,8 @@ public class UserStoreMgtRestClient extends RestBaseClient {
      */
     public boolean waitForUserStoreDeployment(String domain) throws Exception {
 
-        Thread.sleep(WAIT_TIME_MILLIS);
-        long waitTime = System.currentTimeMillis() + TIMEOUT_MILLIS; // wait for 30 seconds.
-        while (System.currentTimeMillis() < waitTime) {
-            JSONArray userStores = getUserStores();
-            for (Object userStore : userStores) {
-                String userStoreName = ((JSONObject) userStore).get("name").toString();
-                if (userStoreName.equalsIgnoreCase(domain)) {
-                    return true;
-                }
-            }
-            Thread.sleep(POLLING_INTERVAL_MILLIS);
-        }
-        return false;
+        return awaitUserStores("user store " + domain + " to be deployed",
+                () -> containsUserStore(getUserStores(), "name", domain));
     }
 
     /**
@@ -195,23 +185,8 @@ public class UserStoreMgtRestClient extends RestBaseClient {
      */
     public boolean waitForUserStoreUnDeployment(String domainId) throws Exception {
 
-        Thread.sleep(WAIT_TIME_MILLIS);
-        long waitTime = System.currentTimeMillis() + TIMEOUT_MILLIS; // wait for 30 seconds.
-        while (System.currentTimeMillis() < waitTime) {
-                JSONArray userStores = getUserStores();
-                boolean isUserStoreFound = false;
-                for (Object userStore : userStores) {
-                    String userStoreId = ((JSONObject) userStore).get("id").toString();
-                    if (userStoreId.equalsIgnoreCase(domainId)) {
-                        Thread.sleep(POLLING_INTERVAL_MILLIS);
-                        isUserStoreFound = true;
-                    }
-                }
-                if (!isUserStoreFound) {
-                    return true;
-                }
-        }
-        return false;
+        return awaitUserStores("user store " + domainId + " to be undeployed",
+                () -> !containsUserStore(getUserStores(), "id", domainId));
     }
 
     /**
@@ -224,16 +199,24 @@ public class UserStoreMgtRestClient extends RestBaseClient {
      */
     public boolean waitForSubOrgUserStoreDeployment(String domain, String switchedM2MToken) throws Exception {
 
-        long waitTime = System.currentTimeMillis() + TIMEOUT_MILLIS; //wait for 30 seconds
-        while (System.currentTimeMillis() < waitTime) {
-            JSONArray userStores = getSubOrgUserStores(switchedM2MToken);
-            for (Object userStore : userStores) {
-                String userStoreName = ((JSONObject) userStore).get("name").toString();
-                if (userStoreName.equalsIgnoreCase(domain)) {
-                    return true;
-                }
+        return awaitUserStores("user store " + domain + " to be deployed in the sub organization",
+                () -> containsUserStore(getSubOrgUserStores(switchedM2MToken), "name", domain));
+    }
+
+    private boolean awaitUserStores(String description, Await.Condition condition) throws Exception {
+
+        return Await.atMost(Duration.ofMillis(TIMEOUT_MILLIS))
+                .pollInterval(Duration.ofMillis(INITIAL_POLLING_INTERVAL_MILLIS),
+                        Duration.ofMillis(POLLING_INTERVAL_MILLIS))
+                .until(description, condition);
+    }
+
+    private boolean containsUserStore(JSONArray userStores, String attribute, String value) {
+
+        for (Object userStore : userStores) {
+            if (((JSONObject) userStore).get(attribute).toString().equalsIgnoreCase(value)) {
+                return true;
             }
-            Thread.sleep(POLLING_INTERVAL_MILLIS);
         }
         return false;
     }
@@ -60,17 +60,12 @@ import org.wso2.identity.integration.test.rest.api.server.application.management
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.ClaimMappings;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.RequestedClaimConfiguration;
 import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SAML2Configuration;
-import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SAML2ServiceProvider;
-import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SAMLAssertionConfiguration;
-import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SAMLAttributeProfile;
-import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SAMLResponseSigning;
-import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SingleLogoutProfile;
-import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SingleSignOnProfile;
 import org.wso2.identity.integration.test.rest.api.user.common.model.Email;
 import org.wso2.identity.integration.test.rest.api.user.common.model.Name;
 import org.wso2.identity.integration.test.rest.api.user.common.model.UserObject;
 import org.wso2.identity.integration.test.restclients.OAuth2RestClient;
 import org.wso2.identity.integration.test.restclients.SCIM2RestClient;
+import org.wso2.identity.integration.test.utils.SAMLSSOUtil;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -576,24 +571,9 @@ public abstract class AbstractSAMLSSOTestCase extends ISIntegrationTest {
 
     public SAML2Configuration getSAMLConfigurations(SAMLConfig config) {
 
-        SAML2ServiceProvider serviceProvider = new SAML2ServiceProvider()
-                .issuer(config.getApp().getArtifact())
-                .addAssertionConsumerUrl(String.format(ACS_URL, config.getApp().getArtifact()))
-                .defaultAssertionConsumerUrl(String.format(ACS_URL, config.getApp().getArtifact()))
-                .singleLogoutProfile(new SingleLogoutProfile()
-                        .enabled(true))
-                .responseSigning(new SAMLResponseSigning()
-                        .enabled(config.getApp().isSigningEnabled()))
-                .singleSignOnProfile(new SingleSignOnProfile()
-                        .assertion(new SAMLAssertionConfiguration().nameIdFormat(NAMEID_FORMAT))
-                        .attributeConsumingServiceIndex(ATTRIBUTE_CS_INDEX_VALUE));
-
-        if (config.getClaimType() != AbstractSAMLSSOTestCase.ClaimType.NONE) {
-            serviceProvider.setAttributeProfile(new SAMLAttributeProfile()
-                            .enabled(true)
-                            .alwaysIncludeAttributesInResponse(true));
-        }
-        return new SAML2Configuration().manualConfiguration(serviceProvider);
+        return SAMLSSOUtil.buildSAML2Configuration(config.getApp().getArtifact(),
+                String.format(ACS_URL, config.getApp().getArtifact()), config.getApp().isSigningEnabled(),
+                config.getClaimType() != AbstractSAMLSSOTestCase.ClaimType.NONE);
     }
 
     public SAMLSSOServiceProviderDTO createSsoServiceProviderDTO(SAMLConfig config){
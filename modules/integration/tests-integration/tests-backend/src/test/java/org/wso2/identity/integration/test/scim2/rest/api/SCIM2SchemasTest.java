@@ -84,7 +84,7 @@ public class SCIM2SchemasTest extends SCIM2BaseTest {
     @BeforeMethod(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     @AfterMethod(alwaysRun = true)
@@ -165,8 +165,8 @@ public class SCIM2SchemasTest extends SCIM2BaseTest {
      */
     private void supportEmailVerifiedClaimByDefault(boolean state) {
 
-        String basePath = RestAssured.basePath;
-        RestAssured.basePath = "";
+        String basePath = getRequestBasePath();
+        setRequestBasePath("");
         String localClaimId = Base64.getEncoder().encodeToString(IDENTITY_EMAIL_VERIFIED_CLAIM_URI.getBytes(StandardCharsets.UTF_8));
         String body = null;
         try {
@@ -186,7 +186,7 @@ public class SCIM2SchemasTest extends SCIM2BaseTest {
                 .log().ifValidationFails()
                 .assertThat()
                 .statusCode(HttpStatus.SC_OK);
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
     }
 
     private String getContext() {
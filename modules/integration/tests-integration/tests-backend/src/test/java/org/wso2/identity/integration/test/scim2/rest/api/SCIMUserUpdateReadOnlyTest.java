@@ -18,7 +18,6 @@
 
 package org.wso2.identity.integration.test.scim2.rest.api;
 
-import io.restassured.RestAssured;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.apache.commons.logging.Log;
@@ -88,7 +87,7 @@ public class SCIMUserUpdateReadOnlyTest extends SCIM2BaseTest {
     @BeforeClass(alwaysRun = true)
     public void testInit() {
 
-        RestAssured.basePath = basePath;
+        setRequestBasePath(basePath);
         super.testInit();
     }
 
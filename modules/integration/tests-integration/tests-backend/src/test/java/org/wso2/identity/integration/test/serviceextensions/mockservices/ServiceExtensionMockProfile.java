@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.serviceextensions.mockservices;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.http.HttpHeader;
+import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import org.wso2.identity.integration.test.base.MockServerScope;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Behaviour of the external service mocked by {@link ServiceExtensionMockServer}, so that the actions can be tested
+ * against a slow or unreliable service instead of one that always answers at once.
+ * <p>
+ * The latency of each response follows a fixed, uniform or log-normal distribution. On top of it, a ratio of the
+ * requests can be delayed beyond the action timeout of the server, answered with an error status or a connection
+ * fault, and the requests above a rate can be throttled with "429 Too Many Requests". Connections are closed after
+ * each response unless keep-alive is enabled. The default profile, {@link #instant()}, answers at once and closes the
+ * connection, which is how the mock server always behaved.
+ */
+public class ServiceExtensionMockProfile implements ResponseTransformerV2 {
+
+    private static final String TRANSFORMER_NAME = "service-extension-profile-transformer";
+    private static final String THROTTLED_RESPONSE = "{\"error\":\"too_many_requests\"}";
+    private static final String FAILURE_RESPONSE = "{\"error\":\"server_error\"}";
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+    private Integer fixedDelayMillis;
+    private int[] uniformDelayMillis;
+    private double[] logNormalDelay;
+    private boolean keepAlive;
+    private double timeoutRatio;
+    private int timeoutDelayMillis;
+    private double failureRatio;
+    private int failureStatusCode = 500;
+    private double faultRatio;
+    private Fault fault = Fault.CONNECTION_RESET_BY_PEER;
+    private int throttlingRate;
+
+    private final AtomicLong servedRequests = new AtomicLong();
+    private final AtomicLong injectedTimeouts = new AtomicLong();
+    private final AtomicLong injectedFailures = new AtomicLong();
+    private final AtomicLong injectedFaults = new AtomicLong();
+    private final AtomicLong throttledRequests = new AtomicLong();
+    private final AtomicLong throttlingWindow = new AtomicLong();
+    private final AtomicInteger throttlingWindowRequests = new AtomicInteger();
+
+    /**
+     * Get a profile of a service which answers at once and closes the connection after each response.
+     *
+     * @return Profile.
+     */
+    public static ServiceExtensionMockProfile instant() {
+
+        return new ServiceExtensionMockProfile();
+    }
+
+    /**
+     * Delay each response by a fixed time.
+     *
+     * @param delayMillis Delay in milliseconds.
+     * @return This profile.
+     */
+    public ServiceExtensionMockProfile fixedDelay(int delayMillis) {
+
+        clearDelays();
+        this.fixedDelayMillis = delayMillis;
+        return this;
+    }
+
+    /**
+     * Delay each response by a time chosen uniformly from the given range.
+     *
+     * @param lowerMillis Lower bound of the delay in milliseconds.
+     * @param upperMillis Upper bound of the delay in milliseconds.
+     * @return This profile.
+     */
+    public ServiceExtensionMockProfile uniformDelay(int lowerMillis, int upperMillis) {
+
+        clearDelays();
+        this.uniformDelayMillis = new int[]{lowerMillis, upperMillis};
+        return this;
+    }
+
+    /**
+     * Delay each response by a time following a log-normal distribution, which has the long tail of the latencies of
+     * real services.
+     *
+     * @param medianMillis Median of the delay in milliseconds.
+     * @param sigma        Standard deviation of the underlying normal distribution. 0.1 gives a narrow tail and 1.0
+     *                     a long one.
+     * @return This profile.
+     */
+    public ServiceExtensionMockProfile logNormalDelay(double medianMillis, double sigma) {
+
+        clearDelays();
+        this.logNormalDelay = new double[]{medianMillis, sigma};
+        return this;
+    }
+
+    /**
+     * Keep the connections open between the responses instead of closing them after each response.
+     *
+     * @param keepAlive Whether the connections should be kept open.
+     * @return This profile.
+     */
+    public ServiceExtensionMockProfile keepAlive(boolean keepAlive) {
+
+        this.keepAlive = keepAlive;
+        return this;
+    }
+
+    /**
+     * Delay a ratio of the responses by the given time, which should be longer than the action timeout of the
+     * server, in addition to the configured delay.
+     *
+     * @param ratio       Ratio of the requests which time out, between 0 and 1.
+     * @param delayMillis Delay of those responses in milliseconds.
+     * @return This profile.
+     */
+    public ServiceExtensionMockProfile timeouts(double ratio, int delayMillis) {
+
+        this.timeoutRatio = ratio;
+        this.timeoutDelayMillis = delayMillis;
+        return this;
+    }
+
+    /**
+     * Answer a ratio of the requests with the given error status.
+     *
+     * @param ratio      Ratio of the failed requests, between 0 and 1.
+     * @param statusCode Status code of the failed responses.
+     * @return This profile.
+     */
+    public ServiceExtensionMockProfile failures(double ratio, int statusCode) {
+
+        this.failureRatio = ratio;
+        this.failureStatusCode = statusCode;
+        return this;
+    }
+
+    /**
+     * Break the connection of a ratio of the requests without a valid response.
+     *
+     * @param ratio Ratio of the broken requests, between 0 and 1.
+     * @param fault Fault of the broken requests.
+     * @return This profile.
+     */
+    public ServiceExtensionMockProfile faults(double ratio, Fault fault) {
+
+        this.faultRatio = ratio;
+        this.fault = fault;
+        return this;
+    }
+
+    /**
+     * Answer the requests above the given rate with "429 Too Many Requests" at once.
+     *
+     * @param requestsPerSecond Number of requests allowed in each second.
+     * @return This profile.
+     */
+    public ServiceExtensionMockProfile throttling(int requestsPerSecond) {
+
+        this.throttlingRate = requestsPerSecond;
+        return this;
+    }
+
+    /**
+     * Apply the latency and connection handling of this profile to a stub response and, when requests should fail,
+     * time out or be throttled, register this profile as its transformer.
+     *
+     * @param response Stub response.
+     * @return The given stub response.
+     */
+    public ResponseDefinitionBuilder apply(ResponseDefinitionBuilder response) {
+
+        response.withHeader("Connection", keepAlive ? "keep-alive" : "Close");
+        if (fixedDelayMillis != null) {
+            response.withFixedDelay(fixedDelayMillis);
+        } else if (uniformDelayMillis != null) {
+            response.withUniformRandomDelay(uniformDelayMillis[0], uniformDelayMillis[1]);
+        } else if (logNormalDelay != null) {
+            response.withLogNormalRandomDelay(logNormalDelay[0], logNormalDelay[1]);
+        }
+        if (timeoutRatio > 0 || failureRatio > 0 || faultRatio > 0 || throttlingRate > 0) {
+            response.withTransformers(MockServerScope.TRANSFORMER)
+                    .withTransformerParameter(MockServerScope.TRANSFORMER, this);
+        }
+        return response;
+    }
+
+    @Override
+    public Response transform(Response response, ServeEvent serveEvent) {
+
+        servedRequests.incrementAndGet();
+        if (throttlingRate > 0 && isThrottled()) {
+            throttledRequests.incrementAndGet();
+            return Response.response()
+                    .status(HTTP_TOO_MANY_REQUESTS)
+                    .headers(new HttpHeaders(new HttpHeader("Content-Type", "application/json"),
+                            new HttpHeader("Retry-After", "1")))
+                    .body(THROTTLED_RESPONSE)
+                    .build();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (faultRatio > 0 && random.nextDouble() < faultRatio) {
+            injectedFaults.incrementAndGet();
+            return Response.Builder.like(response).fault(fault).build();
+        }
+        if (timeoutRatio > 0 && random.nextDouble() < timeoutRatio) {
+            injectedTimeouts.incrementAndGet();
+            return Response.Builder.like(response).incrementInitialDelay(timeoutDelayMillis).build();
+        }
+        if (failureRatio > 0 && random.nextDouble() < failureRatio) {
+            injectedFailures.incrementAndGet();
+            return Response.Builder.like(response).status(failureStatusCode).body(FAILURE_RESPONSE).build();
+        }
+        return response;
+    }
+
+    @Override
+    public boolean applyGlobally() {
+
+        return false;
+    }
+
+    @Override
+    public String getName() {
+
+        return TRANSFORMER_NAME;
+    }
+
+    /**
+     * Get the number of requests seen by the transformer of this profile. Requests are only counted when the profile
+     * injects timeouts, failures, faults or throttling.
+     *
+     * @return Number of requests.
+     */
+    public long getServedRequests() {
+
+        return servedRequests.get();
+    }
+
+    public long getInjectedTimeouts() {
+
+        return injectedTimeouts.get();
+    }
+
+    public long getInjectedFailures() {
+
+        return injectedFailures.get();
+    }
+
+    public long getInjectedFaults() {
+
+        return injectedFaults.get();
+    }
+
+    public long getThrottledRequests() {
+
+        return throttledRequests.get();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder description = new StringBuilder(keepAlive ? "keep-alive" : "connection-close");
+        if (fixedDelayMillis != null) {
+            description.append(", fixed delay ").append(fixedDelayMillis).append("ms");
+        } else if (uniformDelayMillis != null) {
+            description.append(", uniform delay ").append(uniformDelayMillis[0]).append('-')
+                    .append(uniformDelayMillis[1]).append("ms");
+        } else if (logNormalDelay != null) {
+            description.append(", log-normal delay median ").append(logNormalDelay[0]).append("ms sigma ")
+                    .append(logNormalDelay[1]);
+        }
+        if (timeoutRatio > 0) {
+            description.append(", timeouts ").append(timeoutRatio).append(" of ").append(timeoutDelayMillis)
+                    .append("ms");
+        }
+        if (failureRatio > 0) {
+            description.append(", failures ").append(failureRatio).append(" with ").append(failureStatusCode);
+        }
+        if (faultRatio > 0) {
+            description.append(", faults ").append(faultRatio).append(' ').append(fault);
+        }
+        if (throttlingRate > 0) {
+            description.append(", throttled above ").append(throttlingRate).append("/s");
+        }
+        return description.toString();
+    }
+
+    /**
+     * Count the request in the window of the current second and check whether the window is over the rate.
+     */
+    private boolean isThrottled() {
+
+        long second = System.currentTimeMillis() / 1000;
+        long window = throttlingWindow.get();
+        if (window != second && throttlingWindow.compareAndSet(window, second)) {
+            throttlingWindowRequests.set(0);
+        }
+        return throttlingWindowRequests.incrementAndGet() > throttlingRate;
+    }
+
+    private void clearDelays() {
+
+        fixedDelayMillis = null;
+        uniformDelayMillis = null;
+        logNormalDelay = null;
+    }
+}
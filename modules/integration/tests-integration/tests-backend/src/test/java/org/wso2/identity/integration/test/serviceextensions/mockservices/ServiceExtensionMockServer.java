@@ -18,10 +18,10 @@
 
 package org.wso2.identity.integration.test.serviceextensions.mockservices;
 
-import com.github.tomakehurst.wiremock.WireMockServer;
-import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import org.apache.commons.lang3.StringUtils;
+import org.wso2.identity.integration.test.base.MockServerRegistry;
+import org.wso2.identity.integration.test.base.MockServerScope;
 
 import java.util.List;
 
@@ -39,46 +39,53 @@ import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
  */
 public class ServiceExtensionMockServer {
 
-    private WireMockServer wireMockServer;
+    private MockServerScope scope;
 
     public void startServer() {
 
-        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(8587));
-        wireMockServer.start();
+        scope = MockServerRegistry.openScope(MockServerRegistry.Role.SERVICE_EXTENSION);
     }
 
     public void stopServer() {
 
-        if (wireMockServer != null && wireMockServer.isRunning()) {
-            wireMockServer.stop();
+        if (scope != null) {
+            scope.close();
         }
     }
 
     public void setupStub(String url, String authMethod, String responseBody) {
 
-        wireMockServer.stubFor(post(urlEqualTo(url))
-                .withHeader("Authorization", matching(authMethod))
-                .willReturn(aResponse()
-                        .withStatus(200)
-                        .withHeader("Content-Type", "application/json")
-                        .withHeader("Connection", "Close")
-                        .withBody(responseBody)));
+        setupStub(url, authMethod, responseBody, 200);
     }
 
     public void setupStub(String url, String authMethod, String responseBody, int statusCode) {
 
-        wireMockServer.stubFor(post(urlEqualTo(url))
+        setupStub(url, authMethod, responseBody, statusCode, ServiceExtensionMockProfile.instant());
+    }
+
+    /**
+     * Stub the external service with the latency, connection handling and faults of the given profile.
+     *
+     * @param url          Path of the external service.
+     * @param authMethod   Pattern of the expected Authorization header.
+     * @param responseBody Body of the successful responses.
+     * @param statusCode   Status code of the successful responses.
+     * @param profile      Behaviour of the external service.
+     */
+    public void setupStub(String url, String authMethod, String responseBody, int statusCode,
+                          ServiceExtensionMockProfile profile) {
+
+        scope.stubFor(post(urlEqualTo(url))
                 .withHeader("Authorization", matching(authMethod))
-                .willReturn(aResponse()
+                .willReturn(profile.apply(aResponse()
                         .withStatus(statusCode)
                         .withHeader("Content-Type", "application/json")
-                        .withHeader("Connection", "Close")
-                        .withBody(responseBody)));
+                        .withBody(responseBody))));
     }
 
     public String getReceivedRequestPayload(String url) {
 
-        List<LoggedRequest> requestList = wireMockServer.findAll(postRequestedFor(urlEqualTo(url)));
+        List<LoggedRequest> requestList = scope.findAll(postRequestedFor(urlEqualTo(url)));
         if (requestList == null || requestList.isEmpty()) {
             return StringUtils.EMPTY;
         }
@@ -87,7 +94,7 @@ public class ServiceExtensionMockServer {
     }
 
     public void resetRequests() {
-        wireMockServer.resetRequests();
+        scope.resetRequests();
     }
 
     /**
@@ -106,7 +113,7 @@ public class ServiceExtensionMockServer {
         String responseBody = "{\"access_token\":\"" + accessToken +
                 "\",\"token_type\":\"Bearer\",\"expires_in\":3600}";
 
-        wireMockServer.stubFor(post(urlEqualTo(url))
+        scope.stubFor(post(urlEqualTo(url))
                 .withHeader("Authorization", matching(basicAuthHeader))
                 .withRequestBody(containing("grant_type=password"))
                 .withRequestBody(containing("username=" + username))
@@ -132,7 +139,7 @@ public class ServiceExtensionMockServer {
         String responseBody = "{\"access_token\":\"" + accessToken +
                 "\",\"token_type\":\"Bearer\",\"expires_in\":3600}";
 
-        wireMockServer.stubFor(post(urlEqualTo(url))
+        scope.stubFor(post(urlEqualTo(url))
                 .withHeader("Authorization", matching(basicAuthHeader))
                 .withRequestBody(containing("grant_type=client_credentials"))
                 .willReturn(aResponse()
@@ -148,7 +155,7 @@ public class ServiceExtensionMockServer {
      */
     public void setupTokenEndpointStubWithError(String url, int statusCode, String responseBody) {
 
-        wireMockServer.stubFor(post(urlEqualTo(url))
+        scope.stubFor(post(urlEqualTo(url))
                 .willReturn(aResponse()
                         .withStatus(statusCode)
                         .withHeader("Content-Type", "application/json")
@@ -161,7 +168,7 @@ public class ServiceExtensionMockServer {
      */
     public int getReceivedRequestCount(String url) {
 
-        List<LoggedRequest> requestList = wireMockServer.findAll(postRequestedFor(urlEqualTo(url)));
+        List<LoggedRequest> requestList = scope.findAll(postRequestedFor(urlEqualTo(url)));
         return requestList == null ? 0 : requestList.size();
     }
 }
@@ -18,12 +18,15 @@ package org.wso2.identity.integration.test.user.mgt.uuid;
 
 import org.testng.Assert;
 import org.wso2.carbon.identity.test.integration.service.stub.AuthenticationResultDTO;
+import org.wso2.carbon.identity.test.integration.service.stub.BulkOperationResultDTO;
+import org.wso2.carbon.identity.test.integration.service.stub.BulkUserDTO;
 import org.wso2.carbon.identity.test.integration.service.stub.ClaimDTO;
 import org.wso2.carbon.identity.test.integration.service.stub.ClaimValue;
 import org.wso2.carbon.identity.test.integration.service.stub.ConditionDTO;
 import org.wso2.carbon.identity.test.integration.service.stub.LoginIdentifierDTO;
 import org.wso2.carbon.identity.test.integration.service.stub.PermissionDTO;
 import org.wso2.carbon.identity.test.integration.service.stub.UniqueIDUserClaimSearchEntryDAO;
+import org.wso2.carbon.identity.test.integration.service.stub.UserClaimValuesDTO;
 import org.wso2.carbon.identity.test.integration.service.stub.UserDTO;
 import org.wso2.carbon.identity.test.integration.service.stub.UserRoleListDTO;
 import org.wso2.carbon.integration.common.admin.client.AuthenticatorClient;
@@ -33,7 +36,9 @@ import org.wso2.identity.integration.common.clients.usermgt.uuid.UUIDUserStoreMa
 import org.wso2.identity.integration.common.utils.ISIntegrationTest;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public abstract class AbstractUUIDUMTestCase extends ISIntegrationTest {
 
@@ -47,6 +52,8 @@ public abstract class AbstractUUIDUMTestCase extends ISIntegrationTest {
     private String user1Username = "uuid-user1";
     private String user2Username = "uuid-user2";
     private String user3Username = "uuid-user3";
+    private String bulkUserPrefix = "uuid-bulk-user";
+    private String pagedUserPrefix = "uuid-paged-user";
 
     private String role1name = "uuid-role1";
     private String role2name = "uuid-role2";
@@ -453,6 +460,90 @@ public abstract class AbstractUUIDUMTestCase extends ISIntegrationTest {
         userMgtClient.updateCredentialByAdminWithID(userId, credential1);
     }
 
+    public void testBulkUserOperations() throws Exception {
+
+        int bulkUserCount = 5;
+        String lastNameClaimURI = "http://wso2.org/claims/lastname";
+        List<BulkUserDTO> users = new ArrayList<>();
+        for (int i = 0; i < bulkUserCount; i++) {
+            BulkUserDTO user = new BulkUserDTO();
+            user.setUserName(bulkUserPrefix + i);
+            user.setCredential(credential1);
+            user.setProfileName(defaultProfile);
+            users.add(user);
+        }
+        // An existing user should be reported as a failure without failing the other users.
+        BulkUserDTO existingUser = new BulkUserDTO();
+        existingUser.setUserName(user1Username);
+        existingUser.setCredential(credential1);
+        existingUser.setProfileName(defaultProfile);
+        users.add(existingUser);
+
+        BulkOperationResultDTO addResult = userMgtClient.addUsersWithID(users.toArray(new BulkUserDTO[0]));
+        Assert.assertEquals(addResult.getSuccessCount(), bulkUserCount);
+        Assert.assertEquals(addResult.getUserIDs().length, bulkUserCount);
+        Assert.assertEquals(addResult.getFailures().length, 1);
+        Assert.assertEquals(addResult.getFailures()[0].getIdentifier(), user1Username);
+
+        List<UserClaimValuesDTO> claimValues = new ArrayList<>();
+        for (String bulkUserId : addResult.getUserIDs()) {
+            ClaimValue claimValue = new ClaimValue();
+            claimValue.setClaimUri(lastNameClaimURI);
+            claimValue.setClaimValue("bulk last name");
+            UserClaimValuesDTO userClaimValues = new UserClaimValuesDTO();
+            userClaimValues.setUserID(bulkUserId);
+            userClaimValues.setClaims(new ClaimValue[]{claimValue});
+            claimValues.add(userClaimValues);
+        }
+        BulkOperationResultDTO claimsResult = userMgtClient.setUsersClaimValuesWithID(
+                claimValues.toArray(new UserClaimValuesDTO[0]), defaultProfile);
+        Assert.assertEquals(claimsResult.getSuccessCount(), bulkUserCount);
+        Assert.assertEquals(userMgtClient.getUserClaimValueWithID(addResult.getUserIDs()[0], lastNameClaimURI,
+                defaultProfile), "bulk last name");
+
+        List<String> listedUsers = new ArrayList<>();
+        int listedUserCount = userMgtClient.forEachUserWithID(bulkUserPrefix + "*", 2,
+                user -> listedUsers.add(user.getUsername()));
+        Assert.assertEquals(listedUserCount, bulkUserCount, "Paged listing did not return all the bulk users: " +
+                listedUsers);
+
+        BulkOperationResultDTO deleteResult = userMgtClient.deleteUsersWithID(addResult.getUserIDs());
+        Assert.assertEquals(deleteResult.getSuccessCount(), bulkUserCount);
+        for (String bulkUserId : addResult.getUserIDs()) {
+            Assert.assertFalse(userMgtClient.isExistingUserWithID(bulkUserId));
+        }
+    }
+
+    public void testPagedListingAboveUserStoreLimit() throws Exception {
+
+        // More users than the default MaxUserNameListLength of 100, listed with a larger page size, so that the user
+        // store returns shorter pages than requested and the listing has to continue past them.
+        int pagedUserCount = 150;
+        int pageSize = 120;
+        List<BulkUserDTO> users = new ArrayList<>();
+        for (int i = 0; i < pagedUserCount; i++) {
+            BulkUserDTO user = new BulkUserDTO();
+            user.setUserName(pagedUserPrefix + i);
+            user.setCredential(credential1);
+            user.setProfileName(defaultProfile);
+            users.add(user);
+        }
+        BulkOperationResultDTO addResult = userMgtClient.addUsersWithID(users.toArray(new BulkUserDTO[0]));
+        try {
+            Assert.assertEquals(addResult.getSuccessCount(), pagedUserCount);
+
+            Set<String> listedUsers = new HashSet<>();
+            int listedUserCount = userMgtClient.forEachUserWithID(pagedUserPrefix + "*", pageSize,
+                    user -> listedUsers.add(user.getUsername()));
+            Assert.assertEquals(listedUserCount, pagedUserCount, "Paged listing stopped before the last user.");
+            Assert.assertEquals(listedUsers.size(), pagedUserCount, "Paged listing returned a user more than once.");
+        } finally {
+            if (addResult.getUserIDs() != null) {
+                userMgtClient.deleteUsersWithID(addResult.getUserIDs());
+            }
+        }
+    }
+
     /**
      * Checks whether the passed Name exists in the FlaggedName array.
      *
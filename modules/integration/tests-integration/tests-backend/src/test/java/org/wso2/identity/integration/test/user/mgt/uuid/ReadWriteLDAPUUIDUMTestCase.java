@@ -222,4 +222,16 @@ public class ReadWriteLDAPUUIDUMTestCase extends AbstractUUIDUMTestCase {
 
         super.testUpdateCredentialByAdminWithID();
     }
+
+    @Test(dependsOnMethods = "testAddUser")
+    public void testBulkUserOperations() throws Exception {
+
+        super.testBulkUserOperations();
+    }
+
+    @Test(dependsOnMethods = "testAddUser")
+    public void testPagedListingAboveUserStoreLimit() throws Exception {
+
+        super.testPagedListingAboveUserStoreLimit();
+    }
 }
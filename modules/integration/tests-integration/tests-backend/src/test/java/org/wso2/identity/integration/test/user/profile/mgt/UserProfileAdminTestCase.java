@@ -26,7 +26,6 @@ import org.wso2.carbon.automation.engine.frameworkutils.FrameworkPathUtil;
 import org.wso2.carbon.identity.application.common.model.idp.xsd.IdentityProvider;
 import org.wso2.carbon.identity.user.profile.stub.types.AssociatedAccountDTO;
 import org.wso2.carbon.integration.common.admin.client.AuthenticatorClient;
-import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
 import org.wso2.carbon.user.mgt.stub.types.carbon.ClaimValue;
 import org.wso2.identity.integration.common.clients.Idp.IdentityProviderMgtServiceClient;
 import org.wso2.identity.integration.common.clients.UserManagementClient;
@@ -34,11 +33,11 @@ import org.wso2.identity.integration.common.clients.UserProfileMgtServiceClient;
 import org.wso2.carbon.identity.user.profile.stub.types.UserFieldDTO;
 import org.wso2.carbon.identity.user.profile.stub.types.UserProfileDTO;
 import org.wso2.identity.integration.common.utils.ISIntegrationTest;
-import org.wso2.identity.integration.test.util.Utils;
+import org.wso2.identity.integration.common.utils.config.ConfigProfile;
 
-import java.io.File;
 import java.nio.file.Paths;
 
+@ConfigProfile("user/enable_federated_association.toml")
 public class UserProfileAdminTestCase extends ISIntegrationTest {
 
     public static final String IDP_NAME = "idp1";
@@ -46,23 +45,11 @@ public class UserProfileAdminTestCase extends ISIntegrationTest {
     private UserManagementClient userMgtClient;
     private AuthenticatorClient logManger;
     private String userId1 = "UserProfileAdminTestUser1";
-    private ServerConfigurationManager serverConfigurationManager;
     private IdentityProviderMgtServiceClient idpMgtClient;
     private static final String lastNameClaimURI = "http://wso2.org/claims/lastname";
     
     @BeforeClass(alwaysRun = true)
     public void testInit() throws Exception {
-        super.init();
-
-        String carbonHome = Utils.getResidentCarbonHome();
-        File defaultTomlFile = getDeploymentTomlFile(carbonHome);
-        File configuredTomlFile = new File(getISResourceLocation() + File.separator + "user" + File.separator
-                        + "enable_federated_association.toml");
-
-        serverConfigurationManager = new ServerConfigurationManager(isServer);
-        serverConfigurationManager.applyConfigurationWithoutRestart(configuredTomlFile, defaultTomlFile, true);
-        serverConfigurationManager.restartGracefully();
-
         super.init();
         logManger = new AuthenticatorClient(backendURL);
         
@@ -81,10 +68,6 @@ public class UserProfileAdminTestCase extends ISIntegrationTest {
         userMgtClient.deleteUser(userId1);
         idpMgtClient.deleteIdP(IDP_NAME);
         logManger = null;
-        log.info("Replacing identity.xml with default configurations");
-
-        serverConfigurationManager.restoreToLastConfiguration(false);
-
     }
     
     @Test(priority = 1, groups = "wso2.is", description = "Check get user profiles")
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.user.store;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.user.store.configuration.stub.dto.UserStoreDTO;
+import org.wso2.carbon.integration.common.admin.client.AuthenticatorClient;
+import org.wso2.carbon.integration.common.utils.mgt.ServerConfigurationManager;
+import org.wso2.carbon.user.mgt.stub.types.carbon.FlaggedName;
+import org.wso2.identity.integration.common.clients.UserManagementClient;
+import org.wso2.identity.integration.common.clients.user.store.config.UserStoreConfigAdminServiceClient;
+import org.wso2.identity.integration.common.utils.ISIntegrationTest;
+import org.wso2.identity.integration.common.utils.UserStoreConfigUtils;
+import org.wso2.identity.integration.test.utils.seeding.JDBCUserStoreSeeder;
+import org.wso2.identity.integration.test.utils.seeding.SeedDataGenerator;
+import org.wso2.identity.integration.test.utils.seeding.SeedResult;
+import org.wso2.identity.integration.test.utils.seeding.SeedUser;
+import org.wso2.identity.integration.test.utils.seeding.UserStoreSeedSpec;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Seeds a JDBC secondary user store with the batched inserts of {@link JDBCUserStoreSeeder} before it is deployed,
+ * and checks that the server sees the seeded users, group memberships and passwords as its own.
+ */
+public class SeededJDBCUserStoreTestCase extends ISIntegrationTest {
+
+    private static final String JDBC_CLASS = "org.wso2.carbon.user.core.jdbc.UniqueIDJDBCUserStoreManager";
+    private static final String DOMAIN_ID = "SEEDED.WSO2TEST.COM";
+    private static final String USER_STORE_DB_NAME = "SEEDED_JDBC_USER_STORE_DB";
+    private static final String DB_USER_NAME = "wso2automation";
+    private static final String DB_USER_PASSWORD = "wso2automation";
+    private static final String LOGIN_ROLE = DOMAIN_ID + "/seededLoginRole";
+    private static final String PERMISSION_LOGIN = "/permission/admin/login";
+    private static final int SUPER_TENANT_ID = -1234;
+    private static final int USER_COUNT = 200;
+    private static final int GROUP_COUNT = 10;
+    // A small batch size, so that the users are inserted over several batches.
+    private static final int BATCH_SIZE = 64;
+
+    private final UserStoreConfigUtils userStoreConfigUtils = new UserStoreConfigUtils();
+    private UserStoreConfigAdminServiceClient userStoreConfigAdminServiceClient;
+    private UserManagementClient userMgtClient;
+    private UserStoreSeedSpec seedSpec;
+    private SeedDataGenerator seedDataGenerator;
+    private SeedResult seedResult;
+
+    @BeforeClass(alwaysRun = true)
+    public void init() throws Exception {
+
+        super.init();
+        userStoreConfigAdminServiceClient = new UserStoreConfigAdminServiceClient(backendURL, sessionCookie);
+        userMgtClient = new UserManagementClient(backendURL, sessionCookie);
+        seedSpec = new UserStoreSeedSpec()
+                .userCount(USER_COUNT)
+                .groupCount(GROUP_COUNT)
+                .batchSize(BATCH_SIZE);
+        seedDataGenerator = new SeedDataGenerator(seedSpec);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        if (userMgtClient.roleNameExists(LOGIN_ROLE)) {
+            userMgtClient.deleteRole(LOGIN_ROLE);
+        }
+        userStoreConfigAdminServiceClient.deleteUserStore(DOMAIN_ID);
+        Assert.assertTrue(userStoreConfigUtils.waitForUserStoreUnDeployment(userStoreConfigAdminServiceClient,
+                DOMAIN_ID), "Deletion of the seeded user store has failed.");
+    }
+
+    @Test(groups = "wso2.is", description = "Seed the database of a JDBC user store and deploy the user store")
+    public void testAddSeededJDBCUserStore() throws Exception {
+
+        // Creates the database of the user store from the schema of the product.
+        UserStoreDTO userStoreDTO = userStoreConfigAdminServiceClient.createUserStoreDTO(JDBC_CLASS, DOMAIN_ID,
+                userStoreConfigUtils.getJDBCUserStoreProperties(USER_STORE_DB_NAME));
+
+        // The database is seeded before the user store is deployed, so that the server does not hold it yet.
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:" +
+                ServerConfigurationManager.getCarbonHome() + "/repository/database/" + USER_STORE_DB_NAME,
+                DB_USER_NAME, DB_USER_PASSWORD)) {
+            seedResult = new JDBCUserStoreSeeder(connection, SUPER_TENANT_ID).seed(seedSpec);
+        }
+        Assert.assertEquals(seedResult.getUserCount(), USER_COUNT, "Unexpected number of seeded users.");
+        Assert.assertEquals(seedResult.getGroupCount(), GROUP_COUNT, "Unexpected number of seeded groups.");
+        Assert.assertTrue(seedResult.getMembershipCount() > 0, "No group memberships were seeded.");
+
+        userStoreConfigAdminServiceClient.addUserStore(userStoreDTO);
+        Assert.assertTrue(userStoreConfigUtils.waitForUserStoreDeployment(userStoreConfigAdminServiceClient,
+                DOMAIN_ID), "Deployment of the seeded user store has failed.");
+    }
+
+    @Test(groups = "wso2.is", dependsOnMethods = "testAddSeededJDBCUserStore",
+            description = "Check the seeded users of the first, a middle and the last batch")
+    public void testSeededUsersExist() throws Exception {
+
+        for (int index : new int[]{0, USER_COUNT / 2, USER_COUNT - 1}) {
+            String userName = getQualifiedUserName(seedDataGenerator.getUserName(index));
+            String[] users = userMgtClient.listUsers(userName, 10);
+            Assert.assertNotNull(users, "Seeded user " + userName + " is not found.");
+            Assert.assertEquals(users.length, 1, "Seeded user " + userName + " is not found.");
+            Assert.assertEquals(users[0], userName, "Seeded user " + userName + " is not found.");
+        }
+    }
+
+    @Test(groups = "wso2.is", dependsOnMethods = "testAddSeededJDBCUserStore",
+            description = "Check the group memberships of a seeded user")
+    public void testSeededGroupMemberships() throws Exception {
+
+        SeedUser seedUser = seedDataGenerator.generateUser(USER_COUNT - 1);
+        Set<String> expectedGroups = new HashSet<>();
+        for (int groupIndex : seedUser.getGroupIndexes()) {
+            expectedGroups.add(DOMAIN_ID + "/" + seedDataGenerator.getGroupName(groupIndex));
+        }
+
+        Set<String> assignedGroups = new HashSet<>();
+        FlaggedName[] roles = userMgtClient.getRolesOfUser(getQualifiedUserName(seedUser.getUserName()),
+                DOMAIN_ID + "/" + seedSpec.getGroupNamePrefix() + "*", GROUP_COUNT + 1);
+        if (roles != null) {
+            for (FlaggedName role : roles) {
+                if (role != null && role.getSelected()) {
+                    assignedGroups.add(role.getItemName());
+                }
+            }
+        }
+        Assert.assertEquals(assignedGroups, expectedGroups, "Unexpected groups for the seeded user " +
+                seedUser.getUserName());
+    }
+
+    @Test(groups = "wso2.is", dependsOnMethods = "testAddSeededJDBCUserStore",
+            description = "Check that a seeded user can log in with the seeded password")
+    public void testSeededUserLogin() throws Exception {
+
+        String userName = getQualifiedUserName(seedDataGenerator.getUserName(0));
+        userMgtClient.addRole(LOGIN_ROLE, new String[]{userName}, new String[]{PERMISSION_LOGIN});
+
+        AuthenticatorClient authenticatorClient = new AuthenticatorClient(backendURL);
+        String sessionCookie = authenticatorClient.login(userName, seedSpec.getPassword(),
+                isServer.getInstance().getHosts().get("default"));
+        Assert.assertTrue(sessionCookie.contains("JSESSIONID"), "Seeded user " + userName + " failed to log in.");
+        authenticatorClient.logOut();
+    }
+
+    private String getQualifiedUserName(String userName) {
+
+        return DOMAIN_ID + "/" + userName;
+    }
+}
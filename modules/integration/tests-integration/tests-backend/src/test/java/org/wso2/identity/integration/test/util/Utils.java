@@ -47,15 +47,18 @@ import org.wso2.carbon.user.core.UserCoreConstants;
 import org.wso2.carbon.user.mgt.stub.types.carbon.FlaggedName;
 import org.wso2.carbon.utils.CarbonUtils;
 import org.wso2.identity.integration.common.utils.ISIntegrationTest;
+import org.wso2.identity.integration.common.utils.logs.LogLine;
+import org.wso2.identity.integration.common.utils.logs.LogTailService;
+import org.wso2.identity.integration.common.utils.logs.LogTailer;
 import org.wso2.identity.integration.test.provisioning.JustInTimeProvisioningTestCase;
 import org.wso2.identity.integration.test.utils.BasicAuthHandler;
 import org.wso2.identity.integration.test.utils.BasicAuthInfo;
 import org.wso2.identity.integration.test.utils.CommonConstants;
+import org.wso2.identity.integration.test.utils.HtmlResponseIndex;
 import org.wso2.identity.integration.test.utils.OAuth2Constant;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URI;
@@ -529,22 +532,31 @@ public class Utils {
         return httpClient.execute(post);
     }
 
+    /**
+     * Extract data from the last line of the response containing the given key, by splitting the line at single
+     * quotes. For a key of the form <code>name="..."</code>, the value of the last input with that name is taken from
+     * the index of the response instead, wherever its attributes are placed. The response is indexed once, so the same
+     * response can be passed to this method any number of times.
+     *
+     * @param response HttpResponse
+     * @param key      key to determine the line to extract
+     * @param token    index of the value after splitting the line
+     * @return value extracted, or an empty string if no line contains the key
+     * @throws IOException IOException
+     */
     public static String extractDataFromResponse(HttpResponse response, String key, int token)
             throws IOException {
 
-        BufferedReader rd = new BufferedReader(
-                new InputStreamReader(response.getEntity().getContent()));
-        String line;
-        String value = "";
-
-        while ((line = rd.readLine()) != null) {
-            if (line.contains(key)) {
-                String[] tokens = line.split("'");
-                value = tokens[token];
+        HtmlResponseIndex page = HtmlResponseIndex.of(response);
+        String inputName = HtmlResponseIndex.getInputName(key);
+        if (inputName != null) {
+            List<String> values = page.getInputValues(inputName);
+            if (!values.isEmpty() && !values.get(values.size() - 1).isEmpty()) {
+                return values.get(values.size() - 1);
             }
         }
-        rd.close();
-        return value;
+        String line = page.getLastLineContaining(key);
+        return line == null ? "" : line.split("'")[token];
     }
 
     /**
@@ -560,21 +572,8 @@ public class Utils {
                                                                              int token)
             throws IOException {
 
-        try (BufferedReader bufferedReader = new BufferedReader(
-                new InputStreamReader(response.getEntity().getContent()))) {
-            String line;
-            String value = StringUtils.EMPTY;
-
-            while ((line = bufferedReader.readLine()) != null) {
-                if (line.contains(key)) {
-                    String[] tokens = line.split("\"");
-                    value = tokens[token];
-                    value = value.trim();
-                    break;
-                }
-            }
-            return value;
-        }
+        String line = HtmlResponseIndex.of(response).getFirstLineContaining(key);
+        return line == null ? StringUtils.EMPTY : line.split("\"")[token].trim();
     }
 
     public static List<NameValuePair> getConsentRequiredClaimsFromResponse(HttpResponse response)
@@ -668,7 +667,8 @@ public class Utils {
     }
 
     /**
-     * Read audit log lines with a given content.
+     * Read audit log lines with a given content. The audit log is followed by a shared {@link LogTailService}, so
+     * only the lines written since the previous read are read from the file.
      *
      * @param content Content to be searched in audit log.
      * @return List of lines which contains the given string.
@@ -676,20 +676,10 @@ public class Utils {
      */
     public static List<String> readAuditLogLineWithContent(String content) throws IOException {
 
-        String fileName = CarbonUtils.getCarbonHome()
-                + ISIntegrationTest.URL_SEPARATOR +
-                "repository" + ISIntegrationTest.URL_SEPARATOR + "logs" + ISIntegrationTest.URL_SEPARATOR +
-                "audit.log";
-        List<String> results = new ArrayList<>();
-        try (BufferedReader bufferedReader = new BufferedReader(new FileReader(fileName))) {
-            String currentLine;
-            while ((currentLine = bufferedReader.readLine()) != null) {
-                if (currentLine.contains(content)) {
-                    results.add(currentLine);
-                }
-            }
-        }
-        return results;
+        LogTailer auditLog = LogTailService.forCarbonHome(CarbonUtils.getCarbonHome()).getAuditLog();
+        return auditLog.findLines(auditLog.beginning(), content).stream()
+                .map(LogLine::getText)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -45,8 +45,16 @@ public class DataExtractUtil {
 
     private static Log log = LogFactory.getLog(DataExtractUtil.class);
 
+    private static final Pattern INPUT_VALUE_PATTERN = Pattern.compile("value=\"(\\S+)\"");
+    private static final Pattern LABEL_VALUE_PATTERN = Pattern.compile(">(\\S+)</label>");
+    private static final Pattern TABLE_DATA_PATTERN = Pattern.compile("<td>(\\S+)</td>");
+
     /**
-     * Extract data from http response with the given keywords
+     * Extract data from http response with the given keywords. For a keyword of the form <code>name="..."</code> the
+     * value of the input with that name is taken from the {@link HtmlResponseIndex} of the response. Otherwise, the
+     * value is taken from the first line containing any of the keywords, by splitting the line at single quotes and
+     * taking the token at the position of the keyword, or from the value attribute following the keyword when the
+     * line has no single quotes.
      *
      * @param response
      * @param keyPositionMap
@@ -57,42 +65,39 @@ public class DataExtractUtil {
                                                          Map<String, Integer> keyPositionMap)
             throws IOException {
 
-        //todo extracting sessionDataKey using this method required key and value to be in the same line
-        //todo ex. <input type="hidden" name="sessionDataKey"  value='8a433378-6d1f-434b-b574-a143dbb1a508'/>
-        //todo if the jsp page formatted and value moved to the next line this will break. nice to have this fixed
-
-        List<KeyValue> keyValues = new ArrayList<>();
-        BufferedReader rd = new BufferedReader(new InputStreamReader(response.getEntity().getContent()));
-        String line;
-        while ((line = rd.readLine()) != null) {
-            for (String key : keyPositionMap.keySet()) {
-                if (line.contains(key)) {
-                    String[] tokens;
-                    if (line.contains("'")) {
-                        tokens = line.split("'");
-                        KeyValue keyValue = new KeyValue(key, tokens[keyPositionMap.get(key)]);
-                        keyValues.add(keyValue);
-                        return keyValues;
-                    } else {
-                        String regexString = Pattern.quote(key + " value=\"") + "(.*?)" + Pattern.quote("\"");
-                        Pattern pattern = Pattern.compile(regexString);
-                        Matcher matcher = pattern.matcher(line);
-                        if (matcher.find()) {
-                            KeyValue keyValue = new KeyValue(key, matcher.group(1));
-                            keyValues.add(keyValue);
-                            return keyValues;
-                        }
-                        return null;
-                    }
+        HtmlResponseIndex page = HtmlResponseIndex.of(response);
+        int offset = page.indexOfAny(keyPositionMap.keySet(), 0);
+        if (offset < 0) {
+            return null;
+        }
+        String line = page.getLineAt(offset);
+        for (String key : keyPositionMap.keySet()) {
+            if (line.contains(key)) {
+                List<KeyValue> keyValues = extractIndexedInputValue(page, key);
+                if (keyValues != null) {
+                    return keyValues;
+                }
+                keyValues = new ArrayList<>();
+                if (line.contains("'")) {
+                    String[] tokens = line.split("'");
+                    keyValues.add(new KeyValue(key, tokens[keyPositionMap.get(key)]));
+                    return keyValues;
                 }
+                String regexString = Pattern.quote(key + " value=\"") + "(.*?)" + Pattern.quote("\"");
+                Matcher matcher = Pattern.compile(regexString).matcher(line);
+                if (matcher.find()) {
+                    keyValues.add(new KeyValue(key, matcher.group(1)));
+                    return keyValues;
+                }
+                return null;
             }
         }
-        rd.close();
         return null;
     }
 
     /**
-     * Extract input values from http response
+     * Extract input values from http response. The value of an input named by a keyword of the form
+     * <code>name="..."</code> is taken from the {@link HtmlResponseIndex} of the response.
      *
      * @param response
      * @param keyPositionMap
@@ -103,28 +108,21 @@ public class DataExtractUtil {
                                                                Map<String, Integer> keyPositionMap)
             throws IOException {
 
-        List<KeyValue> keyValues = new ArrayList<KeyValue>();
-        BufferedReader rd =
-                new BufferedReader(new InputStreamReader(response.getEntity()
-                        .getContent()));
-        String line;
-
-        while ((line = rd.readLine()) != null) {
+        HtmlResponseIndex page = HtmlResponseIndex.of(response);
+        int offset = page.indexOfAny(keyPositionMap.keySet(), 0);
+        if (offset >= 0) {
+            String line = page.getLineAt(offset);
             for (String key : keyPositionMap.keySet()) {
                 if (line.contains(key)) {
-                    Pattern p = Pattern.compile("value=\"(\\S+)\"");
-                    Matcher m = p.matcher(line);
-                    if (m.find()) {
-                        KeyValue keyValue = new KeyValue(key, m.group(1));
-                        keyValues.add(keyValue);
+                    List<KeyValue> keyValues = extractIndexedInputValue(page, key);
+                    if (keyValues != null) {
                         return keyValues;
                     }
+                    break;
                 }
             }
         }
-        rd.close();
-
-        return null;
+        return extractFirstMatch(page, keyPositionMap, INPUT_VALUE_PATTERN);
     }
 
     /**
@@ -139,29 +137,7 @@ public class DataExtractUtil {
                                                                Map<String, Integer> keyPositionMap)
             throws IOException {
 
-        List<KeyValue> keyValues = new ArrayList<KeyValue>();
-        BufferedReader rd =
-                new BufferedReader(new InputStreamReader(response.getEntity()
-                        .getContent()));
-
-        String line;
-
-        while ((line = rd.readLine()) != null) {
-            for (String key : keyPositionMap.keySet()) {
-                if (line.contains(key)) {
-                    Pattern p = Pattern.compile(">(\\S+)</label>");
-                    Matcher m = p.matcher(line);
-                    if (m.find()) {
-                        KeyValue keyValue = new KeyValue(key, m.group(1));
-                        keyValues.add(keyValue);
-                        return keyValues;
-                    }
-                }
-            }
-        }
-        rd.close();
-
-        return null;
+        return extractFirstMatch(HtmlResponseIndex.of(response), keyPositionMap, LABEL_VALUE_PATTERN);
     }
 
     /**
@@ -177,37 +153,33 @@ public class DataExtractUtil {
             throws IOException {
 
         boolean lineReached = false;
-        List<KeyValue> keyValues = new ArrayList<KeyValue>();
-        BufferedReader rd =
-                new BufferedReader(new InputStreamReader(response.getEntity()
-                        .getContent()));
-        String line;
-        while ((line = rd.readLine()) != null) {
+        HtmlResponseIndex page = HtmlResponseIndex.of(response);
+        int length = page.getBody().length();
+        // The lines before the first line with a keyword can not match, so the scan starts from that line.
+        for (int offset = page.indexOfAny(keyPositionMap.keySet(), 0); offset >= 0 && offset < length;
+             offset = page.getNextLineStart(offset)) {
+            String line = page.getLineAt(offset);
             for (String key : keyPositionMap.keySet()) {
                 if (line.contains(key)) {
                     lineReached = true;
                     continue;
                 }
-                if (lineReached) {
-                    if (line.contains("<td>")) {
-                        Pattern p = Pattern.compile("<td>(\\S+)</td>");
-                        Matcher m = p.matcher(line);
-                        if (m.find()) {
-                            KeyValue keyValue = new KeyValue(key, m.group(1));
-                            keyValues.add(keyValue);
-                            return keyValues;
-                        }
+                if (lineReached && line.contains("<td>")) {
+                    Matcher m = TABLE_DATA_PATTERN.matcher(line);
+                    if (m.find()) {
+                        List<KeyValue> keyValues = new ArrayList<>();
+                        keyValues.add(new KeyValue(key, m.group(1)));
+                        return keyValues;
                     }
                 }
             }
         }
-        rd.close();
-
         return null;
     }
 
     /**
-     * Extract session consent data from response
+     * Extract session consent data from response. Unless the response shows an authorization code, the
+     * sessionDataKeyConsent input is taken from the {@link HtmlResponseIndex} of the response.
      *
      * @param response
      * @param keyPositionMap
@@ -220,12 +192,19 @@ public class DataExtractUtil {
 
         boolean lineReached = false;
         boolean isSessionConsentData = true;
-        List<KeyValue> keyValues = new ArrayList<KeyValue>();
-        BufferedReader rd =
-                new BufferedReader(new InputStreamReader(response.getEntity()
-                        .getContent()));
-        String line;
-        while ((line = rd.readLine()) != null) {
+        HtmlResponseIndex page = HtmlResponseIndex.of(response);
+        int firstOffset = page.indexOfAny(keyPositionMap.keySet(), 0);
+        if (firstOffset >= 0 && !page.getLineAt(firstOffset).contains(AUTH_CODE_BODY_ELEMENT)) {
+            List<KeyValue> keyValues = extractIndexedInputValue(page,
+                    "name=\"" + OAuth2Constant.SESSION_DATA_KEY_CONSENT + "\"");
+            if (keyValues != null) {
+                return keyValues;
+            }
+        }
+        int length = page.getBody().length();
+        for (int offset = page.indexOfAny(keyPositionMap.keySet(), 0); offset >= 0 && offset < length;
+             offset = page.getNextLineStart(offset)) {
+            String line = page.getLineAt(offset);
             for (String key : keyPositionMap.keySet()) {
                 if (line.contains(key)) {
                     lineReached = true;
@@ -234,28 +213,74 @@ public class DataExtractUtil {
                     }
                 }
                 if (lineReached) {
+                    List<KeyValue> keyValues = new ArrayList<>();
                     if (!isSessionConsentData) {
                         if (line.contains("<td>")) {
-                            Pattern p = Pattern.compile("<td>(\\S+)</td>");
-                            Matcher m = p.matcher(line);
+                            Matcher m = TABLE_DATA_PATTERN.matcher(line);
                             if (m.find()) {
-                                KeyValue keyValue = new KeyValue(AUTH_CODE_BODY_ELEMENT, m.group(1));
-                                keyValues.add(keyValue);
+                                keyValues.add(new KeyValue(AUTH_CODE_BODY_ELEMENT, m.group(1)));
                                 return keyValues;
                             }
                         }
                     } else if (line.contains("value")) {
                         String[] tokens = line.split("\"");
-                        KeyValue keyValue = new KeyValue("name=\"" + OAuth2Constant.SESSION_DATA_KEY_CONSENT + "\"",
-                                tokens[1]);
-                        keyValues.add(keyValue);
+                        keyValues.add(new KeyValue("name=\"" + OAuth2Constant.SESSION_DATA_KEY_CONSENT + "\"",
+                                tokens[1]));
                         return keyValues;
                     }
                 }
             }
         }
-        rd.close();
+        return null;
+    }
+
+    /**
+     * Extract the value of the input named by a keyword of the form <code>name="..."</code> from the index of the
+     * page, which finds the value wherever the attributes of the input are placed.
+     *
+     * @param page Index of the response.
+     * @param key  Keyword.
+     * @return values, or null if the keyword does not name an input of the page with a value
+     */
+    private static List<KeyValue> extractIndexedInputValue(HtmlResponseIndex page, String key) {
+
+        String inputName = HtmlResponseIndex.getInputName(key);
+        String value = inputName == null ? null : page.getInputValue(inputName);
+        if (StringUtils.isEmpty(value)) {
+            return null;
+        }
+        List<KeyValue> keyValues = new ArrayList<>();
+        keyValues.add(new KeyValue(key, value));
+        return keyValues;
+    }
+
+    /**
+     * Extract the first group of the pattern from the first line which contains any of the keywords and matches the
+     * pattern.
+     *
+     * @param page           Index of the response.
+     * @param keyPositionMap Keywords.
+     * @param pattern        Pattern of the value.
+     * @return values
+     */
+    private static List<KeyValue> extractFirstMatch(HtmlResponseIndex page, Map<String, Integer> keyPositionMap,
+                                                    Pattern pattern) {
 
+        int length = page.getBody().length();
+        for (int offset = page.indexOfAny(keyPositionMap.keySet(), 0); offset >= 0 && offset < length;
+             offset = page.indexOfAny(keyPositionMap.keySet(), page.getNextLineStart(offset))) {
+            String line = page.getLineAt(offset);
+            for (String key : keyPositionMap.keySet()) {
+                if (line.contains(key)) {
+                    Matcher m = pattern.matcher(line);
+                    if (m.find()) {
+                        List<KeyValue> keyValues = new ArrayList<>();
+                        keyValues.add(new KeyValue(key, m.group(1)));
+                        return keyValues;
+                    }
+                }
+            }
+        }
         return null;
     }
 
@@ -110,6 +110,11 @@ public class ExternalLDAPServer {
         server.stop();
     }
 
+    public DirectoryService getDirectoryService() {
+
+        return directoryService;
+    }
+
     private void initiateDirectoryService() throws Exception {
 
         directoryService = new DefaultDirectoryService();
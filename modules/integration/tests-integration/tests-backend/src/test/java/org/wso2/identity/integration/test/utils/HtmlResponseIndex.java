@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.utils;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Index of an HTML page returned by the server, such as a login, consent or auto submitted SAML form page.
+ * <p>
+ * The response entity is read once, and the page is scanned in a single pass into the form inputs, the hidden fields,
+ * the form actions, the meta refresh target and the variables assigned with string literals in the scripts. The index
+ * is kept for the response, so that any number of lookups on the same response read the entity only once. The entity
+ * of the response is replaced with a repeatable copy, so the response can still be read after it is indexed.
+ * <pre>
+ * HtmlResponseIndex page = HtmlResponseIndex.of(response);
+ * String sessionDataKey = page.getInputValue("sessionDataKey");
+ * </pre>
+ */
+public class HtmlResponseIndex {
+
+    private static final Map<HttpResponse, HtmlResponseIndex> INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Pattern SCRIPT_VARIABLE_PATTERN =
+            Pattern.compile("[\"']?([A-Za-z_$][\\w$]*)[\"']?\\s*[:=]\\s*(['\"])([^'\"\\r\\n]*)\\2");
+    private static final Pattern INPUT_NAME_KEY_PATTERN = Pattern.compile("name=([\"'])([^\"']+)\\1");
+    private static final String URL_PARAM = "url=";
+
+    private final String body;
+    private final Map<String, List<String>> inputs = new LinkedHashMap<>();
+    private final Map<String, String> hiddenFields = new LinkedHashMap<>();
+    private final Map<String, String> scriptVariables = new LinkedHashMap<>();
+    private final List<String> formActions = new ArrayList<>();
+    private String metaRefreshUrl;
+    private boolean indexed;
+
+    private HtmlResponseIndex(String body) {
+
+        this.body = body;
+    }
+
+    /**
+     * Get the index of the given response, reading the response entity if the response is not indexed yet.
+     *
+     * @param response HTTP response.
+     * @return Index of the response.
+     * @throws IOException If the response entity could not be read.
+     */
+    public static HtmlResponseIndex of(HttpResponse response) throws IOException {
+
+        HtmlResponseIndex index = INDEXES.get(response);
+        if (index != null) {
+            return index;
+        }
+        synchronized (response) {
+            index = INDEXES.get(response);
+            if (index == null) {
+                index = new HtmlResponseIndex(readBody(response));
+                INDEXES.put(response, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Get the index of the given page.
+     *
+     * @param html Content of the page.
+     * @return Index of the page.
+     */
+    public static HtmlResponseIndex of(String html) {
+
+        return new HtmlResponseIndex(html == null ? "" : html);
+    }
+
+    /**
+     * Get the input name selected by a key of the data extraction utilities, such as
+     * <code>name="sessionDataKey"</code>.
+     *
+     * @param key Key to search for in the response.
+     * @return Name of the input, or null if the key is not of the form <code>name="..."</code>.
+     */
+    public static String getInputName(String key) {
+
+        Matcher matcher = INPUT_NAME_KEY_PATTERN.matcher(key);
+        return matcher.matches() ? matcher.group(2) : null;
+    }
+
+    public String getBody() {
+
+        return body;
+    }
+
+    /**
+     * Get the value of the first input with the given name.
+     *
+     * @param name Name of the input.
+     * @return Value of the input, or null if there is no such input.
+     */
+    public String getInputValue(String name) {
+
+        List<String> values = getInputValues(name);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * Get the values of all the inputs with the given name, in the order they appear in the page.
+     *
+     * @param name Name of the inputs.
+     * @return Values of the inputs.
+     */
+    public List<String> getInputValues(String name) {
+
+        ensureIndexed();
+        return inputs.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * Get the hidden fields of the page. The first value is returned for a field which appears more than once.
+     *
+     * @return Hidden field values by name.
+     */
+    public Map<String, String> getHiddenFields() {
+
+        ensureIndexed();
+        return Collections.unmodifiableMap(hiddenFields);
+    }
+
+    /**
+     * Get the action of the first form of the page.
+     *
+     * @return Form action, or null if the page has no form with an action.
+     */
+    public String getFormAction() {
+
+        ensureIndexed();
+        return formActions.isEmpty() ? null : formActions.get(0);
+    }
+
+    public List<String> getFormActions() {
+
+        ensureIndexed();
+        return Collections.unmodifiableList(formActions);
+    }
+
+    /**
+     * Get the URL of the meta refresh tag of the page.
+     *
+     * @return Refresh URL, or null if the page has no meta refresh tag with a URL.
+     */
+    public String getMetaRefreshUrl() {
+
+        ensureIndexed();
+        return metaRefreshUrl;
+    }
+
+    /**
+     * Get the first string literal assigned to the given variable or property in the scripts of the page, such as
+     * <code>var sessionDataKey = '...';</code> or <code>"sessionDataKey": "..."</code>.
+     *
+     * @param name Name of the variable.
+     * @return Value of the variable, or null if the variable is not assigned.
+     */
+    public String getScriptVariable(String name) {
+
+        ensureIndexed();
+        return scriptVariables.get(name);
+    }
+
+    /**
+     * Get the first line of the page containing the given key.
+     *
+     * @param key Key to search for.
+     * @return Line, or null if no line contains the key.
+     */
+    public String getFirstLineContaining(String key) {
+
+        int offset = body.indexOf(key);
+        return offset < 0 ? null : getLineAt(offset);
+    }
+
+    /**
+     * Get the last line of the page containing the given key.
+     *
+     * @param key Key to search for.
+     * @return Line, or null if no line contains the key.
+     */
+    public String getLastLineContaining(String key) {
+
+        int offset = body.lastIndexOf(key);
+        return offset < 0 ? null : getLineAt(offset);
+    }
+
+    /**
+     * Get the first position at or after the given offset where any of the given keys appears.
+     *
+     * @param keys Keys to search for.
+     * @param from Offset to start from.
+     * @return Position of the first key, or -1 if none of the keys appears.
+     */
+    int indexOfAny(Collection<String> keys, int from) {
+
+        int first = -1;
+        for (String key : keys) {
+            int offset = body.indexOf(key, from);
+            if (offset >= 0 && (first < 0 || offset < first)) {
+                first = offset;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Get the line containing the given offset, without the line terminator.
+     *
+     * @param offset Offset in the page.
+     * @return Line.
+     */
+    String getLineAt(int offset) {
+
+        int start = Math.max(body.lastIndexOf('\n', offset - 1), body.lastIndexOf('\r', offset - 1)) + 1;
+        return body.substring(start, getLineEnd(offset));
+    }
+
+    /**
+     * Get the start of the line after the line containing the given offset.
+     *
+     * @param offset Offset in the page.
+     * @return Start of the next line, or the length of the page if it is the last line.
+     */
+    int getNextLineStart(int offset) {
+
+        int end = getLineEnd(offset);
+        if (end < body.length() && body.charAt(end) == '\r' && end + 1 < body.length() &&
+                body.charAt(end + 1) == '\n') {
+            return end + 2;
+        }
+        return Math.min(end + 1, body.length());
+    }
+
+    private int getLineEnd(int offset) {
+
+        for (int i = offset; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c == '\n' || c == '\r') {
+                return i;
+            }
+        }
+        return body.length();
+    }
+
+    private synchronized void ensureIndexed() {
+
+        if (indexed) {
+            return;
+        }
+        int length = body.length();
+        int position = body.indexOf('<');
+        while (position >= 0 && position < length) {
+            int nameStart = position + 1;
+            if (body.startsWith("!--", nameStart)) {
+                int commentEnd = body.indexOf("-->", nameStart);
+                position = commentEnd < 0 ? -1 : body.indexOf('<', commentEnd + 3);
+                continue;
+            }
+            int next;
+            if (isTag(nameStart, "input")) {
+                Map<String, String> attributes = new LinkedHashMap<>();
+                next = parseAttributes(nameStart + 5, attributes);
+                addInput(attributes);
+            } else if (isTag(nameStart, "form")) {
+                Map<String, String> attributes = new LinkedHashMap<>();
+                next = parseAttributes(nameStart + 4, attributes);
+                if (attributes.containsKey("action")) {
+                    formActions.add(attributes.get("action"));
+                }
+            } else if (isTag(nameStart, "meta")) {
+                Map<String, String> attributes = new LinkedHashMap<>();
+                next = parseAttributes(nameStart + 4, attributes);
+                addMetaRefresh(attributes);
+            } else if (isTag(nameStart, "script")) {
+                next = parseAttributes(nameStart + 6, new LinkedHashMap<>());
+                int scriptEnd = indexOfIgnoreCase("</script", next);
+                indexScript(next, scriptEnd < 0 ? length : scriptEnd);
+                next = scriptEnd < 0 ? length : scriptEnd + 1;
+            } else {
+                next = nameStart;
+            }
+            position = body.indexOf('<', next);
+        }
+        indexed = true;
+    }
+
+    private boolean isTag(int nameStart, String tagName) {
+
+        int nameEnd = nameStart + tagName.length();
+        return body.regionMatches(true, nameStart, tagName, 0, tagName.length()) &&
+                (nameEnd == body.length() || !Character.isLetterOrDigit(body.charAt(nameEnd)));
+    }
+
+    /**
+     * Parse the attributes of a tag, starting after the tag name.
+     *
+     * @param from       Offset after the tag name.
+     * @param attributes Map to add the attributes to, with lower case names.
+     * @return Offset after the end of the tag.
+     */
+    private int parseAttributes(int from, Map<String, String> attributes) {
+
+        int length = body.length();
+        int position = from;
+        while (position < length) {
+            char c = body.charAt(position);
+            if (c == '>') {
+                return position + 1;
+            }
+            if (Character.isWhitespace(c) || c == '/') {
+                position++;
+                continue;
+            }
+            int nameStart = position;
+            while (position < length && !Character.isWhitespace(body.charAt(position)) &&
+                    "=>/".indexOf(body.charAt(position)) < 0) {
+                position++;
+            }
+            if (position == nameStart) {
+                position++;
+                continue;
+            }
+            String name = body.substring(nameStart, position).toLowerCase(Locale.ROOT);
+            position = skipWhitespace(position);
+            String value = "";
+            if (position < length && body.charAt(position) == '=') {
+                position = skipWhitespace(position + 1);
+                if (position < length && (body.charAt(position) == '"' || body.charAt(position) == '\'')) {
+                    int valueEnd = body.indexOf(body.charAt(position), position + 1);
+                    valueEnd = valueEnd < 0 ? length : valueEnd;
+                    value = body.substring(position + 1, valueEnd);
+                    position = valueEnd + 1;
+                } else {
+                    int valueStart = position;
+                    while (position < length && !Character.isWhitespace(body.charAt(position)) &&
+                            body.charAt(position) != '>') {
+                        position++;
+                    }
+                    value = body.substring(valueStart, position);
+                }
+            }
+            attributes.putIfAbsent(name, decodeEntities(value));
+        }
+        return length;
+    }
+
+    private int skipWhitespace(int from) {
+
+        int position = from;
+        while (position < body.length() && Character.isWhitespace(body.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private int indexOfIgnoreCase(String value, int from) {
+
+        int position = body.indexOf('<', from);
+        while (position >= 0) {
+            if (body.regionMatches(true, position, value, 0, value.length())) {
+                return position;
+            }
+            position = body.indexOf('<', position + 1);
+        }
+        return -1;
+    }
+
+    private void addInput(Map<String, String> attributes) {
+
+        String name = attributes.get("name");
+        if (name == null) {
+            return;
+        }
+        String value = attributes.getOrDefault("value", "");
+        inputs.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        if ("hidden".equalsIgnoreCase(attributes.get("type"))) {
+            hiddenFields.putIfAbsent(name, value);
+        }
+    }
+
+    private void addMetaRefresh(Map<String, String> attributes) {
+
+        if (metaRefreshUrl != null || !"refresh".equalsIgnoreCase(attributes.get("http-equiv"))) {
+            return;
+        }
+        String content = attributes.getOrDefault("content", "");
+        int urlStart = content.toLowerCase(Locale.ROOT).indexOf(URL_PARAM);
+        if (urlStart < 0) {
+            return;
+        }
+        String url = content.substring(urlStart + URL_PARAM.length()).trim();
+        if (url.length() > 1 && (url.charAt(0) == '\'' || url.charAt(0) == '"') &&
+                url.charAt(url.length() - 1) == url.charAt(0)) {
+            url = url.substring(1, url.length() - 1);
+        }
+        metaRefreshUrl = url;
+    }
+
+    private void indexScript(int start, int end) {
+
+        Matcher matcher = SCRIPT_VARIABLE_PATTERN.matcher(body).region(start, end);
+        while (matcher.find()) {
+            scriptVariables.putIfAbsent(matcher.group(1), matcher.group(3));
+        }
+    }
+
+    private static String decodeEntities(String value) {
+
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        return value.replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&#x27;", "'")
+                .replace("&apos;", "'")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&amp;", "&");
+    }
+
+    private static String readBody(HttpResponse response) throws IOException {
+
+        HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            return "";
+        }
+        ContentType contentType = ContentType.get(entity);
+        Charset charset = contentType != null && contentType.getCharset() != null ? contentType.getCharset() :
+                StandardCharsets.UTF_8;
+        byte[] content = EntityUtils.toByteArray(entity);
+        if (content == null) {
+            content = new byte[0];
+        }
+        if (!entity.isRepeatable()) {
+            response.setEntity(new ByteArrayEntity(content, contentType));
+        }
+        return new String(content, charset);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.utils;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests the parsing of {@link HtmlResponseIndex} and the extraction of {@link DataExtractUtil} on top of it, with
+ * pages shaped like the login, consent and auto submitted form pages of the server. It does not need a running server.
+ */
+public class HtmlResponseIndexTestCase {
+
+    private static final String SESSION_DATA_KEY = "8a433378-6d1f-434b-b574-a143dbb1a508";
+
+    @Test(groups = "wso2.is", description = "Read inputs with double, single and unquoted attribute values")
+    public void testInputValues() {
+
+        HtmlResponseIndex page = HtmlResponseIndex.of("<form action=\"/commonauth\" method=\"post\">\n" +
+                "<input type=\"hidden\" name=\"sessionDataKey\"  value='" + SESSION_DATA_KEY + "'/>\n" +
+                "<INPUT TYPE=text NAME=username VALUE=admin>\n" +
+                "<input type='checkbox' name='scope' value='openid'><input type=checkbox name=scope value=email>\n" +
+                "<input name=\"empty\">\n" +
+                "</form>");
+
+        Assert.assertEquals(page.getInputValue("sessionDataKey"), SESSION_DATA_KEY);
+        Assert.assertEquals(page.getInputValue("username"), "admin");
+        Assert.assertEquals(page.getInputValues("scope"), Arrays.asList("openid", "email"));
+        Assert.assertEquals(page.getInputValue("empty"), "");
+        Assert.assertNull(page.getInputValue("password"));
+        Assert.assertEquals(page.getFormAction(), "/commonauth");
+    }
+
+    @Test(groups = "wso2.is", description = "Read an input whose attributes span several lines")
+    public void testInputAcrossLines() {
+
+        HtmlResponseIndex page = HtmlResponseIndex.of("<input\n    type=\"hidden\"\n    name=\"sessionDataKey\"\n" +
+                "    value=\"" + SESSION_DATA_KEY + "\"\n/>");
+
+        Assert.assertEquals(page.getInputValue("sessionDataKey"), SESSION_DATA_KEY);
+        Assert.assertEquals(page.getHiddenFields(), Collections.singletonMap("sessionDataKey", SESSION_DATA_KEY));
+    }
+
+    @Test(groups = "wso2.is", description = "Read the hidden fields of an auto submitted SAML form")
+    public void testHiddenFields() {
+
+        HtmlResponseIndex page = HtmlResponseIndex.of("<html><body onload='document.forms[0].submit()'>\n" +
+                "<form method='post' action='https://localhost:8490/travelocity.com/home.jsp'>\n" +
+                "<p><input type='hidden' name='SAMLResponse' value='PHNhbWxwOlJlc3BvbnNl'>\n" +
+                "<input type='hidden' name='RelayState' value='/travelocity.com/index.jsp?a=1&amp;b=2'>\n" +
+                "<input type='hidden' name='SAMLResponse' value='second'>\n" +
+                "<input type='submit' name='submit' value='Continue'>\n" +
+                "</form></body></html>");
+
+        Map<String, String> hiddenFields = page.getHiddenFields();
+        Assert.assertEquals(hiddenFields.size(), 2);
+        Assert.assertEquals(hiddenFields.get("SAMLResponse"), "PHNhbWxwOlJlc3BvbnNl",
+                "The first value of a repeated hidden field is expected.");
+        Assert.assertEquals(hiddenFields.get("RelayState"), "/travelocity.com/index.jsp?a=1&b=2");
+        Assert.assertEquals(page.getInputValues("SAMLResponse"), Arrays.asList("PHNhbWxwOlJlc3BvbnNl", "second"));
+    }
+
+    @Test(groups = "wso2.is", description = "Decode the entities of attribute values")
+    public void testEntities() {
+
+        HtmlResponseIndex page = HtmlResponseIndex.of("<input type=\"hidden\" name=\"claims\" " +
+                "value=\"{&quot;email&quot;:&#39;a&lt;b&gt;&#x27;&apos;&amp;amp;\">");
+
+        Assert.assertEquals(page.getInputValue("claims"), "{\"email\":'a<b>''&amp;");
+    }
+
+    @Test(groups = "wso2.is", description = "Skip the inputs in comments")
+    public void testComments() {
+
+        HtmlResponseIndex page = HtmlResponseIndex.of("<!-- <input type=\"hidden\" name=\"sessionDataKey\" " +
+                "value=\"commented\"> -->\n<input type=\"hidden\" name=\"sessionDataKey\" value=\"actual\">\n" +
+                "<!-- an unterminated comment <input name=\"late\" value=\"x\">");
+
+        Assert.assertEquals(page.getInputValues("sessionDataKey"), Collections.singletonList("actual"));
+        Assert.assertNull(page.getInputValue("late"));
+    }
+
+    @Test(groups = "wso2.is", description = "Read the variables of the scripts without indexing their markup")
+    public void testScriptVariables() {
+
+        HtmlResponseIndex page = HtmlResponseIndex.of("<script type=\"text/javascript\">\n" +
+                "var sessionDataKey = '" + SESSION_DATA_KEY + "';\n" +
+                "var config = {\"authenticators\": \"BasicAuthenticator\", tenant: 'carbon.super'};\n" +
+                "document.write('<input name=\"fromScript\" value=\"x\">');\n" +
+                "</SCRIPT>\n<input name=\"afterScript\" value=\"y\">");
+
+        Assert.assertEquals(page.getScriptVariable("sessionDataKey"), SESSION_DATA_KEY);
+        Assert.assertEquals(page.getScriptVariable("authenticators"), "BasicAuthenticator");
+        Assert.assertEquals(page.getScriptVariable("tenant"), "carbon.super");
+        Assert.assertNull(page.getScriptVariable("missing"));
+        Assert.assertNull(page.getInputValue("fromScript"), "Markup in a script was indexed as an input.");
+        Assert.assertEquals(page.getInputValue("afterScript"), "y");
+    }
+
+    @Test(groups = "wso2.is", description = "Read the URL of the meta refresh tag")
+    public void testMetaRefresh() {
+
+        Assert.assertEquals(HtmlResponseIndex.of("<meta charset=\"utf-8\"><META HTTP-EQUIV=\"Refresh\" " +
+                "CONTENT=\"0; URL='https://localhost:9853/authenticationendpoint/login.do?a=1&amp;b=2'\">")
+                .getMetaRefreshUrl(), "https://localhost:9853/authenticationendpoint/login.do?a=1&b=2");
+        Assert.assertEquals(HtmlResponseIndex.of("<meta http-equiv='refresh' content='5;url=/next'>")
+                .getMetaRefreshUrl(), "/next");
+        Assert.assertNull(HtmlResponseIndex.of("<meta http-equiv=\"refresh\" content=\"30\">").getMetaRefreshUrl());
+    }
+
+    @Test(groups = "wso2.is", description = "Index a response once and keep its entity readable")
+    public void testResponse() throws Exception {
+
+        HttpResponse response = createResponse("<input type=\"hidden\" name=\"sessionDataKey\" value=\"" +
+                SESSION_DATA_KEY + "\">");
+
+        HtmlResponseIndex page = HtmlResponseIndex.of(response);
+        Assert.assertSame(HtmlResponseIndex.of(response), page, "The response was indexed more than once.");
+        Assert.assertEquals(page.getInputValue("sessionDataKey"), SESSION_DATA_KEY);
+        Assert.assertEquals(EntityUtils.toString(response.getEntity()), page.getBody(),
+                "The entity could not be read after indexing.");
+    }
+
+    @Test(groups = "wso2.is", description = "Extract the input values named by the keys of DataExtractUtil")
+    public void testDataExtraction() throws Exception {
+
+        Assert.assertEquals(HtmlResponseIndex.getInputName("name=\"sessionDataKey\""), "sessionDataKey");
+        Assert.assertEquals(HtmlResponseIndex.getInputName("name='SAMLResponse'"), "SAMLResponse");
+        Assert.assertNull(HtmlResponseIndex.getInputName("Authorization Code"));
+
+        // The value is on the line after the name, which the line based extraction could not read.
+        HttpResponse response = createResponse("<form>\n<input type=\"hidden\" name=\"sessionDataKey\"\n" +
+                "       value=\"" + SESSION_DATA_KEY + "\"/>\n</form>");
+        Map<String, Integer> keyPositionMap = new HashMap<>();
+        keyPositionMap.put("name=\"sessionDataKey\"", 1);
+        List<DataExtractUtil.KeyValue> keyValues = DataExtractUtil.extractDataFromResponse(response, keyPositionMap);
+        Assert.assertNotNull(keyValues);
+        Assert.assertEquals(keyValues.get(0).getValue(), SESSION_DATA_KEY);
+
+        response = createResponse("<p>\n<input type=\"hidden\" name=\"sessionDataKeyConsent\" value=\"consent-key\"/>");
+        keyPositionMap = new HashMap<>();
+        keyPositionMap.put("name=\"" + OAuth2Constant.SESSION_DATA_KEY_CONSENT + "\"", 1);
+        keyValues = DataExtractUtil.extractSessionConsentDataFromResponse(response, keyPositionMap);
+        Assert.assertNotNull(keyValues);
+        Assert.assertEquals(keyValues.get(0).getValue(), "consent-key");
+
+        // Keys which do not name an input keep the line based extraction.
+        response = createResponse("<td>Authorization Code</td>\n<td>code-value</td>");
+        keyPositionMap = new HashMap<>();
+        keyPositionMap.put("Authorization Code", 1);
+        keyValues = DataExtractUtil.extractTableRowDataFromResponse(response, keyPositionMap);
+        Assert.assertNotNull(keyValues);
+        Assert.assertEquals(keyValues.get(0).getValue(), "code-value");
+    }
+
+    private static HttpResponse createResponse(String html) {
+
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        // A streamed entity, which can be read only once like the entity of a real response.
+        response.setEntity(new InputStreamEntity(new ByteArrayInputStream(html.getBytes(StandardCharsets.UTF_8)),
+                ContentType.TEXT_HTML.withCharset(StandardCharsets.UTF_8)));
+        return response;
+    }
+}
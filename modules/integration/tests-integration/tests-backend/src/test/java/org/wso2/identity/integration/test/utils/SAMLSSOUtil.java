@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.utils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SAML2Configuration;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SAML2ServiceProvider;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SAMLAssertionConfiguration;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SAMLAttributeProfile;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SAMLResponseSigning;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SingleLogoutProfile;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SingleSignOnProfile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.xml.XMLConstants;
+import javax.xml.crypto.AlgorithmMethod;
+import javax.xml.crypto.KeySelector;
+import javax.xml.crypto.KeySelectorException;
+import javax.xml.crypto.KeySelectorResult;
+import javax.xml.crypto.MarshalException;
+import javax.xml.crypto.XMLCryptoContext;
+import javax.xml.crypto.dsig.XMLSignature;
+import javax.xml.crypto.dsig.XMLSignatureException;
+import javax.xml.crypto.dsig.XMLSignatureFactory;
+import javax.xml.crypto.dsig.dom.DOMValidateContext;
+import javax.xml.crypto.dsig.keyinfo.KeyInfo;
+import javax.xml.crypto.dsig.keyinfo.X509Data;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * Builds and parses the SAML2 Web SSO messages exchanged by a service provider without depending on a deployed
+ * service provider web application, so that the flows can be driven directly over HTTP.
+ */
+public class SAMLSSOUtil {
+
+    public static final String SAML2_PROTOCOL_NS = "urn:oasis:names:tc:SAML:2.0:protocol";
+    public static final String SAML2_ASSERTION_NS = "urn:oasis:names:tc:SAML:2.0:assertion";
+    public static final String HTTP_POST_BINDING = "urn:oasis:names:tc:SAML:2.0:bindings:HTTP-POST";
+    public static final String HTTP_ARTIFACT_BINDING = "urn:oasis:names:tc:SAML:2.0:bindings:HTTP-Artifact";
+    public static final String EMAIL_NAME_ID_FORMAT = "urn:oasis:names:tc:SAML:1.1:nameid-format:emailAddress";
+    public static final String ATTRIBUTE_CONSUMING_SERVICE_INDEX = "1239245949";
+    public static final String STATUS_SUCCESS = "urn:oasis:names:tc:SAML:2.0:status:Success";
+    public static final String RELAY_STATE_PARAM = "RelayState";
+    public static final String SAML_ARTIFACT_PARAM = "SAMLart";
+
+    private static final String SOAP_ENVELOPE_NS = "http://schemas.xmlsoap.org/soap/envelope/";
+    private static final String LOGOUT_REASON_USER = "urn:oasis:names:tc:SAML:2.0:logout:user";
+    private static final Pattern INPUT_TAG = Pattern.compile("<input\\b[^>]*>", Pattern.CASE_INSENSITIVE);
+    private static final Pattern TAG_ATTRIBUTE = Pattern.compile("([\\w:-]+)\\s*=\\s*(['\"])(.*?)\\2",
+            Pattern.DOTALL);
+    private static final Pattern CHARACTER_REFERENCE = Pattern.compile("&(#[xX]?[0-9a-fA-F]+|amp|quot|apos|lt|gt);");
+
+    private SAMLSSOUtil() {
+
+    }
+
+    /**
+     * Build the inbound SAML configuration of a service provider.
+     *
+     * @param issuer                  Issuer of the service provider.
+     * @param assertionConsumerUrl    Assertion consumer URL of the service provider.
+     * @param signingEnabled          Whether the responses should be signed.
+     * @param attributeProfileEnabled Whether the user attributes should be included in the responses.
+     * @return SAML configuration.
+     */
+    public static SAML2Configuration buildSAML2Configuration(String issuer, String assertionConsumerUrl,
+                                                             boolean signingEnabled,
+                                                             boolean attributeProfileEnabled) {
+
+        SAML2ServiceProvider serviceProvider = new SAML2ServiceProvider()
+                .issuer(issuer)
+                .addAssertionConsumerUrl(assertionConsumerUrl)
+                .defaultAssertionConsumerUrl(assertionConsumerUrl)
+                .singleLogoutProfile(new SingleLogoutProfile()
+                        .enabled(true))
+                .responseSigning(new SAMLResponseSigning()
+                        .enabled(signingEnabled))
+                .singleSignOnProfile(new SingleSignOnProfile()
+                        .assertion(new SAMLAssertionConfiguration().nameIdFormat(EMAIL_NAME_ID_FORMAT))
+                        .attributeConsumingServiceIndex(ATTRIBUTE_CONSUMING_SERVICE_INDEX));
+
+        if (attributeProfileEnabled) {
+            serviceProvider.setAttributeProfile(new SAMLAttributeProfile()
+                    .enabled(true)
+                    .alwaysIncludeAttributesInResponse(true));
+        }
+        return new SAML2Configuration().manualConfiguration(serviceProvider);
+    }
+
+    /**
+     * Build an unsigned AuthnRequest.
+     *
+     * @param issuer               Issuer of the service provider.
+     * @param destination          SAML SSO endpoint of the identity provider.
+     * @param assertionConsumerUrl Assertion consumer URL the response should be sent to.
+     * @param protocolBinding      Binding the response should be sent with.
+     * @return AuthnRequest XML.
+     */
+    public static String buildAuthnRequest(String issuer, String destination, String assertionConsumerUrl,
+                                           String protocolBinding) {
+
+        return "<samlp:AuthnRequest xmlns:samlp=\"" + SAML2_PROTOCOL_NS + "\" xmlns:saml=\"" + SAML2_ASSERTION_NS +
+                "\" ID=\"" + newMessageId() + "\" Version=\"2.0\" IssueInstant=\"" + issueInstant() +
+                "\" Destination=\"" + escapeXml(destination) +
+                "\" AssertionConsumerServiceURL=\"" + escapeXml(assertionConsumerUrl) +
+                "\" ProtocolBinding=\"" + protocolBinding +
+                "\" AttributeConsumingServiceIndex=\"" + ATTRIBUTE_CONSUMING_SERVICE_INDEX + "\">" +
+                "<saml:Issuer>" + escapeXml(issuer) + "</saml:Issuer>" +
+                "<samlp:NameIDPolicy Format=\"" + EMAIL_NAME_ID_FORMAT + "\" AllowCreate=\"true\"/>" +
+                "</samlp:AuthnRequest>";
+    }
+
+    /**
+     * Build an unsigned LogoutRequest for the session of the given subject.
+     *
+     * @param issuer       Issuer of the service provider.
+     * @param destination  SAML SSO endpoint of the identity provider.
+     * @param nameId       Name identifier of the subject, as received in the assertion.
+     * @param sessionIndex Session index of the assertion.
+     * @return LogoutRequest XML.
+     */
+    public static String buildLogoutRequest(String issuer, String destination, String nameId, String sessionIndex) {
+
+        return "<samlp:LogoutRequest xmlns:samlp=\"" + SAML2_PROTOCOL_NS + "\" xmlns:saml=\"" + SAML2_ASSERTION_NS +
+                "\" ID=\"" + newMessageId() + "\" Version=\"2.0\" IssueInstant=\"" + issueInstant() +
+                "\" Destination=\"" + escapeXml(destination) + "\" Reason=\"" + LOGOUT_REASON_USER +
+                "\" NotOnOrAfter=\"" + Instant.now().plus(5, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.SECONDS) +
+                "\">" +
+                "<saml:Issuer>" + escapeXml(issuer) + "</saml:Issuer>" +
+                "<saml:NameID Format=\"" + EMAIL_NAME_ID_FORMAT + "\">" + escapeXml(nameId) + "</saml:NameID>" +
+                "<samlp:SessionIndex>" + escapeXml(sessionIndex) + "</samlp:SessionIndex>" +
+                "</samlp:LogoutRequest>";
+    }
+
+    /**
+     * Build an unsigned ArtifactResolve wrapped in a SOAP envelope.
+     *
+     * @param issuer      Issuer of the service provider.
+     * @param destination Artifact resolution endpoint of the identity provider.
+     * @param artifact    Artifact received at the assertion consumer URL.
+     * @return SOAP message.
+     */
+    public static String buildArtifactResolve(String issuer, String destination, String artifact) {
+
+        return "<soapenv:Envelope xmlns:soapenv=\"" + SOAP_ENVELOPE_NS + "\"><soapenv:Body>" +
+                "<samlp:ArtifactResolve xmlns:samlp=\"" + SAML2_PROTOCOL_NS + "\" xmlns:saml=\"" +
+                SAML2_ASSERTION_NS + "\" ID=\"" + newMessageId() + "\" Version=\"2.0\" IssueInstant=\"" +
+                issueInstant() + "\" Destination=\"" + escapeXml(destination) + "\">" +
+                "<saml:Issuer>" + escapeXml(issuer) + "</saml:Issuer>" +
+                "<samlp:Artifact>" + escapeXml(artifact) + "</samlp:Artifact>" +
+                "</samlp:ArtifactResolve></soapenv:Body></soapenv:Envelope>";
+    }
+
+    /**
+     * Encode a message for the HTTP-Redirect binding. The message is deflated and base64 encoded, URL encoding is
+     * left to the caller which builds the query string.
+     *
+     * @param message SAML message XML.
+     * @return Encoded message.
+     */
+    public static String encodeForRedirectBinding(String message) {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFLATED, true);
+        try (DeflaterOutputStream deflaterStream = new DeflaterOutputStream(outputStream, deflater)) {
+            deflaterStream.write(message.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // Writing to an in-memory stream does not fail.
+            throw new IllegalStateException("Error while deflating the SAML message.", e);
+        } finally {
+            deflater.end();
+        }
+        return Base64.getEncoder().encodeToString(outputStream.toByteArray());
+    }
+
+    /**
+     * Encode a message for the HTTP-POST binding.
+     *
+     * @param message SAML message XML.
+     * @return Encoded message.
+     */
+    public static String encodeForPostBinding(String message) {
+
+        return Base64.getEncoder().encodeToString(message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a message received with the HTTP-POST binding.
+     *
+     * @param encodedMessage Base64 encoded message.
+     * @return SAML message XML.
+     */
+    public static String decodePostBindingMessage(String encodedMessage) {
+
+        return new String(Base64.getMimeDecoder().decode(encodedMessage), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get the value of a named input field of an HTML form, such as the SAMLResponse, RelayState or sessionDataKey
+     * fields of the auto-submitted pages of the identity provider.
+     *
+     * @param html Page content.
+     * @param name Name of the input field.
+     * @return Unescaped value of the field or null if the page has no such field.
+     */
+    public static String getFormInputValue(String html, String name) {
+
+        if (html == null) {
+            return null;
+        }
+        Matcher inputMatcher = INPUT_TAG.matcher(html);
+        while (inputMatcher.find()) {
+            Map<String, String> attributes = new HashMap<>();
+            Matcher attributeMatcher = TAG_ATTRIBUTE.matcher(inputMatcher.group());
+            while (attributeMatcher.find()) {
+                attributes.put(attributeMatcher.group(1).toLowerCase(), attributeMatcher.group(3));
+            }
+            if (name.equals(attributes.get("name"))) {
+                return unescapeHtml(attributes.get("value"));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parse a SAML message. All the "ID" attributes are registered as XML IDs so that the same-document references
+     * of the enveloped signatures can be resolved.
+     *
+     * @param message SAML message XML.
+     * @return DOM document.
+     * @throws ParserConfigurationException If the parser could not be created.
+     * @throws SAXException                 If the message is not well-formed.
+     * @throws IOException                  If an error occurred while reading the message.
+     */
+    public static Document parseMessage(String message)
+            throws ParserConfigurationException, SAXException, IOException {
+
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        factory.setExpandEntityReferences(false);
+        Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(message)));
+        NodeList elements = document.getElementsByTagNameNS("*", "*");
+        for (int i = 0; i < elements.getLength(); i++) {
+            Element element = (Element) elements.item(i);
+            if (element.hasAttribute("ID")) {
+                element.setIdAttribute("ID", true);
+            }
+        }
+        return document;
+    }
+
+    /**
+     * Get the top level status code of a SAML response.
+     *
+     * @param document Parsed response.
+     * @return Status code value or null if the response has no status.
+     */
+    public static String getStatusCode(Document document) {
+
+        Element statusCode = getFirstElement(document, SAML2_PROTOCOL_NS, "StatusCode");
+        return statusCode == null ? null : statusCode.getAttribute("Value");
+    }
+
+    /**
+     * Get the name identifier of the subject of the first assertion of a SAML response.
+     *
+     * @param document Parsed response.
+     * @return Name identifier or null if the response has no assertion.
+     */
+    public static String getNameId(Document document) {
+
+        Element nameId = getFirstElement(document, SAML2_ASSERTION_NS, "NameID");
+        return nameId == null ? null : nameId.getTextContent().trim();
+    }
+
+    /**
+     * Get the session index of the first authentication statement of a SAML response.
+     *
+     * @param document Parsed response.
+     * @return Session index or null if the response has no authentication statement.
+     */
+    public static String getSessionIndex(Document document) {
+
+        Element authnStatement = getFirstElement(document, SAML2_ASSERTION_NS, "AuthnStatement");
+        return authnStatement == null ? null : StringUtils.defaultIfEmpty(
+                authnStatement.getAttribute("SessionIndex"), null);
+    }
+
+    /**
+     * Validate all the XML signatures of a SAML message. A signature is only accepted when it is made with the key
+     * of a certificate in the given trust store.
+     *
+     * @param document   Parsed message.
+     * @param trustStore Trust store containing the signing certificate of the identity provider.
+     * @return Number of validated signatures. Zero when the message is not signed.
+     * @throws MarshalException      If a signature element is malformed.
+     * @throws XMLSignatureException If a signature could not be validated.
+     */
+    public static int validateSignatures(Document document, KeyStore trustStore)
+            throws MarshalException, XMLSignatureException {
+
+        NodeList signatures = document.getElementsByTagNameNS(XMLSignature.XMLNS, "Signature");
+        XMLSignatureFactory signatureFactory = XMLSignatureFactory.getInstance("DOM");
+        KeySelector keySelector = new TrustedX509KeySelector(trustStore);
+        for (int i = 0; i < signatures.getLength(); i++) {
+            DOMValidateContext validateContext = new DOMValidateContext(keySelector, signatures.item(i));
+            XMLSignature signature = signatureFactory.unmarshalXMLSignature(validateContext);
+            if (!signature.validate(validateContext)) {
+                throw new XMLSignatureException("Invalid signature on the SAML message " +
+                        document.getDocumentElement().getLocalName());
+            }
+        }
+        return signatures.getLength();
+    }
+
+    private static Element getFirstElement(Document document, String namespace, String localName) {
+
+        NodeList elements = document.getElementsByTagNameNS(namespace, localName);
+        return elements.getLength() == 0 ? null : (Element) elements.item(0);
+    }
+
+    private static String newMessageId() {
+
+        // Message identifiers should not start with a digit to be valid xsd:IDs.
+        return "_" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private static String issueInstant() {
+
+        return Instant.now().truncatedTo(ChronoUnit.SECONDS).toString();
+    }
+
+    private static String escapeXml(String value) {
+
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static String unescapeHtml(String value) {
+
+        if (value == null || value.indexOf('&') < 0) {
+            return value;
+        }
+        Matcher matcher = CHARACTER_REFERENCE.matcher(value);
+        StringBuilder unescaped = new StringBuilder(value.length());
+        while (matcher.find()) {
+            String reference = matcher.group(1);
+            String replacement;
+            switch (reference) {
+                case "amp":
+                    replacement = "&";
+                    break;
+                case "quot":
+                    replacement = "\"";
+                    break;
+                case "apos":
+                    replacement = "'";
+                    break;
+                case "lt":
+                    replacement = "<";
+                    break;
+                case "gt":
+                    replacement = ">";
+                    break;
+                default:
+                    boolean hex = reference.length() > 1 && (reference.charAt(1) == 'x' || reference.charAt(1) == 'X');
+                    int codePoint = Integer.parseInt(reference.substring(hex ? 2 : 1), hex ? 16 : 10);
+                    replacement = new String(Character.toChars(codePoint));
+            }
+            matcher.appendReplacement(unescaped, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(unescaped);
+        return unescaped.toString();
+    }
+
+    /**
+     * Selects the key of the X509 certificate embedded in the signature, provided that the certificate is present in
+     * the trust store.
+     */
+    private static class TrustedX509KeySelector extends KeySelector {
+
+        private final KeyStore trustStore;
+
+        TrustedX509KeySelector(KeyStore trustStore) {
+
+            this.trustStore = trustStore;
+        }
+
+        @Override
+        public KeySelectorResult select(KeyInfo keyInfo, Purpose purpose, AlgorithmMethod method,
+                                        XMLCryptoContext context) throws KeySelectorException {
+
+            if (keyInfo == null) {
+                throw new KeySelectorException("The signature does not contain a key info.");
+            }
+            for (Object keyInfoContent : keyInfo.getContent()) {
+                if (!(keyInfoContent instanceof X509Data)) {
+                    continue;
+                }
+                for (Object x509Content : ((X509Data) keyInfoContent).getContent()) {
+                    if (!(x509Content instanceof X509Certificate)) {
+                        continue;
+                    }
+                    X509Certificate certificate = (X509Certificate) x509Content;
+                    try {
+                        if (trustStore.getCertificateAlias(certificate) != null) {
+                            Key key = certificate.getPublicKey();
+                            return () -> key;
+                        }
+                    } catch (KeyStoreException e) {
+                        throw new KeySelectorException("Error while looking up the signing certificate.", e);
+                    }
+                }
+            }
+            throw new KeySelectorException("The signing certificate is not trusted.");
+        }
+    }
+}
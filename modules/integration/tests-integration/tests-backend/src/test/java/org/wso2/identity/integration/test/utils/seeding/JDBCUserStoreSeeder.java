@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.utils.seeding;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.ToIntFunction;
+
+/**
+ * Seeds users, groups and group memberships into the tables of a JDBC user store with batched inserts.
+ * <p>
+ * The database should not be held exclusively by a running server. For the embedded H2 databases, connect with
+ * AUTO_SERVER=TRUE or seed before the server starts.
+ */
+public class JDBCUserStoreSeeder {
+
+    private static final Log LOG = LogFactory.getLog(JDBCUserStoreSeeder.class);
+
+    private static final String PASSWORD_DIGEST_ALGORITHM = "SHA-256";
+    private static final String ADD_USER_SQL = "INSERT INTO UM_USER (UM_USER_NAME, UM_USER_PASSWORD, " +
+            "UM_SALT_VALUE, UM_REQUIRE_CHANGE, UM_CHANGED_TIME, UM_TENANT_ID) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String ADD_USER_WITH_ID_SQL = "INSERT INTO UM_USER (UM_USER_ID, UM_USER_NAME, " +
+            "UM_USER_PASSWORD, UM_SALT_VALUE, UM_REQUIRE_CHANGE, UM_CHANGED_TIME, UM_TENANT_ID) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String GET_USERS_SQL = "SELECT UM_ID, UM_USER_NAME FROM UM_USER WHERE UM_TENANT_ID = ? " +
+            "AND UM_USER_NAME LIKE ?";
+    private static final String ADD_ROLE_SQL = "INSERT INTO UM_ROLE (UM_ROLE_NAME, UM_TENANT_ID) VALUES (?, ?)";
+    private static final String GET_ROLES_SQL = "SELECT UM_ID, UM_ROLE_NAME FROM UM_ROLE WHERE UM_TENANT_ID = ? " +
+            "AND UM_ROLE_NAME LIKE ?";
+    private static final String ADD_USER_ATTRIBUTE_SQL = "INSERT INTO UM_USER_ATTRIBUTE (UM_ATTR_NAME, " +
+            "UM_ATTR_VALUE, UM_PROFILE_ID, UM_USER_ID, UM_TENANT_ID) VALUES (?, ?, ?, ?, ?)";
+    private static final String ADD_USER_ROLE_SQL = "INSERT INTO UM_USER_ROLE (UM_ROLE_ID, UM_USER_ID, " +
+            "UM_TENANT_ID) VALUES (?, ?, ?)";
+
+    private final Connection connection;
+    private final int tenantId;
+
+    /**
+     * @param connection Connection to the user store database. The seeder manages the transactions of the
+     *                   connection, but does not close it.
+     * @param tenantId   Tenant id of the user store.
+     */
+    public JDBCUserStoreSeeder(Connection connection, int tenantId) {
+
+        this.connection = connection;
+        this.tenantId = tenantId;
+    }
+
+    /**
+     * Seed the users and groups of the given spec.
+     *
+     * @param spec Seed spec.
+     * @return Summary of the seeding.
+     * @throws SQLException             If the data cannot be inserted. The batch being inserted is rolled back.
+     * @throws NoSuchAlgorithmException If the password digest algorithm is not available.
+     */
+    public SeedResult seed(UserStoreSeedSpec spec) throws SQLException, NoSuchAlgorithmException {
+
+        long startTime = System.nanoTime();
+        SeedDataGenerator generator = new SeedDataGenerator(spec);
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            insertUsers(spec, generator);
+            int[] userIds = loadIds(GET_USERS_SQL, spec.getUserNamePrefix(), spec.getUserCount(),
+                    generator::getUserIndex);
+            insertRoles(spec, generator);
+            int[] roleIds = loadIds(GET_ROLES_SQL, spec.getGroupNamePrefix(), spec.getGroupCount(),
+                    generator::getGroupIndex);
+            long membershipCount = insertAttributesAndMemberships(spec, generator, userIds, roleIds);
+
+            SeedResult result = new SeedResult(spec.getUserCount(), spec.getGroupCount(), membershipCount,
+                    Duration.ofNanos(System.nanoTime() - startTime));
+            LOG.info("Seeded the JDBC user store with " + result + ".");
+            return result;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void insertUsers(UserStoreSeedSpec spec, SeedDataGenerator generator)
+            throws SQLException, NoSuchAlgorithmException {
+
+        boolean uniqueIdSchema = hasColumn("UM_USER", "UM_USER_ID");
+        // The password is hashed once with a single salt, since hashing it for each user would dominate the time.
+        String salt = generateSalt(spec.getRandomSeed());
+        String password = hashPassword(spec.getPassword(), salt);
+        Timestamp changedTime = new Timestamp(System.currentTimeMillis());
+
+        try (PreparedStatement statement = connection.prepareStatement(uniqueIdSchema ? ADD_USER_WITH_ID_SQL :
+                ADD_USER_SQL)) {
+            for (int i = 0; i < spec.getUserCount(); i++) {
+                SeedUser user = generator.generateUser(i);
+                int parameter = 1;
+                if (uniqueIdSchema) {
+                    statement.setString(parameter++, user.getUserId());
+                }
+                statement.setString(parameter++, user.getUserName());
+                statement.setString(parameter++, password);
+                statement.setString(parameter++, salt);
+                statement.setBoolean(parameter++, false);
+                statement.setTimestamp(parameter++, changedTime);
+                statement.setInt(parameter, tenantId);
+                statement.addBatch();
+                if ((i + 1) % spec.getBatchSize() == 0) {
+                    executeBatch(statement);
+                    LOG.info("Seeded " + (i + 1) + " of " + spec.getUserCount() + " JDBC users.");
+                }
+            }
+            executeBatch(statement);
+        }
+    }
+
+    private void insertRoles(UserStoreSeedSpec spec, SeedDataGenerator generator) throws SQLException {
+
+        try (PreparedStatement statement = connection.prepareStatement(ADD_ROLE_SQL)) {
+            for (int i = 0; i < spec.getGroupCount(); i++) {
+                statement.setString(1, generator.getGroupName(i));
+                statement.setInt(2, tenantId);
+                statement.addBatch();
+                if ((i + 1) % spec.getBatchSize() == 0) {
+                    executeBatch(statement);
+                }
+            }
+            executeBatch(statement);
+        }
+    }
+
+    private long insertAttributesAndMemberships(UserStoreSeedSpec spec, SeedDataGenerator generator, int[] userIds,
+                                                int[] roleIds) throws SQLException {
+
+        long membershipCount = 0;
+        try (PreparedStatement attributeStatement = connection.prepareStatement(ADD_USER_ATTRIBUTE_SQL);
+             PreparedStatement roleStatement = connection.prepareStatement(ADD_USER_ROLE_SQL)) {
+            for (int i = 0; i < spec.getUserCount(); i++) {
+                SeedUser user = generator.generateUser(i);
+                for (Map.Entry<String, String> attribute : user.getAttributes().entrySet()) {
+                    attributeStatement.setString(1, attribute.getKey());
+                    attributeStatement.setString(2, attribute.getValue());
+                    attributeStatement.setString(3, spec.getProfileName());
+                    attributeStatement.setInt(4, userIds[i]);
+                    attributeStatement.setInt(5, tenantId);
+                    attributeStatement.addBatch();
+                }
+                for (int group : user.getGroupIndexes()) {
+                    roleStatement.setInt(1, roleIds[group]);
+                    roleStatement.setInt(2, userIds[i]);
+                    roleStatement.setInt(3, tenantId);
+                    roleStatement.addBatch();
+                    membershipCount++;
+                }
+                if ((i + 1) % spec.getBatchSize() == 0) {
+                    attributeStatement.executeBatch();
+                    roleStatement.executeBatch();
+                    connection.commit();
+                }
+            }
+            attributeStatement.executeBatch();
+            roleStatement.executeBatch();
+            connection.commit();
+        }
+        return membershipCount;
+    }
+
+    /**
+     * Load the generated ids of the seeded rows, indexed by the index of the seeded user or group.
+     */
+    private int[] loadIds(String query, String namePrefix, int count, ToIntFunction<String> indexResolver)
+            throws SQLException {
+
+        int[] ids = new int[count];
+        Arrays.fill(ids, -1);
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setInt(1, tenantId);
+            statement.setString(2, namePrefix + "%");
+            statement.setFetchSize(1000);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    int index = indexResolver.applyAsInt(resultSet.getString(2));
+                    if (index >= 0) {
+                        ids[index] = resultSet.getInt(1);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            if (ids[i] < 0) {
+                throw new SQLException("Could not find the seeded row " + i + " with the prefix " + namePrefix);
+            }
+        }
+        return ids;
+    }
+
+    private void executeBatch(PreparedStatement statement) throws SQLException {
+
+        statement.executeBatch();
+        connection.commit();
+    }
+
+    private boolean hasColumn(String table, String column) throws SQLException {
+
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String tableName : new String[]{table, table.toLowerCase()}) {
+            for (String columnName : new String[]{column, column.toLowerCase()}) {
+                try (ResultSet resultSet = metaData.getColumns(null, null, tableName, columnName)) {
+                    if (resultSet.next()) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String generateSalt(long randomSeed) {
+
+        byte[] salt = new byte[16];
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        for (int i = 0; i < salt.length; i++) {
+            salt[i] = (byte) random.nextInt(256);
+        }
+        return Base64.getEncoder().encodeToString(salt);
+    }
+
+    /**
+     * Hash the password the way the JDBC user store does with the default SHA-256 digest and a stored salt.
+     */
+    private static String hashPassword(String password, String salt) throws NoSuchAlgorithmException {
+
+        MessageDigest messageDigest = MessageDigest.getInstance(PASSWORD_DIGEST_ALGORITHM);
+        byte[] digest = messageDigest.digest((password + salt).getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.utils.seeding;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.directory.api.ldap.model.entry.Entry;
+import org.apache.directory.api.ldap.model.name.Dn;
+import org.apache.directory.server.core.api.CoreSession;
+import org.apache.directory.server.core.api.DirectoryService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Seeds users and groups into an embedded ApacheDS directory, such as the one of
+ * {@link org.wso2.identity.integration.test.utils.ExternalLDAPServer}. The entries are added through the admin
+ * session of the {@link DirectoryService}, which skips the LDAP protocol and the connection handling, while still
+ * running the directory interceptors that maintain the operational attributes and the indexes.
+ */
+public class LDAPUserStoreSeeder {
+
+    private static final Log LOG = LogFactory.getLog(LDAPUserStoreSeeder.class);
+
+    public static final String DEFAULT_PARTITION_SUFFIX = "dc=WSO2,dc=ORG";
+    public static final String DEFAULT_USER_ID_ATTRIBUTE = "scimId";
+    private static final String PASSWORD_ALGORITHM = "SHA";
+    private static final String[] USER_OBJECT_CLASSES = {"identityPerson", "inetOrgPerson", "top",
+            "organizationalPerson", "wso2Person", "scimPerson", "person"};
+
+    private final DirectoryService directoryService;
+    private final String partitionSuffix;
+    private final String userIdAttribute;
+
+    public LDAPUserStoreSeeder(DirectoryService directoryService) {
+
+        this(directoryService, DEFAULT_PARTITION_SUFFIX, DEFAULT_USER_ID_ATTRIBUTE);
+    }
+
+    /**
+     * @param directoryService Directory service to seed.
+     * @param partitionSuffix  Suffix of the partition holding the "Users" and "Groups" organizational units.
+     * @param userIdAttribute  Attribute the user store reads the unique user id from.
+     */
+    public LDAPUserStoreSeeder(DirectoryService directoryService, String partitionSuffix, String userIdAttribute) {
+
+        this.directoryService = directoryService;
+        this.partitionSuffix = partitionSuffix;
+        this.userIdAttribute = userIdAttribute;
+    }
+
+    /**
+     * Create the entry of the suffix and its "Users" and "Groups" organizational units if they do not exist, so
+     * that a user store can be seeded into an organizational unit of its own within the partition.
+     *
+     * @throws Exception If an entry cannot be added.
+     */
+    public void createContainers() throws Exception {
+
+        CoreSession session = directoryService.getAdminSession();
+        for (String dn : new String[]{partitionSuffix, "ou=Users," + partitionSuffix,
+                "ou=Groups," + partitionSuffix}) {
+            Dn containerDn = new Dn(dn);
+            if (session.exists(containerDn)) {
+                continue;
+            }
+            Entry entry = directoryService.newEntry(containerDn);
+            entry.add("objectClass", "organizationalUnit", "top");
+            entry.add("ou", containerDn.getRdn().getValue());
+            session.add(entry);
+        }
+    }
+
+    /**
+     * Seed the users and groups of the given spec.
+     *
+     * @param spec Seed spec.
+     * @return Summary of the seeding.
+     * @throws Exception If an entry cannot be added.
+     */
+    public SeedResult seed(UserStoreSeedSpec spec) throws Exception {
+
+        if (spec.getGroupCount() > spec.getUserCount()) {
+            throw new IllegalArgumentException("A group of names needs at least one member. The group count " +
+                    spec.getGroupCount() + " should not exceed the user count " + spec.getUserCount());
+        }
+
+        long startTime = System.nanoTime();
+        SeedDataGenerator generator = new SeedDataGenerator(spec);
+        CoreSession session = directoryService.getAdminSession();
+        byte[] password = hashPassword(spec.getPassword());
+
+        // Members of each group, as user indexes, collected while the users are added.
+        int[][] groupMembers = new int[spec.getGroupCount()][];
+        int[] groupSizes = new int[spec.getGroupCount()];
+        long membershipCount = 0;
+
+        for (int i = 0; i < spec.getUserCount(); i++) {
+            SeedUser user = generator.generateUser(i);
+            session.add(createUserEntry(user, password));
+            for (int group : user.getGroupIndexes()) {
+                if (groupMembers[group] == null) {
+                    groupMembers[group] = new int[16];
+                } else if (groupSizes[group] == groupMembers[group].length) {
+                    groupMembers[group] = Arrays.copyOf(groupMembers[group], groupSizes[group] * 2);
+                }
+                groupMembers[group][groupSizes[group]++] = i;
+                membershipCount++;
+            }
+            if ((i + 1) % spec.getBatchSize() == 0) {
+                LOG.info("Seeded " + (i + 1) + " of " + spec.getUserCount() + " LDAP users.");
+            }
+        }
+
+        for (int group = 0; group < spec.getGroupCount(); group++) {
+            Entry groupEntry = directoryService.newEntry(new Dn("cn=" + generator.getGroupName(group) +
+                    ",ou=Groups," + partitionSuffix));
+            groupEntry.add("objectClass", "groupOfNames", "top");
+            groupEntry.add("cn", generator.getGroupName(group));
+            String[] members = new String[groupSizes[group]];
+            for (int member = 0; member < groupSizes[group]; member++) {
+                members[member] = getUserDn(generator.getUserName(groupMembers[group][member]));
+            }
+            groupEntry.add("member", members);
+            session.add(groupEntry);
+            // Release the member list of the group as soon as it is written.
+            groupMembers[group] = null;
+        }
+        directoryService.sync();
+
+        SeedResult result = new SeedResult(spec.getUserCount(), spec.getGroupCount(), membershipCount,
+                Duration.ofNanos(System.nanoTime() - startTime));
+        LOG.info("Seeded the LDAP user store with " + result + ".");
+        return result;
+    }
+
+    /**
+     * Seed a range of the users of the given spec without their group memberships. Used to grow a population in
+     * steps, since the user names are padded to the user count of the spec and stay the same across the steps.
+     *
+     * @param spec      Seed spec.
+     * @param fromIndex Index of the first user to seed, inclusive.
+     * @param toIndex   Index of the last user to seed, exclusive.
+     * @return Summary of the seeding.
+     * @throws Exception If an entry cannot be added.
+     */
+    public SeedResult seedUsers(UserStoreSeedSpec spec, int fromIndex, int toIndex) throws Exception {
+
+        if (fromIndex < 0 || toIndex > spec.getUserCount() || fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid user range [" + fromIndex + ", " + toIndex +
+                    ") for the user count " + spec.getUserCount());
+        }
+
+        long startTime = System.nanoTime();
+        SeedDataGenerator generator = new SeedDataGenerator(spec);
+        CoreSession session = directoryService.getAdminSession();
+        byte[] password = hashPassword(spec.getPassword());
+        for (int i = fromIndex; i < toIndex; i++) {
+            session.add(createUserEntry(generator.generateUser(i), password));
+            if ((i + 1 - fromIndex) % spec.getBatchSize() == 0) {
+                LOG.info("Seeded " + (i + 1 - fromIndex) + " of " + (toIndex - fromIndex) + " LDAP users.");
+            }
+        }
+        directoryService.sync();
+
+        SeedResult result = new SeedResult(toIndex - fromIndex, 0, 0, Duration.ofNanos(System.nanoTime() -
+                startTime));
+        LOG.info("Seeded the LDAP user store with " + result + ".");
+        return result;
+    }
+
+    private Entry createUserEntry(SeedUser user, byte[] password) throws Exception {
+
+        Entry entry = directoryService.newEntry(new Dn(getUserDn(user.getUserName())));
+        entry.add("objectClass", USER_OBJECT_CLASSES);
+        entry.add("uid", user.getUserName());
+        entry.add("cn", user.getUserName());
+        entry.add(userIdAttribute, user.getUserId());
+        for (Map.Entry<String, String> attribute : user.getAttributes().entrySet()) {
+            entry.add(attribute.getKey(), attribute.getValue());
+        }
+        entry.add("userPassword", password);
+        return entry;
+    }
+
+    private String getUserDn(String userName) {
+
+        return "uid=" + userName + ",ou=Users," + partitionSuffix;
+    }
+
+    /**
+     * Hash the password once for all the users, in the format the user store writes it.
+     */
+    private static byte[] hashPassword(String password) throws Exception {
+
+        MessageDigest messageDigest = MessageDigest.getInstance(PASSWORD_ALGORITHM);
+        byte[] digest = messageDigest.digest(password.getBytes(StandardCharsets.UTF_8));
+        return ("{" + PASSWORD_ALGORITHM + "}" + Base64.getEncoder().encodeToString(digest))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
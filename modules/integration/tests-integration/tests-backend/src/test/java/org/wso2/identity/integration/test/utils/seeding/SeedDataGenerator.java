@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.utils.seeding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Generates the users and group memberships of a {@link UserStoreSeedSpec}. A user is generated from its index and
+ * the random seed only, so that the users can be generated in any order and as many times as needed without keeping
+ * them in memory.
+ */
+public class SeedDataGenerator {
+
+    private static final String[] GIVEN_NAMES = {"James", "Mary", "Wei", "Priya", "Mohammed", "Maria", "John",
+            "Anna", "Kasun", "Nimali", "David", "Fatima", "Luis", "Sofia", "Hiroshi", "Yuki", "Michael", "Elena",
+            "Ahmed", "Olga", "Daniel", "Aisha", "Carlos", "Chen", "Robert", "Amara", "Lucas", "Emma", "Arjun",
+            "Ines", "Thomas", "Sara", "Kenji", "Grace", "Omar", "Julia", "Ravi", "Noah", "Leila", "Peter"};
+    private static final String[] LAST_NAMES = {"Smith", "Perera", "Wang", "Kumar", "Garcia", "Silva", "Johnson",
+            "Fernando", "Li", "Brown", "Khan", "Muller", "Rossi", "Tanaka", "Jones", "Ivanova", "Nguyen", "Lopez",
+            "Williams", "Dissanayake", "Zhang", "Martin", "Sato", "Ali", "Kim", "Jayasinghe", "Davis", "Novak",
+            "Costa", "Mendis", "Wilson", "Haddad", "Moreau", "Singh", "Cohen", "Bakker", "Okafor", "Larsen"};
+    private static final String[] COUNTRIES = {"United States", "India", "Sri Lanka", "United Kingdom",
+            "Germany", "Brazil", "Japan", "Australia", "France", "Canada", "Singapore", "Spain"};
+    // Share of the users in each of the above countries, in percentages.
+    private static final int[] COUNTRY_WEIGHTS = {30, 18, 12, 9, 7, 5, 5, 4, 4, 3, 2, 1};
+    private static final String EMAIL_DOMAIN = "example.com";
+    private static final long INDEX_MIXER = 0x9E3779B97F4A7C15L;
+
+    private final UserStoreSeedSpec spec;
+    private final String indexFormat;
+    private final String groupIndexFormat;
+    private final double[] groupCumulativeWeights;
+    private final int[] countryCumulativeWeights;
+
+    public SeedDataGenerator(UserStoreSeedSpec spec) {
+
+        this.spec = spec;
+        this.indexFormat = "%0" + String.valueOf(Math.max(spec.getUserCount() - 1, 0)).length() + "d";
+        this.groupIndexFormat = "%0" + String.valueOf(Math.max(spec.getGroupCount() - 1, 0)).length() + "d";
+        this.groupCumulativeWeights = buildZipfCumulativeWeights(spec.getGroupCount(), spec.getGroupSizeSkew());
+        this.countryCumulativeWeights = new int[COUNTRY_WEIGHTS.length];
+        int total = 0;
+        for (int i = 0; i < COUNTRY_WEIGHTS.length; i++) {
+            total += COUNTRY_WEIGHTS[i];
+            countryCumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * Generate the user of the given index.
+     *
+     * @param index Index of the user, from 0 to the user count of the spec.
+     * @return User.
+     */
+    public SeedUser generateUser(int index) {
+
+        SplittableRandom random = new SplittableRandom(spec.getRandomSeed() ^ (index * INDEX_MIXER));
+        String userName = getUserName(index);
+        String givenName = pickSkewed(random, GIVEN_NAMES);
+        String lastName = pickSkewed(random, LAST_NAMES);
+
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("givenName", givenName);
+        attributes.put("sn", lastName);
+        attributes.put("displayName", givenName + " " + lastName);
+        attributes.put("mail", (givenName + "." + lastName + "." + index).toLowerCase(Locale.ENGLISH) + "@" +
+                EMAIL_DOMAIN);
+        attributes.put("country", pickCountry(random));
+        attributes.put("mobile", "+94" + (700000000L + random.nextLong(100000000L)));
+
+        String userId = UUID.nameUUIDFromBytes((spec.getRandomSeed() + ":" + userName)
+                .getBytes(StandardCharsets.UTF_8)).toString();
+        return new SeedUser(index, userName, userId, attributes, pickGroups(random, index));
+    }
+
+    public String getUserName(int index) {
+
+        return spec.getUserNamePrefix() + String.format(indexFormat, index);
+    }
+
+    public String getGroupName(int groupIndex) {
+
+        return spec.getGroupNamePrefix() + String.format(groupIndexFormat, groupIndex);
+    }
+
+    /**
+     * Get the index of a seeded user from its user name.
+     *
+     * @param userName User name.
+     * @return Index of the user, or -1 if the user name is not of a seeded user.
+     */
+    public int getUserIndex(String userName) {
+
+        return parseIndex(userName, spec.getUserNamePrefix(), spec.getUserCount());
+    }
+
+    /**
+     * Get the index of a seeded group from its name.
+     *
+     * @param groupName Group name.
+     * @return Index of the group, or -1 if the name is not of a seeded group.
+     */
+    public int getGroupIndex(String groupName) {
+
+        return parseIndex(groupName, spec.getGroupNamePrefix(), spec.getGroupCount());
+    }
+
+    private int[] pickGroups(SplittableRandom random, int index) {
+
+        int groupCount = spec.getGroupCount();
+        if (groupCount <= 0) {
+            return new int[0];
+        }
+        int membershipCount = Math.min(nextPoisson(random, spec.getAverageGroupsPerUser()), groupCount);
+        // The first users are spread over all the groups, so that no group is left without a member.
+        boolean anchored = index < groupCount;
+        int[] groups = new int[membershipCount + (anchored ? 1 : 0)];
+        int size = 0;
+        if (anchored) {
+            groups[size++] = index;
+        }
+        int attempts = 0;
+        while (size < groups.length && attempts < groups.length * 10) {
+            int group = pickGroup(random);
+            attempts++;
+            if (!contains(groups, size, group)) {
+                groups[size++] = group;
+            }
+        }
+        int[] result = size == groups.length ? groups : Arrays.copyOf(groups, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private int pickGroup(SplittableRandom random) {
+
+        double value = random.nextDouble() * groupCumulativeWeights[groupCumulativeWeights.length - 1];
+        int position = Arrays.binarySearch(groupCumulativeWeights, value);
+        return position >= 0 ? position : Math.min(-position - 1, groupCumulativeWeights.length - 1);
+    }
+
+    private String pickCountry(SplittableRandom random) {
+
+        int value = random.nextInt(countryCumulativeWeights[countryCumulativeWeights.length - 1]);
+        for (int i = 0; i < countryCumulativeWeights.length; i++) {
+            if (value < countryCumulativeWeights[i]) {
+                return COUNTRIES[i];
+            }
+        }
+        return COUNTRIES[COUNTRIES.length - 1];
+    }
+
+    /**
+     * Pick a value favouring the start of the array, so that some names are much more common than others.
+     */
+    private static String pickSkewed(SplittableRandom random, String[] values) {
+
+        double value = random.nextDouble();
+        return values[(int) (value * value * values.length)];
+    }
+
+    private static int nextPoisson(SplittableRandom random, double mean) {
+
+        if (mean <= 0) {
+            return 0;
+        }
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    private static double[] buildZipfCumulativeWeights(int count, double skew) {
+
+        double[] weights = new double[Math.max(count, 1)];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += 1.0 / Math.pow(i + 1, skew);
+            weights[i] = total;
+        }
+        return weights;
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int parseIndex(String name, String prefix, int count) {
+
+        if (name == null || !name.startsWith(prefix) || name.length() == prefix.length()) {
+            return -1;
+        }
+        String suffix = name.substring(prefix.length());
+        for (int i = 0; i < suffix.length(); i++) {
+            if (!Character.isDigit(suffix.charAt(i))) {
+                return -1;
+            }
+        }
+        try {
+            int index = Integer.parseInt(suffix);
+            return index < count ? index : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
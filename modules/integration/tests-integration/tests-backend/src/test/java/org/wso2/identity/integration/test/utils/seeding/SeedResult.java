@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.utils.seeding;
+
+import java.time.Duration;
+
+/**
+ * Summary of a seeding run.
+ */
+public class SeedResult {
+
+    private final int userCount;
+    private final int groupCount;
+    private final long membershipCount;
+    private final Duration elapsedTime;
+
+    public SeedResult(int userCount, int groupCount, long membershipCount, Duration elapsedTime) {
+
+        this.userCount = userCount;
+        this.groupCount = groupCount;
+        this.membershipCount = membershipCount;
+        this.elapsedTime = elapsedTime;
+    }
+
+    public int getUserCount() {
+
+        return userCount;
+    }
+
+    public int getGroupCount() {
+
+        return groupCount;
+    }
+
+    public long getMembershipCount() {
+
+        return membershipCount;
+    }
+
+    public Duration getElapsedTime() {
+
+        return elapsedTime;
+    }
+
+    @Override
+    public String toString() {
+
+        return userCount + " users, " + groupCount + " groups and " + membershipCount + " memberships in " +
+                elapsedTime.toMillis() + " ms";
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.utils.seeding;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * A user generated by the {@link SeedDataGenerator}.
+ */
+public class SeedUser {
+
+    private final int index;
+    private final String userName;
+    private final String userId;
+    private final Map<String, String> attributes;
+    private final int[] groupIndexes;
+
+    public SeedUser(int index, String userName, String userId, Map<String, String> attributes, int[] groupIndexes) {
+
+        this.index = index;
+        this.userName = userName;
+        this.userId = userId;
+        this.attributes = Collections.unmodifiableMap(attributes);
+        this.groupIndexes = groupIndexes;
+    }
+
+    public int getIndex() {
+
+        return index;
+    }
+
+    public String getUserName() {
+
+        return userName;
+    }
+
+    public String getUserId() {
+
+        return userId;
+    }
+
+    /**
+     * Get the user store attributes of the user, keyed by the attribute names of the default claim mappings.
+     *
+     * @return Attributes.
+     */
+    public Map<String, String> getAttributes() {
+
+        return attributes;
+    }
+
+    /**
+     * Get the indexes of the groups the user belongs to.
+     *
+     * @return Group indexes.
+     */
+    public int[] getGroupIndexes() {
+
+        return groupIndexes;
+    }
+}
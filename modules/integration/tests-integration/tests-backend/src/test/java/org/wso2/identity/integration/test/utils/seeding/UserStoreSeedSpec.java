@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.utils.seeding;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Shape of the data seeded into a user store. The values can be given with the setters, or read from the "seed.*"
+ * system properties with {@link #fromSystemProperties()}.
+ */
+public class UserStoreSeedSpec {
+
+    public static final String USER_COUNT_PROPERTY = "seed.user.count";
+    public static final String GROUP_COUNT_PROPERTY = "seed.group.count";
+    public static final String GROUPS_PER_USER_PROPERTY = "seed.groups.per.user";
+    public static final String RANDOM_SEED_PROPERTY = "seed.random.seed";
+    public static final String BATCH_SIZE_PROPERTY = "seed.batch.size";
+
+    private int userCount = 1000;
+    private int groupCount = 50;
+    private double averageGroupsPerUser = 3.0;
+    private double groupSizeSkew = 1.0;
+    private String userNamePrefix = "seeduser";
+    private String groupNamePrefix = "seedgroup";
+    private String password = "Wso2@test123";
+    private String profileName = "default";
+    private long randomSeed = 20260101L;
+    private int batchSize = 1000;
+
+    /**
+     * Build the seed spec from the system properties. Seeding is disabled unless the user count is set.
+     *
+     * @return Seed spec.
+     */
+    public static UserStoreSeedSpec fromSystemProperties() {
+
+        UserStoreSeedSpec spec = new UserStoreSeedSpec();
+        spec.userCount(Integer.parseInt(getProperty(USER_COUNT_PROPERTY, "0")));
+        spec.groupCount(Integer.parseInt(getProperty(GROUP_COUNT_PROPERTY, String.valueOf(spec.groupCount))));
+        spec.averageGroupsPerUser(Double.parseDouble(getProperty(GROUPS_PER_USER_PROPERTY,
+                String.valueOf(spec.averageGroupsPerUser))));
+        spec.randomSeed(Long.parseLong(getProperty(RANDOM_SEED_PROPERTY, String.valueOf(spec.randomSeed))));
+        spec.batchSize(Integer.parseInt(getProperty(BATCH_SIZE_PROPERTY, String.valueOf(spec.batchSize))));
+        return spec;
+    }
+
+    public boolean isEnabled() {
+
+        return userCount > 0;
+    }
+
+    public UserStoreSeedSpec userCount(int userCount) {
+
+        this.userCount = userCount;
+        return this;
+    }
+
+    public UserStoreSeedSpec groupCount(int groupCount) {
+
+        this.groupCount = groupCount;
+        return this;
+    }
+
+    /**
+     * Set the average number of groups a user belongs to. The actual number of groups of a user follows a Poisson
+     * distribution with this mean.
+     *
+     * @param averageGroupsPerUser Average number of groups per user.
+     * @return This spec.
+     */
+    public UserStoreSeedSpec averageGroupsPerUser(double averageGroupsPerUser) {
+
+        this.averageGroupsPerUser = averageGroupsPerUser;
+        return this;
+    }
+
+    /**
+     * Set the exponent of the Zipf distribution the group of a membership is picked from. With the default of 1.0 the
+     * first group is about twice as large as the second one, so that a few groups hold most of the memberships as in
+     * real user stores. A skew of 0 spreads the memberships evenly.
+     *
+     * @param groupSizeSkew Zipf exponent.
+     * @return This spec.
+     */
+    public UserStoreSeedSpec groupSizeSkew(double groupSizeSkew) {
+
+        this.groupSizeSkew = groupSizeSkew;
+        return this;
+    }
+
+    public UserStoreSeedSpec userNamePrefix(String userNamePrefix) {
+
+        this.userNamePrefix = userNamePrefix;
+        return this;
+    }
+
+    public UserStoreSeedSpec groupNamePrefix(String groupNamePrefix) {
+
+        this.groupNamePrefix = groupNamePrefix;
+        return this;
+    }
+
+    public UserStoreSeedSpec password(String password) {
+
+        this.password = password;
+        return this;
+    }
+
+    public UserStoreSeedSpec profileName(String profileName) {
+
+        this.profileName = profileName;
+        return this;
+    }
+
+    /**
+     * Set the seed of the generated data. The same seed always generates the same users, so that a seeded store can
+     * be queried by the tests without keeping what was seeded.
+     *
+     * @param randomSeed Random seed.
+     * @return This spec.
+     */
+    public UserStoreSeedSpec randomSeed(long randomSeed) {
+
+        this.randomSeed = randomSeed;
+        return this;
+    }
+
+    public UserStoreSeedSpec batchSize(int batchSize) {
+
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public int getUserCount() {
+
+        return userCount;
+    }
+
+    public int getGroupCount() {
+
+        return groupCount;
+    }
+
+    public double getAverageGroupsPerUser() {
+
+        return averageGroupsPerUser;
+    }
+
+    public double getGroupSizeSkew() {
+
+        return groupSizeSkew;
+    }
+
+    public String getUserNamePrefix() {
+
+        return userNamePrefix;
+    }
+
+    public String getGroupNamePrefix() {
+
+        return groupNamePrefix;
+    }
+
+    public String getPassword() {
+
+        return password;
+    }
+
+    public String getProfileName() {
+
+        return profileName;
+    }
+
+    public long getRandomSeed() {
+
+        return randomSeed;
+    }
+
+    public int getBatchSize() {
+
+        return batchSize;
+    }
+
+    @Override
+    public String toString() {
+
+        return "users=" + userCount + ", groups=" + groupCount + ", groupsPerUser=" + averageGroupsPerUser +
+                ", skew=" + groupSizeSkew + ", seed=" + randomSeed;
+    }
+
+    private static String getProperty(String name, String defaultValue) {
+
+        String value = System.getProperty(name);
+        return StringUtils.isBlank(value) ? defaultValue : value.trim();
+    }
+}
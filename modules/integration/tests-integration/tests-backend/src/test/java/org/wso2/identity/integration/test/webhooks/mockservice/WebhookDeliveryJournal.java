@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.webhooks.mockservice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Append-only journal of the webhook deliveries received by {@link WebhookMockService}, indexed by the order of
+ * arrival.
+ * <p>
+ * The threads of the mock server claim a sequence number with a single atomic increment and publish the delivery in
+ * the slot of that number, so recording a delivery never waits on a lock even when thousands of events arrive at
+ * once. The slots are allocated in segments on first use. A slot whose sequence is claimed but whose delivery is not
+ * published yet reads as null. Deliveries beyond the capacity are counted but not kept.
+ */
+public class WebhookDeliveryJournal {
+
+    private static final int SEGMENT_BITS = 12;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final int capacity;
+    private final AtomicReferenceArray<AtomicReferenceArray<Delivery>> segments;
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    /**
+     * Create a journal.
+     *
+     * @param capacity Maximum number of deliveries kept.
+     */
+    public WebhookDeliveryJournal(int capacity) {
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity should be a positive value: " + capacity);
+        }
+        this.capacity = capacity;
+        this.segments = new AtomicReferenceArray<>((capacity + SEGMENT_SIZE - 1) >>> SEGMENT_BITS);
+    }
+
+    /**
+     * Record a received delivery.
+     *
+     * @param body            Body of the delivery request.
+     * @param receivedAtNanos Time the delivery was received, read with {@link System#nanoTime()}.
+     * @return Sequence number of the delivery, or -1 if the journal is full.
+     */
+    public long append(String body, long receivedAtNanos) {
+
+        long sequence = nextSequence.getAndIncrement();
+        if (sequence >= capacity) {
+            return -1;
+        }
+        getSegment((int) (sequence >>> SEGMENT_BITS))
+                .set((int) (sequence & SEGMENT_MASK), new Delivery(sequence, body, receivedAtNanos));
+        return sequence;
+    }
+
+    /**
+     * Get the delivery of a sequence number.
+     *
+     * @param sequence Sequence number.
+     * @return Delivery, or null if no delivery is published with the sequence number yet.
+     */
+    public Delivery get(long sequence) {
+
+        if (sequence < 0 || sequence >= Math.min(nextSequence.get(), capacity)) {
+            return null;
+        }
+        AtomicReferenceArray<Delivery> segment = segments.get((int) (sequence >>> SEGMENT_BITS));
+        return segment == null ? null : segment.get((int) (sequence & SEGMENT_MASK));
+    }
+
+    /**
+     * Get the number of deliveries received, including the ones not kept because the journal is full.
+     *
+     * @return Number of received deliveries.
+     */
+    public long getReceivedCount() {
+
+        return nextSequence.get();
+    }
+
+    /**
+     * Get the number of deliveries not kept because the journal is full.
+     *
+     * @return Number of dropped deliveries.
+     */
+    public long getDroppedCount() {
+
+        return Math.max(0L, nextSequence.get() - capacity);
+    }
+
+    /**
+     * Get the published deliveries in the order of their sequence numbers.
+     *
+     * @return Deliveries.
+     */
+    public List<Delivery> getDeliveries() {
+
+        long size = Math.min(nextSequence.get(), capacity);
+        List<Delivery> deliveries = new ArrayList<>((int) size);
+        for (long sequence = 0; sequence < size; sequence++) {
+            Delivery delivery = get(sequence);
+            if (delivery != null) {
+                deliveries.add(delivery);
+            }
+        }
+        return deliveries;
+    }
+
+    private AtomicReferenceArray<Delivery> getSegment(int index) {
+
+        AtomicReferenceArray<Delivery> segment = segments.get(index);
+        if (segment == null) {
+            segments.compareAndSet(index, null, new AtomicReferenceArray<>(SEGMENT_SIZE));
+            segment = segments.get(index);
+        }
+        return segment;
+    }
+
+    /**
+     * Delivery received by the webhook endpoint.
+     */
+    public static class Delivery {
+
+        private final long sequence;
+        private final String body;
+        private final long receivedAtNanos;
+
+        private Delivery(long sequence, String body, long receivedAtNanos) {
+
+            this.sequence = sequence;
+            this.body = body;
+            this.receivedAtNanos = receivedAtNanos;
+        }
+
+        public long getSequence() {
+
+            return sequence;
+        }
+
+        public String getBody() {
+
+            return body;
+        }
+
+        public long getReceivedAtNanos() {
+
+            return receivedAtNanos;
+        }
+    }
+}
@@ -18,12 +18,12 @@
 
 package org.wso2.identity.integration.test.webhooks.mockservice;
 
-import com.github.tomakehurst.wiremock.WireMockServer;
-import com.github.tomakehurst.wiremock.client.WireMock;
-import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.http.Request;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.wso2.identity.integration.common.utils.await.AwaitSignal;
+import org.wso2.identity.integration.test.base.MockServerRegistry;
+import org.wso2.identity.integration.test.base.MockServerScope;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,49 +31,59 @@ import java.util.List;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
-import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 
 /**
- * Mock service for handling webhook events.
+ * Mock service for handling webhook events. Each instance owns a namespaced scope on the shared webhook endpoint mock
+ * server, so that the webhook tests can run in parallel without a server per test.
  */
 public class WebhookMockService {
 
-    private WireMockServer wireMockServer;
+    private MockServerScope scope;
 
     private final List<Request> orderedRequests = Collections.synchronizedList(new ArrayList<>());
+    private final AwaitSignal requestSignal = new AwaitSignal();
 
     private static final Logger LOG = LoggerFactory.getLogger(WebhookMockService.class);
 
-    public void startServer(int port) {
+    public void startServer() {
 
-        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig().port(port));
-        wireMockServer.start();
-        WireMock.configureFor("localhost", port);
+        scope = MockServerRegistry.openScope(MockServerRegistry.Role.WEBHOOK_ENDPOINT, true);
 
         // Log all received requests
-        wireMockServer.addMockServiceRequestListener((request, response) -> {
-            LOG.info("Received request: {} for webhook: {}", request, wireMockServer.baseUrl());
-            orderedRequests.add(request);
+        scope.addServeEventListener(serveEvent -> {
+            LOG.info("Received request: {} for webhook scope: {}", serveEvent.getRequest(), scope.getId());
+            orderedRequests.add(serveEvent.getRequest());
+            requestSignal.signal();
         });
+    }
 
-        Runtime.getRuntime().addShutdownHook(new Thread(wireMockServer::stop));
+    /**
+     * Start the mock service for a high volume of events. The received requests are recorded in the given journal
+     * instead of the ordered request list of the service, and are neither logged nor signalled.
+     *
+     * @param journal Journal of the received deliveries.
+     */
+    public void startServer(WebhookDeliveryJournal journal) {
+
+        scope = MockServerRegistry.openScope(MockServerRegistry.Role.WEBHOOK_ENDPOINT, true);
+        scope.addServeEventListener(serveEvent ->
+                journal.append(serveEvent.getRequest().getBodyAsString(), System.nanoTime()));
     }
 
     public void stopServer() {
 
-        if (wireMockServer != null && wireMockServer.isRunning()) {
-            wireMockServer.stop();
+        if (scope != null) {
+            scope.close();
         }
     }
 
     public String registerWebhookEndpoint(String path) {
 
-        stubFor(post(urlEqualTo(path))
+        scope.stubFor(post(urlEqualTo(scope.getPath(path)))
                 .willReturn(aResponse().withStatus(200)));
 
-        int port = wireMockServer.getOptions().portNumber();
-        return "http://localhost:" + port + path;
+        return scope.getUrl(path);
     }
 
     public List<Request> getOrderedRequests() {
@@ -81,6 +91,16 @@ public class WebhookMockService {
         return new ArrayList<>(orderedRequests);
     }
 
+    /**
+     * Get the signal raised on every request received by the mock service.
+     *
+     * @return Request signal.
+     */
+    public AwaitSignal getRequestSignal() {
+
+        return requestSignal;
+    }
+
     public void clearOrderedRequests() {
 
         orderedRequests.clear();
@@ -23,16 +23,16 @@ import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.carbon.automation.engine.context.AutomationContext;
+import org.wso2.identity.integration.common.utils.await.Await;
 import org.wso2.identity.integration.test.rest.api.server.webhook.management.v1.model.WebhookRequest;
 import org.wso2.identity.integration.test.rest.api.server.webhook.management.v1.model.WebhookRequestEventProfile;
 import org.wso2.identity.integration.test.rest.api.server.webhook.management.v1.model.WebhookResponse;
 import org.wso2.identity.integration.test.restclients.WebhooksRestClient;
 import org.wso2.identity.integration.test.webhooks.mockservice.WebhookMockService;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -40,13 +40,9 @@ import java.util.stream.Collectors;
  */
 public class WebhookEventTestManager {
 
-    private static final int START_PORT = 8580;
-    private static final int PORT_LIMIT = 8590;
-    private static final int MAX_RETRIES_ON_EVENTS_RECEIVED = 5;
-    private static final int WAIT_TIME_IN_MILLIS_ON_EVENTS_RECEIVED = 500;
+    private static final Duration EVENTS_RECEIVED_TIMEOUT = Duration.ofSeconds(10);
     private static final String SERVER_BASE_URL = "https://localhost:9853/";
     private static final String WSO2_EVENT_PROFILE_URI = "https://schemas.identity.wso2.org/events";
-    private static final AtomicInteger currentPort = new AtomicInteger(START_PORT);
 
     private final String webhookEndpointPath;
     private final String eventProfile;
@@ -139,20 +135,12 @@ public class WebhookEventTestManager {
         }
     }
 
-    private void waitForEvents() throws InterruptedException {
+    private void waitForEvents() throws Exception {
 
-        int retryCount = 0;
-
-        while (mockService.getOrderedRequests().isEmpty() && retryCount < MAX_RETRIES_ON_EVENTS_RECEIVED) {
-            LOG.info("No events received for the webhook. Retrying... Attempt: {}/{}", retryCount + 1,
-                    MAX_RETRIES_ON_EVENTS_RECEIVED);
-            TimeUnit.MILLISECONDS.sleep(WAIT_TIME_IN_MILLIS_ON_EVENTS_RECEIVED);
-            retryCount++;
-        }
-
-        if (mockService.getOrderedRequests().isEmpty()) {
-            throw new AssertionError(
-                    "No events received for the webhook after " + MAX_RETRIES_ON_EVENTS_RECEIVED + " retries.");
+        boolean received = awaitEvents("events for the webhook", () -> !mockService.getOrderedRequests().isEmpty());
+        if (!received) {
+            throw new AssertionError("No events received for the webhook within " +
+                    EVENTS_RECEIVED_TIMEOUT.getSeconds() + " seconds.");
         }
     }
 
@@ -169,36 +157,33 @@ public class WebhookEventTestManager {
         }
     }
 
-    private void waitForSpecificEvent(String eventUri) throws InterruptedException {
-
-        int retryCount = 0;
-
-        while (retryCount < MAX_RETRIES_ON_EVENTS_RECEIVED) {
-            List<JSONObject> receivedPayloads = extractReceivedPayloads();
+    private void waitForSpecificEvent(String eventUri) throws Exception {
 
-            boolean eventExists = receivedPayloads.stream()
-                    .anyMatch(payload -> {
-                        try {
-                            return payload != null && payload.has("events") &&
-                                    payload.getJSONObject("events").has(eventUri);
-                        } catch (JSONException e) {
-                            LOG.error("Error parsing JSON payload for event URI '{}': {}", eventUri, e.getMessage());
-                            return false;
-                        }
-                    });
-
-            if (eventExists) {
-                return;
-            }
-
-            LOG.info("Event for URI '{}' not found in received payloads. Retrying... Attempt: {}/{}",
-                    eventUri, retryCount + 1, MAX_RETRIES_ON_EVENTS_RECEIVED);
-            TimeUnit.MILLISECONDS.sleep(WAIT_TIME_IN_MILLIS_ON_EVENTS_RECEIVED);
-            retryCount++;
+        boolean eventExists = awaitEvents("event " + eventUri, () -> extractReceivedPayloads().stream()
+                .anyMatch(payload -> {
+                    try {
+                        return payload != null && payload.has("events") &&
+                                payload.getJSONObject("events").has(eventUri);
+                    } catch (JSONException e) {
+                        LOG.error("Error parsing JSON payload for event URI '{}': {}", eventUri, e.getMessage());
+                        return false;
+                    }
+                }));
+        if (!eventExists) {
+            throw new AssertionError("Event for URI '" + eventUri + "' not found within " +
+                    EVENTS_RECEIVED_TIMEOUT.getSeconds() + " seconds.");
         }
+    }
+
+    /**
+     * Wait for a condition on the received events. The condition is evaluated again as soon as the mock service
+     * receives a request.
+     */
+    private boolean awaitEvents(String description, Await.Condition condition) throws Exception {
 
-        throw new AssertionError("Event for URI '" + eventUri + "' not found after " +
-                MAX_RETRIES_ON_EVENTS_RECEIVED + " retries.");
+        return Await.atMost(EVENTS_RECEIVED_TIMEOUT)
+                .wakeUpOn(mockService.getRequestSignal())
+                .until(description, condition);
     }
 
     private List<JSONObject> extractReceivedPayloads() {
@@ -252,19 +237,15 @@ public class WebhookEventTestManager {
 
     private void startMockServer() throws Exception {
 
-        int port = getNextAvailablePort();
         mockService = new WebhookMockService();
 
         try {
-            mockService.startServer(port);
+            mockService.startServer();
             webhookEndpoint = mockService.registerWebhookEndpoint(webhookEndpointPath);
 
-            LOG.info("Webhook mock server started on port: {}", port);
             LOG.info("Webhook endpoint registered at: {}", webhookEndpoint);
-
-            Thread.sleep(500); // Ensure server is fully initialized
         } catch (Exception e) {
-            LOG.error("Failed to start the mock server on port: {}", port, e);
+            LOG.error("Failed to start the webhook mock service.", e);
             throw e;
         }
     }
@@ -276,16 +257,6 @@ public class WebhookEventTestManager {
         }
     }
 
-    private int getNextAvailablePort() {
-
-        int port = currentPort.getAndIncrement();
-        if (port > PORT_LIMIT) {
-            currentPort.set(START_PORT);
-            port = currentPort.getAndIncrement();
-        }
-        return port;
-    }
-
     private String createWebhook() throws Exception {
 
         WebhookRequest webhookRequest = new WebhookRequest();
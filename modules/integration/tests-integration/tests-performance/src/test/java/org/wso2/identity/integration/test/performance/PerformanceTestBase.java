@@ -0,0 +1,444 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.performance;
+
+import org.apache.http.NameValuePair;
+import org.apache.http.client.utils.URLEncodedUtils;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.testng.Assert;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.test.base.LDAPServerInitializerTestCase;
+import org.wso2.identity.integration.test.oauth2.OAuth2ServiceAbstractIntegrationTest;
+import org.wso2.identity.integration.test.oauth2.dataprovider.model.ApplicationConfig;
+import org.wso2.identity.integration.test.performance.common.HttpLoadClient;
+import org.wso2.identity.integration.test.performance.common.LoadConfiguration;
+import org.wso2.identity.integration.test.performance.common.LoadContext;
+import org.wso2.identity.integration.test.performance.common.LoadGenerator;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.performance.common.OperationStats;
+import org.wso2.identity.integration.test.performance.common.PerformanceReport;
+import org.wso2.identity.integration.test.performance.common.VirtualBrowser;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.AccessTokenConfiguration;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.AdvancedApplicationConfiguration;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.ApplicationModel;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.AuthenticationSequence;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.InboundProtocols;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.RefreshTokenConfiguration;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SAML2Configuration;
+import org.wso2.identity.integration.test.rest.api.server.user.store.v1.model.UserStoreReq;
+import org.wso2.identity.integration.test.rest.api.server.user.store.v1.model.UserStoreReq.Property;
+import org.wso2.identity.integration.test.rest.api.user.common.model.Email;
+import org.wso2.identity.integration.test.rest.api.user.common.model.UserObject;
+import org.wso2.identity.integration.test.restclients.SCIM2RestClient;
+import org.wso2.identity.integration.test.restclients.UserStoreMgtRestClient;
+import org.wso2.identity.integration.test.utils.ExternalLDAPServer;
+import org.wso2.identity.integration.test.utils.OAuth2Constant;
+import org.wso2.identity.integration.test.utils.seeding.LDAPUserStoreSeeder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+
+/**
+ * Base class of the performance scenarios. Provisions applications and users through the REST clients of the
+ * backend integration tests and provides the shared load generator, HTTP client and reporting.
+ */
+public class PerformanceTestBase extends OAuth2ServiceAbstractIntegrationTest {
+
+    protected static final String LOAD_TEST_USER_PASSWORD = "LoadTest@123";
+    private static final long TOKEN_EXPIRY_SECONDS = 3600;
+    private static final String READ_WRITE_LDAP_TYPE = "VW5pcXVlSURSZWFkV3JpdGVMREFQVXNlclN0b3JlTWFuYWdlcg";
+    private static final String READ_ONLY_LDAP_TYPE = "VW5pcXVlSURSZWFkT25seUxEQVBVc2VyU3RvcmVNYW5hZ2Vy";
+    // Embedded LDAP server started by the suite, see LDAPServerInitializerTestCase.
+    private static final String LDAP_CONNECTION_URL = "ldap://localhost:10799";
+
+    protected LoadConfiguration loadConfiguration;
+    protected LoadGenerator loadGenerator;
+    protected HttpLoadClient loadClient;
+    protected SCIM2RestClient scim2RestClient;
+    protected UserStoreMgtRestClient userStoreMgtRestClient;
+    protected String tokenEndpoint;
+    protected String authorizeEndpoint;
+    protected String commonAuthEndpoint;
+
+    private final List<String> applicationIds = new ArrayList<>();
+    private final Map<String, String> userIds = new LinkedHashMap<>();
+    private final List<String> userStoreIds = new ArrayList<>();
+
+    /**
+     * Initialize the REST clients and the load generator.
+     *
+     * @param userMode Test user mode.
+     * @throws Exception If an error occurred while initializing.
+     */
+    protected void initPerformanceTest(TestUserMode userMode) throws Exception {
+
+        super.init(userMode);
+        setSystemproperties();
+        loadConfiguration = LoadConfiguration.fromSystemProperties();
+        loadGenerator = new LoadGenerator(loadConfiguration);
+        loadClient = new HttpLoadClient();
+        scim2RestClient = new SCIM2RestClient(serverURL, tenantInfo);
+        userStoreMgtRestClient = new UserStoreMgtRestClient(serverURL, tenantInfo);
+        tokenEndpoint = getTenantQualifiedURL(OAuth2Constant.ACCESS_TOKEN_ENDPOINT, tenantInfo.getDomain());
+        authorizeEndpoint = getTenantQualifiedURL(OAuth2Constant.AUTHORIZE_ENDPOINT_URL, tenantInfo.getDomain());
+        commonAuthEndpoint = getTenantQualifiedURL(OAuth2Constant.COMMON_AUTH_URL, tenantInfo.getDomain());
+    }
+
+    /**
+     * Delete the provisioned applications, users and user stores and release the clients.
+     *
+     * @throws Exception If an error occurred while cleaning up.
+     */
+    protected void cleanUpPerformanceTest() throws Exception {
+
+        for (String applicationId : applicationIds) {
+            restClient.deleteApplication(applicationId);
+        }
+        for (String userId : userIds.values()) {
+            scim2RestClient.deleteUser(userId);
+        }
+        for (String userStoreId : userStoreIds) {
+            userStoreMgtRestClient.deleteUserStore(userStoreId);
+        }
+        applicationIds.clear();
+        userIds.clear();
+        userStoreIds.clear();
+        if (loadClient != null) {
+            loadClient.close();
+        }
+        scim2RestClient.closeHttpClient();
+        userStoreMgtRestClient.closeHttpClient();
+        restClient.closeHttpClient();
+    }
+
+    /**
+     * Create an OIDC application which skips the login consent so that the browser flows do not stop at the
+     * consent page. The application is deleted during the clean up.
+     *
+     * @param name       Name of the application.
+     * @param grantTypes Allowed grant types.
+     * @param tokenType  Access token type.
+     * @return OIDC configuration of the created application containing the client credentials.
+     * @throws Exception If an error occurred while creating the application.
+     */
+    protected OpenIDConnectConfiguration createLoadTestApplication(String name, List<String> grantTypes,
+                                                                   ApplicationConfig.TokenType tokenType)
+            throws Exception {
+
+        return createLoadTestApplication(name, newOIDCConfiguration(grantTypes, tokenType), true);
+    }
+
+    /**
+     * Create an OIDC application with the given inbound configuration. The application is deleted during the
+     * clean up.
+     *
+     * @param name        Name of the application.
+     * @param oidcConfig  OIDC inbound configuration.
+     * @param skipConsent Whether the login and logout consent should be skipped.
+     * @return OIDC configuration of the created application containing the client credentials.
+     * @throws Exception If an error occurred while creating the application.
+     */
+    protected OpenIDConnectConfiguration createLoadTestApplication(String name, OpenIDConnectConfiguration oidcConfig,
+                                                                   boolean skipConsent) throws Exception {
+
+        return createLoadTestApplication(name, oidcConfig, skipConsent, null);
+    }
+
+    /**
+     * Create an OIDC application with the given inbound configuration and login flow. The application is deleted
+     * during the clean up.
+     *
+     * @param name                   Name of the application.
+     * @param oidcConfig             OIDC inbound configuration.
+     * @param skipConsent            Whether the login and logout consent should be skipped.
+     * @param authenticationSequence Login flow of the application, or null to use the default login flow.
+     * @return OIDC configuration of the created application containing the client credentials.
+     * @throws Exception If an error occurred while creating the application.
+     */
+    protected OpenIDConnectConfiguration createLoadTestApplication(String name, OpenIDConnectConfiguration oidcConfig,
+                                                                   boolean skipConsent,
+                                                                   AuthenticationSequence authenticationSequence)
+            throws Exception {
+
+        InboundProtocols inboundProtocols = new InboundProtocols();
+        inboundProtocols.setOidc(oidcConfig);
+
+        ApplicationModel application = new ApplicationModel();
+        application.setName(name);
+        application.setInboundProtocolConfiguration(inboundProtocols);
+        application.advancedConfigurations(new AdvancedApplicationConfiguration()
+                .skipLoginConsent(skipConsent)
+                .skipLogoutConsent(skipConsent));
+        application.setEnhancedOrgAuthenticationEnabled(false);
+        if (authenticationSequence != null) {
+            application.setAuthenticationSequence(authenticationSequence);
+        }
+
+        String applicationId = restClient.createApplication(application);
+        Assert.assertNotNull(applicationId, "Failed to create the load test application " + name);
+        applicationIds.add(applicationId);
+        return restClient.getOIDCInboundDetails(applicationId);
+    }
+
+    /**
+     * Build the OIDC inbound configuration of a load test application with the common callback URL and token
+     * expiry times.
+     *
+     * @param grantTypes Allowed grant types.
+     * @param tokenType  Access token type.
+     * @return OIDC inbound configuration.
+     */
+    protected static OpenIDConnectConfiguration newOIDCConfiguration(List<String> grantTypes,
+                                                                     ApplicationConfig.TokenType tokenType) {
+
+        OpenIDConnectConfiguration oidcConfig = new OpenIDConnectConfiguration();
+        oidcConfig.setGrantTypes(grantTypes);
+        oidcConfig.setCallbackURLs(Collections.singletonList(OAuth2Constant.CALLBACK_URL));
+        oidcConfig.accessToken(new AccessTokenConfiguration()
+                .type(tokenType.getTokenTypeProperty())
+                .applicationAccessTokenExpiryInSeconds(TOKEN_EXPIRY_SECONDS)
+                .userAccessTokenExpiryInSeconds(TOKEN_EXPIRY_SECONDS));
+        oidcConfig.refreshToken(new RefreshTokenConfiguration()
+                .expiryInSeconds(TOKEN_EXPIRY_SECONDS * 24)
+                .renewRefreshToken(false));
+        return oidcConfig;
+    }
+
+    /**
+     * Create an application with the given SAML inbound configuration which skips the login and logout consent.
+     * The application is deleted during the clean up.
+     *
+     * @param name       Name of the application.
+     * @param samlConfig SAML inbound configuration.
+     * @throws Exception If an error occurred while creating the application.
+     */
+    protected void createLoadTestSAMLApplication(String name, SAML2Configuration samlConfig) throws Exception {
+
+        ApplicationModel application = new ApplicationModel();
+        application.setName(name);
+        application.setInboundProtocolConfiguration(new InboundProtocols().saml(samlConfig));
+        application.advancedConfigurations(new AdvancedApplicationConfiguration()
+                .skipLoginConsent(true)
+                .skipLogoutConsent(true));
+
+        String applicationId = restClient.createApplication(application);
+        Assert.assertNotNull(applicationId, "Failed to create the load test application " + name);
+        applicationIds.add(applicationId);
+    }
+
+    /**
+     * Create users named "&lt;prefix&gt;&lt;index&gt;" with the common load test password. The users are deleted
+     * during the clean up.
+     *
+     * @param prefix Username prefix.
+     * @param count  Number of users.
+     * @return Usernames of the created users.
+     * @throws Exception If an error occurred while creating a user.
+     */
+    protected List<String> createLoadTestUsers(String prefix, int count) throws Exception {
+
+        List<String> usernames = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String username = prefix + i;
+            UserObject user = new UserObject()
+                    .userName(username)
+                    .password(LOAD_TEST_USER_PASSWORD);
+            user.addEmail(new Email().value(username + "@perf.test"));
+            userIds.put(username, scim2RestClient.createUser(user));
+            usernames.add(username);
+        }
+        return usernames;
+    }
+
+    /**
+     * Get the id of a user created with {@link #createLoadTestUsers(String, int)}.
+     *
+     * @param username Username of the user.
+     * @return User id or null if the user was not created by this test.
+     */
+    protected String getLoadTestUserId(String username) {
+
+        return userIds.get(username);
+    }
+
+    /**
+     * Register a secondary LDAP user store backed by an organizational unit of its own in the embedded LDAP server
+     * of the suite and wait for its deployment. The user store is deleted during the clean up.
+     *
+     * @param domain   Domain name of the user store.
+     * @param readOnly Whether to register a read-only user store instead of a read-write one.
+     * @return Seeder of the organizational unit of the user store.
+     * @throws Exception If an error occurred while registering the user store.
+     */
+    protected LDAPUserStoreSeeder createLDAPUserStore(String domain, boolean readOnly) throws Exception {
+
+        ExternalLDAPServer ldapServer = LDAPServerInitializerTestCase.getLDAPServer();
+        Assert.assertNotNull(ldapServer, "The embedded LDAP server is required for the LDAP user stores.");
+        String baseDn = "ou=" + domain + "," + LDAPUserStoreSeeder.DEFAULT_PARTITION_SUFFIX;
+        LDAPUserStoreSeeder ldapSeeder = new LDAPUserStoreSeeder(ldapServer.getDirectoryService(), baseDn,
+                LDAPUserStoreSeeder.DEFAULT_USER_ID_ATTRIBUTE);
+        ldapSeeder.createContainers();
+
+        UserStoreReq userStore = new UserStoreReq()
+                .typeId(readOnly ? READ_ONLY_LDAP_TYPE : READ_WRITE_LDAP_TYPE)
+                .name(domain)
+                .addPropertiesItem(new Property().name("ConnectionURL").value(LDAP_CONNECTION_URL))
+                .addPropertiesItem(new Property().name("ConnectionName").value("uid=admin,ou=system"))
+                .addPropertiesItem(new Property().name("ConnectionPassword").value("admin"))
+                .addPropertiesItem(new Property().name("UserSearchBase").value("ou=Users," + baseDn))
+                .addPropertiesItem(new Property().name("GroupSearchBase").value("ou=Groups," + baseDn))
+                .addPropertiesItem(new Property().name("UserNameAttribute").value("uid"))
+                .addPropertiesItem(new Property().name("UserIDAttribute")
+                        .value(LDAPUserStoreSeeder.DEFAULT_USER_ID_ATTRIBUTE))
+                .addPropertiesItem(new Property().name("UserEntryObjectClass").value("identityPerson"))
+                .addPropertiesItem(new Property().name("MaxUserNameListLength").value("0"))
+                .addPropertiesItem(new Property().name("SCIMEnabled").value("true"))
+                .addPropertiesItem(new Property().name("Disabled").value("false"));
+        userStoreIds.add(userStoreMgtRestClient.addUserStore(userStore));
+        Assert.assertTrue(userStoreMgtRestClient.waitForUserStoreDeployment(domain),
+                "User store " + domain + " is not deployed.");
+        return ldapSeeder;
+    }
+
+    /**
+     * Form parameters of a token request. The client is authenticated with the client_id and client_secret
+     * parameters to keep the requests independent of the authorization header handling.
+     *
+     * @param clientId     Client id.
+     * @param clientSecret Client secret.
+     * @param grantType    Grant type.
+     * @return Mutable, ordered parameter map.
+     */
+    protected static Map<String, String> tokenRequestParameters(String clientId, String clientSecret,
+                                                                String grantType) {
+
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put(OAuth2Constant.GRANT_TYPE_NAME, grantType);
+        parameters.put(OAuth2Constant.OAUTH2_CLIENT_ID, clientId);
+        parameters.put(OAuth2Constant.OAUTH2_CLIENT_SECRET, clientSecret);
+        return parameters;
+    }
+
+    /**
+     * Log and persist the result, and fail the scenario if no operation succeeded.
+     *
+     * @param result Result of the load run.
+     * @throws IOException If an error occurred while writing the report.
+     */
+    protected void report(LoadResult result) throws IOException {
+
+        report(loadConfiguration, result);
+    }
+
+    /**
+     * Log and persist the result of a run with a load shape of its own, and fail the scenario if no operation
+     * succeeded.
+     *
+     * @param configuration Load configuration used for the run.
+     * @param result        Result of the load run.
+     * @throws IOException If an error occurred while writing the report.
+     */
+    protected void report(LoadConfiguration configuration, LoadResult result) throws IOException {
+
+        PerformanceReport.write(configuration, result);
+        long successCount = result.getOperations().stream().mapToLong(OperationStats::getSuccessCount).sum();
+        Assert.assertTrue(successCount > 0, "No successful operation recorded for scenario " +
+                result.getScenario());
+    }
+
+    /**
+     * Measure a call of a REST client of the backend integration tests. The clients assert the response status, so
+     * an assertion error is turned into a recorded failure instead of terminating the virtual user.
+     *
+     * @param context          Context of the virtual user.
+     * @param operation        Name of the operation.
+     * @param call             Call to be measured.
+     * @param successCondition Condition evaluated on the outcome to decide whether the call succeeded.
+     * @param <T>              Type of the outcome.
+     * @return Outcome of the call.
+     * @throws Exception If the call failed.
+     */
+    protected static <T> T measureRestCall(LoadContext context, String operation, Callable<T> call,
+                                           Predicate<T> successCondition) throws Exception {
+
+        return context.measure(operation, () -> {
+            try {
+                return call.call();
+            } catch (AssertionError e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }, successCondition);
+    }
+
+    /**
+     * Parse a JSON response body.
+     *
+     * @param response HTTP response.
+     * @return JSON object.
+     * @throws ParseException If the body is not a JSON object.
+     */
+    protected static JSONObject toJSONObject(HttpResponse<String> response) throws ParseException {
+
+        return (JSONObject) new JSONParser().parse(response.body());
+    }
+
+    /**
+     * Get a query parameter of the URI in the location header of a redirect response.
+     *
+     * @param response  Redirect response.
+     * @param parameter Name of the query parameter.
+     * @return Value of the query parameter or null if it is not present.
+     */
+    protected static String getLocationQueryParameter(HttpResponse<String> response, String parameter) {
+
+        String location = getLocation(response);
+        if (location == null) {
+            return null;
+        }
+        for (NameValuePair pair : URLEncodedUtils.parse(URI.create(location), StandardCharsets.UTF_8)) {
+            if (parameter.equals(pair.getName())) {
+                return pair.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the absolute URI of the location header of a redirect response.
+     *
+     * @param response Redirect response.
+     * @return Absolute location or null if the header is not present.
+     */
+    protected static String getLocation(HttpResponse<String> response) {
+
+        return VirtualBrowser.getLocation(response);
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.adaptive;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.test.base.MockServerRegistry;
+import org.wso2.identity.integration.test.base.MockServerScope;
+import org.wso2.identity.integration.test.oauth2.dataprovider.model.ApplicationConfig;
+import org.wso2.identity.integration.test.performance.PerformanceTestBase;
+import org.wso2.identity.integration.test.performance.common.HttpLoadClient;
+import org.wso2.identity.integration.test.performance.common.LoadConfiguration;
+import org.wso2.identity.integration.test.performance.common.LoadContext;
+import org.wso2.identity.integration.test.performance.common.LoadGenerator;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.performance.common.PerformanceReport;
+import org.wso2.identity.integration.test.performance.common.ServerMemoryProbe;
+import org.wso2.identity.integration.test.performance.common.ServerMemoryProbe.MemorySnapshot;
+import org.wso2.identity.integration.test.performance.common.VirtualBrowser;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.AuthenticationSequence;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.AuthenticationStep;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.Authenticator;
+import org.wso2.identity.integration.test.utils.OAuth2Constant;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+
+/**
+ * Benchmark of the adaptive authentication script engine with a library of representative conditional authentication
+ * scripts: a pass-through script, a role check, claim manipulation, a risk check with httpGet, an audit call with
+ * httpPost and a script combining all of them.
+ * <p>
+ * An application is created for each script of "perf.adaptive.scripts" and the logins through each application are
+ * measured in two phases: "login-request" runs the script until the login page is shown, and "authentication" posts
+ * the credentials and runs the callbacks of the step until the application receives the authorization code. The cost of
+ * a script is the difference of these latencies from the ones of the pass-through script. Before the load run, the
+ * first "perf.adaptive.warmup.logins" logins through each script are made one at a time and recorded in buckets, which
+ * gives the warm-up curve of the engine. The heap, metaspace and garbage collections of the server are read around the
+ * runs of each script when the server JVM can be attached to.
+ * <p>
+ * The same class is run once for each engine, with the engine given as the "scriptEngine" parameter of the suite. The
+ * results of all the engines are compared side by side in the "adaptive-engines" report.
+ */
+public class AdaptiveScriptLoadTestCase extends PerformanceTestBase {
+
+    private static final Log LOG = LogFactory.getLog(AdaptiveScriptLoadTestCase.class);
+
+    public static final String SCRIPTS_PROPERTY = "perf.adaptive.scripts";
+    public static final String USERS_PROPERTY = "perf.adaptive.users";
+    public static final String CONCURRENCY_PROPERTY = "perf.adaptive.concurrency";
+    public static final String WARMUP_LOGINS_PROPERTY = "perf.adaptive.warmup.logins";
+    public static final String OPERATION_DURATION_PROPERTY = "perf.adaptive.operation.duration";
+
+    private static final String DEFAULT_SCRIPTS = "PassThrough,RoleCheck,ClaimManipulation,HttpGet,HttpPost,Composite";
+    private static final int DEFAULT_USERS = 100;
+    private static final int DEFAULT_CONCURRENCY = 50;
+    private static final int DEFAULT_WARMUP_LOGINS = 200;
+    private static final long DEFAULT_OPERATION_DURATION_SECONDS = 60;
+    // Upper bounds of the login buckets of the warm-up curve.
+    private static final int[] WARMUP_BUCKETS = {1, 5, 10, 25, 50, 100, 250, 500, 1000};
+    private static final List<String> MEMORY_COLUMNS = Arrays.asList("engine", "script", "heap_before_mb",
+            "heap_after_mb", "heap_retained_mb", "retained_delta_mb", "metaspace_delta_mb", "gc_count", "gc_time_ms");
+
+    // Collected across the runs of all the engines, which run as separate instances of this class.
+    private static final Map<String, List<LoadResult>> ENGINE_COMPARISON =
+            Collections.synchronizedMap(new LinkedHashMap<>());
+    private static final List<List<String>> MEMORY_ROWS = Collections.synchronizedList(new ArrayList<>());
+
+    private static final String APPLICATION_NAME_PREFIX = "AdaptiveScriptLoadTestApp-";
+    private static final String USERNAME_PREFIX = "adaptiveloaduser";
+    private static final String SCRIPT_SUFFIX = "Script.js";
+    private static final String RISK_PATH = "/risk";
+    private static final String AUDIT_PATH = "/audit";
+    private static final String LOCAL_IDP = "LOCAL";
+    private static final String BASIC_AUTHENTICATOR = "BasicAuthenticator";
+    private static final String LOGIN_PAGE_PATH = "/authenticationendpoint/login.do";
+    private static final int MAX_REDIRECTS = 10;
+    private static final int HTTP_FOUND = 302;
+
+    private final Map<String, String> scriptClientIds = new LinkedHashMap<>();
+    private final Map<String, List<LoadResult>> comparison = new LinkedHashMap<>();
+    private final Map<String, List<LoadResult>> warmupComparison = new LinkedHashMap<>();
+    private String scriptEngine;
+    private List<String> usernames;
+    private LoadConfiguration adaptiveConfiguration;
+    private LoadConfiguration warmupConfiguration;
+    private int warmupLogins;
+    private MockServerScope mockScope;
+    private ServerMemoryProbe memoryProbe;
+
+    @BeforeClass(alwaysRun = true)
+    @Parameters({"scriptEngine"})
+    public void testInit(@Optional("graaljs") String scriptEngine) throws Exception {
+
+        initPerformanceTest(TestUserMode.SUPER_TENANT_ADMIN);
+        this.scriptEngine = scriptEngine.toLowerCase(Locale.ROOT);
+        adaptiveConfiguration = loadConfiguration
+                .withConcurrency(LoadConfiguration.getIntProperty(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY))
+                .withDuration(Duration.ofSeconds(LoadConfiguration.getLongProperty(OPERATION_DURATION_PROPERTY,
+                        DEFAULT_OPERATION_DURATION_SECONDS)), Duration.ZERO);
+        warmupConfiguration = adaptiveConfiguration.withConcurrency(1);
+        warmupLogins = LoadConfiguration.getIntProperty(WARMUP_LOGINS_PROPERTY, DEFAULT_WARMUP_LOGINS);
+
+        mockScope = MockServerRegistry.openScope(MockServerRegistry.Role.APPLICATION, true);
+        mockScope.stubFor(get(urlPathEqualTo(mockScope.getPath(RISK_PATH)))
+                .willReturn(okJson("{\"riskScore\":10}")));
+        mockScope.stubFor(post(urlPathEqualTo(mockScope.getPath(AUDIT_PATH)))
+                .willReturn(okJson("{\"status\":\"SUCCESS\"}")));
+
+        for (String script : StringUtils.defaultIfBlank(System.getProperty(SCRIPTS_PROPERTY), DEFAULT_SCRIPTS)
+                .split(",")) {
+            String name = script.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            AuthenticationSequence authenticationSequence = new AuthenticationSequence()
+                    .type(AuthenticationSequence.TypeEnum.USER_DEFINED)
+                    .addStepsItem(new AuthenticationStep()
+                            .id(1)
+                            .addOptionsItem(new Authenticator()
+                                    .idp(LOCAL_IDP)
+                                    .authenticator(BASIC_AUTHENTICATOR)))
+                    .script(String.format(readScript(name), mockScope.getUrl(RISK_PATH),
+                            mockScope.getUrl(AUDIT_PATH)));
+            scriptClientIds.put(name, createLoadTestApplication(APPLICATION_NAME_PREFIX + name,
+                    newOIDCConfiguration(Collections.singletonList(
+                            OAuth2Constant.OAUTH2_GRANT_TYPE_AUTHORIZATION_CODE), ApplicationConfig.TokenType.OPAQUE),
+                    true, authenticationSequence).getClientId());
+        }
+        usernames = createLoadTestUsers(USERNAME_PREFIX, LoadConfiguration.getIntProperty(USERS_PROPERTY,
+                DEFAULT_USERS));
+        memoryProbe = ServerMemoryProbe.attach(System.getProperty("carbon.home"));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        try {
+            if (!comparison.isEmpty()) {
+                PerformanceReport.writeComparison(adaptiveConfiguration, "adaptive-" + scriptEngine, comparison);
+                PerformanceReport.writeComparison(warmupConfiguration, "adaptive-" + scriptEngine + "-warmup",
+                        warmupComparison);
+                // Rewritten after each engine, so that the report of the last engine compares all of them.
+                PerformanceReport.writeComparison(adaptiveConfiguration, "adaptive-engines", ENGINE_COMPARISON);
+            }
+            if (!MEMORY_ROWS.isEmpty()) {
+                PerformanceReport.writeTable(adaptiveConfiguration, "adaptive-memory", MEMORY_COLUMNS, MEMORY_ROWS);
+            }
+        } finally {
+            if (memoryProbe != null) {
+                memoryProbe.close();
+            }
+            if (mockScope != null) {
+                mockScope.close();
+            }
+            cleanUpPerformanceTest();
+        }
+    }
+
+    @Test(description = "Benchmark of the logins through a library of adaptive authentication scripts.")
+    public void testAdaptiveScripts() throws Exception {
+
+        LOG.info("Benchmarking the adaptive scripts " + scriptClientIds.keySet() + " on the " + scriptEngine +
+                " script engine.");
+        for (Map.Entry<String, String> entry : scriptClientIds.entrySet()) {
+            String script = entry.getKey();
+            String clientId = entry.getValue();
+            MemorySnapshot before = takeRetainedSnapshot();
+
+            LoadResult warmupResult = new LoadGenerator(warmupConfiguration).runIterations(
+                    "adaptive-" + scriptEngine + "-" + script + "-warmup", warmupLogins, context ->
+                            context.measure(getWarmupBucket(context.getIteration()),
+                                    () -> login(context, clientId), code -> code != null));
+            report(warmupConfiguration, warmupResult);
+
+            LoadResult result = new LoadGenerator(adaptiveConfiguration).run(
+                    "adaptive-" + scriptEngine + "-" + script, context ->
+                            context.measure("login", () -> login(context, clientId), code -> code != null));
+            report(adaptiveConfiguration, result);
+            MemorySnapshot after = memoryProbe == null ? null : memoryProbe.snapshot();
+            MemorySnapshot retained = takeRetainedSnapshot();
+            // The journal of the mock server grows with each request of the scripts.
+            mockScope.resetRequests();
+
+            comparison.put(script, Collections.singletonList(result));
+            warmupComparison.put(script, Collections.singletonList(warmupResult));
+            ENGINE_COMPARISON.put(scriptEngine + "-" + script, Collections.singletonList(result));
+            if (before != null && after != null && retained != null) {
+                MEMORY_ROWS.add(Arrays.asList(scriptEngine, script, toMegabytes(before.getHeapUsedBytes()),
+                        toMegabytes(after.getHeapUsedBytes()), toMegabytes(retained.getHeapUsedBytes()),
+                        toMegabytes(retained.getHeapUsedBytes() - before.getHeapUsedBytes()),
+                        toMegabytes(retained.getMetaspaceUsedBytes() - before.getMetaspaceUsedBytes()),
+                        String.valueOf(after.getCollectionCount() - before.getCollectionCount()),
+                        String.valueOf(after.getCollectionMillis() - before.getCollectionMillis())));
+            }
+        }
+    }
+
+    /**
+     * Log in through the application of a script with a new browser session and return the authorization code, or
+     * null if the script failed the login.
+     */
+    private String login(LoadContext context, String clientId) throws Exception {
+
+        context.getCookieJar().clear();
+        VirtualBrowser browser = new VirtualBrowser(loadClient, context);
+        Map<String, String> authorizeParameters = new LinkedHashMap<>();
+        authorizeParameters.put(OAuth2Constant.OAUTH2_RESPONSE_TYPE, OAuth2Constant.OAUTH2_GRANT_TYPE_CODE);
+        authorizeParameters.put(OAuth2Constant.OAUTH2_CLIENT_ID, clientId);
+        authorizeParameters.put(OAuth2Constant.REDIRECT_URI_NAME, OAuth2Constant.CALLBACK_URL);
+        authorizeParameters.put(OAuth2Constant.OAUTH2_SCOPE, OAuth2Constant.OAUTH2_SCOPE_OPENID);
+
+        long start = System.nanoTime();
+        HttpResponse<String> response = followRedirects(browser, browser.get(null,
+                authorizeEndpoint + "?" + HttpLoadClient.toFormBody(authorizeParameters), HTTP_FOUND));
+        String location = getLocation(response);
+        String sessionDataKey = getLocationQueryParameter(response, OAuth2Constant.SESSION_DATA_KEY);
+        if (location == null || !location.contains(LOGIN_PAGE_PATH) || sessionDataKey == null) {
+            context.recordFailure("login-request", System.nanoTime() - start, "login page not reached");
+            return null;
+        }
+        context.recordSuccess("login-request", System.nanoTime() - start);
+
+        Map<String, String> loginParameters = new LinkedHashMap<>();
+        loginParameters.put("username", getUsername(context));
+        loginParameters.put("password", LOAD_TEST_USER_PASSWORD);
+        loginParameters.put(OAuth2Constant.SESSION_DATA_KEY, sessionDataKey);
+        start = System.nanoTime();
+        response = followRedirects(browser, browser.postForm(null, commonAuthEndpoint, loginParameters,
+                HTTP_FOUND));
+        location = getLocation(response);
+        String code = getLocationQueryParameter(response, OAuth2Constant.AUTHORIZATION_CODE_NAME);
+        if (location == null || !location.startsWith(OAuth2Constant.CALLBACK_URL) || code == null) {
+            context.recordFailure("authentication", System.nanoTime() - start, "authorization code not issued");
+            return null;
+        }
+        context.recordSuccess("authentication", System.nanoTime() - start);
+        return code;
+    }
+
+    /**
+     * Follow the redirects within the server until the response redirects to the login page or to the application,
+     * or does not redirect.
+     */
+    private HttpResponse<String> followRedirects(VirtualBrowser browser, HttpResponse<String> response)
+            throws Exception {
+
+        for (int i = 0; i < MAX_REDIRECTS; i++) {
+            String location = getLocation(response);
+            if (location == null || location.contains(LOGIN_PAGE_PATH) ||
+                    location.startsWith(OAuth2Constant.CALLBACK_URL)) {
+                return response;
+            }
+            response = browser.followRedirect(null, response, HTTP_FOUND);
+        }
+        throw new IllegalStateException("Login did not complete within " + MAX_REDIRECTS + " redirects.");
+    }
+
+    private String getUsername(LoadContext context) {
+
+        long index = context.getVirtualUserId() + context.getIteration() * adaptiveConfiguration.getConcurrency();
+        return usernames.get((int) (index % usernames.size()));
+    }
+
+    private MemorySnapshot takeRetainedSnapshot() {
+
+        if (memoryProbe == null) {
+            return null;
+        }
+        memoryProbe.gc();
+        return memoryProbe.snapshot();
+    }
+
+    private String readScript(String name) throws IOException {
+
+        try (InputStream script = getClass().getResourceAsStream(name + SCRIPT_SUFFIX)) {
+            Assert.assertNotNull(script, "Adaptive script " + name + SCRIPT_SUFFIX + " not found.");
+            return new String(script.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String getWarmupBucket(long login) {
+
+        int lowerBound = 1;
+        for (int upperBound : WARMUP_BUCKETS) {
+            if (login <= upperBound) {
+                return String.format(Locale.ROOT, "warmup-%04d-%04d", lowerBound, upperBound);
+            }
+            lowerBound = upperBound + 1;
+        }
+        return String.format(Locale.ROOT, "warmup-%04d+", lowerBound);
+    }
+
+    private static String toMegabytes(long bytes) {
+
+        return String.format(Locale.ROOT, "%.1f", bytes / (1024.0 * 1024.0));
+    }
+}
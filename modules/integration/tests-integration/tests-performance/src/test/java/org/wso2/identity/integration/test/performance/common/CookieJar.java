@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.common;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Cookie store of a single virtual user. Cookies are kept by name only, since all the requests of a scenario are sent
+ * to the same server. An instance is confined to the virtual thread of its virtual user and is not thread safe.
+ */
+public class CookieJar {
+
+    private static final String MAX_AGE_ZERO = "max-age=0";
+
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+
+    /**
+     * Store the cookies set by a response. Cookies which are cleared by the response are removed.
+     *
+     * @param response HTTP response.
+     */
+    public void store(HttpResponse<?> response) {
+
+        for (String setCookie : response.headers().allValues(HttpLoadClient.SET_COOKIE_HEADER)) {
+            String[] parts = setCookie.split(";", 2);
+            int separator = parts[0].indexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            String name = parts[0].substring(0, separator).trim();
+            String value = parts[0].substring(separator + 1).trim();
+            boolean expired = parts.length > 1 && parts[1].toLowerCase(Locale.ROOT).replace(" ", "")
+                    .contains(MAX_AGE_ZERO);
+            if (value.isEmpty() || expired) {
+                cookies.remove(name);
+            } else {
+                cookies.put(name, value);
+            }
+        }
+    }
+
+    /**
+     * Add the stored cookies to a request.
+     *
+     * @param request HTTP request builder.
+     * @return The same request builder.
+     */
+    public HttpRequest.Builder apply(HttpRequest.Builder request) {
+
+        if (!cookies.isEmpty()) {
+            StringJoiner header = new StringJoiner("; ");
+            cookies.forEach((name, value) -> header.add(name + "=" + value));
+            request.header(HttpLoadClient.COOKIE_HEADER, header.toString());
+        }
+        return request;
+    }
+
+    /**
+     * Get the value of a stored cookie.
+     *
+     * @param name Name of the cookie.
+     * @return Value of the cookie or null if it is not stored.
+     */
+    public String get(String name) {
+
+        return cookies.get(name);
+    }
+
+    /**
+     * Remove all the cookies, which ends the browser session of the virtual user.
+     */
+    public void clear() {
+
+        cookies.clear();
+    }
+
+    public boolean isEmpty() {
+
+        return cookies.isEmpty();
+    }
+}
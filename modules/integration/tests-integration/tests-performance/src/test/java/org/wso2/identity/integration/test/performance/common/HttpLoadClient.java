@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.performance.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+/**
+ * Asynchronous, connection pooled HTTP client used to drive load against the server. Requests are dispatched on
+ * virtual threads and the underlying connections are kept alive and reused across virtual users.
+ */
+public class HttpLoadClient implements AutoCloseable {
+
+    public static final String CONTENT_TYPE_HEADER = "Content-Type";
+    public static final String AUTHORIZATION_HEADER = "Authorization";
+    public static final String LOCATION_HEADER = "Location";
+    public static final String COOKIE_HEADER = "Cookie";
+    public static final String SET_COOKIE_HEADER = "Set-Cookie";
+    public static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded";
+    public static final String JSON_CONTENT_TYPE = "application/json";
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+
+    public HttpLoadClient() throws GeneralSecurityException, IOException {
+
+        this(createSSLContext());
+    }
+
+    public HttpLoadClient(SSLContext sslContext) {
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .sslContext(sslContext)
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * Send a request without recording any statistics. Used for provisioning and for steps that are not measured.
+     *
+     * @param request HTTP request.
+     * @return HTTP response.
+     * @throws IOException          If an error occurred while sending the request.
+     * @throws InterruptedException If the calling thread was interrupted.
+     */
+    public HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Send a request and record its latency against the given operation.
+     *
+     * @param context        Context of the virtual user.
+     * @param operation      Name of the operation.
+     * @param request        HTTP request.
+     * @param expectedStatus Status code which indicates a successful operation.
+     * @return HTTP response.
+     * @throws IOException          If an error occurred while sending the request.
+     * @throws InterruptedException If the calling thread was interrupted.
+     */
+    public HttpResponse<String> send(LoadContext context, String operation, HttpRequest request, int expectedStatus)
+            throws IOException, InterruptedException {
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            context.recordFailure(operation, System.nanoTime() - start, e.getClass().getSimpleName());
+            throw e;
+        }
+        record(context, operation, response, expectedStatus, System.nanoTime() - start);
+        return response;
+    }
+
+    /**
+     * Send a request asynchronously and record its latency against the given operation once it completes.
+     *
+     * @param context        Context of the virtual user.
+     * @param operation      Name of the operation.
+     * @param request        HTTP request.
+     * @param expectedStatus Status code which indicates a successful operation.
+     * @return Future of the HTTP response.
+     */
+    public CompletableFuture<HttpResponse<String>> sendAsync(LoadContext context, String operation,
+                                                             HttpRequest request, int expectedStatus) {
+
+        long start = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    long elapsed = System.nanoTime() - start;
+                    if (error != null) {
+                        context.recordFailure(operation, elapsed, error.getClass().getSimpleName());
+                    } else {
+                        record(context, operation, response, expectedStatus, elapsed);
+                    }
+                });
+    }
+
+    /**
+     * Get a request builder with the default request timeout.
+     *
+     * @param uri Request URI.
+     * @return HTTP request builder.
+     */
+    public static HttpRequest.Builder newRequest(String uri) {
+
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(REQUEST_TIMEOUT);
+    }
+
+    /**
+     * Build a form POST request.
+     *
+     * @param uri        Request URI.
+     * @param parameters Form parameters.
+     * @return HTTP request builder.
+     */
+    public static HttpRequest.Builder newFormPost(String uri, Map<String, String> parameters) {
+
+        return newRequest(uri)
+                .header(CONTENT_TYPE_HEADER, FORM_CONTENT_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofString(toFormBody(parameters)));
+    }
+
+    /**
+     * URL encode the given parameters as a form body or query string.
+     *
+     * @param parameters Parameters to be encoded.
+     * @return Encoded parameters.
+     */
+    public static String toFormBody(Map<String, String> parameters) {
+
+        StringJoiner joiner = new StringJoiner("&");
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            joiner.add(URLEncoder.encode(parameter.getKey(), StandardCharsets.UTF_8) + "=" +
+                    URLEncoder.encode(parameter.getValue(), StandardCharsets.UTF_8));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Build the value of a basic authorization header.
+     *
+     * @param username Username or client id.
+     * @param password Password or client secret.
+     * @return Authorization header value.
+     */
+    public static String basicAuthorization(String username, String password) {
+
+        return "Basic " + Base64.getEncoder().encodeToString((username + ":" + password)
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() {
+
+        executor.shutdownNow();
+    }
+
+    private static void record(LoadContext context, String operation, HttpResponse<String> response,
+                               int expectedStatus, long elapsedNanos) {
+
+        if (response.statusCode() == expectedStatus) {
+            context.recordSuccess(operation, elapsedNanos);
+        } else {
+            context.recordFailure(operation, elapsedNanos, "HTTP " + response.statusCode());
+        }
+    }
+
+    /**
+     * Build an SSL context which trusts the certificates of the trust store configured through the
+     * "javax.net.ssl.trustStore" system properties, as set by the integration test base classes.
+     *
+     * @return SSL context.
+     * @throws GeneralSecurityException If an error occurred while initializing the trust managers.
+     * @throws IOException              If an error occurred while reading the trust store.
+     */
+    public static SSLContext createSSLContext() throws GeneralSecurityException, IOException {
+
+        KeyStore trustStore = loadTrustStore();
+        if (trustStore == null) {
+            return SSLContext.getDefault();
+        }
+        TrustManagerFactory trustManagerFactory =
+                TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(trustStore);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, trustManagerFactory.getTrustManagers(), null);
+        return sslContext;
+    }
+
+    /**
+     * Load the trust store configured through the "javax.net.ssl.trustStore" system properties.
+     *
+     * @return Trust store or null if no trust store is configured.
+     * @throws GeneralSecurityException If the trust store could not be loaded.
+     * @throws IOException              If an error occurred while reading the trust store.
+     */
+    public static KeyStore loadTrustStore() throws GeneralSecurityException, IOException {
+
+        String trustStorePath = System.getProperty("javax.net.ssl.trustStore");
+        if (trustStorePath == null) {
+            return null;
+        }
+        String trustStorePassword = System.getProperty("javax.net.ssl.trustStorePassword", "");
+        KeyStore trustStore = KeyStore.getInstance(System.getProperty("javax.net.ssl.trustStoreType",
+                KeyStore.getDefaultType()));
+        try (InputStream inputStream = Files.newInputStream(Paths.get(trustStorePath))) {
+            trustStore.load(inputStream, trustStorePassword.toCharArray());
+        }
+        return trustStore;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.performance.common;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Load shape of a performance scenario. Values are read from the "perf.*" system properties which are populated
+ * from the maven properties of the performance module.
+ */
+public class LoadConfiguration {
+
+    public static final String CONCURRENCY_PROPERTY = "perf.concurrency";
+    public static final String DURATION_PROPERTY = "perf.duration";
+    public static final String WARMUP_PROPERTY = "perf.warmup";
+    public static final String LABEL_PROPERTY = "perf.label";
+    public static final String REPORT_DIRECTORY_PROPERTY = "perf.report.dir";
+
+    private static final int DEFAULT_CONCURRENCY = 50;
+    private static final long DEFAULT_DURATION_SECONDS = 60;
+    private static final long DEFAULT_WARMUP_SECONDS = 10;
+    private static final String DEFAULT_LABEL = "local";
+    private static final String DEFAULT_REPORT_DIRECTORY = "performance-reports";
+
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final String label;
+    private final Path reportDirectory;
+
+    public LoadConfiguration(int concurrency, Duration duration, Duration warmup, String label,
+                             Path reportDirectory) {
+
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency should be a positive value: " + concurrency);
+        }
+        this.concurrency = concurrency;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.label = label;
+        this.reportDirectory = reportDirectory;
+    }
+
+    /**
+     * Build the load configuration from the system properties.
+     *
+     * @return Load configuration.
+     */
+    public static LoadConfiguration fromSystemProperties() {
+
+        return new LoadConfiguration(
+                getIntProperty(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY),
+                Duration.ofSeconds(getLongProperty(DURATION_PROPERTY, DEFAULT_DURATION_SECONDS)),
+                Duration.ofSeconds(getLongProperty(WARMUP_PROPERTY, DEFAULT_WARMUP_SECONDS)),
+                StringUtils.defaultIfBlank(System.getProperty(LABEL_PROPERTY), DEFAULT_LABEL).trim(),
+                Paths.get(StringUtils.defaultIfBlank(System.getProperty(REPORT_DIRECTORY_PROPERTY),
+                        DEFAULT_REPORT_DIRECTORY).trim()));
+    }
+
+    /**
+     * Get a copy of this configuration with a different concurrency.
+     *
+     * @param concurrency Number of concurrent virtual users.
+     * @return Load configuration.
+     */
+    public LoadConfiguration withConcurrency(int concurrency) {
+
+        return new LoadConfiguration(concurrency, duration, warmup, label, reportDirectory);
+    }
+
+    /**
+     * Get a copy of this configuration with a different measured period and warm-up.
+     *
+     * @param duration Measured period.
+     * @param warmup   Warm-up period.
+     * @return Load configuration.
+     */
+    public LoadConfiguration withDuration(Duration duration, Duration warmup) {
+
+        return new LoadConfiguration(concurrency, duration, warmup, label, reportDirectory);
+    }
+
+    public int getConcurrency() {
+
+        return concurrency;
+    }
+
+    public Duration getDuration() {
+
+        return duration;
+    }
+
+    public Duration getWarmup() {
+
+        return warmup;
+    }
+
+    public String getLabel() {
+
+        return label;
+    }
+
+    public Path getReportDirectory() {
+
+        return reportDirectory;
+    }
+
+    /**
+     * Read an integer system property.
+     *
+     * @param name         Name of the property.
+     * @param defaultValue Value to be used when the property is not set.
+     * @return Property value.
+     */
+    public static int getIntProperty(String name, int defaultValue) {
+
+        String value = System.getProperty(name);
+        return StringUtils.isBlank(value) ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Read a long system property.
+     *
+     * @param name         Name of the property.
+     * @param defaultValue Value to be used when the property is not set.
+     * @return Property value.
+     */
+    public static long getLongProperty(String name, long defaultValue) {
+
+        String value = System.getProperty(name);
+        return StringUtils.isBlank(value) ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    @Override
+    public String toString() {
+
+        return "concurrency=" + concurrency + ", duration=" + duration.getSeconds() + "s, warmup=" +
+                warmup.getSeconds() + "s, label=" + label;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.performance.common;
+
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+
+/**
+ * Per virtual user context passed to each iteration of a {@link LoadTask}.
+ */
+public class LoadContext {
+
+    private final int virtualUserId;
+    private final LoadResult result;
+    private final CookieJar cookieJar = new CookieJar();
+    private long iteration;
+
+    public LoadContext(int virtualUserId, LoadResult result) {
+
+        this.virtualUserId = virtualUserId;
+        this.result = result;
+    }
+
+    /**
+     * Execute the given call and record its latency against the operation.
+     *
+     * @param operation        Name of the operation.
+     * @param call             Call to be measured.
+     * @param successCondition Condition evaluated on the outcome to decide whether the call succeeded.
+     * @param <T>              Type of the outcome.
+     * @return Outcome of the call.
+     * @throws Exception If the call failed. The failure is recorded before rethrowing.
+     */
+    public <T> T measure(String operation, Callable<T> call, Predicate<T> successCondition) throws Exception {
+
+        long start = System.nanoTime();
+        T outcome;
+        try {
+            outcome = call.call();
+        } catch (Exception e) {
+            result.getOperation(operation).recordFailure(System.nanoTime() - start, e.getClass().getSimpleName());
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (successCondition.test(outcome)) {
+            result.getOperation(operation).recordSuccess(elapsed);
+        } else {
+            result.getOperation(operation).recordFailure(elapsed, String.valueOf(outcome));
+        }
+        return outcome;
+    }
+
+    /**
+     * Record a successful operation which was measured by the caller.
+     *
+     * @param operation    Name of the operation.
+     * @param elapsedNanos Latency in nano seconds.
+     */
+    public void recordSuccess(String operation, long elapsedNanos) {
+
+        result.getOperation(operation).recordSuccess(elapsedNanos);
+    }
+
+    /**
+     * Record a failed operation which was measured by the caller.
+     *
+     * @param operation    Name of the operation.
+     * @param elapsedNanos Latency in nano seconds.
+     * @param reason       Reason of the failure.
+     */
+    public void recordFailure(String operation, long elapsedNanos, String reason) {
+
+        result.getOperation(operation).recordFailure(elapsedNanos, reason);
+    }
+
+    public int getVirtualUserId() {
+
+        return virtualUserId;
+    }
+
+    public long getIteration() {
+
+        return iteration;
+    }
+
+    void nextIteration() {
+
+        iteration++;
+    }
+
+    /**
+     * Get the cookie store of the virtual user, which is kept across the iterations of the virtual user.
+     *
+     * @return Cookie store.
+     */
+    public CookieJar getCookieJar() {
+
+        return cookieJar;
+    }
+
+    public LoadResult getResult() {
+
+        return result;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.performance.common;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Closed-model load generator. Each virtual user is backed by a virtual thread and executes the {@link LoadTask}
+ * back to back until the configured duration elapses.
+ */
+public class LoadGenerator {
+
+    private static final Log log = LogFactory.getLog(LoadGenerator.class);
+
+    private final LoadConfiguration configuration;
+
+    public LoadGenerator(LoadConfiguration configuration) {
+
+        this.configuration = configuration;
+    }
+
+    /**
+     * Run the task for the configured warm-up period, discarding the results, and then for the configured duration.
+     *
+     * @param scenario Name of the scenario.
+     * @param task     Task to be executed by each virtual user.
+     * @return Statistics collected during the measured period.
+     */
+    public LoadResult run(String scenario, LoadTask task) {
+
+        if (!configuration.getWarmup().isZero()) {
+            log.info("Warming up scenario " + scenario + " for " + configuration.getWarmup().getSeconds() + "s.");
+            runFor(new LoadResult(scenario), task, configuration.getWarmup());
+        }
+        log.info("Running scenario " + scenario + " with " + configuration);
+        LoadResult result = new LoadResult(scenario);
+        runFor(result, task, configuration.getDuration());
+        return result;
+    }
+
+    /**
+     * Run the task a fixed number of times in total, shared among the virtual users. No warm-up is performed since
+     * this mode is used for scenarios that operate on a finite data set.
+     *
+     * @param scenario   Name of the scenario.
+     * @param iterations Total number of iterations.
+     * @param task       Task to be executed.
+     * @return Statistics collected while executing the iterations.
+     */
+    public LoadResult runIterations(String scenario, long iterations, LoadTask task) {
+
+        log.info("Running " + iterations + " iterations of scenario " + scenario + " with " + configuration);
+        AtomicLong remaining = new AtomicLong(iterations);
+        LoadResult result = new LoadResult(scenario);
+        execute(result, task, () -> remaining.getAndDecrement() > 0);
+        return result;
+    }
+
+    /**
+     * Run the task while the given condition holds. No warm-up is performed since this mode is used for scenarios
+     * that consume a work queue, where the amount of work done by an iteration is decided by the task.
+     *
+     * @param scenario  Name of the scenario.
+     * @param condition Condition checked by each virtual user before each iteration.
+     * @param task      Task to be executed.
+     * @return Statistics collected while executing the iterations.
+     */
+    public LoadResult runWhile(String scenario, BooleanSupplier condition, LoadTask task) {
+
+        log.info("Running scenario " + scenario + " until its work is done with " + configuration);
+        LoadResult result = new LoadResult(scenario);
+        execute(result, task, condition);
+        return result;
+    }
+
+    private void runFor(LoadResult result, LoadTask task, Duration duration) {
+
+        long deadline = System.nanoTime() + duration.toNanos();
+        execute(result, task, () -> System.nanoTime() < deadline);
+    }
+
+    private void execute(LoadResult result, LoadTask task, BooleanSupplier hasNext) {
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < configuration.getConcurrency(); i++) {
+                LoadContext context = new LoadContext(i, result);
+                executor.submit(() -> runVirtualUser(context, task, hasNext));
+            }
+        }
+        result.setElapsedNanos(System.nanoTime() - start);
+    }
+
+    private void runVirtualUser(LoadContext context, LoadTask task, BooleanSupplier hasNext) {
+
+        while (!Thread.currentThread().isInterrupted() && hasNext.getAsBoolean()) {
+            context.nextIteration();
+            try {
+                task.execute(context);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                context.getResult().recordIterationError();
+                if (log.isDebugEnabled()) {
+                    log.debug("Iteration " + context.getIteration() + " of virtual user " +
+                            context.getVirtualUserId() + " failed.", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.performance.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated statistics of a load scenario, grouped by operation.
+ */
+public class LoadResult {
+
+    private final String scenario;
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private final LongAdder iterationErrors = new LongAdder();
+    private volatile long elapsedNanos;
+
+    public LoadResult(String scenario) {
+
+        this.scenario = scenario;
+    }
+
+    /**
+     * Get the statistics of the given operation, creating them on first use.
+     *
+     * @param operation Name of the operation.
+     * @return Operation statistics.
+     */
+    public OperationStats getOperation(String operation) {
+
+        return operations.computeIfAbsent(operation, OperationStats::new);
+    }
+
+    /**
+     * Get the statistics of all the operations sorted by the operation name.
+     *
+     * @return Operation statistics.
+     */
+    public List<OperationStats> getOperations() {
+
+        List<OperationStats> sortedOperations = new ArrayList<>(operations.values());
+        sortedOperations.sort(Comparator.comparing(OperationStats::getOperation));
+        return sortedOperations;
+    }
+
+    public Collection<String> getOperationNames() {
+
+        return operations.keySet();
+    }
+
+    /**
+     * Get the throughput of the given operation over the measured period.
+     *
+     * @param operation Name of the operation.
+     * @return Completed operations per second.
+     */
+    public double getThroughput(String operation) {
+
+        OperationStats stats = operations.get(operation);
+        if (stats == null || elapsedNanos <= 0) {
+            return 0.0;
+        }
+        return stats.getTotalCount() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Record an iteration that was aborted by an unexpected error.
+     */
+    public void recordIterationError() {
+
+        iterationErrors.increment();
+    }
+
+    public long getIterationErrors() {
+
+        return iterationErrors.sum();
+    }
+
+    public String getScenario() {
+
+        return scenario;
+    }
+
+    public long getElapsedNanos() {
+
+        return elapsedNanos;
+    }
+
+    public void setElapsedNanos(long elapsedNanos) {
+
+        this.elapsedNanos = elapsedNanos;
+    }
+}
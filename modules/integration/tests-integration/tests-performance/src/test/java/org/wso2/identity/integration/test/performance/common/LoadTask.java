@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.performance.common;
+
+/**
+ * A single iteration of a load scenario, executed repeatedly by each virtual user.
+ */
+@FunctionalInterface
+public interface LoadTask {
+
+    /**
+     * Execute one iteration. Latencies are recorded through the given context.
+     *
+     * @param context Context of the virtual user executing the iteration.
+     * @throws Exception If the iteration failed in a way that is not recorded against an operation.
+     */
+    void execute(LoadContext context) throws Exception;
+}
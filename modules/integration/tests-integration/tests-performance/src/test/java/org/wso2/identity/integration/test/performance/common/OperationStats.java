@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.performance.common;
+
+import org.wso2.identity.integration.common.utils.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome statistics of a single operation of a load scenario.
+ */
+public class OperationStats {
+
+    private final String operation;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final Map<String, LongAdder> failureReasons = new ConcurrentHashMap<>();
+
+    public OperationStats(String operation) {
+
+        this.operation = operation;
+    }
+
+    /**
+     * Record a successful execution of the operation.
+     *
+     * @param elapsedNanos Latency of the operation in nano seconds.
+     */
+    public void recordSuccess(long elapsedNanos) {
+
+        latency.recordNanos(elapsedNanos);
+        successCount.increment();
+    }
+
+    /**
+     * Record a failed execution of the operation.
+     *
+     * @param elapsedNanos Latency of the operation in nano seconds.
+     * @param reason       Short reason of the failure such as the HTTP status code or the exception type.
+     */
+    public void recordFailure(long elapsedNanos, String reason) {
+
+        latency.recordNanos(elapsedNanos);
+        failureCount.increment();
+        failureReasons.computeIfAbsent(reason, key -> new LongAdder()).increment();
+    }
+
+    public String getOperation() {
+
+        return operation;
+    }
+
+    public LatencyHistogram getLatency() {
+
+        return latency;
+    }
+
+    public long getSuccessCount() {
+
+        return successCount.sum();
+    }
+
+    public long getFailureCount() {
+
+        return failureCount.sum();
+    }
+
+    public long getTotalCount() {
+
+        return getSuccessCount() + getFailureCount();
+    }
+
+    public double getErrorRate() {
+
+        long total = getTotalCount();
+        return total == 0 ? 0.0 : (double) getFailureCount() / total;
+    }
+
+    /**
+     * Get the failure counts grouped by the failure reason.
+     *
+     * @return Sorted map of failure reason to count.
+     */
+    public Map<String, Long> getFailureReasons() {
+
+        Map<String, Long> reasons = new TreeMap<>();
+        failureReasons.forEach((reason, count) -> reasons.put(reason, count.sum()));
+        return reasons;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.performance.common;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.identity.integration.common.utils.metrics.LatencyHistogram;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the statistics of a load scenario to the log and to a CSV file under
+ * "&lt;report directory&gt;/&lt;label&gt;/&lt;scenario&gt;.csv", so that runs against different releases can be compared.
+ */
+public final class PerformanceReport {
+
+    private static final Log log = LogFactory.getLog(PerformanceReport.class);
+
+    private static final String CSV_HEADER = "scenario,operation,count,errors,error_rate,throughput_per_sec," +
+            "mean_ms,p50_ms,p99_ms,p999_ms,max_ms";
+    private static final String TABLE_FORMAT = "%-40s %10s %8s %12s %10s %10s %10s %10s%n";
+    private static final String COMPARISON_CSV_HEADER = "variant,operation,count,errors,error_rate," +
+            "throughput_per_sec,mean_ms,p50_ms,p99_ms,p999_ms,max_ms";
+    private static final String COMPARISON_CELL_FORMAT = " %14s";
+
+    private PerformanceReport() {
+
+    }
+
+    /**
+     * Log the statistics of the given result and write them to the report directory.
+     *
+     * @param configuration Load configuration used for the run.
+     * @param result        Result of the run.
+     * @return Path of the written report.
+     * @throws IOException If an error occurred while writing the report.
+     */
+    public static Path write(LoadConfiguration configuration, LoadResult result) throws IOException {
+
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%nScenario: %s (%s)%n", result.getScenario(), configuration));
+        table.append(String.format(Locale.ROOT, TABLE_FORMAT, "operation", "count", "errors", "throughput/s",
+                "mean ms", "p50 ms", "p99 ms", "p99.9 ms"));
+        for (OperationStats stats : result.getOperations()) {
+            LatencyHistogram latency = stats.getLatency();
+            table.append(String.format(Locale.ROOT, TABLE_FORMAT, stats.getOperation(), stats.getTotalCount(),
+                    stats.getFailureCount(), format(result.getThroughput(stats.getOperation())),
+                    toMillis(latency.getMeanMicros()), toMillis(latency.getValueAtPercentile(50)),
+                    toMillis(latency.getValueAtPercentile(99)), toMillis(latency.getValueAtPercentile(99.9))));
+            if (stats.getFailureCount() > 0) {
+                table.append("    failures: ").append(stats.getFailureReasons()).append(System.lineSeparator());
+            }
+        }
+        if (result.getIterationErrors() > 0) {
+            table.append("Aborted iterations: ").append(result.getIterationErrors()).append(System.lineSeparator());
+        }
+        log.info(table.toString());
+
+        Path reportDirectory = configuration.getReportDirectory().resolve(configuration.getLabel());
+        Files.createDirectories(reportDirectory);
+        Path reportFile = reportDirectory.resolve(result.getScenario() + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            for (OperationStats stats : result.getOperations()) {
+                LatencyHistogram latency = stats.getLatency();
+                writer.write(String.join(",", result.getScenario(), stats.getOperation(),
+                        String.valueOf(stats.getTotalCount()), String.valueOf(stats.getFailureCount()),
+                        format(stats.getErrorRate()), format(result.getThroughput(stats.getOperation())),
+                        toMillis(latency.getMeanMicros()), toMillis(latency.getValueAtPercentile(50)),
+                        toMillis(latency.getValueAtPercentile(99)), toMillis(latency.getValueAtPercentile(99.9)),
+                        toMillis(latency.getMaxMicros())));
+                writer.newLine();
+            }
+        }
+        log.info("Performance report written to " + reportFile.toAbsolutePath());
+        return reportFile;
+    }
+
+    /**
+     * Log a side by side comparison of the p99 latencies of the same operations run against several variants, such
+     * as different data sets, and write all the statistics of the runs to
+     * "&lt;report directory&gt;/&lt;label&gt;/&lt;name&gt;.csv".
+     *
+     * @param configuration Load configuration used for the runs.
+     * @param name          Name of the comparison.
+     * @param results       Results of the runs keyed by the name of the variant, in the order of the columns.
+     * @return Path of the written report.
+     * @throws IOException If an error occurred while writing the report.
+     */
+    public static Path writeComparison(LoadConfiguration configuration, String name,
+                                       Map<String, List<LoadResult>> results) throws IOException {
+
+        Set<String> operations = new LinkedHashSet<>();
+        results.values().forEach(variantResults -> variantResults.forEach(result ->
+                result.getOperations().forEach(stats -> operations.add(stats.getOperation()))));
+
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%nComparison: %s, p99 ms (%s)%n", name, configuration));
+        table.append(String.format(Locale.ROOT, "%-40s", "operation"));
+        for (String variant : results.keySet()) {
+            table.append(String.format(Locale.ROOT, COMPARISON_CELL_FORMAT, variant));
+        }
+        table.append(System.lineSeparator());
+        for (String operation : operations) {
+            table.append(String.format(Locale.ROOT, "%-40s", operation));
+            for (List<LoadResult> variantResults : results.values()) {
+                OperationStats stats = variantResults.stream()
+                        .flatMap(result -> result.getOperations().stream())
+                        .filter(candidate -> candidate.getOperation().equals(operation))
+                        .findFirst()
+                        .orElse(null);
+                table.append(String.format(Locale.ROOT, COMPARISON_CELL_FORMAT, stats == null ? "-" :
+                        toMillis(stats.getLatency().getValueAtPercentile(99))));
+            }
+            table.append(System.lineSeparator());
+        }
+        log.info(table.toString());
+
+        Path reportDirectory = configuration.getReportDirectory().resolve(configuration.getLabel());
+        Files.createDirectories(reportDirectory);
+        Path reportFile = reportDirectory.resolve(name + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+            writer.write(COMPARISON_CSV_HEADER);
+            writer.newLine();
+            for (Map.Entry<String, List<LoadResult>> entry : results.entrySet()) {
+                for (LoadResult result : entry.getValue()) {
+                    for (OperationStats stats : result.getOperations()) {
+                        LatencyHistogram latency = stats.getLatency();
+                        writer.write(String.join(",", entry.getKey(), stats.getOperation(),
+                                String.valueOf(stats.getTotalCount()), String.valueOf(stats.getFailureCount()),
+                                format(stats.getErrorRate()), format(result.getThroughput(stats.getOperation())),
+                                toMillis(latency.getMeanMicros()), toMillis(latency.getValueAtPercentile(50)),
+                                toMillis(latency.getValueAtPercentile(99)),
+                                toMillis(latency.getValueAtPercentile(99.9)), toMillis(latency.getMaxMicros())));
+                        writer.newLine();
+                    }
+                }
+            }
+        }
+        log.info("Comparison report written to " + reportFile.toAbsolutePath());
+        return reportFile;
+    }
+
+    /**
+     * Log a table of values other than latencies, such as the memory usage of the server, and write it to
+     * "&lt;report directory&gt;/&lt;label&gt;/&lt;name&gt;.csv".
+     *
+     * @param configuration Load configuration used for the runs.
+     * @param name          Name of the table.
+     * @param columns       Column names.
+     * @param rows          Rows of formatted values, in the order of the columns.
+     * @return Path of the written report.
+     * @throws IOException If an error occurred while writing the report.
+     */
+    public static Path writeTable(LoadConfiguration configuration, String name, List<String> columns,
+                                  List<List<String>> rows) throws IOException {
+
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%n%s (%s)%n", name, configuration));
+        for (String column : columns) {
+            table.append(String.format(Locale.ROOT, COMPARISON_CELL_FORMAT, column));
+        }
+        table.append(System.lineSeparator());
+        for (List<String> row : rows) {
+            for (String value : row) {
+                table.append(String.format(Locale.ROOT, COMPARISON_CELL_FORMAT, value));
+            }
+            table.append(System.lineSeparator());
+        }
+        log.info(table.toString());
+
+        Path reportDirectory = configuration.getReportDirectory().resolve(configuration.getLabel());
+        Files.createDirectories(reportDirectory);
+        Path reportFile = reportDirectory.resolve(name + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+            writer.write(String.join(",", columns));
+            writer.newLine();
+            for (List<String> row : rows) {
+                writer.write(String.join(",", row));
+                writer.newLine();
+            }
+        }
+        log.info("Report written to " + reportFile.toAbsolutePath());
+        return reportFile;
+    }
+
+    private static String toMillis(double micros) {
+
+        return format(micros / 1000.0);
+    }
+
+    private static String format(double value) {
+
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
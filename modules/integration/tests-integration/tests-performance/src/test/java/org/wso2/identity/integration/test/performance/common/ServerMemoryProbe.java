@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.common;
+
+import com.sun.tools.attach.VirtualMachine;
+import com.sun.tools.attach.VirtualMachineDescriptor;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.List;
+import javax.management.MBeanServerConnection;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * Reads the memory usage of the locally started server through its platform MBeans. The server JVM is found with the
+ * attach API and its local management agent is started on demand, so that the remote JMX connector of the server
+ * does not need to be enabled.
+ */
+public class ServerMemoryProbe implements AutoCloseable {
+
+    private static final Log log = LogFactory.getLog(ServerMemoryProbe.class);
+
+    private static final String BOOTSTRAP_CLASS = "org.wso2.carbon.bootstrap.Bootstrap";
+    private static final String CARBON_HOME_PROPERTY = "carbon.home";
+    private static final String METASPACE_POOL = "Metaspace";
+
+    private final JMXConnector connector;
+    private final MemoryMXBean memory;
+    private final List<GarbageCollectorMXBean> garbageCollectors;
+    private final MemoryPoolMXBean metaspace;
+
+    private ServerMemoryProbe(JMXConnector connector) throws IOException {
+
+        this.connector = connector;
+        MBeanServerConnection connection = connector.getMBeanServerConnection();
+        memory = ManagementFactory.newPlatformMXBeanProxy(connection, ManagementFactory.MEMORY_MXBEAN_NAME,
+                MemoryMXBean.class);
+        garbageCollectors = ManagementFactory.getPlatformMXBeans(connection, GarbageCollectorMXBean.class);
+        metaspace = ManagementFactory.getPlatformMXBeans(connection, MemoryPoolMXBean.class).stream()
+                .filter(pool -> METASPACE_POOL.equals(pool.getName()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Attach to the server started from the given carbon home.
+     *
+     * @param carbonHome Carbon home of the server.
+     * @return Probe of the server or null if the server JVM could not be attached to, in which case the memory is not
+     * reported.
+     */
+    public static ServerMemoryProbe attach(String carbonHome) {
+
+        try {
+            for (VirtualMachineDescriptor descriptor : VirtualMachine.list()) {
+                if (!descriptor.displayName().contains(BOOTSTRAP_CLASS)) {
+                    continue;
+                }
+                VirtualMachine virtualMachine = VirtualMachine.attach(descriptor);
+                try {
+                    String serverCarbonHome = virtualMachine.getSystemProperties().getProperty(CARBON_HOME_PROPERTY);
+                    if (carbonHome != null && serverCarbonHome != null && !new File(carbonHome).getCanonicalFile()
+                            .equals(new File(serverCarbonHome).getCanonicalFile())) {
+                        continue;
+                    }
+                    JMXServiceURL serviceURL = new JMXServiceURL(virtualMachine.startLocalManagementAgent());
+                    return new ServerMemoryProbe(JMXConnectorFactory.connect(serviceURL));
+                } finally {
+                    virtualMachine.detach();
+                }
+            }
+            log.warn("No server JVM of carbon home " + carbonHome + " was found. The server memory is not reported.");
+        } catch (Exception e) {
+            log.warn("Failed to attach to the server JVM. The server memory is not reported.", e);
+        }
+        return null;
+    }
+
+    /**
+     * Take a snapshot of the memory usage and the garbage collections of the server.
+     *
+     * @return Memory snapshot.
+     */
+    public MemorySnapshot snapshot() {
+
+        long collections = 0;
+        long collectionMillis = 0;
+        for (GarbageCollectorMXBean garbageCollector : garbageCollectors) {
+            collections += Math.max(0L, garbageCollector.getCollectionCount());
+            collectionMillis += Math.max(0L, garbageCollector.getCollectionTime());
+        }
+        return new MemorySnapshot(memory.getHeapMemoryUsage().getUsed(),
+                metaspace == null ? 0L : metaspace.getUsage().getUsed(), collections, collectionMillis);
+    }
+
+    /**
+     * Request a full garbage collection in the server, so that the heap usage read afterwards is the retained heap.
+     */
+    public void gc() {
+
+        memory.gc();
+    }
+
+    @Override
+    public void close() {
+
+        try {
+            connector.close();
+        } catch (IOException e) {
+            log.warn("Failed to close the JMX connection to the server.", e);
+        }
+    }
+
+    /**
+     * Memory usage of the server at a point in time.
+     */
+    public static class MemorySnapshot {
+
+        private final long heapUsedBytes;
+        private final long metaspaceUsedBytes;
+        private final long collectionCount;
+        private final long collectionMillis;
+
+        MemorySnapshot(long heapUsedBytes, long metaspaceUsedBytes, long collectionCount, long collectionMillis) {
+
+            this.heapUsedBytes = heapUsedBytes;
+            this.metaspaceUsedBytes = metaspaceUsedBytes;
+            this.collectionCount = collectionCount;
+            this.collectionMillis = collectionMillis;
+        }
+
+        public long getHeapUsedBytes() {
+
+            return heapUsedBytes;
+        }
+
+        public long getMetaspaceUsedBytes() {
+
+            return metaspaceUsedBytes;
+        }
+
+        public long getCollectionCount() {
+
+            return collectionCount;
+        }
+
+        public long getCollectionMillis() {
+
+            return collectionMillis;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.common;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+/**
+ * Browser of a virtual user. Requests carry the cookies of the virtual user and the cookies set by the responses are
+ * stored back, so that each virtual user keeps a session of its own with the server. Redirects are not followed
+ * automatically, each hop of a redirect chain is sent and recorded as an operation of its own.
+ */
+public class VirtualBrowser {
+
+    private final HttpLoadClient client;
+    private final LoadContext context;
+
+    public VirtualBrowser(HttpLoadClient client, LoadContext context) {
+
+        this.client = client;
+        this.context = context;
+    }
+
+    /**
+     * Send a GET request.
+     *
+     * @param operation      Name of the operation, or null if the request should not be recorded.
+     * @param uri            Request URI.
+     * @param expectedStatus Status code which indicates a successful operation.
+     * @return HTTP response.
+     * @throws IOException          If an error occurred while sending the request.
+     * @throws InterruptedException If the calling thread was interrupted.
+     */
+    public HttpResponse<String> get(String operation, String uri, int expectedStatus)
+            throws IOException, InterruptedException {
+
+        return send(operation, HttpLoadClient.newRequest(uri).GET(), expectedStatus);
+    }
+
+    /**
+     * Send a form POST request.
+     *
+     * @param operation      Name of the operation, or null if the request should not be recorded.
+     * @param uri            Request URI.
+     * @param parameters     Form parameters.
+     * @param expectedStatus Status code which indicates a successful operation.
+     * @return HTTP response.
+     * @throws IOException          If an error occurred while sending the request.
+     * @throws InterruptedException If the calling thread was interrupted.
+     */
+    public HttpResponse<String> postForm(String operation, String uri, Map<String, String> parameters,
+                                         int expectedStatus) throws IOException, InterruptedException {
+
+        return send(operation, HttpLoadClient.newFormPost(uri, parameters), expectedStatus);
+    }
+
+    /**
+     * Follow the location header of a redirect response with a GET request.
+     *
+     * @param operation      Name of the operation, or null if the request should not be recorded.
+     * @param redirect       Redirect response.
+     * @param expectedStatus Status code which indicates a successful operation.
+     * @return HTTP response.
+     * @throws IOException          If an error occurred while sending the request.
+     * @throws InterruptedException If the calling thread was interrupted.
+     */
+    public HttpResponse<String> followRedirect(String operation, HttpResponse<String> redirect, int expectedStatus)
+            throws IOException, InterruptedException {
+
+        String location = getLocation(redirect);
+        if (location == null) {
+            throw new IllegalStateException("No location header in the response of " +
+                    redirect.request().uri().getPath() + " with status " + redirect.statusCode());
+        }
+        return get(operation, location, expectedStatus);
+    }
+
+    /**
+     * Send a request with the cookies of the virtual user and store the cookies of the response.
+     *
+     * @param operation      Name of the operation, or null if the request should not be recorded.
+     * @param request        HTTP request builder.
+     * @param expectedStatus Status code which indicates a successful operation.
+     * @return HTTP response.
+     * @throws IOException          If an error occurred while sending the request.
+     * @throws InterruptedException If the calling thread was interrupted.
+     */
+    public HttpResponse<String> send(String operation, HttpRequest.Builder request, int expectedStatus)
+            throws IOException, InterruptedException {
+
+        HttpRequest cookieRequest = context.getCookieJar().apply(request).build();
+        HttpResponse<String> response = operation == null ? client.send(cookieRequest) :
+                client.send(context, operation, cookieRequest, expectedStatus);
+        context.getCookieJar().store(response);
+        return response;
+    }
+
+    public CookieJar getCookieJar() {
+
+        return context.getCookieJar();
+    }
+
+    /**
+     * Get the absolute URI of the location header of a redirect response.
+     *
+     * @param response Redirect response.
+     * @return Absolute location or null if the header is not present.
+     */
+    public static String getLocation(HttpResponse<String> response) {
+
+        String location = response.headers().firstValue(HttpLoadClient.LOCATION_HEADER).orElse(null);
+        if (location == null || location.isEmpty()) {
+            return null;
+        }
+        return response.request().uri().resolve(location).toString();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.oauth2;
+
+import org.json.simple.JSONObject;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.test.oauth2.dataprovider.model.ApplicationConfig;
+import org.wso2.identity.integration.test.performance.PerformanceTestBase;
+import org.wso2.identity.integration.test.performance.common.HttpLoadClient;
+import org.wso2.identity.integration.test.performance.common.LoadConfiguration;
+import org.wso2.identity.integration.test.performance.common.LoadContext;
+import org.wso2.identity.integration.test.performance.common.LoadGenerator;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.performance.common.VirtualBrowser;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OAuth2PKCEConfiguration;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
+import org.wso2.identity.integration.test.utils.OAuth2Constant;
+
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End to end browser login through the authorization code grant with PKCE: the authorize request, the login page,
+ * the commonauth login, the consent page and approval, and the token request with the code verifier.
+ * <p>
+ * Each virtual user is a browser of its own with a separate cookie store and starts a new session in each iteration,
+ * so that each iteration is a complete login. Every hop of the redirect chain is recorded as an operation, together
+ * with the whole login, so the report gives the logins per second and shows which hop limits them. The number of
+ * virtual users is set with "perf.oidc.login.concurrency" and is independent of the other scenarios, since browser
+ * logins are expected to run with thousands of concurrent users.
+ */
+public class AuthorizationCodePKCELoadTestCase extends PerformanceTestBase {
+
+    public static final String CONCURRENCY_PROPERTY = "perf.oidc.login.concurrency";
+    public static final String USERS_PROPERTY = "perf.oidc.login.users";
+    public static final String CONSENT_PROPERTY = "perf.oidc.login.consent";
+
+    private static final int DEFAULT_CONCURRENCY = 1000;
+    private static final int DEFAULT_USERS = 1000;
+    private static final String APPLICATION_NAME = "AuthorizationCodePKCELoadTestApp";
+    private static final String USERNAME_PREFIX = "pkceloaduser";
+    private static final String CODE_CHALLENGE = "code_challenge";
+    private static final String CODE_CHALLENGE_METHOD = "code_challenge_method";
+    private static final String CODE_CHALLENGE_METHOD_S256 = "S256";
+    private static final String CODE_VERIFIER = "code_verifier";
+    private static final String STATE = "state";
+    private static final int CODE_VERIFIER_BYTES = 32;
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_FOUND = 302;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private String clientId;
+    private String clientSecret;
+    private String approvalEndpoint;
+    private List<String> usernames;
+    private LoadConfiguration loginConfiguration;
+    private LoadGenerator loginLoadGenerator;
+
+    @BeforeClass(alwaysRun = true)
+    public void testInit() throws Exception {
+
+        initPerformanceTest(TestUserMode.SUPER_TENANT_ADMIN);
+        boolean consent = Boolean.parseBoolean(System.getProperty(CONSENT_PROPERTY, Boolean.TRUE.toString()));
+        OpenIDConnectConfiguration oidcConfig = newOIDCConfiguration(
+                Arrays.asList(OAuth2Constant.OAUTH2_GRANT_TYPE_AUTHORIZATION_CODE,
+                        OAuth2Constant.OAUTH2_GRANT_TYPE_REFRESH_TOKEN), ApplicationConfig.TokenType.OPAQUE)
+                .pkce(new OAuth2PKCEConfiguration()
+                        .mandatory(true)
+                        .supportPlainTransformAlgorithm(false));
+        oidcConfig = createLoadTestApplication(APPLICATION_NAME, oidcConfig, !consent);
+        clientId = oidcConfig.getClientId();
+        clientSecret = oidcConfig.getClientSecret();
+        approvalEndpoint = getTenantQualifiedURL(OAuth2Constant.APPROVAL_URL, tenantInfo.getDomain());
+        usernames = createLoadTestUsers(USERNAME_PREFIX, LoadConfiguration.getIntProperty(USERS_PROPERTY,
+                DEFAULT_USERS));
+        loginConfiguration = loadConfiguration.withConcurrency(LoadConfiguration.getIntProperty(CONCURRENCY_PROPERTY,
+                DEFAULT_CONCURRENCY));
+        loginLoadGenerator = new LoadGenerator(loginConfiguration);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        cleanUpPerformanceTest();
+    }
+
+    @Test(description = "Load test of the browser login with the authorization code grant and PKCE.")
+    public void testAuthorizationCodeLoginWithPKCE() throws Exception {
+
+        LoadResult result = loginLoadGenerator.run("oidc-authorization_code-pkce-login", context ->
+                context.measure("login", () -> login(context), accessToken -> accessToken != null));
+        report(loginConfiguration, result);
+    }
+
+    /**
+     * Run the complete login of a new browser session and return the issued access token.
+     */
+    private String login(LoadContext context) throws Exception {
+
+        context.getCookieJar().clear();
+        VirtualBrowser browser = new VirtualBrowser(loadClient, context);
+        String codeVerifier = newCodeVerifier();
+        String state = Long.toHexString(SECURE_RANDOM.nextLong());
+
+        Map<String, String> authorizeParameters = new LinkedHashMap<>();
+        authorizeParameters.put(OAuth2Constant.OAUTH2_RESPONSE_TYPE, OAuth2Constant.OAUTH2_GRANT_TYPE_CODE);
+        authorizeParameters.put(OAuth2Constant.OAUTH2_CLIENT_ID, clientId);
+        authorizeParameters.put(OAuth2Constant.REDIRECT_URI_NAME, OAuth2Constant.CALLBACK_URL);
+        authorizeParameters.put(OAuth2Constant.OAUTH2_SCOPE, OAuth2Constant.OAUTH2_SCOPE_OPENID);
+        authorizeParameters.put(STATE, state);
+        authorizeParameters.put(CODE_CHALLENGE, toCodeChallenge(codeVerifier));
+        authorizeParameters.put(CODE_CHALLENGE_METHOD, CODE_CHALLENGE_METHOD_S256);
+        HttpResponse<String> authorizeResponse = browser.get("authorize",
+                authorizeEndpoint + "?" + HttpLoadClient.toFormBody(authorizeParameters), HTTP_FOUND);
+        String sessionDataKey = getLocationQueryParameter(authorizeResponse, OAuth2Constant.SESSION_DATA_KEY);
+        if (sessionDataKey == null) {
+            throw new IllegalStateException("sessionDataKey not found in the authorize redirect.");
+        }
+        browser.followRedirect("login-page", authorizeResponse, HTTP_OK);
+
+        Map<String, String> loginParameters = new LinkedHashMap<>();
+        loginParameters.put("username", getUsername(context));
+        loginParameters.put("password", LOAD_TEST_USER_PASSWORD);
+        loginParameters.put(OAuth2Constant.SESSION_DATA_KEY, sessionDataKey);
+        HttpResponse<String> loginResponse = browser.postForm("commonauth", commonAuthEndpoint, loginParameters,
+                HTTP_FOUND);
+        HttpResponse<String> callbackResponse = browser.followRedirect("authorize-callback", loginResponse,
+                HTTP_FOUND);
+
+        String sessionDataKeyConsent = getLocationQueryParameter(callbackResponse,
+                OAuth2Constant.SESSION_DATA_KEY_CONSENT);
+        if (sessionDataKeyConsent != null) {
+            browser.followRedirect("consent-page", callbackResponse, HTTP_OK);
+            Map<String, String> consentParameters = new LinkedHashMap<>();
+            consentParameters.put("consent", "approve");
+            consentParameters.put(OAuth2Constant.SESSION_DATA_KEY_CONSENT, sessionDataKeyConsent);
+            callbackResponse = browser.postForm("consent-approve", approvalEndpoint, consentParameters, HTTP_FOUND);
+        }
+        String code = getLocationQueryParameter(callbackResponse, OAuth2Constant.AUTHORIZATION_CODE_NAME);
+        if (code == null) {
+            throw new IllegalStateException("Authorization code not found in the callback redirect.");
+        }
+        if (!state.equals(getLocationQueryParameter(callbackResponse, STATE))) {
+            throw new IllegalStateException("State of the callback does not match the authorize request.");
+        }
+
+        Map<String, String> tokenParameters = tokenRequestParameters(clientId, clientSecret,
+                OAuth2Constant.OAUTH2_GRANT_TYPE_AUTHORIZATION_CODE);
+        tokenParameters.put(OAuth2Constant.AUTHORIZATION_CODE_NAME, code);
+        tokenParameters.put(OAuth2Constant.REDIRECT_URI_NAME, OAuth2Constant.CALLBACK_URL);
+        tokenParameters.put(CODE_VERIFIER, codeVerifier);
+        // The token request is a back channel call of the client and does not carry the browser cookies.
+        HttpResponse<String> tokenResponse = loadClient.send(context, "token",
+                HttpLoadClient.newFormPost(tokenEndpoint, tokenParameters).build(), HTTP_OK);
+        if (tokenResponse.statusCode() != HTTP_OK) {
+            throw new IllegalStateException("Token request failed with status " + tokenResponse.statusCode());
+        }
+        JSONObject tokens = toJSONObject(tokenResponse);
+        return (String) tokens.get(OAuth2Constant.ACCESS_TOKEN);
+    }
+
+    private String getUsername(LoadContext context) {
+
+        long index = context.getVirtualUserId() + context.getIteration() * loginConfiguration.getConcurrency();
+        return usernames.get((int) (index % usernames.size()));
+    }
+
+    /**
+     * Generate a high-entropy code verifier of 43 characters as recommended by RFC 7636.
+     */
+    private static String newCodeVerifier() {
+
+        byte[] bytes = new byte[CODE_VERIFIER_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String toCodeChallenge(String codeVerifier) throws NoSuchAlgorithmException {
+
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(codeVerifier.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+}
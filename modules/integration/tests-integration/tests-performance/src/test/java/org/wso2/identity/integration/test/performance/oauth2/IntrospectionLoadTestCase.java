@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.oauth2;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.test.oauth2.dataprovider.model.ApplicationConfig;
+import org.wso2.identity.integration.test.performance.PerformanceTestBase;
+import org.wso2.identity.integration.test.performance.common.HttpLoadClient;
+import org.wso2.identity.integration.test.performance.common.LoadConfiguration;
+import org.wso2.identity.integration.test.performance.common.LoadContext;
+import org.wso2.identity.integration.test.performance.common.LoadGenerator;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.performance.common.PerformanceReport;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
+import org.wso2.identity.integration.test.utils.OAuth2Constant;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.identity.integration.test.performance.common.HttpLoadClient.newFormPost;
+import static org.wso2.identity.integration.test.performance.common.HttpLoadClient.newRequest;
+
+/**
+ * Benchmark of the resource server hot path: token introspection with opaque and JWT access tokens, and the JWKS
+ * endpoint which is polled by the resource servers validating JWTs locally.
+ * <p>
+ * A pool of tokens of each type is minted up front. The introspection requests are then sent with a mix of tokens
+ * from a small hot set, which stays in the token caches of the server, and tokens taken in turn from the whole pool,
+ * which is sized larger than the caches so that these requests miss. Each hit ratio of
+ * "perf.introspection.hit.ratios" is run separately for each token type while the JWKS endpoint is polled in
+ * parallel with and without If-None-Match, and the p99 latencies of all the runs are compared side by side.
+ */
+public class IntrospectionLoadTestCase extends PerformanceTestBase {
+
+    private static final Log LOG = LogFactory.getLog(IntrospectionLoadTestCase.class);
+
+    public static final String POOL_SIZE_PROPERTY = "perf.introspection.pool";
+    public static final String HOT_SET_SIZE_PROPERTY = "perf.introspection.hot";
+    public static final String HIT_RATIOS_PROPERTY = "perf.introspection.hit.ratios";
+    public static final String CONCURRENCY_PROPERTY = "perf.introspection.concurrency";
+    public static final String JWKS_CONCURRENCY_PROPERTY = "perf.jwks.concurrency";
+    public static final String OPERATION_DURATION_PROPERTY = "perf.introspection.operation.duration";
+    public static final String OPERATION_WARMUP_PROPERTY = "perf.introspection.operation.warmup";
+
+    private static final int DEFAULT_POOL_SIZE = 20000;
+    private static final int DEFAULT_HOT_SET_SIZE = 100;
+    private static final String DEFAULT_HIT_RATIOS = "100,90,50,0";
+    private static final int DEFAULT_CONCURRENCY = 200;
+    private static final int DEFAULT_JWKS_CONCURRENCY = 10;
+    private static final long DEFAULT_OPERATION_DURATION_SECONDS = 30;
+    private static final long DEFAULT_OPERATION_WARMUP_SECONDS = 5;
+
+    private static final String JWKS_URL = "https://localhost:9853/oauth2/jwks";
+    // Binds each token to a value sent with the token request, so that the server issues a new token for each request
+    // instead of returning the active token of the client.
+    private static final String CLIENT_REQUEST_BINDING_TYPE = "client-request";
+    private static final String TOKEN_BINDING_ID = "tokenBindingId";
+    private static final String TOKEN = "token";
+    private static final String ACTIVE = "\"active\":true";
+    private static final String ETAG_HEADER = "ETag";
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private final Map<ApplicationConfig.TokenType, List<String>> tokenPools = new LinkedHashMap<>();
+    private final Map<String, List<LoadResult>> comparison = Collections.synchronizedMap(new LinkedHashMap<>());
+    private String introspectionEndpoint;
+    private String jwksEndpoint;
+    private String introspectionAuthorization;
+    private LoadConfiguration introspectionConfiguration;
+    private LoadConfiguration jwksConfiguration;
+    private int hotSetSize;
+
+    @BeforeClass(alwaysRun = true)
+    public void testInit() throws Exception {
+
+        initPerformanceTest(TestUserMode.SUPER_TENANT_ADMIN);
+        introspectionEndpoint = getTenantQualifiedURL(OAuth2Constant.INTRO_SPEC_ENDPOINT, tenantInfo.getDomain());
+        jwksEndpoint = getTenantQualifiedURL(JWKS_URL, tenantInfo.getDomain());
+        introspectionAuthorization = HttpLoadClient.basicAuthorization(tenantInfo.getContextUser().getUserName(),
+                tenantInfo.getContextUser().getPassword());
+
+        LoadConfiguration runConfiguration = loadConfiguration.withDuration(
+                Duration.ofSeconds(LoadConfiguration.getLongProperty(OPERATION_DURATION_PROPERTY,
+                        DEFAULT_OPERATION_DURATION_SECONDS)),
+                Duration.ofSeconds(LoadConfiguration.getLongProperty(OPERATION_WARMUP_PROPERTY,
+                        DEFAULT_OPERATION_WARMUP_SECONDS)));
+        introspectionConfiguration = runConfiguration.withConcurrency(
+                LoadConfiguration.getIntProperty(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY));
+        jwksConfiguration = runConfiguration.withConcurrency(
+                LoadConfiguration.getIntProperty(JWKS_CONCURRENCY_PROPERTY, DEFAULT_JWKS_CONCURRENCY));
+
+        int poolSize = LoadConfiguration.getIntProperty(POOL_SIZE_PROPERTY, DEFAULT_POOL_SIZE);
+        hotSetSize = Math.max(1, Math.min(poolSize, LoadConfiguration.getIntProperty(HOT_SET_SIZE_PROPERTY,
+                DEFAULT_HOT_SET_SIZE)));
+        for (ApplicationConfig.TokenType tokenType : ApplicationConfig.TokenType.values()) {
+            tokenPools.put(tokenType, mintTokens(tokenType, poolSize));
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        try {
+            if (!comparison.isEmpty()) {
+                PerformanceReport.writeComparison(introspectionConfiguration, "introspection-comparison",
+                        comparison);
+            }
+        } finally {
+            cleanUpPerformanceTest();
+        }
+    }
+
+    @Test(description = "Benchmark of token introspection with cache hit and miss mixes, with JWKS fetches in " +
+            "parallel.")
+    public void testIntrospectionAndJWKS() throws Exception {
+
+        LoadGenerator introspectionGenerator = new LoadGenerator(introspectionConfiguration);
+        LoadGenerator jwksGenerator = new LoadGenerator(jwksConfiguration);
+        String etag = getJWKSETag();
+        int[] hitRatios = Arrays.stream(StringUtils.defaultIfBlank(System.getProperty(HIT_RATIOS_PROPERTY),
+                        DEFAULT_HIT_RATIOS).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        for (Map.Entry<ApplicationConfig.TokenType, List<String>> tokenPool : tokenPools.entrySet()) {
+            for (int hitRatio : hitRatios) {
+                String variant = tokenPool.getKey().name().toLowerCase() + "-hit" + hitRatio;
+                TokenSelector tokenSelector = new TokenSelector(tokenPool.getValue(), hotSetSize, hitRatio);
+                LoadResult introspectionResult;
+                LoadResult jwksResult;
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    CompletableFuture<LoadResult> jwksRun = CompletableFuture.supplyAsync(() ->
+                            jwksGenerator.run("jwks-" + variant, context -> fetchJWKS(context, etag)), executor);
+                    introspectionResult = introspectionGenerator.run("introspection-" + variant, context ->
+                            introspect(context, tokenSelector.next()));
+                    jwksResult = jwksRun.join();
+                }
+                report(introspectionConfiguration, introspectionResult);
+                report(jwksConfiguration, jwksResult);
+                List<LoadResult> variantResults = new ArrayList<>();
+                variantResults.add(introspectionResult);
+                variantResults.add(jwksResult);
+                comparison.put(variant, variantResults);
+            }
+        }
+    }
+
+    /**
+     * Create an application issuing tokens of the given type and mint the given number of distinct tokens with the
+     * client_credentials grant.
+     */
+    private List<String> mintTokens(ApplicationConfig.TokenType tokenType, int count) throws Exception {
+
+        OpenIDConnectConfiguration oidcConfig = newOIDCConfiguration(
+                Collections.singletonList(OAuth2Constant.OAUTH2_GRANT_TYPE_CLIENT_CREDENTIALS), tokenType);
+        oidcConfig.getAccessToken().bindingType(CLIENT_REQUEST_BINDING_TYPE).validateTokenBinding(false);
+        oidcConfig = createLoadTestApplication("IntrospectionLoadTestApp-" + tokenType.name(), oidcConfig, true);
+        String clientId = oidcConfig.getClientId();
+        String clientSecret = oidcConfig.getClientSecret();
+
+        Queue<String> tokens = new ConcurrentLinkedQueue<>();
+        LoadResult result = loadGenerator.runIterations("introspection-mint-" + tokenType.name().toLowerCase(),
+                count, context -> {
+                    Map<String, String> parameters = tokenRequestParameters(clientId, clientSecret,
+                            OAuth2Constant.OAUTH2_GRANT_TYPE_CLIENT_CREDENTIALS);
+                    parameters.put(TOKEN_BINDING_ID, UUID.randomUUID().toString());
+                    HttpResponse<String> response = loadClient.send(context,
+                            OAuth2Constant.OAUTH2_GRANT_TYPE_CLIENT_CREDENTIALS,
+                            newFormPost(tokenEndpoint, parameters).build(), HTTP_OK);
+                    if (response.statusCode() == HTTP_OK) {
+                        tokens.add((String) toJSONObject(response).get(OAuth2Constant.ACCESS_TOKEN));
+                    }
+                });
+        report(result);
+
+        // Keep the order, the first tokens form the hot set.
+        Set<String> distinctTokens = new LinkedHashSet<>(tokens);
+        if (distinctTokens.size() < count) {
+            LOG.warn("Only " + distinctTokens.size() + " distinct " + tokenType.name() + " tokens were minted out " +
+                    "of " + count + ". The cache miss runs will hit the caches of the server.");
+        }
+        Assert.assertFalse(distinctTokens.isEmpty(), "No " + tokenType.name() + " token was minted.");
+        return new ArrayList<>(distinctTokens);
+    }
+
+    private void introspect(LoadContext context, String token) throws Exception {
+
+        Map<String, String> parameters = Collections.singletonMap(TOKEN, token);
+        HttpRequest request = newFormPost(introspectionEndpoint, parameters)
+                .header(HttpLoadClient.AUTHORIZATION_HEADER, introspectionAuthorization)
+                .build();
+        context.measure("introspect", () -> loadClient.send(request),
+                response -> response.statusCode() == HTTP_OK && response.body().contains(ACTIVE));
+    }
+
+    /**
+     * Fetch the key set unconditionally and with the entity tag of the key set, which is answered without a body
+     * when the key set has not changed. When the server does not send an entity tag both requests are plain fetches.
+     */
+    private void fetchJWKS(LoadContext context, String etag) throws Exception {
+
+        loadClient.send(context, "jwks", newRequest(jwksEndpoint).GET().build(), HTTP_OK);
+        HttpRequest.Builder conditionalRequest = newRequest(jwksEndpoint).GET();
+        if (etag != null) {
+            conditionalRequest.header(IF_NONE_MATCH_HEADER, etag);
+        }
+        loadClient.send(context, "jwks-if-none-match", conditionalRequest.build(),
+                etag == null ? HTTP_OK : HTTP_NOT_MODIFIED);
+    }
+
+    private String getJWKSETag() throws Exception {
+
+        HttpResponse<String> response = loadClient.send(newRequest(jwksEndpoint).GET().build());
+        Assert.assertEquals(response.statusCode(), HTTP_OK, "Failed to fetch the JWKS.");
+        String etag = response.headers().firstValue(ETAG_HEADER).orElse(null);
+        if (etag == null) {
+            LOG.warn("The JWKS endpoint does not send an ETag, the conditional fetches are measured as plain " +
+                    "fetches.");
+        }
+        return etag;
+    }
+
+    /**
+     * Picks a token from the hot set with the configured probability, or else the next token of the whole pool in
+     * turn, so that a token of the pool is only reused after all the other tokens were used.
+     */
+    private static class TokenSelector {
+
+        private final List<String> tokens;
+        private final int hotSetSize;
+        private final int hitRatio;
+        private final AtomicLong cursor = new AtomicLong();
+
+        TokenSelector(List<String> tokens, int hotSetSize, int hitRatio) {
+
+            this.tokens = tokens;
+            this.hotSetSize = Math.min(hotSetSize, tokens.size());
+            this.hitRatio = hitRatio;
+        }
+
+        String next() {
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextInt(100) < hitRatio) {
+                return tokens.get(random.nextInt(hotSetSize));
+            }
+            return tokens.get((int) (cursor.getAndIncrement() % tokens.size()));
+        }
+    }
+}
@@ -0,0 +1,616 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.oauth2;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.test.oauth2.dataprovider.model.ApplicationConfig;
+import org.wso2.identity.integration.test.performance.PerformanceTestBase;
+import org.wso2.identity.integration.test.performance.common.HttpLoadClient;
+import org.wso2.identity.integration.test.performance.common.LoadConfiguration;
+import org.wso2.identity.integration.test.performance.common.LoadContext;
+import org.wso2.identity.integration.test.performance.common.LoadGenerator;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.performance.common.PerformanceReport;
+import org.wso2.identity.integration.test.performance.common.VirtualBrowser;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
+import org.wso2.identity.integration.test.rest.api.server.identity.governance.v1.dto.ConnectorsPatchReq;
+import org.wso2.identity.integration.test.rest.api.server.identity.governance.v1.dto.ConnectorsPatchReq.OperationEnum;
+import org.wso2.identity.integration.test.rest.api.server.identity.governance.v1.dto.PropertyReq;
+import org.wso2.identity.integration.test.restclients.IdentityGovernanceRestClient;
+import org.wso2.identity.integration.test.utils.OAuth2Constant;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.identity.integration.test.performance.common.HttpLoadClient.newFormPost;
+import static org.wso2.identity.integration.test.performance.common.HttpLoadClient.newRequest;
+
+/**
+ * Mass revocation of user tokens through the account disable, session termination and token revocation paths.
+ * <p>
+ * Each user logs in "perf.revocation.sessions" times with a new browser session, and within each session obtains a
+ * token from each of the "perf.revocation.apps" applications through single sign-on. The tokens of the applications
+ * are bound to the SSO session so that each session holds tokens of its own. The users are then split among the
+ * revocation paths of "perf.revocation.paths", and each path is run as a storm of its own: the accounts are disabled,
+ * the sessions of the users are terminated or each token is revoked at /oauth2/revoke, while
+ * <ul>
+ * <li>the introspection pollers check the tokens of the storm in turn until each of them is reported inactive, so that
+ * the time until the last token is revoked is recorded as "revocation-completion", the time from the acknowledgement
+ * of a revocation until its token is reported inactive as "revocation-propagation", and each introspection which
+ * reports a token as active after its revocation was acknowledged as a failure of "introspect-revoked", and</li>
+ * <li>a background client_credentials load measures the token requests of unrelated clients, which are compared with
+ * a baseline run without revocations in the "revocation-storm" comparison report.</li>
+ * </ul>
+ */
+public class RevocationStormLoadTestCase extends PerformanceTestBase {
+
+    private static final Log LOG = LogFactory.getLog(RevocationStormLoadTestCase.class);
+
+    public static final String USERS_PROPERTY = "perf.revocation.users";
+    public static final String SESSIONS_PROPERTY = "perf.revocation.sessions";
+    public static final String APPLICATIONS_PROPERTY = "perf.revocation.apps";
+    public static final String PATHS_PROPERTY = "perf.revocation.paths";
+    public static final String TRIGGER_CONCURRENCY_PROPERTY = "perf.revocation.trigger.concurrency";
+    public static final String INTROSPECTION_CONCURRENCY_PROPERTY = "perf.revocation.introspection.concurrency";
+    public static final String TOKEN_LOAD_CONCURRENCY_PROPERTY = "perf.revocation.token.concurrency";
+    public static final String BASELINE_DURATION_PROPERTY = "perf.revocation.baseline.duration";
+    public static final String TIMEOUT_PROPERTY = "perf.revocation.timeout";
+
+    public static final String ACCOUNT_DISABLE_PATH = "account-disable";
+    public static final String SESSION_TERMINATION_PATH = "session-termination";
+    public static final String REVOKE_PATH = "revoke";
+
+    private static final int DEFAULT_USERS = 30;
+    private static final int DEFAULT_SESSIONS = 5;
+    private static final int DEFAULT_APPLICATIONS = 10;
+    private static final String DEFAULT_PATHS = ACCOUNT_DISABLE_PATH + "," + SESSION_TERMINATION_PATH + "," +
+            REVOKE_PATH;
+    private static final int DEFAULT_TRIGGER_CONCURRENCY = 10;
+    private static final int DEFAULT_INTROSPECTION_CONCURRENCY = 20;
+    private static final int DEFAULT_TOKEN_LOAD_CONCURRENCY = 20;
+    private static final long DEFAULT_BASELINE_DURATION_SECONDS = 30;
+    private static final long DEFAULT_TIMEOUT_SECONDS = 300;
+
+    private static final String APPLICATION_NAME_PREFIX = "RevocationStormLoadTestApp";
+    private static final String PROBE_APPLICATION_NAME = "RevocationStormProbeApp";
+    private static final String USERNAME_PREFIX = "revocationloaduser";
+    // Binds the tokens to the SSO session, so that a session holds tokens of its own and terminating the session
+    // revokes them.
+    private static final String SSO_SESSION_BINDING_TYPE = "sso-session";
+    // Binds each token of the background load to a value sent with the token request, so that each request issues a
+    // new token instead of returning the active token of the client.
+    private static final String CLIENT_REQUEST_BINDING_TYPE = "client-request";
+    private static final String TOKEN_BINDING_ID = "tokenBindingId";
+    private static final String LOGIN_PAGE_PATH = "/authenticationendpoint/login.do";
+    private static final String USER_SESSIONS_URL = "https://localhost:9853/api/users/v1/%s/sessions";
+    private static final String SCIM2_USERS_PATH = "scim2/Users/";
+    private static final String ACCOUNT_DISABLE_PATCH = "{\"schemas\":[\"urn:ietf:params:scim:api:messages:2.0:" +
+            "PatchOp\"],\"Operations\":[{\"op\":\"replace\",\"path\":\"urn:scim:wso2:schema:accountDisabled\"," +
+            "\"value\":true}]}";
+    private static final String CATEGORY_ACCOUNT_MANAGEMENT = "QWNjb3VudCBNYW5hZ2VtZW50";
+    private static final String CONNECTOR_ACCOUNT_DISABLE_HANDLER = "YWNjb3VudC5kaXNhYmxlLmhhbmRsZXI";
+    private static final String ENABLE_ACCOUNT_DISABLING_PROPERTY = "account.disable.handler.enable";
+    private static final String TOKEN = "token";
+    private static final String TOKEN_TYPE_HINT = "token_type_hint";
+    private static final String ACTIVE = "\"active\":true";
+    private static final int MAX_REDIRECTS = 10;
+    private static final long IDLE_POLL_MILLIS = 10;
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_FOUND = 302;
+    private static final int HTTP_NO_CONTENT = 204;
+
+    private final List<OpenIDConnectConfiguration> applications = new ArrayList<>();
+    private final Map<String, List<String>> pathUsers = new LinkedHashMap<>();
+    private final Map<String, List<LoadResult>> comparison = new LinkedHashMap<>();
+    private final List<TokenRecord> acceptedAfterRevocation = Collections.synchronizedList(new ArrayList<>());
+    private IdentityGovernanceRestClient identityGovernanceRestClient;
+    private ConnectorsPatchReq accountDisablePatch;
+    private String probeClientId;
+    private String probeClientSecret;
+    private String introspectionEndpoint;
+    private String revokeEndpoint;
+    private String adminAuthorization;
+    private int sessionsPerUser;
+    private LoadConfiguration triggerConfiguration;
+    private LoadConfiguration introspectionConfiguration;
+    private LoadConfiguration tokenLoadConfiguration;
+    private Duration timeout;
+
+    @BeforeClass(alwaysRun = true)
+    public void testInit() throws Exception {
+
+        initPerformanceTest(TestUserMode.SUPER_TENANT_ADMIN);
+        introspectionEndpoint = getTenantQualifiedURL(OAuth2Constant.INTRO_SPEC_ENDPOINT, tenantInfo.getDomain());
+        revokeEndpoint = getTenantQualifiedURL(OAuth2Constant.TOKEN_REVOKE_ENDPOINT, tenantInfo.getDomain());
+        adminAuthorization = HttpLoadClient.basicAuthorization(tenantInfo.getContextUser().getUserName(),
+                tenantInfo.getContextUser().getPassword());
+        sessionsPerUser = LoadConfiguration.getIntProperty(SESSIONS_PROPERTY, DEFAULT_SESSIONS);
+        timeout = Duration.ofSeconds(LoadConfiguration.getLongProperty(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT_SECONDS));
+        triggerConfiguration = loadConfiguration.withConcurrency(
+                LoadConfiguration.getIntProperty(TRIGGER_CONCURRENCY_PROPERTY, DEFAULT_TRIGGER_CONCURRENCY));
+        introspectionConfiguration = loadConfiguration.withConcurrency(
+                LoadConfiguration.getIntProperty(INTROSPECTION_CONCURRENCY_PROPERTY,
+                        DEFAULT_INTROSPECTION_CONCURRENCY));
+        tokenLoadConfiguration = loadConfiguration
+                .withConcurrency(LoadConfiguration.getIntProperty(TOKEN_LOAD_CONCURRENCY_PROPERTY,
+                        DEFAULT_TOKEN_LOAD_CONCURRENCY))
+                .withDuration(Duration.ofSeconds(LoadConfiguration.getLongProperty(BASELINE_DURATION_PROPERTY,
+                        DEFAULT_BASELINE_DURATION_SECONDS)), loadConfiguration.getWarmup());
+
+        int applicationCount = LoadConfiguration.getIntProperty(APPLICATIONS_PROPERTY, DEFAULT_APPLICATIONS);
+        for (int i = 0; i < applicationCount; i++) {
+            OpenIDConnectConfiguration oidcConfig = newOIDCConfiguration(
+                    Collections.singletonList(OAuth2Constant.OAUTH2_GRANT_TYPE_AUTHORIZATION_CODE),
+                    ApplicationConfig.TokenType.OPAQUE);
+            oidcConfig.getAccessToken()
+                    .bindingType(SSO_SESSION_BINDING_TYPE)
+                    .revokeTokensWhenIDPSessionTerminated(true)
+                    .validateTokenBinding(false);
+            applications.add(createLoadTestApplication(APPLICATION_NAME_PREFIX + i, oidcConfig, true));
+        }
+        OpenIDConnectConfiguration probeConfig = newOIDCConfiguration(
+                Collections.singletonList(OAuth2Constant.OAUTH2_GRANT_TYPE_CLIENT_CREDENTIALS),
+                ApplicationConfig.TokenType.OPAQUE);
+        probeConfig.getAccessToken().bindingType(CLIENT_REQUEST_BINDING_TYPE).validateTokenBinding(false);
+        probeConfig = createLoadTestApplication(PROBE_APPLICATION_NAME, probeConfig, true);
+        probeClientId = probeConfig.getClientId();
+        probeClientSecret = probeConfig.getClientSecret();
+
+        List<String> paths = Arrays.stream(StringUtils.defaultIfBlank(System.getProperty(PATHS_PROPERTY),
+                        DEFAULT_PATHS).split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .toList();
+        List<String> usernames = createLoadTestUsers(USERNAME_PREFIX, LoadConfiguration.getIntProperty(
+                USERS_PROPERTY, DEFAULT_USERS));
+        for (String path : paths) {
+            pathUsers.put(path, new ArrayList<>());
+        }
+        for (int i = 0; i < usernames.size(); i++) {
+            pathUsers.get(paths.get(i % paths.size())).add(usernames.get(i));
+        }
+
+        if (pathUsers.containsKey(ACCOUNT_DISABLE_PATH)) {
+            identityGovernanceRestClient = new IdentityGovernanceRestClient(serverURL, tenantInfo);
+            accountDisablePatch = new ConnectorsPatchReq();
+            accountDisablePatch.setOperation(OperationEnum.UPDATE);
+            PropertyReq property = new PropertyReq();
+            property.setName(ENABLE_ACCOUNT_DISABLING_PROPERTY);
+            property.setValue("true");
+            accountDisablePatch.addProperties(property);
+            identityGovernanceRestClient.updateConnectors(CATEGORY_ACCOUNT_MANAGEMENT,
+                    CONNECTOR_ACCOUNT_DISABLE_HANDLER, accountDisablePatch);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        try {
+            if (!comparison.isEmpty()) {
+                PerformanceReport.writeComparison(tokenLoadConfiguration, "revocation-storm", comparison);
+            }
+            if (identityGovernanceRestClient != null) {
+                accountDisablePatch.getProperties().get(0).setValue("false");
+                identityGovernanceRestClient.updateConnectors(CATEGORY_ACCOUNT_MANAGEMENT,
+                        CONNECTOR_ACCOUNT_DISABLE_HANDLER, accountDisablePatch);
+                identityGovernanceRestClient.closeHttpClient();
+            }
+        } finally {
+            cleanUpPerformanceTest();
+        }
+    }
+
+    @Test(description = "Mass revocation of user tokens through the account disable, session termination and " +
+            "token revocation paths.")
+    public void testRevocationStorm() throws Exception {
+
+        LoadResult baseline = new LoadGenerator(tokenLoadConfiguration).run("revocation-baseline-token-load",
+                this::requestProbeToken);
+        report(tokenLoadConfiguration, baseline);
+        comparison.put("baseline", Collections.singletonList(baseline));
+
+        for (Map.Entry<String, List<String>> entry : pathUsers.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            List<TokenRecord> tokens = mintTokens(entry.getKey(), entry.getValue());
+            comparison.put(entry.getKey(), runStorm(entry.getKey(), entry.getValue(), tokens));
+        }
+
+        if (!acceptedAfterRevocation.isEmpty()) {
+            TokenRecord token = acceptedAfterRevocation.get(0);
+            Assert.fail(acceptedAfterRevocation.size() + " introspection requests reported a token as active after " +
+                    "its revocation was acknowledged, e.g. a token of " + token.username + " issued to " +
+                    token.clientId + ".");
+        }
+    }
+
+    /**
+     * Log in each user the configured number of times with a new browser session and obtain a token from each
+     * application within each session.
+     */
+    private List<TokenRecord> mintTokens(String path, List<String> usernames) throws Exception {
+
+        Queue<TokenRecord> tokens = new ConcurrentLinkedQueue<>();
+        AtomicInteger nextSession = new AtomicInteger();
+        LoadResult result = loadGenerator.runIterations("revocation-" + path + "-mint",
+                (long) usernames.size() * sessionsPerUser, context -> {
+                    String username = usernames.get(nextSession.getAndIncrement() % usernames.size());
+                    mintSessionTokens(context, username, tokens);
+                });
+        report(result);
+
+        int expected = usernames.size() * sessionsPerUser * applications.size();
+        if (tokens.size() < expected) {
+            LOG.warn("Only " + tokens.size() + " tokens were minted out of " + expected + " for the " + path +
+                    " revocation path.");
+        }
+        Assert.assertFalse(tokens.isEmpty(), "No token was minted for the " + path + " revocation path.");
+        return new ArrayList<>(tokens);
+    }
+
+    private void mintSessionTokens(LoadContext context, String username, Queue<TokenRecord> tokens)
+            throws Exception {
+
+        context.getCookieJar().clear();
+        VirtualBrowser browser = new VirtualBrowser(loadClient, context);
+        for (OpenIDConnectConfiguration application : applications) {
+            String code = context.measure("authorize", () -> authorize(browser, application.getClientId(),
+                    username), authorizationCode -> authorizationCode != null);
+            Map<String, String> parameters = tokenRequestParameters(application.getClientId(),
+                    application.getClientSecret(), OAuth2Constant.OAUTH2_GRANT_TYPE_AUTHORIZATION_CODE);
+            parameters.put(OAuth2Constant.AUTHORIZATION_CODE_NAME, code);
+            parameters.put(OAuth2Constant.REDIRECT_URI_NAME, OAuth2Constant.CALLBACK_URL);
+            HttpResponse<String> response = loadClient.send(context, "token",
+                    newFormPost(tokenEndpoint, parameters).build(), HTTP_OK);
+            if (response.statusCode() != HTTP_OK) {
+                throw new IllegalStateException("Token request failed with status " + response.statusCode());
+            }
+            tokens.add(new TokenRecord(username, application.getClientId(), application.getClientSecret(),
+                    (String) toJSONObject(response).get(OAuth2Constant.ACCESS_TOKEN)));
+        }
+    }
+
+    /**
+     * Run the authorize request of the given client and follow the redirects until the callback, logging in on the
+     * login page. The first application of a session shows the login page and the others are signed in through the
+     * SSO session of the browser.
+     */
+    private String authorize(VirtualBrowser browser, String clientId, String username) throws Exception {
+
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put(OAuth2Constant.OAUTH2_RESPONSE_TYPE, OAuth2Constant.OAUTH2_GRANT_TYPE_CODE);
+        parameters.put(OAuth2Constant.OAUTH2_CLIENT_ID, clientId);
+        parameters.put(OAuth2Constant.REDIRECT_URI_NAME, OAuth2Constant.CALLBACK_URL);
+        parameters.put(OAuth2Constant.OAUTH2_SCOPE, OAuth2Constant.OAUTH2_SCOPE_OPENID);
+        HttpResponse<String> response = browser.get(null,
+                authorizeEndpoint + "?" + HttpLoadClient.toFormBody(parameters), HTTP_FOUND);
+        for (int i = 0; i < MAX_REDIRECTS; i++) {
+            String location = getLocation(response);
+            if (location == null) {
+                throw new IllegalStateException("Authorization flow stopped with status " + response.statusCode() +
+                        " at " + response.request().uri().getPath());
+            }
+            if (location.startsWith(OAuth2Constant.CALLBACK_URL)) {
+                return getLocationQueryParameter(response, OAuth2Constant.AUTHORIZATION_CODE_NAME);
+            }
+            String sessionDataKey = getLocationQueryParameter(response, OAuth2Constant.SESSION_DATA_KEY);
+            if (sessionDataKey != null && location.contains(LOGIN_PAGE_PATH)) {
+                Map<String, String> loginParameters = new LinkedHashMap<>();
+                loginParameters.put("username", username);
+                loginParameters.put("password", LOAD_TEST_USER_PASSWORD);
+                loginParameters.put(OAuth2Constant.SESSION_DATA_KEY, sessionDataKey);
+                response = browser.postForm(null, commonAuthEndpoint, loginParameters, HTTP_FOUND);
+            } else {
+                response = browser.followRedirect(null, response, HTTP_FOUND);
+            }
+        }
+        throw new IllegalStateException("Authorization flow did not reach the callback within " + MAX_REDIRECTS +
+                " redirects.");
+    }
+
+    /**
+     * Revoke the tokens of the users through the given path while the introspection pollers and the background token
+     * load run.
+     */
+    private List<LoadResult> runStorm(String path, List<String> usernames, List<TokenRecord> tokens)
+            throws Exception {
+
+        RevocationTracker tracker = new RevocationTracker(tokens);
+        AtomicBoolean stormRunning = new AtomicBoolean(true);
+        LoadResult tokenLoadResult;
+        LoadResult introspectionResult;
+        LoadResult triggerResult;
+        LOG.info("Starting the " + path + " revocation storm of " + tokens.size() + " tokens of " +
+                usernames.size() + " users.");
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<LoadResult> tokenLoad = CompletableFuture.supplyAsync(() ->
+                    new LoadGenerator(tokenLoadConfiguration).runWhile("revocation-" + path + "-token-load",
+                            stormRunning::get, this::requestProbeToken), executor);
+            CompletableFuture<LoadResult> introspection = CompletableFuture.supplyAsync(() ->
+                    new LoadGenerator(introspectionConfiguration).runWhile("revocation-" + path + "-introspection",
+                            tracker::isPolling, context -> poll(context, tracker)), executor);
+            try {
+                triggerResult = trigger(path, usernames, tokens, tracker);
+                introspectionResult = introspection.join();
+            } finally {
+                tracker.stop();
+                stormRunning.set(false);
+            }
+            tokenLoadResult = tokenLoad.join();
+        }
+
+        long elapsed = tracker.getCompletionNanos();
+        if (tracker.getRemaining() == 0) {
+            introspectionResult.getOperation("revocation-completion").recordSuccess(elapsed);
+            LOG.info("All " + tokens.size() + " tokens of the " + path + " revocation path were reported inactive " +
+                    "after " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms.");
+        } else {
+            introspectionResult.getOperation("revocation-completion").recordFailure(elapsed,
+                    "active tokens after timeout");
+            LOG.warn(tracker.getRemaining() + " tokens of the " + path + " revocation path were still active after " +
+                    timeout.getSeconds() + "s.");
+        }
+        report(triggerConfiguration, triggerResult);
+        report(introspectionConfiguration, introspectionResult);
+        report(tokenLoadConfiguration, tokenLoadResult);
+        return Arrays.asList(tokenLoadResult, introspectionResult, triggerResult);
+    }
+
+    private LoadResult trigger(String path, List<String> usernames, List<TokenRecord> tokens,
+                               RevocationTracker tracker) {
+
+        LoadGenerator triggerGenerator = new LoadGenerator(triggerConfiguration);
+        String scenario = "revocation-" + path + "-trigger";
+        tracker.start(System.nanoTime() + timeout.toNanos());
+        switch (path) {
+            case ACCOUNT_DISABLE_PATH: {
+                Queue<String> pending = new ConcurrentLinkedQueue<>(usernames);
+                return triggerGenerator.runIterations(scenario, usernames.size(), context -> {
+                    String username = pending.poll();
+                    HttpRequest request = newRequest(getTenantQualifiedURL(serverURL + SCIM2_USERS_PATH +
+                            getLoadTestUserId(username), tenantInfo.getDomain()))
+                            .header(HttpLoadClient.AUTHORIZATION_HEADER, adminAuthorization)
+                            .header(HttpLoadClient.CONTENT_TYPE_HEADER, HttpLoadClient.JSON_CONTENT_TYPE)
+                            .method("PATCH", HttpRequest.BodyPublishers.ofString(ACCOUNT_DISABLE_PATCH))
+                            .build();
+                    if (loadClient.send(context, "account-disable", request, HTTP_OK).statusCode() == HTTP_OK) {
+                        tracker.acknowledgeUser(username);
+                    }
+                });
+            }
+            case SESSION_TERMINATION_PATH: {
+                Queue<String> pending = new ConcurrentLinkedQueue<>(usernames);
+                return triggerGenerator.runIterations(scenario, usernames.size(), context -> {
+                    String username = pending.poll();
+                    HttpRequest request = newRequest(getTenantQualifiedURL(String.format(USER_SESSIONS_URL,
+                            getLoadTestUserId(username)), tenantInfo.getDomain()))
+                            .header(HttpLoadClient.AUTHORIZATION_HEADER, adminAuthorization)
+                            .DELETE()
+                            .build();
+                    if (loadClient.send(context, "session-terminate", request, HTTP_NO_CONTENT).statusCode() ==
+                            HTTP_NO_CONTENT) {
+                        tracker.acknowledgeUser(username);
+                    }
+                });
+            }
+            case REVOKE_PATH: {
+                Queue<TokenRecord> pending = new ConcurrentLinkedQueue<>(tokens);
+                return triggerGenerator.runIterations(scenario, tokens.size(), context -> {
+                    TokenRecord token = pending.poll();
+                    Map<String, String> parameters = new LinkedHashMap<>();
+                    parameters.put(TOKEN, token.token);
+                    parameters.put(TOKEN_TYPE_HINT, OAuth2Constant.ACCESS_TOKEN);
+                    parameters.put(OAuth2Constant.OAUTH2_CLIENT_ID, token.clientId);
+                    parameters.put(OAuth2Constant.OAUTH2_CLIENT_SECRET, token.clientSecret);
+                    if (loadClient.send(context, "revoke", newFormPost(revokeEndpoint, parameters).build(),
+                            HTTP_OK).statusCode() == HTTP_OK) {
+                        token.acknowledge();
+                    }
+                });
+            }
+            default:
+                throw new IllegalArgumentException("Unknown revocation path " + path + ". Supported paths are " +
+                        DEFAULT_PATHS + ".");
+        }
+    }
+
+    /**
+     * Introspect the next token still to be confirmed as revoked. A token which is still active is put back at the
+     * end of the queue so that all the pending tokens are checked in turn.
+     */
+    private void poll(LoadContext context, RevocationTracker tracker) throws Exception {
+
+        TokenRecord token = tracker.next();
+        if (token == null) {
+            // The remaining tokens are being checked by the other pollers.
+            Thread.sleep(IDLE_POLL_MILLIS);
+            return;
+        }
+        boolean acknowledged = token.isAcknowledged();
+        HttpRequest request = newFormPost(introspectionEndpoint, Collections.singletonMap(TOKEN, token.token))
+                .header(HttpLoadClient.AUTHORIZATION_HEADER, adminAuthorization)
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = loadClient.send(request);
+        } catch (Exception e) {
+            tracker.retry(token);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        if (response.statusCode() != HTTP_OK) {
+            context.recordFailure(acknowledged ? "introspect-revoked" : "introspect-pending", elapsed,
+                    "status " + response.statusCode());
+            tracker.retry(token);
+        } else if (!response.body().contains(ACTIVE)) {
+            context.recordSuccess(acknowledged ? "introspect-revoked" : "introspect-pending", elapsed);
+            long confirmedAt = tracker.confirm();
+            if (token.isAcknowledged()) {
+                context.recordSuccess("revocation-propagation", Math.max(0L,
+                        confirmedAt - token.acknowledgedAt.get()));
+            }
+        } else if (acknowledged) {
+            context.recordFailure("introspect-revoked", elapsed, "accepted after revocation");
+            acceptedAfterRevocation.add(token);
+            tracker.retry(token);
+        } else {
+            context.recordSuccess("introspect-pending", elapsed);
+            tracker.retry(token);
+        }
+    }
+
+    private void requestProbeToken(LoadContext context) throws Exception {
+
+        Map<String, String> parameters = tokenRequestParameters(probeClientId, probeClientSecret,
+                OAuth2Constant.OAUTH2_GRANT_TYPE_CLIENT_CREDENTIALS);
+        parameters.put(TOKEN_BINDING_ID, UUID.randomUUID().toString());
+        loadClient.send(context, "token", newFormPost(tokenEndpoint, parameters).build(), HTTP_OK);
+    }
+
+    /**
+     * A token minted for the storm with the credentials of the client it was issued to, which are needed to revoke
+     * it, and the time at which the server acknowledged its revocation.
+     */
+    private static class TokenRecord {
+
+        private final String username;
+        private final String clientId;
+        private final String clientSecret;
+        private final String token;
+        private final AtomicLong acknowledgedAt = new AtomicLong();
+
+        TokenRecord(String username, String clientId, String clientSecret, String token) {
+
+            this.username = username;
+            this.clientId = clientId;
+            this.clientSecret = clientSecret;
+            this.token = token;
+        }
+
+        void acknowledge() {
+
+            acknowledgedAt.compareAndSet(0L, System.nanoTime());
+        }
+
+        boolean isAcknowledged() {
+
+            return acknowledgedAt.get() != 0L;
+        }
+    }
+
+    /**
+     * Work queue of the introspection pollers holding the tokens which are not yet reported inactive.
+     */
+    private static class RevocationTracker {
+
+        private final Queue<TokenRecord> pending;
+        private final Map<String, List<TokenRecord>> userTokens = new LinkedHashMap<>();
+        private final AtomicInteger remaining;
+        private final AtomicLong lastConfirmation = new AtomicLong();
+        private volatile boolean stopped;
+        private volatile long start;
+        private volatile long deadline = Long.MAX_VALUE;
+
+        RevocationTracker(List<TokenRecord> tokens) {
+
+            pending = new ConcurrentLinkedQueue<>(tokens);
+            remaining = new AtomicInteger(tokens.size());
+            for (TokenRecord token : tokens) {
+                userTokens.computeIfAbsent(token.username, username -> new ArrayList<>()).add(token);
+            }
+        }
+
+        void start(long deadline) {
+
+            this.start = System.nanoTime();
+            this.deadline = deadline;
+        }
+
+        void stop() {
+
+            stopped = true;
+        }
+
+        boolean isPolling() {
+
+            return !stopped && remaining.get() > 0 && System.nanoTime() < deadline;
+        }
+
+        TokenRecord next() {
+
+            return pending.poll();
+        }
+
+        void retry(TokenRecord token) {
+
+            pending.add(token);
+        }
+
+        long confirm() {
+
+            long now = System.nanoTime();
+            lastConfirmation.accumulateAndGet(now, Math::max);
+            remaining.decrementAndGet();
+            return now;
+        }
+
+        void acknowledgeUser(String username) {
+
+            userTokens.getOrDefault(username, Collections.emptyList()).forEach(TokenRecord::acknowledge);
+        }
+
+        int getRemaining() {
+
+            return remaining.get();
+        }
+
+        long getCompletionNanos() {
+
+            return remaining.get() == 0 ? lastConfirmation.get() - start : System.nanoTime() - start;
+        }
+    }
+}
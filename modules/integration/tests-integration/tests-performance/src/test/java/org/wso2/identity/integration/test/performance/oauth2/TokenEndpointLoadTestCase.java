@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.identity.integration.test.performance.oauth2;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.test.oauth2.dataprovider.model.ApplicationConfig;
+import org.wso2.identity.integration.test.performance.PerformanceTestBase;
+import org.wso2.identity.integration.test.performance.common.HttpLoadClient;
+import org.wso2.identity.integration.test.performance.common.LoadContext;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
+import org.wso2.identity.integration.test.utils.OAuth2Constant;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.wso2.identity.integration.test.performance.common.HttpLoadClient.newFormPost;
+import static org.wso2.identity.integration.test.performance.common.HttpLoadClient.newRequest;
+
+/**
+ * Drives the token endpoint with the client_credentials, password, refresh_token and authorization_code grants and
+ * reports the latency distribution and throughput of each grant type.
+ */
+public class TokenEndpointLoadTestCase extends PerformanceTestBase {
+
+    private static final String APPLICATION_NAME = "TokenEndpointLoadTestApp";
+    private static final String USERNAME_PREFIX = "tokenloaduser";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_FOUND = 302;
+
+    private final Map<Integer, String> refreshTokens = new ConcurrentHashMap<>();
+    private String clientId;
+    private String clientSecret;
+    private List<String> usernames;
+
+    @BeforeClass(alwaysRun = true)
+    public void testInit() throws Exception {
+
+        initPerformanceTest(TestUserMode.SUPER_TENANT_ADMIN);
+        OpenIDConnectConfiguration oidcConfig = createLoadTestApplication(APPLICATION_NAME,
+                Arrays.asList(OAuth2Constant.OAUTH2_GRANT_TYPE_CLIENT_CREDENTIALS,
+                        OAuth2Constant.OAUTH2_GRANT_TYPE_RESOURCE_OWNER,
+                        OAuth2Constant.OAUTH2_GRANT_TYPE_REFRESH_TOKEN,
+                        OAuth2Constant.OAUTH2_GRANT_TYPE_AUTHORIZATION_CODE),
+                ApplicationConfig.TokenType.OPAQUE);
+        clientId = oidcConfig.getClientId();
+        clientSecret = oidcConfig.getClientSecret();
+        // One user per virtual user avoids serializing the logins of the whole run on a single user.
+        usernames = createLoadTestUsers(USERNAME_PREFIX, loadConfiguration.getConcurrency());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        cleanUpPerformanceTest();
+    }
+
+    @Test(description = "Load test of the client_credentials grant.")
+    public void testClientCredentialsGrant() throws Exception {
+
+        HttpRequest request = newFormPost(tokenEndpoint, tokenRequestParameters(clientId, clientSecret,
+                OAuth2Constant.OAUTH2_GRANT_TYPE_CLIENT_CREDENTIALS)).build();
+
+        LoadResult result = loadGenerator.run("token-client_credentials", context ->
+                loadClient.send(context, OAuth2Constant.OAUTH2_GRANT_TYPE_CLIENT_CREDENTIALS, request, HTTP_OK));
+        report(result);
+    }
+
+    @Test(description = "Load test of the password grant.", dependsOnMethods = "testClientCredentialsGrant")
+    public void testPasswordGrant() throws Exception {
+
+        LoadResult result = loadGenerator.run("token-password", context ->
+                loadClient.send(context, OAuth2Constant.OAUTH2_GRANT_TYPE_RESOURCE_OWNER,
+                        passwordGrantRequest(context), HTTP_OK));
+        report(result);
+    }
+
+    @Test(description = "Load test of the refresh_token grant.", dependsOnMethods = "testPasswordGrant")
+    public void testRefreshTokenGrant() throws Exception {
+
+        LoadResult result = loadGenerator.run("token-refresh_token", this::refreshToken);
+        report(result);
+    }
+
+    @Test(description = "Load test of the authorization_code grant including the browser redirects.",
+            dependsOnMethods = "testRefreshTokenGrant")
+    public void testAuthorizationCodeGrant() throws Exception {
+
+        LoadResult result = loadGenerator.run("token-authorization_code", this::authorizationCodeFlow);
+        report(result);
+    }
+
+    private HttpRequest passwordGrantRequest(LoadContext context) {
+
+        Map<String, String> parameters = tokenRequestParameters(clientId, clientSecret,
+                OAuth2Constant.OAUTH2_GRANT_TYPE_RESOURCE_OWNER);
+        parameters.put("username", getUsername(context));
+        parameters.put("password", LOAD_TEST_USER_PASSWORD);
+        parameters.put(OAuth2Constant.OAUTH2_SCOPE, OAuth2Constant.OAUTH2_SCOPE_OPENID);
+        return newFormPost(tokenEndpoint, parameters).build();
+    }
+
+    private void refreshToken(LoadContext context) throws Exception {
+
+        String refreshToken = refreshTokens.get(context.getVirtualUserId());
+        if (refreshToken == null) {
+            // Obtaining the initial refresh token is not part of the measured operation.
+            HttpResponse<String> response = loadClient.send(passwordGrantRequest(context));
+            if (response.statusCode() != HTTP_OK) {
+                throw new IllegalStateException("Failed to obtain the initial refresh token: " +
+                        response.statusCode());
+            }
+            refreshToken = (String) toJSONObject(response).get(OAuth2Constant.REFRESH_TOKEN);
+            refreshTokens.put(context.getVirtualUserId(), refreshToken);
+        }
+
+        Map<String, String> parameters = tokenRequestParameters(clientId, clientSecret,
+                OAuth2Constant.OAUTH2_GRANT_TYPE_REFRESH_TOKEN);
+        parameters.put(OAuth2Constant.REFRESH_TOKEN, refreshToken);
+        HttpResponse<String> response = loadClient.send(context, OAuth2Constant.OAUTH2_GRANT_TYPE_REFRESH_TOKEN,
+                newFormPost(tokenEndpoint, parameters).build(), HTTP_OK);
+        if (response.statusCode() == HTTP_OK) {
+            Object renewedRefreshToken = toJSONObject(response).get(OAuth2Constant.REFRESH_TOKEN);
+            if (renewedRefreshToken != null) {
+                refreshTokens.put(context.getVirtualUserId(), (String) renewedRefreshToken);
+            }
+        } else {
+            refreshTokens.remove(context.getVirtualUserId());
+        }
+    }
+
+    private void authorizationCodeFlow(LoadContext context) throws Exception {
+
+        Map<String, String> authorizeParameters = new LinkedHashMap<>();
+        authorizeParameters.put(OAuth2Constant.OAUTH2_RESPONSE_TYPE, OAuth2Constant.OAUTH2_GRANT_TYPE_CODE);
+        authorizeParameters.put(OAuth2Constant.OAUTH2_CLIENT_ID, clientId);
+        authorizeParameters.put(OAuth2Constant.REDIRECT_URI_NAME, OAuth2Constant.CALLBACK_URL);
+        authorizeParameters.put(OAuth2Constant.OAUTH2_SCOPE, OAuth2Constant.OAUTH2_SCOPE_OPENID);
+        HttpResponse<String> authorizeResponse = loadClient.send(context, "authorize",
+                newRequest(authorizeEndpoint + "?" + HttpLoadClient.toFormBody(authorizeParameters)).GET().build(),
+                HTTP_FOUND);
+        String sessionDataKey = getLocationQueryParameter(authorizeResponse, OAuth2Constant.SESSION_DATA_KEY);
+        if (sessionDataKey == null) {
+            throw new IllegalStateException("sessionDataKey not found in the authorize redirect.");
+        }
+
+        Map<String, String> loginParameters = new LinkedHashMap<>();
+        loginParameters.put("username", getUsername(context));
+        loginParameters.put("password", LOAD_TEST_USER_PASSWORD);
+        loginParameters.put(OAuth2Constant.SESSION_DATA_KEY, sessionDataKey);
+        HttpResponse<String> loginResponse = loadClient.send(context, "commonauth",
+                newFormPost(commonAuthEndpoint, loginParameters).build(), HTTP_FOUND);
+
+        String cookies = loginResponse.headers().allValues(HttpLoadClient.SET_COOKIE_HEADER).stream()
+                .map(cookie -> cookie.split(";", 2)[0])
+                .collect(Collectors.joining("; "));
+        String callbackRedirect = getLocation(loginResponse);
+        if (callbackRedirect == null) {
+            throw new IllegalStateException("Login did not redirect back to the authorize endpoint.");
+        }
+        HttpResponse<String> callbackResponse = loadClient.send(context, "authorize-callback",
+                newRequest(callbackRedirect).header(HttpLoadClient.COOKIE_HEADER, cookies).GET().build(),
+                HTTP_FOUND);
+        String code = getLocationQueryParameter(callbackResponse, OAuth2Constant.AUTHORIZATION_CODE_NAME);
+        if (code == null) {
+            throw new IllegalStateException("Authorization code not found in the callback redirect.");
+        }
+
+        Map<String, String> tokenParameters = tokenRequestParameters(clientId, clientSecret,
+                OAuth2Constant.OAUTH2_GRANT_TYPE_AUTHORIZATION_CODE);
+        tokenParameters.put(OAuth2Constant.AUTHORIZATION_CODE_NAME, code);
+        tokenParameters.put(OAuth2Constant.REDIRECT_URI_NAME, OAuth2Constant.CALLBACK_URL);
+        loadClient.send(context, OAuth2Constant.OAUTH2_GRANT_TYPE_AUTHORIZATION_CODE,
+                newFormPost(tokenEndpoint, tokenParameters).build(), HTTP_OK);
+    }
+
+    private String getUsername(LoadContext context) {
+
+        return usernames.get(context.getVirtualUserId() % usernames.size());
+    }
+}
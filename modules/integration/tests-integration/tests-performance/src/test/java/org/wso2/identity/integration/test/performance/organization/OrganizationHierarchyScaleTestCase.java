@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.organization;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.JSONObject;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.common.utils.await.Await;
+import org.wso2.identity.integration.test.performance.PerformanceTestBase;
+import org.wso2.identity.integration.test.performance.common.LoadConfiguration;
+import org.wso2.identity.integration.test.performance.common.LoadContext;
+import org.wso2.identity.integration.test.performance.common.LoadGenerator;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.performance.common.PerformanceReport;
+import org.wso2.identity.integration.test.rest.api.common.RESTTestBase;
+import org.wso2.identity.integration.test.restclients.OrgMgtRestClient;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.wso2.identity.integration.test.performance.common.HttpLoadClient.newRequest;
+
+/**
+ * Scale test of the organization hierarchy. For each tree shape of "perf.orgs.shapes", given as
+ * "&lt;depth&gt;x&lt;fan-out&gt;", the tree is built one level at a time with the organizations of a level created in
+ * parallel, and the following operations are measured after each level against the organizations of the deepest
+ * level, so that the latencies can be compared as the hierarchy grows:
+ * <ul>
+ *     <li>switch-token: issuance of a switched M2M token with the organization_switch grant.</li>
+ *     <li>list-children and list-recursive: listing of the organizations of the root organization.</li>
+ *     <li>filter-name: filtering the whole hierarchy by the name of an organization.</li>
+ *     <li>list-subtree: recursive listing of the organizations below a first level organization.</li>
+ *     <li>org-jwks and org-discovery: requests to organization qualified URLs, which resolve the organization from
+ *     the path.</li>
+ * </ul>
+ * The time until a new organization can be switched to, which waits for the B2B application to be shared with it, is
+ * recorded as "share-propagation". The tree is deleted from the deepest level upwards and the deletions of each level
+ * are recorded separately, along with the time taken to delete the whole tree.
+ */
+public class OrganizationHierarchyScaleTestCase extends PerformanceTestBase {
+
+    private static final Log LOG = LogFactory.getLog(OrganizationHierarchyScaleTestCase.class);
+
+    public static final String SHAPES_PROPERTY = "perf.orgs.shapes";
+    public static final String CONCURRENCY_PROPERTY = "perf.orgs.concurrency";
+    public static final String SAMPLES_PROPERTY = "perf.orgs.samples";
+
+    private static final String DEFAULT_SHAPES = "10x1,3x10";
+    private static final int DEFAULT_CONCURRENCY = 20;
+    private static final int DEFAULT_SAMPLES = 200;
+    private static final Duration SHARE_PROPAGATION_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration SHARE_PROPAGATION_POLL_INTERVAL = Duration.ofMillis(200);
+
+    private static final String AUTHORIZED_APIS_JSON = "authorized-apis.json";
+    private static final String ORGANIZATION_NAME_PREFIX = "perf-org-";
+    private static final String JWKS_ENDPOINT = "https://localhost:9853/oauth2/jwks";
+    private static final String DISCOVERY_ENDPOINT =
+            "https://localhost:9853/oauth2/token/.well-known/openid-configuration";
+    private static final String ORGANIZATIONS = "organizations";
+    private static final int LIST_LIMIT = 100;
+    private static final int HTTP_OK = 200;
+
+    private OrgMgtRestClient orgMgtRestClient;
+    private LoadConfiguration hierarchyConfiguration;
+    private int samples;
+    private final List<List<OrganizationNode>> levels = new ArrayList<>();
+    private String rootToken;
+
+    @BeforeClass(alwaysRun = true)
+    public void testInit() throws Exception {
+
+        initPerformanceTest(TestUserMode.SUPER_TENANT_ADMIN);
+        hierarchyConfiguration = loadConfiguration.withConcurrency(
+                LoadConfiguration.getIntProperty(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY));
+        samples = LoadConfiguration.getIntProperty(SAMPLES_PROPERTY, DEFAULT_SAMPLES);
+        orgMgtRestClient = new OrgMgtRestClient(isServer, tenantInfo, serverURL,
+                new JSONObject(RESTTestBase.readResource(AUTHORIZED_APIS_JSON, this.getClass())));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        try {
+            if (!levels.isEmpty()) {
+                deleteTree("org-hierarchy-cleanup");
+            }
+        } finally {
+            if (orgMgtRestClient != null) {
+                orgMgtRestClient.closeHttpClient();
+            }
+            cleanUpPerformanceTest();
+        }
+    }
+
+    @Test(description = "Latency of the organization operations as the organization hierarchy grows.")
+    public void testOrganizationHierarchy() throws Exception {
+
+        for (String shape : StringUtils.defaultIfBlank(System.getProperty(SHAPES_PROPERTY), DEFAULT_SHAPES)
+                .split(",")) {
+            String[] dimensions = shape.trim().toLowerCase().split("x");
+            if (dimensions.length != 2) {
+                throw new IllegalArgumentException("Invalid organization tree shape: " + shape);
+            }
+            runShape(shape.trim(), Integer.parseInt(dimensions[0].trim()), Integer.parseInt(dimensions[1].trim()));
+        }
+    }
+
+    private void runShape(String shape, int depth, int fanOut) throws Exception {
+
+        LOG.info("Building an organization tree of depth " + depth + " and fan-out " + fanOut + ".");
+        rootToken = orgMgtRestClient.getM2MAccessToken();
+        Map<String, List<LoadResult>> comparison = new LinkedHashMap<>();
+        List<OrganizationNode> parents = Collections.singletonList(null);
+        int organizationCount = 0;
+        try {
+            for (int level = 1; level <= depth && !parents.isEmpty(); level++) {
+                Queue<OrganizationNode> pending = new ConcurrentLinkedQueue<>();
+                for (OrganizationNode parent : parents) {
+                    for (int child = 0; child < fanOut; child++) {
+                        String name = (parent == null ? ORGANIZATION_NAME_PREFIX + shape : parent.name) + "-" + child;
+                        pending.add(new OrganizationNode(name, parent));
+                    }
+                }
+                List<OrganizationNode> created = Collections.synchronizedList(new ArrayList<>());
+                levels.add(created);
+                LoadResult buildResult = new LoadGenerator(hierarchyConfiguration).runWhile(
+                        "org-hierarchy-" + shape + "-build-L" + level, () -> !pending.isEmpty(),
+                        context -> createOrganization(context, pending.poll(), created));
+                report(hierarchyConfiguration, buildResult);
+                organizationCount += created.size();
+
+                List<OrganizationNode> switchable = new ArrayList<>();
+                synchronized (created) {
+                    for (OrganizationNode node : created) {
+                        if (node.switchedToken != null) {
+                            switchable.add(node);
+                        }
+                    }
+                }
+                if (switchable.isEmpty()) {
+                    LOG.warn("No organization of level " + level + " could be switched to. Stopping the tree.");
+                    break;
+                }
+                LoadResult probeResult = new LoadGenerator(hierarchyConfiguration).runIterations(
+                        "org-hierarchy-" + shape + "-L" + level, samples,
+                        context -> probe(context, switchable.get(ThreadLocalRandom.current()
+                                .nextInt(switchable.size()))));
+                report(hierarchyConfiguration, probeResult);
+                comparison.put("L" + level + " (" + organizationCount + " orgs)",
+                        Arrays.asList(buildResult, probeResult));
+                parents = switchable;
+            }
+        } finally {
+            deleteTree("org-hierarchy-" + shape + "-teardown");
+            if (!comparison.isEmpty()) {
+                PerformanceReport.writeComparison(hierarchyConfiguration, "org-hierarchy-" + shape, comparison);
+            }
+        }
+    }
+
+    private void createOrganization(LoadContext context, OrganizationNode node, List<OrganizationNode> created)
+            throws Exception {
+
+        if (node == null) {
+            return;
+        }
+        OrganizationNode parent = node.parent;
+        node.id = measureRestCall(context, "create-org", () -> parent == null ?
+                orgMgtRestClient.addOrganizationWithToken(node.name, null, rootToken) :
+                orgMgtRestClient.addSubOrganizationWithToken(node.name, parent.id, parent.switchedToken),
+                StringUtils::isNotBlank);
+        created.add(node);
+
+        // The B2B application is shared with the new organization asynchronously, so the first switches may fail.
+        long start = System.nanoTime();
+        String[] switchedToken = new String[1];
+        boolean switched = Await.atMost(SHARE_PROPAGATION_TIMEOUT)
+                .pollInterval(SHARE_PROPAGATION_POLL_INTERVAL)
+                .until("switching to organization " + node.name, () -> {
+                    try {
+                        switchedToken[0] = orgMgtRestClient.switchM2MToken(node.id, rootToken);
+                        return true;
+                    } catch (AssertionError e) {
+                        return false;
+                    }
+                });
+        long elapsed = System.nanoTime() - start;
+        if (switched) {
+            node.switchedToken = switchedToken[0];
+            context.recordSuccess("share-propagation", elapsed);
+        } else {
+            context.recordFailure("share-propagation", elapsed, "timeout");
+        }
+    }
+
+    private void probe(LoadContext context, OrganizationNode node) throws Exception {
+
+        measureRestCall(context, "switch-token", () -> orgMgtRestClient.switchM2MToken(node.id, rootToken),
+                StringUtils::isNotBlank);
+        measureRestCall(context, "list-children", () ->
+                orgMgtRestClient.getOrganizations(null, LIST_LIMIT, false, rootToken),
+                OrganizationHierarchyScaleTestCase::isListResponse);
+        measureRestCall(context, "list-recursive", () ->
+                orgMgtRestClient.getOrganizations(null, LIST_LIMIT, true, rootToken),
+                OrganizationHierarchyScaleTestCase::isListResponse);
+        measureRestCall(context, "filter-name", () ->
+                orgMgtRestClient.getOrganizations("name eq " + node.name, LIST_LIMIT, true, rootToken),
+                response -> isListResponse(response) && response.getJSONArray(ORGANIZATIONS).length() == 1);
+        OrganizationNode firstLevelAncestor = node;
+        while (firstLevelAncestor.parent != null) {
+            firstLevelAncestor = firstLevelAncestor.parent;
+        }
+        String subtreeToken = firstLevelAncestor.switchedToken;
+        measureRestCall(context, "list-subtree", () ->
+                orgMgtRestClient.getSubOrganizations(null, LIST_LIMIT, true, subtreeToken), response -> true);
+
+        loadClient.send(context, "org-jwks", newRequest(getRootTenantQualifiedOrgURL(JWKS_ENDPOINT,
+                tenantInfo.getDomain(), node.id)).GET().build(), HTTP_OK);
+        loadClient.send(context, "org-discovery", newRequest(getRootTenantQualifiedOrgURL(DISCOVERY_ENDPOINT,
+                tenantInfo.getDomain(), node.id)).GET().build(), HTTP_OK);
+    }
+
+    /**
+     * Delete the organizations of the tree from the deepest level upwards, since an organization can not be deleted
+     * while it has child organizations. The deletions of each level are reported separately.
+     */
+    private void deleteTree(String scenario) throws IOException {
+
+        LoadResult result = new LoadResult(scenario);
+        long start = System.nanoTime();
+        for (int index = levels.size() - 1; index >= 0; index--) {
+            List<OrganizationNode> level = levels.get(index);
+            Queue<OrganizationNode> pending;
+            synchronized (level) {
+                pending = new ConcurrentLinkedQueue<>(level);
+            }
+            String operation = "delete-L" + (index + 1);
+            report(hierarchyConfiguration, new LoadGenerator(hierarchyConfiguration).runWhile(
+                    scenario + "-L" + (index + 1), () -> !pending.isEmpty(), context -> {
+                        OrganizationNode node = pending.poll();
+                        if (node != null) {
+                            measureRestCall(context, operation, () -> deleteOrganization(node), Boolean.TRUE::equals);
+                        }
+                    }));
+        }
+        long elapsed = System.nanoTime() - start;
+        result.getOperation("delete-tree").recordSuccess(elapsed);
+        result.setElapsedNanos(elapsed);
+        levels.clear();
+        report(hierarchyConfiguration, result);
+    }
+
+    private Boolean deleteOrganization(OrganizationNode node) throws Exception {
+
+        if (node.parent == null) {
+            orgMgtRestClient.deleteOrganizationWithToken(node.id, rootToken);
+        } else if (node.parent.switchedToken != null) {
+            orgMgtRestClient.deleteSubOrganizationWithToken(node.id, node.parent.switchedToken);
+        } else {
+            orgMgtRestClient.deleteSubOrganization(node.id, node.parent.id);
+        }
+        return Boolean.TRUE;
+    }
+
+    private static boolean isListResponse(JSONObject response) {
+
+        return response != null && response.has(ORGANIZATIONS);
+    }
+
+    /**
+     * Organization of the tree.
+     */
+    private static class OrganizationNode {
+
+        private final String name;
+        private final OrganizationNode parent;
+        private volatile String id;
+        private volatile String switchedToken;
+
+        OrganizationNode(String name, OrganizationNode parent) {
+
+            this.name = name;
+            this.parent = parent;
+        }
+    }
+}
@@ -0,0 +1,698 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.organization;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.common.utils.await.Await;
+import org.wso2.identity.integration.test.performance.PerformanceTestBase;
+import org.wso2.identity.integration.test.performance.common.LoadConfiguration;
+import org.wso2.identity.integration.test.performance.common.LoadContext;
+import org.wso2.identity.integration.test.performance.common.LoadGenerator;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.performance.common.PerformanceReport;
+import org.wso2.identity.integration.test.rest.api.common.RESTTestBase;
+import org.wso2.identity.integration.test.rest.api.server.claim.management.v1.model.AttributeMappingDTO;
+import org.wso2.identity.integration.test.rest.api.server.claim.management.v1.model.LocalClaimReq;
+import org.wso2.identity.integration.test.rest.api.server.user.sharing.management.v1.model.UserShareRequestBodyUserCriteria;
+import org.wso2.identity.integration.test.rest.api.server.user.sharing.management.v1.model.UserShareWithAllRequestBody;
+import org.wso2.identity.integration.test.restclients.AsyncOperationStatusRestClient;
+import org.wso2.identity.integration.test.restclients.ClaimManagementRestClient;
+import org.wso2.identity.integration.test.restclients.OrgMgtRestClient;
+import org.wso2.identity.integration.test.restclients.UserSharingRestClient;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.identity.integration.test.restclients.AsyncOperationStatusRestClient.CREATED_TIME;
+import static org.wso2.identity.integration.test.restclients.AsyncOperationStatusRestClient.MODIFIED_TIME;
+import static org.wso2.identity.integration.test.restclients.AsyncOperationStatusRestClient.OPERATIONS;
+import static org.wso2.identity.integration.test.restclients.AsyncOperationStatusRestClient.OPERATION_ID;
+import static org.wso2.identity.integration.test.restclients.AsyncOperationStatusRestClient.STATUS;
+import static org.wso2.identity.integration.test.restclients.AsyncOperationStatusRestClient.STATUS_SUCCESS;
+import static org.wso2.identity.integration.test.restclients.AsyncOperationStatusRestClient.SUBJECT_ID;
+import static org.wso2.identity.integration.test.restclients.AsyncOperationStatusRestClient.TARGET_ORG_ID;
+import static org.wso2.identity.integration.test.restclients.AsyncOperationStatusRestClient.UNIT_OPERATIONS;
+
+/**
+ * Fan-out benchmark of the asynchronous sharing of users and claims with the organizations of the root organization.
+ * <p>
+ * "perf.sharing.orgs" organizations are created under the root organization. The "perf.sharing.users" users are then
+ * shared with all the organizations in batches of "perf.sharing.batch" users, with the requests of all the batches
+ * sent one after the other so that the sharing work is queued on the server. The progress of each user is tracked
+ * through the asynchronous operation status API: the operation of the user is looked up by its subject id and its unit
+ * operations give the completion of the share with each organization. After that, "perf.sharing.claims" local claims
+ * are added to the root organization and their propagation is tracked by reading the claim from each organization,
+ * since claim sharing is not recorded as an asynchronous operation.
+ * <p>
+ * The "user-sharing-consistency" and "claim-sharing-consistency" reports give the time from the request until the
+ * resource is available in a single organization ("org-consistency") and in all the organizations
+ * ("user-consistency", "claim-consistency"). For users, "operation-registered" gives the time until the operation is
+ * recorded by the server, "server-org-completion" the time taken by the server to complete the share with an
+ * organization after the operation was recorded, and "operation-processing" the time the operation was in progress,
+ * as given by the server time stamps. The "user-sharing-progress" and "claim-sharing-progress" tables give the number
+ * of resources waiting to be processed, in progress and completed, and the rate of completed organizations, sampled
+ * every second while the sharing is in progress.
+ */
+public class UserSharingFanOutTestCase extends PerformanceTestBase {
+
+    private static final Log LOG = LogFactory.getLog(UserSharingFanOutTestCase.class);
+
+    public static final String ORGANIZATIONS_PROPERTY = "perf.sharing.orgs";
+    public static final String USERS_PROPERTY = "perf.sharing.users";
+    public static final String BATCH_PROPERTY = "perf.sharing.batch";
+    public static final String CLAIMS_PROPERTY = "perf.sharing.claims";
+    public static final String CONCURRENCY_PROPERTY = "perf.sharing.concurrency";
+    public static final String TIMEOUT_PROPERTY = "perf.sharing.timeout";
+    public static final String POLL_INTERVAL_PROPERTY = "perf.sharing.poll.interval";
+
+    private static final int DEFAULT_ORGANIZATIONS = 200;
+    private static final int DEFAULT_USERS = 100;
+    private static final int DEFAULT_BATCH = 10;
+    private static final int DEFAULT_CLAIMS = 10;
+    private static final int DEFAULT_CONCURRENCY = 20;
+    private static final long DEFAULT_TIMEOUT_SECONDS = 600;
+    private static final long DEFAULT_POLL_INTERVAL_MILLIS = 500;
+    private static final Duration SHARE_PROPAGATION_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration SHARE_PROPAGATION_POLL_INTERVAL = Duration.ofMillis(200);
+    private static final long SAMPLE_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+    private static final int OPERATIONS_LIMIT = 10;
+    private static final int UNIT_OPERATIONS_LIMIT = 100;
+    private static final List<String> PROGRESS_COLUMNS = Arrays.asList("elapsed-s", "queued", "in-progress",
+            "completed", "org-completions", "org-completions-per-s");
+
+    private static final String AUTHORIZED_APIS_JSON = "authorized-apis.json";
+    private static final String ORGANIZATION_NAME_PREFIX = "perf-share-org-";
+    private static final String USERNAME_PREFIX = "sharingloaduser";
+    private static final String CLAIM_NAME_PREFIX = "perfSharedClaim";
+    private static final String CLAIM_URI_PREFIX = "http://wso2.org/claims/";
+    private static final String PRIMARY_USER_STORE = "PRIMARY";
+    private static final String SUBJECT_FILTER = SUBJECT_ID + " eq ";
+    private static final String TIMEOUT = "timeout";
+
+    private final List<Organization> organizations = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> claimIds = new ArrayList<>();
+    private LoadConfiguration sharingConfiguration;
+    private Duration timeout;
+    private Duration pollInterval;
+    private OrgMgtRestClient orgMgtRestClient;
+    private UserSharingRestClient userSharingRestClient;
+    private AsyncOperationStatusRestClient asyncOperationStatusRestClient;
+    private ClaimManagementRestClient claimManagementRestClient;
+    private String rootToken;
+
+    @BeforeClass(alwaysRun = true)
+    public void testInit() throws Exception {
+
+        initPerformanceTest(TestUserMode.SUPER_TENANT_ADMIN);
+        sharingConfiguration = loadConfiguration.withConcurrency(
+                LoadConfiguration.getIntProperty(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY));
+        timeout = Duration.ofSeconds(LoadConfiguration.getLongProperty(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT_SECONDS));
+        pollInterval = Duration.ofMillis(LoadConfiguration.getLongProperty(POLL_INTERVAL_PROPERTY,
+                DEFAULT_POLL_INTERVAL_MILLIS));
+        orgMgtRestClient = new OrgMgtRestClient(isServer, tenantInfo, serverURL,
+                new org.json.JSONObject(RESTTestBase.readResource(AUTHORIZED_APIS_JSON, this.getClass())));
+        userSharingRestClient = new UserSharingRestClient(serverURL, tenantInfo);
+        asyncOperationStatusRestClient = new AsyncOperationStatusRestClient(serverURL, tenantInfo);
+        claimManagementRestClient = new ClaimManagementRestClient(serverURL, tenantInfo);
+
+        rootToken = orgMgtRestClient.getM2MAccessToken();
+        int organizationCount = LoadConfiguration.getIntProperty(ORGANIZATIONS_PROPERTY, DEFAULT_ORGANIZATIONS);
+        AtomicInteger nextOrganization = new AtomicInteger();
+        report(sharingConfiguration, new LoadGenerator(sharingConfiguration).runWhile("user-sharing-setup",
+                () -> nextOrganization.get() < organizationCount, context -> {
+                    int index = nextOrganization.getAndIncrement();
+                    if (index < organizationCount) {
+                        createOrganization(context, ORGANIZATION_NAME_PREFIX + index);
+                    }
+                }));
+        LOG.info("Created " + organizations.size() + " organizations to share the users and claims with.");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        try {
+            for (String claimId : claimIds) {
+                claimManagementRestClient.deleteLocalClaim(claimId);
+            }
+            String token = orgMgtRestClient.getM2MAccessToken();
+            synchronized (organizations) {
+                for (Organization organization : organizations) {
+                    orgMgtRestClient.deleteOrganizationWithToken(organization.id, token);
+                }
+            }
+        } finally {
+            orgMgtRestClient.closeHttpClient();
+            userSharingRestClient.closeHttpClient();
+            asyncOperationStatusRestClient.closeHttpClient();
+            claimManagementRestClient.closeHttpClient();
+            cleanUpPerformanceTest();
+        }
+    }
+
+    @Test(description = "Time until users shared with all the organizations are available in each organization.")
+    public void testUserSharingFanOut() throws Exception {
+
+        int users = LoadConfiguration.getIntProperty(USERS_PROPERTY, DEFAULT_USERS);
+        int batchSize = LoadConfiguration.getIntProperty(BATCH_PROPERTY, DEFAULT_BATCH);
+        Set<String> expectedOrganizationIds = getOrganizationIds();
+        List<String> userIds = new ArrayList<>(users);
+        for (String username : createLoadTestUsers(USERNAME_PREFIX, users)) {
+            userIds.add(getLoadTestUserId(username));
+        }
+
+        LoadResult requestResult = new LoadResult("user-sharing-requests");
+        List<UserShareTracker> trackers = new ArrayList<>(users);
+        long start = System.nanoTime();
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            List<String> batch = userIds.subList(from, Math.min(from + batchSize, userIds.size()));
+            UserShareWithAllRequestBody requestBody = new UserShareWithAllRequestBody()
+                    .userCriteria(new UserShareRequestBodyUserCriteria().userIds(new ArrayList<>(batch)))
+                    .policy(UserShareWithAllRequestBody.PolicyEnum.ALL_EXISTING_ORGS_ONLY)
+                    .roles(Collections.emptyList());
+            long requestedAt = System.nanoTime();
+            try {
+                userSharingRestClient.shareUsersWithAll(requestBody);
+                requestResult.getOperation("share-with-all").recordSuccess(System.nanoTime() - requestedAt);
+            } catch (Exception | AssertionError e) {
+                requestResult.getOperation("share-with-all").recordFailure(System.nanoTime() - requestedAt,
+                        e.getClass().getSimpleName());
+                continue;
+            }
+            for (String userId : batch) {
+                trackers.add(new UserShareTracker(userId, requestedAt));
+            }
+        }
+        requestResult.setElapsedNanos(System.nanoTime() - start);
+        report(sharingConfiguration, requestResult);
+
+        LoadResult consistencyResult = new LoadResult("user-sharing-consistency");
+        ProgressSampler sampler = new ProgressSampler(start);
+        Queue<UserShareTracker> pending = new ConcurrentLinkedQueue<>(trackers);
+        AtomicInteger remaining = new AtomicInteger(trackers.size());
+        long deadline = start + timeout.toNanos();
+        report(sharingConfiguration, new LoadGenerator(sharingConfiguration).runWhile("user-sharing-status",
+                () -> remaining.get() > 0, context -> {
+                    UserShareTracker tracker = pending.poll();
+                    if (tracker == null) {
+                        Thread.sleep(pollInterval.toMillis());
+                        return;
+                    }
+                    boolean done = false;
+                    try {
+                        done = pollUserShare(context, tracker, expectedOrganizationIds, consistencyResult, deadline);
+                    } finally {
+                        if (done) {
+                            remaining.decrementAndGet();
+                        } else {
+                            pending.add(tracker);
+                        }
+                        sampleUserShares(sampler, trackers);
+                    }
+                }));
+        consistencyResult.setElapsedNanos(System.nanoTime() - start);
+        report(sharingConfiguration, consistencyResult);
+        PerformanceReport.writeTable(sharingConfiguration, "user-sharing-progress", PROGRESS_COLUMNS,
+                sampler.getRows());
+
+        Assert.assertEquals(consistencyResult.getOperation("user-consistency").getFailureCount(), 0L,
+                "Users were not shared with all the organizations within " + timeout.getSeconds() + "s.");
+    }
+
+    @Test(dependsOnMethods = "testUserSharingFanOut", alwaysRun = true,
+            description = "Time until claims added to the root organization are available in each organization.")
+    public void testClaimSharingFanOut() throws Exception {
+
+        int claims = LoadConfiguration.getIntProperty(CLAIMS_PROPERTY, DEFAULT_CLAIMS);
+        List<Organization> switchable = new ArrayList<>();
+        synchronized (organizations) {
+            for (Organization organization : organizations) {
+                if (organization.switchedToken != null) {
+                    switchable.add(organization);
+                }
+            }
+        }
+
+        LoadResult consistencyResult = new LoadResult("claim-sharing-consistency");
+        List<ClaimShareTracker> trackers = new ArrayList<>(claims);
+        Queue<ClaimCheck> pending = new ConcurrentLinkedQueue<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < claims; i++) {
+            LocalClaimReq claimRequest = new LocalClaimReq();
+            claimRequest.setClaimURI(CLAIM_URI_PREFIX + CLAIM_NAME_PREFIX + i);
+            claimRequest.setDisplayName(CLAIM_NAME_PREFIX + i);
+            claimRequest.setDescription(CLAIM_NAME_PREFIX + i);
+            AttributeMappingDTO attributeMapping = new AttributeMappingDTO();
+            attributeMapping.setMappedAttribute(CLAIM_NAME_PREFIX + i);
+            attributeMapping.setUserstore(PRIMARY_USER_STORE);
+            claimRequest.setAttributeMapping(Collections.singletonList(attributeMapping));
+
+            long requestedAt = System.nanoTime();
+            String claimId = claimManagementRestClient.addLocalClaim(claimRequest);
+            consistencyResult.getOperation("claim-create").recordSuccess(System.nanoTime() - requestedAt);
+            claimIds.add(claimId);
+            ClaimShareTracker tracker = new ClaimShareTracker(claimId, requestedAt, switchable.size());
+            trackers.add(tracker);
+            for (Organization organization : switchable) {
+                pending.add(new ClaimCheck(tracker, organization));
+            }
+        }
+
+        ProgressSampler sampler = new ProgressSampler(start);
+        AtomicInteger remaining = new AtomicInteger(pending.size());
+        long deadline = start + timeout.toNanos();
+        report(sharingConfiguration, new LoadGenerator(sharingConfiguration).runWhile("claim-sharing-status",
+                () -> remaining.get() > 0, context -> {
+                    ClaimCheck check = pending.poll();
+                    if (check == null) {
+                        Thread.sleep(pollInterval.toMillis());
+                        return;
+                    }
+                    boolean done = false;
+                    try {
+                        done = pollClaimShare(context, check, consistencyResult, deadline);
+                    } finally {
+                        if (done) {
+                            remaining.decrementAndGet();
+                        } else {
+                            pending.add(check);
+                        }
+                        sampleClaimShares(sampler, trackers);
+                    }
+                }));
+        consistencyResult.setElapsedNanos(System.nanoTime() - start);
+        report(sharingConfiguration, consistencyResult);
+        PerformanceReport.writeTable(sharingConfiguration, "claim-sharing-progress", PROGRESS_COLUMNS,
+                sampler.getRows());
+
+        Assert.assertEquals(consistencyResult.getOperation("claim-consistency").getFailureCount(), 0L,
+                "Claims were not shared with all the organizations within " + timeout.getSeconds() + "s.");
+    }
+
+    private void createOrganization(LoadContext context, String name) throws Exception {
+
+        Organization organization = new Organization(measureRestCall(context, "create-org",
+                () -> orgMgtRestClient.addOrganizationWithToken(name, null, rootToken), StringUtils::isNotBlank));
+        organizations.add(organization);
+
+        // The B2B application is shared with the new organization asynchronously, so the first switches may fail.
+        long start = System.nanoTime();
+        String[] switchedToken = new String[1];
+        boolean switched = Await.atMost(SHARE_PROPAGATION_TIMEOUT)
+                .pollInterval(SHARE_PROPAGATION_POLL_INTERVAL)
+                .until("switching to organization " + name, () -> {
+                    try {
+                        switchedToken[0] = orgMgtRestClient.switchM2MToken(organization.id, rootToken);
+                        return true;
+                    } catch (AssertionError e) {
+                        return false;
+                    }
+                });
+        long elapsed = System.nanoTime() - start;
+        if (switched) {
+            organization.switchedToken = switchedToken[0];
+            context.recordSuccess("share-propagation", elapsed);
+        } else {
+            context.recordFailure("share-propagation", elapsed, TIMEOUT);
+        }
+    }
+
+    /**
+     * Poll the asynchronous operation of a shared user.
+     *
+     * @return True if the user is shared with all the organizations, or if the tracking timed out.
+     */
+    private boolean pollUserShare(LoadContext context, UserShareTracker tracker, Set<String> expectedOrganizationIds,
+                                  LoadResult consistencyResult, long deadline) throws Exception {
+
+        tracker.awaitNextPoll(pollInterval);
+        if (System.nanoTime() > deadline) {
+            long elapsed = System.nanoTime() - tracker.requestedAt;
+            for (int i = tracker.completedOrganizationIds.size(); i < expectedOrganizationIds.size(); i++) {
+                consistencyResult.getOperation("org-consistency").recordFailure(elapsed, TIMEOUT);
+            }
+            consistencyResult.getOperation("user-consistency").recordFailure(elapsed,
+                    tracker.operationId == null ? "not-registered" : TIMEOUT);
+            return true;
+        }
+
+        if (tracker.operationId == null) {
+            JSONObject response = measureRestCall(context, "get-operations",
+                    () -> asyncOperationStatusRestClient.getOperations(SUBJECT_FILTER + tracker.userId,
+                            OPERATIONS_LIMIT), Objects::nonNull);
+            for (Object item : getArray(response, OPERATIONS)) {
+                JSONObject operation = (JSONObject) item;
+                if (tracker.userId.equals(operation.get(SUBJECT_ID))) {
+                    tracker.operationId = (String) operation.get(OPERATION_ID);
+                    tracker.operationCreatedAt = parseTime(operation.get(CREATED_TIME));
+                    consistencyResult.getOperation("operation-registered")
+                            .recordSuccess(System.nanoTime() - tracker.requestedAt);
+                    break;
+                }
+            }
+            if (tracker.operationId == null) {
+                return false;
+            }
+        }
+
+        String cursor = null;
+        do {
+            String after = cursor;
+            JSONObject page = measureRestCall(context, "get-unit-operations",
+                    () -> asyncOperationStatusRestClient.getUnitOperations(tracker.operationId, null,
+                            UNIT_OPERATIONS_LIMIT, after), Objects::nonNull);
+            long observedAt = System.nanoTime();
+            for (Object item : getArray(page, UNIT_OPERATIONS)) {
+                JSONObject unitOperation = (JSONObject) item;
+                String organizationId = (String) unitOperation.get(TARGET_ORG_ID);
+                String status = (String) unitOperation.get(STATUS);
+                if (!expectedOrganizationIds.contains(organizationId) ||
+                        !AsyncOperationStatusRestClient.isCompleted(status) ||
+                        !tracker.completedOrganizationIds.add(organizationId)) {
+                    continue;
+                }
+                long elapsed = observedAt - tracker.requestedAt;
+                if (STATUS_SUCCESS.equals(status)) {
+                    consistencyResult.getOperation("org-consistency").recordSuccess(elapsed);
+                } else {
+                    consistencyResult.getOperation("org-consistency").recordFailure(elapsed, status);
+                }
+                recordServerTime(consistencyResult, "server-org-completion", tracker.operationCreatedAt,
+                        parseTime(unitOperation.get(CREATED_TIME)));
+            }
+            cursor = AsyncOperationStatusRestClient.getNextPageCursor(page);
+        } while (cursor != null);
+
+        if (tracker.completedOrganizationIds.size() < expectedOrganizationIds.size()) {
+            return false;
+        }
+        consistencyResult.getOperation("user-consistency").recordSuccess(System.nanoTime() - tracker.requestedAt);
+        JSONObject operation = measureRestCall(context, "get-operation",
+                () -> asyncOperationStatusRestClient.getOperation(tracker.operationId), Objects::nonNull);
+        recordServerTime(consistencyResult, "operation-processing", parseTime(operation.get(CREATED_TIME)),
+                parseTime(operation.get(MODIFIED_TIME)));
+        tracker.completed = true;
+        return true;
+    }
+
+    /**
+     * Check whether a claim is available in an organization.
+     *
+     * @return True if the claim is available, or if the tracking timed out.
+     */
+    private boolean pollClaimShare(LoadContext context, ClaimCheck check, LoadResult consistencyResult,
+                                   long deadline) throws Exception {
+
+        ClaimShareTracker tracker = check.tracker;
+        check.awaitNextPoll(pollInterval);
+        if (System.nanoTime() > deadline) {
+            long elapsed = System.nanoTime() - tracker.requestedAt;
+            consistencyResult.getOperation("org-consistency").recordFailure(elapsed, TIMEOUT);
+            if (tracker.failed.compareAndSet(false, true)) {
+                consistencyResult.getOperation("claim-consistency").recordFailure(elapsed, TIMEOUT);
+            }
+            return true;
+        }
+
+        JSONObject claim = measureRestCall(context, "get-org-claim",
+                () -> claimManagementRestClient.getSubOrgLocalClaim(tracker.claimId,
+                        check.organization.switchedToken), Objects::nonNull);
+        if (!tracker.claimId.equals(claim.get("id"))) {
+            return false;
+        }
+        long elapsed = System.nanoTime() - tracker.requestedAt;
+        consistencyResult.getOperation("org-consistency").recordSuccess(elapsed);
+        if (tracker.completedOrganizations.incrementAndGet() == tracker.expectedOrganizations) {
+            consistencyResult.getOperation("claim-consistency").recordSuccess(elapsed);
+        }
+        return true;
+    }
+
+    private void sampleUserShares(ProgressSampler sampler, List<UserShareTracker> trackers) {
+
+        if (!sampler.isDue()) {
+            return;
+        }
+        long queued = 0;
+        long inProgress = 0;
+        long completed = 0;
+        long organizationCompletions = 0;
+        for (UserShareTracker tracker : trackers) {
+            if (tracker.completed) {
+                completed++;
+            } else if (tracker.operationId == null) {
+                queued++;
+            } else {
+                inProgress++;
+            }
+            organizationCompletions += tracker.completedOrganizationIds.size();
+        }
+        sampler.sample(queued, inProgress, completed, organizationCompletions);
+    }
+
+    private void sampleClaimShares(ProgressSampler sampler, List<ClaimShareTracker> trackers) {
+
+        if (!sampler.isDue()) {
+            return;
+        }
+        long queued = 0;
+        long inProgress = 0;
+        long completed = 0;
+        long organizationCompletions = 0;
+        for (ClaimShareTracker tracker : trackers) {
+            int completedOrganizations = tracker.completedOrganizations.get();
+            if (completedOrganizations == 0) {
+                queued++;
+            } else if (completedOrganizations < tracker.expectedOrganizations) {
+                inProgress++;
+            } else {
+                completed++;
+            }
+            organizationCompletions += completedOrganizations;
+        }
+        sampler.sample(queued, inProgress, completed, organizationCompletions);
+    }
+
+    private Set<String> getOrganizationIds() {
+
+        Set<String> organizationIds = ConcurrentHashMap.newKeySet();
+        synchronized (organizations) {
+            for (Organization organization : organizations) {
+                organizationIds.add(organization.id);
+            }
+        }
+        return organizationIds;
+    }
+
+    private static JSONArray getArray(JSONObject response, String key) {
+
+        Object array = response == null ? null : response.get(key);
+        return array instanceof JSONArray ? (JSONArray) array : new JSONArray();
+    }
+
+    /**
+     * Record the time between two server time stamps, if both are given.
+     */
+    private static void recordServerTime(LoadResult result, String operation, Instant from, Instant to) {
+
+        if (from != null && to != null && !to.isBefore(from)) {
+            result.getOperation(operation).recordSuccess(Duration.between(from, to).toNanos());
+        }
+    }
+
+    /**
+     * Parse a server time stamp given either in ISO-8601 format, in JDBC time stamp format or as epoch milliseconds.
+     *
+     * @return Time stamp, or null if the value can not be parsed.
+     */
+    private static Instant parseTime(Object value) {
+
+        if (value instanceof Number) {
+            return Instant.ofEpochMilli(((Number) value).longValue());
+        }
+        if (!(value instanceof String) || StringUtils.isBlank((String) value)) {
+            return null;
+        }
+        try {
+            return Instant.parse((String) value);
+        } catch (DateTimeParseException e) {
+            try {
+                return Timestamp.valueOf((String) value).toInstant();
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Organization the users and claims are shared with.
+     */
+    private static class Organization {
+
+        private final String id;
+        private volatile String switchedToken;
+
+        Organization(String id) {
+
+            this.id = id;
+        }
+    }
+
+    /**
+     * Polling state of a resource, which spaces out the polls of the same resource by the poll interval.
+     */
+    private abstract static class PollingState {
+
+        private long lastPolledAt;
+
+        void awaitNextPoll(Duration pollInterval) throws InterruptedException {
+
+            long wait = lastPolledAt + pollInterval.toNanos() - System.nanoTime();
+            if (lastPolledAt != 0 && wait > 0) {
+                Thread.sleep(Duration.ofNanos(wait));
+            }
+            lastPolledAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Sharing progress of a user, which is polled by one virtual user at a time.
+     */
+    private static class UserShareTracker extends PollingState {
+
+        private final String userId;
+        private final long requestedAt;
+        private final Set<String> completedOrganizationIds = ConcurrentHashMap.newKeySet();
+        private volatile String operationId;
+        private volatile Instant operationCreatedAt;
+        private volatile boolean completed;
+
+        UserShareTracker(String userId, long requestedAt) {
+
+            this.userId = userId;
+            this.requestedAt = requestedAt;
+        }
+    }
+
+    /**
+     * Sharing progress of a claim.
+     */
+    private static class ClaimShareTracker {
+
+        private final String claimId;
+        private final long requestedAt;
+        private final int expectedOrganizations;
+        private final AtomicInteger completedOrganizations = new AtomicInteger();
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        ClaimShareTracker(String claimId, long requestedAt, int expectedOrganizations) {
+
+            this.claimId = claimId;
+            this.requestedAt = requestedAt;
+            this.expectedOrganizations = expectedOrganizations;
+        }
+    }
+
+    /**
+     * Check of a claim in an organization, which is polled by one virtual user at a time.
+     */
+    private static class ClaimCheck extends PollingState {
+
+        private final ClaimShareTracker tracker;
+        private final Organization organization;
+
+        ClaimCheck(ClaimShareTracker tracker, Organization organization) {
+
+            this.tracker = tracker;
+            this.organization = organization;
+        }
+    }
+
+    /**
+     * Samples the sharing progress at most once a second.
+     */
+    private static class ProgressSampler {
+
+        private final long start;
+        private final AtomicLong lastSampledAt = new AtomicLong();
+        private final List<List<String>> rows = Collections.synchronizedList(new ArrayList<>());
+        private long previousSampledAt;
+        private long previousOrganizationCompletions;
+
+        ProgressSampler(long start) {
+
+            this.start = start;
+            lastSampledAt.set(start);
+            previousSampledAt = start;
+        }
+
+        /**
+         * Claim the next sample. Only one of the virtual users gets to take each sample.
+         */
+        boolean isDue() {
+
+            long now = System.nanoTime();
+            long last = lastSampledAt.get();
+            return now - last >= SAMPLE_INTERVAL_NANOS && lastSampledAt.compareAndSet(last, now);
+        }
+
+        synchronized void sample(long queued, long inProgress, long completed, long organizationCompletions) {
+
+            long now = System.nanoTime();
+            double rate = (organizationCompletions - previousOrganizationCompletions) * 1_000_000_000.0 /
+                    Math.max(1L, now - previousSampledAt);
+            previousSampledAt = now;
+            previousOrganizationCompletions = organizationCompletions;
+            rows.add(Arrays.asList(String.format("%.1f", (now - start) / 1_000_000_000.0), String.valueOf(queued),
+                    String.valueOf(inProgress), String.valueOf(completed), String.valueOf(organizationCompletions),
+                    String.format("%.1f", rate)));
+        }
+
+        List<List<String>> getRows() {
+
+            synchronized (rows) {
+                return new ArrayList<>(rows);
+            }
+        }
+    }
+}
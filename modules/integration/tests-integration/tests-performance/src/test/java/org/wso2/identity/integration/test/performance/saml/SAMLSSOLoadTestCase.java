@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.saml;
+
+import org.apache.commons.lang3.StringUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.test.performance.PerformanceTestBase;
+import org.wso2.identity.integration.test.performance.common.HttpLoadClient;
+import org.wso2.identity.integration.test.performance.common.LoadConfiguration;
+import org.wso2.identity.integration.test.performance.common.LoadContext;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.performance.common.VirtualBrowser;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SAML2Configuration;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.SingleSignOnProfile;
+import org.wso2.identity.integration.test.utils.CommonConstants;
+import org.wso2.identity.integration.test.utils.OAuth2Constant;
+import org.wso2.identity.integration.test.utils.SAMLSSOUtil;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.wso2.identity.integration.test.performance.common.HttpLoadClient.newRequest;
+
+/**
+ * Drives the SAML2 Web SSO flows of the identity server: SP-initiated SSO with the HTTP-Redirect and HTTP-POST
+ * bindings, IdP-initiated SSO, single logout and artifact resolution. The service providers are simulated by the
+ * virtual users, which build the protocol messages and consume the responses of the identity server directly,
+ * including the validation of the response signatures.
+ * <p>
+ * Each protocol step is recorded as an operation of its own so that the report shows where the time of a login is
+ * spent. The number of service providers and users are configured with the "perf.saml.sps" and "perf.saml.users"
+ * properties.
+ */
+public class SAMLSSOLoadTestCase extends PerformanceTestBase {
+
+    public static final String SERVICE_PROVIDERS_PROPERTY = "perf.saml.sps";
+    public static final String USERS_PROPERTY = "perf.saml.users";
+
+    private static final int DEFAULT_SERVICE_PROVIDERS = 4;
+    private static final int DEFAULT_USERS = 100;
+    private static final String ISSUER_PREFIX = "saml-load-sp-";
+    private static final String ARTIFACT_ISSUER = "saml-load-artifact-sp";
+    private static final String USERNAME_PREFIX = "samlloaduser";
+    private static final String SAML_SSO_URL = "https://localhost:9853/samlsso";
+    private static final String SAML_ARTIFACT_RESOLVE_URL = "https://localhost:9853/samlartresolve";
+    private static final String ACS_URL = "http://localhost:8490/%s/home.jsp";
+    private static final String SP_ENTITY_ID_PARAM = "spEntityID";
+    private static final String SOAP_ACTION_HEADER = "SOAPAction";
+    private static final String SOAP_ACTION = "http://www.oasis-open.org/committees/security";
+    private static final String SOAP_CONTENT_TYPE = "text/xml; charset=UTF-8";
+    private static final int MAX_LOGOUT_REDIRECTS = 5;
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_FOUND = 302;
+
+    private final List<String> issuers = new ArrayList<>();
+    private List<String> usernames;
+    private String samlSSOEndpoint;
+    private String artifactResolveEndpoint;
+    private KeyStore trustStore;
+
+    private enum Binding {
+
+        REDIRECT("redirect"),
+        POST("post");
+
+        private final String name;
+
+        Binding(String name) {
+
+            this.name = name;
+        }
+    }
+
+    @BeforeClass(alwaysRun = true)
+    public void testInit() throws Exception {
+
+        initPerformanceTest(TestUserMode.SUPER_TENANT_ADMIN);
+        samlSSOEndpoint = getTenantQualifiedURL(SAML_SSO_URL, tenantInfo.getDomain());
+        artifactResolveEndpoint = getTenantQualifiedURL(SAML_ARTIFACT_RESOLVE_URL, tenantInfo.getDomain());
+        trustStore = HttpLoadClient.loadTrustStore();
+        Assert.assertNotNull(trustStore, "A trust store is required to validate the SAML response signatures.");
+
+        int serviceProviderCount = LoadConfiguration.getIntProperty(SERVICE_PROVIDERS_PROPERTY,
+                DEFAULT_SERVICE_PROVIDERS);
+        for (int i = 0; i < serviceProviderCount; i++) {
+            String issuer = ISSUER_PREFIX + i;
+            SAML2Configuration samlConfig = SAMLSSOUtil.buildSAML2Configuration(issuer,
+                    String.format(ACS_URL, issuer), true, false);
+            samlConfig.getManualConfiguration().getSingleSignOnProfile().setEnableIdpInitiatedSingleSignOn(true);
+            createLoadTestSAMLApplication(issuer, samlConfig);
+            issuers.add(issuer);
+        }
+
+        SAML2Configuration artifactConfig = SAMLSSOUtil.buildSAML2Configuration(ARTIFACT_ISSUER,
+                String.format(ACS_URL, ARTIFACT_ISSUER), true, false);
+        artifactConfig.getManualConfiguration().getSingleSignOnProfile()
+                .addBindingsItem(SingleSignOnProfile.BINDINGSEnum.HTTP_POST)
+                .addBindingsItem(SingleSignOnProfile.BINDINGSEnum.HTTP_REDIRECT)
+                .addBindingsItem(SingleSignOnProfile.BINDINGSEnum.ARTIFACT);
+        createLoadTestSAMLApplication(ARTIFACT_ISSUER, artifactConfig);
+
+        usernames = createLoadTestUsers(USERNAME_PREFIX, LoadConfiguration.getIntProperty(USERS_PROPERTY,
+                DEFAULT_USERS));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        cleanUpPerformanceTest();
+    }
+
+    @Test(description = "Load test of SP-initiated SSO and SLO with the HTTP-Redirect and HTTP-POST bindings.")
+    public void testSPInitiatedSSO() throws Exception {
+
+        LoadResult result = loadGenerator.run("saml-sp-initiated-sso", context -> {
+            // Alternate the bindings so that both are measured under the same load.
+            Binding binding = context.getIteration() % 2 == 0 ? Binding.REDIRECT : Binding.POST;
+            String issuer = getIssuer(context);
+            String relayState = UUID.randomUUID().toString();
+            VirtualBrowser browser = newBrowser(context);
+
+            String authnRequest = SAMLSSOUtil.buildAuthnRequest(issuer, samlSSOEndpoint,
+                    String.format(ACS_URL, issuer), SAMLSSOUtil.HTTP_POST_BINDING);
+            HttpResponse<String> authnResponse = sendSAMLRequest(browser, "authn-request-" + binding.name,
+                    binding, authnRequest, relayState);
+            HttpResponse<String> responsePage = authenticate(browser, authnResponse, getUsername(context),
+                    HTTP_OK);
+            if (!relayState.equals(SAMLSSOUtil.getFormInputValue(responsePage.body(),
+                    SAMLSSOUtil.RELAY_STATE_PARAM))) {
+                throw new IllegalStateException("RelayState is not returned with the SAML response.");
+            }
+            Document samlResponse = validateResponse(context, SAMLSSOUtil.decodePostBindingMessage(
+                    getSAMLResponse(responsePage)));
+            logout(context, browser, issuer, binding, samlResponse);
+        });
+        report(result);
+    }
+
+    @Test(description = "Load test of IdP-initiated SSO.", dependsOnMethods = "testSPInitiatedSSO")
+    public void testIdPInitiatedSSO() throws Exception {
+
+        LoadResult result = loadGenerator.run("saml-idp-initiated-sso", context -> {
+            String issuer = getIssuer(context);
+            VirtualBrowser browser = newBrowser(context);
+
+            Map<String, String> parameters = new LinkedHashMap<>();
+            parameters.put(SP_ENTITY_ID_PARAM, issuer);
+            HttpResponse<String> idpInitResponse = browser.get("idp-initiated-request",
+                    samlSSOEndpoint + "?" + HttpLoadClient.toFormBody(parameters), HTTP_FOUND);
+            HttpResponse<String> responsePage = authenticate(browser, idpInitResponse,
+                    getUsername(context), HTTP_OK);
+            Document samlResponse = validateResponse(context, SAMLSSOUtil.decodePostBindingMessage(
+                    getSAMLResponse(responsePage)));
+            logout(context, browser, issuer, Binding.REDIRECT, samlResponse);
+        });
+        report(result);
+    }
+
+    @Test(description = "Load test of SSO with the HTTP-Artifact binding and the artifact resolution.",
+            dependsOnMethods = "testIdPInitiatedSSO")
+    public void testArtifactResolve() throws Exception {
+
+        LoadResult result = loadGenerator.run("saml-artifact-resolve", context -> {
+            VirtualBrowser browser = newBrowser(context);
+
+            String authnRequest = SAMLSSOUtil.buildAuthnRequest(ARTIFACT_ISSUER, samlSSOEndpoint,
+                    String.format(ACS_URL, ARTIFACT_ISSUER), SAMLSSOUtil.HTTP_ARTIFACT_BINDING);
+            HttpResponse<String> authnResponse = sendSAMLRequest(browser, "authn-request-redirect",
+                    Binding.REDIRECT, authnRequest, UUID.randomUUID().toString());
+            HttpResponse<String> acsRedirect = authenticate(browser, authnResponse, getUsername(context),
+                    HTTP_FOUND);
+            String artifact = getLocationQueryParameter(acsRedirect, SAMLSSOUtil.SAML_ARTIFACT_PARAM);
+            if (artifact == null) {
+                throw new IllegalStateException("SAML artifact not found in the assertion consumer redirect.");
+            }
+
+            // The service provider resolves the artifact over the back channel, without the browser cookies.
+            HttpResponse<String> artifactResponse = loadClient.send(context, "artifact-resolve",
+                    newRequest(artifactResolveEndpoint)
+                            .header(HttpLoadClient.CONTENT_TYPE_HEADER, SOAP_CONTENT_TYPE)
+                            .header(SOAP_ACTION_HEADER, SOAP_ACTION)
+                            .POST(HttpRequest.BodyPublishers.ofString(SAMLSSOUtil.buildArtifactResolve(
+                                    ARTIFACT_ISSUER, artifactResolveEndpoint, artifact)))
+                            .build(), HTTP_OK);
+            if (artifactResponse.statusCode() != HTTP_OK) {
+                return;
+            }
+            Document samlResponse = validateResponse(context, artifactResponse.body());
+            logout(context, browser, ARTIFACT_ISSUER, Binding.REDIRECT, samlResponse);
+        });
+        report(result);
+    }
+
+    /**
+     * Send a SAML request to the SSO endpoint with the given binding. The request is not recorded when the operation
+     * is null.
+     */
+    private HttpResponse<String> sendSAMLRequest(VirtualBrowser browser, String operation, Binding binding,
+                                                 String message, String relayState)
+            throws IOException, InterruptedException {
+
+        Map<String, String> parameters = new LinkedHashMap<>();
+        if (binding == Binding.REDIRECT) {
+            parameters.put(CommonConstants.SAML_REQUEST_PARAM, SAMLSSOUtil.encodeForRedirectBinding(message));
+            if (relayState != null) {
+                parameters.put(SAMLSSOUtil.RELAY_STATE_PARAM, relayState);
+            }
+            return browser.get(operation, samlSSOEndpoint + "?" + HttpLoadClient.toFormBody(parameters), HTTP_FOUND);
+        }
+        parameters.put(CommonConstants.SAML_REQUEST_PARAM, SAMLSSOUtil.encodeForPostBinding(message));
+        if (relayState != null) {
+            parameters.put(SAMLSSOUtil.RELAY_STATE_PARAM, relayState);
+        }
+        return browser.postForm(operation, samlSSOEndpoint, parameters, HTTP_FOUND);
+    }
+
+    /**
+     * Submit the credentials for the sessionDataKey of the login page redirect and follow the redirect back to the
+     * SSO endpoint, which responds with the SAML response.
+     */
+    private HttpResponse<String> authenticate(VirtualBrowser browser, HttpResponse<String> loginRedirect,
+                                              String username, int expectedStatus)
+            throws IOException, InterruptedException {
+
+        String sessionDataKey = getLocationQueryParameter(loginRedirect, OAuth2Constant.SESSION_DATA_KEY);
+        if (sessionDataKey == null) {
+            throw new IllegalStateException("sessionDataKey not found in the login page redirect.");
+        }
+        Map<String, String> loginParameters = new LinkedHashMap<>();
+        loginParameters.put("username", username);
+        loginParameters.put("password", LOAD_TEST_USER_PASSWORD);
+        loginParameters.put(OAuth2Constant.SESSION_DATA_KEY, sessionDataKey);
+        HttpResponse<String> loginResponse = browser.postForm("commonauth", commonAuthEndpoint, loginParameters,
+                HTTP_FOUND);
+
+        String callbackRedirect = getLocation(loginResponse);
+        if (callbackRedirect == null) {
+            throw new IllegalStateException("Login did not redirect back to the SAML SSO endpoint.");
+        }
+        return browser.get("saml-response", callbackRedirect, expectedStatus);
+    }
+
+    /**
+     * Parse the SAML response, validate its signatures against the trust store and check its status.
+     */
+    private Document validateResponse(LoadContext context, String message) throws Exception {
+
+        Document samlResponse = context.measure("signature-validation", () -> {
+            Document document = SAMLSSOUtil.parseMessage(message);
+            return SAMLSSOUtil.validateSignatures(document, trustStore) > 0 ? document : null;
+        }, document -> document != null);
+        if (samlResponse == null) {
+            throw new IllegalStateException("The SAML response is not signed.");
+        }
+        String statusCode = SAMLSSOUtil.getStatusCode(samlResponse);
+        if (!SAMLSSOUtil.STATUS_SUCCESS.equals(statusCode)) {
+            throw new IllegalStateException("Unsuccessful SAML response: " + statusCode);
+        }
+        return samlResponse;
+    }
+
+    /**
+     * Send a LogoutRequest for the session of the given response and follow the redirects within the identity server
+     * until the page delivering the LogoutResponse is received.
+     */
+    private void logout(LoadContext context, VirtualBrowser browser, String issuer, Binding binding,
+                        Document samlResponse) throws Exception {
+
+        String logoutRequest = SAMLSSOUtil.buildLogoutRequest(issuer, samlSSOEndpoint,
+                SAMLSSOUtil.getNameId(samlResponse), SAMLSSOUtil.getSessionIndex(samlResponse));
+        String operation = "logout-request-" + binding.name;
+        long start = System.nanoTime();
+        // The redirect chain is recorded as a single operation.
+        HttpResponse<String> response = sendSAMLRequest(browser, null, binding, logoutRequest, null);
+        for (int i = 0; i < MAX_LOGOUT_REDIRECTS && response.statusCode() == HTTP_FOUND; i++) {
+            String location = getLocation(response);
+            if (location == null || !location.startsWith(serverRoot())) {
+                break;
+            }
+            response = browser.get(null, location, HTTP_OK);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (response.statusCode() == HTTP_OK && SAMLSSOUtil.getFormInputValue(response.body(),
+                CommonConstants.SAML_RESPONSE_PARAM) != null) {
+            context.recordSuccess(operation, elapsed);
+        } else {
+            context.recordFailure(operation, elapsed, "HTTP " + response.statusCode());
+        }
+    }
+
+    private VirtualBrowser newBrowser(LoadContext context) {
+
+        // Each iteration starts a new browser session of the virtual user.
+        context.getCookieJar().clear();
+        return new VirtualBrowser(loadClient, context);
+    }
+
+    private String serverRoot() {
+
+        return samlSSOEndpoint.substring(0, samlSSOEndpoint.indexOf('/', "https://".length()));
+    }
+
+    private static String getSAMLResponse(HttpResponse<String> response) {
+
+        String samlResponse = SAMLSSOUtil.getFormInputValue(response.body(), CommonConstants.SAML_RESPONSE_PARAM);
+        if (StringUtils.isEmpty(samlResponse)) {
+            throw new IllegalStateException("SAMLResponse not found in the response page.");
+        }
+        return samlResponse;
+    }
+
+    private String getIssuer(LoadContext context) {
+
+        return issuers.get((int) ((context.getVirtualUserId() + context.getIteration()) % issuers.size()));
+    }
+
+    private String getUsername(LoadContext context) {
+
+        // Spread the iterations of a virtual user over the users instead of reusing the same login.
+        long index = context.getVirtualUserId() + context.getIteration() * loadConfiguration.getConcurrency();
+        return usernames.get((int) (index % usernames.size()));
+    }
+}
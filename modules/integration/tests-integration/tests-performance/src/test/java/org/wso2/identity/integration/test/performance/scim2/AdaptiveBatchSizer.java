@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.scim2;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapts the number of operations per SCIM2 Bulk request to the observed latency and error rate, in the manner of an
+ * additive increase, multiplicative decrease controller. The size grows while the requests complete well within the
+ * target latency, and shrinks when they exceed it or when the share of failed operations is above the tolerated
+ * error rate, since a failed request aborted by failOnErrors wastes all the operations queued after the failure.
+ * <p>
+ * The throughput achieved with each batch size is tracked in power of two buckets, to report the batch shape that
+ * gave the best throughput.
+ */
+public class AdaptiveBatchSizer {
+
+    private static final double GROWTH_FACTOR = 1.25;
+    private static final double LATENCY_BACKOFF_FACTOR = 0.75;
+    private static final double ERROR_BACKOFF_FACTOR = 0.5;
+
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final long targetLatencyNanos;
+    private final double toleratedErrorRate;
+    private final Map<Integer, long[]> bucketStats = new TreeMap<>();
+    private int batchSize;
+
+    /**
+     * @param initialBatchSize    Batch size of the first requests.
+     * @param minBatchSize        Smallest batch size.
+     * @param maxBatchSize        Largest batch size, usually the maximum number of operations the server accepts.
+     * @param targetLatencyMillis Latency of a request the batch size is adapted to.
+     * @param toleratedErrorRate  Share of failed operations in a request above which the batch size is reduced.
+     */
+    public AdaptiveBatchSizer(int initialBatchSize, int minBatchSize, int maxBatchSize, long targetLatencyMillis,
+                              double toleratedErrorRate) {
+
+        if (minBatchSize <= 0 || minBatchSize > maxBatchSize) {
+            throw new IllegalArgumentException("Invalid batch size range [" + minBatchSize + ", " + maxBatchSize +
+                    "]");
+        }
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.toleratedErrorRate = toleratedErrorRate;
+        this.batchSize = clamp(initialBatchSize);
+    }
+
+    /**
+     * Get the size of the next batch.
+     *
+     * @return Number of operations to put in the next request.
+     */
+    public synchronized int nextBatchSize() {
+
+        return batchSize;
+    }
+
+    /**
+     * Adapt the batch size to the outcome of a completed request.
+     *
+     * @param size         Number of operations sent in the request.
+     * @param succeeded    Number of operations that succeeded.
+     * @param elapsedNanos Latency of the request.
+     */
+    public synchronized void onBatchCompleted(int size, int succeeded, long elapsedNanos) {
+
+        long[] stats = bucketStats.computeIfAbsent(Integer.highestOneBit(Math.max(size, 1)), key -> new long[2]);
+        stats[0] += succeeded;
+        stats[1] += elapsedNanos;
+
+        double errorRate = size == 0 ? 0.0 : (double) (size - succeeded) / size;
+        if (errorRate > toleratedErrorRate) {
+            batchSize = clamp((int) (batchSize * ERROR_BACKOFF_FACTOR));
+        } else if (elapsedNanos > targetLatencyNanos) {
+            batchSize = clamp((int) (batchSize * LATENCY_BACKOFF_FACTOR));
+        } else if (size >= batchSize) {
+            // Only grow on requests that used the full size, since the last requests of a run are smaller.
+            batchSize = clamp((int) Math.ceil(batchSize * GROWTH_FACTOR));
+        }
+    }
+
+    /**
+     * Get the throughput achieved by a single worker with each batch size bucket.
+     *
+     * @return Sorted map of the smallest batch size of each bucket to the successful operations per second.
+     */
+    public synchronized Map<Integer, Double> getThroughputByBatchSize() {
+
+        Map<Integer, Double> throughput = new TreeMap<>();
+        bucketStats.forEach((bucket, stats) -> throughput.put(bucket, stats[1] == 0 ? 0.0 :
+                stats[0] * 1_000_000_000.0 / stats[1]));
+        return throughput;
+    }
+
+    /**
+     * Get the batch size bucket which achieved the highest throughput.
+     *
+     * @return Smallest batch size of the best bucket, or the current batch size if no request is completed.
+     */
+    public synchronized int getOptimalBatchSize() {
+
+        return getThroughputByBatchSize().entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(batchSize);
+    }
+
+    private int clamp(int size) {
+
+        return Math.max(minBatchSize, Math.min(maxBatchSize, size));
+    }
+}
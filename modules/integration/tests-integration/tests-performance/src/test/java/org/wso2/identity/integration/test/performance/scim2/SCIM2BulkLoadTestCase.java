@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.scim2;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.test.performance.PerformanceTestBase;
+import org.wso2.identity.integration.test.performance.common.HttpLoadClient;
+import org.wso2.identity.integration.test.performance.common.LoadConfiguration;
+import org.wso2.identity.integration.test.performance.common.LoadContext;
+import org.wso2.identity.integration.test.performance.common.LoadGenerator;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.performance.common.PerformanceReport;
+import org.wso2.identity.integration.test.utils.seeding.SeedDataGenerator;
+import org.wso2.identity.integration.test.utils.seeding.SeedUser;
+import org.wso2.identity.integration.test.utils.seeding.UserStoreSeedSpec;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static org.wso2.identity.integration.test.performance.common.HttpLoadClient.newRequest;
+
+/**
+ * Bulk-loads users through the SCIM2 Bulk endpoint from several concurrent workers and reports the users loaded per
+ * second and the error rate of each bulk operation, for each of the configured user stores.
+ * <p>
+ * The number of operations per request is adapted to the observed latency and errors with an
+ * {@link AdaptiveBatchSizer}, within the limits advertised by the ServiceProviderConfig endpoint, and the batch size
+ * that achieved the best throughput is reported as the optimal batch shape of the user store. When failOnErrors is
+ * set, the operations the server skipped after reaching the error limit are queued again once.
+ */
+public class SCIM2BulkLoadTestCase extends PerformanceTestBase {
+
+    private static final Log LOG = LogFactory.getLog(SCIM2BulkLoadTestCase.class);
+
+    public static final String USERS_PROPERTY = "perf.scim2.bulk.users";
+    public static final String WORKERS_PROPERTY = "perf.scim2.bulk.workers";
+    public static final String INITIAL_BATCH_SIZE_PROPERTY = "perf.scim2.bulk.initial.batch";
+    public static final String TARGET_LATENCY_PROPERTY = "perf.scim2.bulk.target.latency";
+    public static final String FAIL_ON_ERRORS_PROPERTY = "perf.scim2.bulk.fail.on.errors";
+    public static final String USER_STORES_PROPERTY = "perf.scim2.bulk.userstores";
+
+    private static final int DEFAULT_USERS = 100000;
+    private static final int DEFAULT_WORKERS = 4;
+    private static final int DEFAULT_INITIAL_BATCH_SIZE = 100;
+    private static final long DEFAULT_TARGET_LATENCY_MILLIS = 2000;
+    private static final String DEFAULT_USER_STORES = "PRIMARY,PERFRWLDAP";
+    private static final String PRIMARY_DOMAIN = "PRIMARY";
+    private static final double TOLERATED_ERROR_RATE = 0.01;
+    private static final int MIN_BATCH_SIZE = 1;
+    private static final int DEFAULT_MAX_OPERATIONS = 1000;
+    private static final int DEFAULT_MAX_PAYLOAD_SIZE = 1048576;
+
+    private static final String BULK_PATH = "scim2/Bulk";
+    private static final String SERVICE_PROVIDER_CONFIG_PATH = "scim2/ServiceProviderConfig";
+    private static final String SCIM_CONTENT_TYPE = "application/scim+json";
+    private static final String BULK_REQUEST_SCHEMA = "urn:ietf:params:scim:api:messages:2.0:BulkRequest";
+    private static final String USER_SCHEMA = "urn:ietf:params:scim:schemas:core:2.0:User";
+    private static final String BULK_ID_PREFIX = "u";
+    private static final String USER_NAME_PREFIX = "bulkuser";
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_CREATED = 201;
+
+    private final Map<String, List<LoadResult>> comparison = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Queue<String> createdUserIds = new ConcurrentLinkedQueue<>();
+    private String bulkEndpoint;
+    private String authorizationHeader;
+    private int maxOperations;
+    private int maxPayloadSize;
+    private int userCount;
+    private int failOnErrors;
+    private LoadGenerator bulkLoadGenerator;
+
+    @BeforeClass(alwaysRun = true)
+    public void testInit() throws Exception {
+
+        initPerformanceTest(TestUserMode.SUPER_TENANT_ADMIN);
+        bulkEndpoint = getTenantQualifiedURL(serverURL + BULK_PATH, tenantInfo.getDomain());
+        authorizationHeader = HttpLoadClient.basicAuthorization(tenantInfo.getContextUser().getUserName(),
+                tenantInfo.getContextUser().getPassword());
+        userCount = LoadConfiguration.getIntProperty(USERS_PROPERTY, DEFAULT_USERS);
+        failOnErrors = LoadConfiguration.getIntProperty(FAIL_ON_ERRORS_PROPERTY, 0);
+        bulkLoadGenerator = new LoadGenerator(loadConfiguration.withConcurrency(
+                LoadConfiguration.getIntProperty(WORKERS_PROPERTY, DEFAULT_WORKERS)));
+        readBulkLimits();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        try {
+            if (!comparison.isEmpty()) {
+                PerformanceReport.writeComparison(loadConfiguration, "scim2-bulk-comparison", comparison);
+            }
+            deleteCreatedUsers();
+        } finally {
+            cleanUpPerformanceTest();
+        }
+    }
+
+    @DataProvider(name = "userStores")
+    public Object[][] userStores() {
+
+        return Arrays.stream(StringUtils.defaultIfBlank(System.getProperty(USER_STORES_PROPERTY),
+                        DEFAULT_USER_STORES).split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .map(domain -> new Object[]{domain.toUpperCase(Locale.ENGLISH)})
+                .toArray(Object[][]::new);
+    }
+
+    @Test(description = "Bulk-load users through the SCIM2 Bulk endpoint with an adaptive batch size.",
+            dataProvider = "userStores")
+    public void testBulkUserCreation(String domain) throws Exception {
+
+        if (!PRIMARY_DOMAIN.equals(domain)) {
+            createLDAPUserStore(domain, false);
+        }
+        SeedDataGenerator generator = new SeedDataGenerator(new UserStoreSeedSpec()
+                .userCount(userCount)
+                .userNamePrefix(USER_NAME_PREFIX)
+                .randomSeed(domain.hashCode()));
+        AdaptiveBatchSizer batchSizer = new AdaptiveBatchSizer(
+                LoadConfiguration.getIntProperty(INITIAL_BATCH_SIZE_PROPERTY, DEFAULT_INITIAL_BATCH_SIZE),
+                MIN_BATCH_SIZE, getMaxBatchSize(generator, domain),
+                LoadConfiguration.getLongProperty(TARGET_LATENCY_PROPERTY, DEFAULT_TARGET_LATENCY_MILLIS),
+                TOLERATED_ERROR_RATE);
+        BulkIngestion ingestion = new BulkIngestion(domain, generator, batchSizer);
+
+        LoadResult result = bulkLoadGenerator.runWhile("scim2-bulk-" + domain.toLowerCase(Locale.ENGLISH),
+                ingestion::hasNext, ingestion::sendNextBatch);
+        PerformanceReport.write(loadConfiguration, result);
+        comparison.put(domain, Collections.singletonList(result));
+
+        double usersPerSecond = ingestion.getCreatedUsers() * 1_000_000_000.0 / result.getElapsedNanos();
+        LOG.info(String.format(Locale.ROOT, "Bulk-loaded %d of %d users into %s at %.1f users/s. Optimal batch " +
+                        "size: %d. Throughput per worker by batch size: %s", ingestion.getCreatedUsers(),
+                userCount, domain, usersPerSecond, batchSizer.getOptimalBatchSize(),
+                batchSizer.getThroughputByBatchSize().entrySet().stream()
+                        .map(entry -> String.format(Locale.ROOT, "%d=%.1f/s", entry.getKey(), entry.getValue()))
+                        .collect(Collectors.joining(", "))));
+        Assert.assertTrue(ingestion.getCreatedUsers() > 0, "No user was created through the bulk endpoint in " +
+                domain);
+    }
+
+    /**
+     * Work queue of a bulk ingestion run, shared by the workers.
+     */
+    private class BulkIngestion {
+
+        private final String domain;
+        private final SeedDataGenerator generator;
+        private final AdaptiveBatchSizer batchSizer;
+        private final AtomicInteger nextIndex = new AtomicInteger();
+        private final Queue<Integer> skippedIndexes = new ConcurrentLinkedQueue<>();
+        private final Set<Integer> retriedIndexes = ConcurrentHashMap.newKeySet();
+        private final LongAdder createdUsers = new LongAdder();
+
+        BulkIngestion(String domain, SeedDataGenerator generator, AdaptiveBatchSizer batchSizer) {
+
+            this.domain = domain;
+            this.generator = generator;
+            this.batchSizer = batchSizer;
+        }
+
+        boolean hasNext() {
+
+            return nextIndex.get() < userCount || !skippedIndexes.isEmpty();
+        }
+
+        void sendNextBatch(LoadContext context) throws Exception {
+
+            int[] indexes = takeBatch(batchSizer.nextBatchSize());
+            if (indexes.length == 0) {
+                return;
+            }
+            HttpRequest request = newRequest(bulkEndpoint)
+                    .header(HttpLoadClient.AUTHORIZATION_HEADER, authorizationHeader)
+                    .header(HttpLoadClient.CONTENT_TYPE_HEADER, SCIM_CONTENT_TYPE)
+                    .POST(HttpRequest.BodyPublishers.ofString(buildBulkRequest(generator, domain, indexes)))
+                    .build();
+
+            long start = System.nanoTime();
+            HttpResponse<String> response = loadClient.send(context, "bulk-request", request, HTTP_OK);
+            long elapsedNanos = System.nanoTime() - start;
+            // The latency of the request is spread over its operations to record the latency per user.
+            long operationNanos = elapsedNanos / indexes.length;
+
+            Map<String, JSONObject> operationResults = new HashMap<>();
+            if (response.statusCode() == HTTP_OK) {
+                JSONArray operations = (JSONArray) toJSONObject(response).get("Operations");
+                if (operations != null) {
+                    for (Object operation : operations) {
+                        JSONObject operationResult = (JSONObject) operation;
+                        operationResults.put((String) operationResult.get("bulkId"), operationResult);
+                    }
+                }
+            }
+
+            int succeeded = 0;
+            for (int index : indexes) {
+                JSONObject operationResult = operationResults.get(BULK_ID_PREFIX + index);
+                if (operationResult == null) {
+                    if (response.statusCode() == HTTP_OK && failOnErrors > 0 && retriedIndexes.add(index)) {
+                        // Skipped by the server after reaching the failOnErrors limit.
+                        skippedIndexes.add(index);
+                        context.recordFailure("bulk-op-POST", operationNanos, "skipped");
+                    } else {
+                        context.recordFailure("bulk-op-POST", operationNanos, "HTTP " + response.statusCode());
+                    }
+                    continue;
+                }
+                int status = getStatusCode(operationResult);
+                if (status == HTTP_CREATED) {
+                    succeeded++;
+                    context.recordSuccess("bulk-op-POST", operationNanos);
+                    String location = (String) operationResult.get("location");
+                    if (location != null) {
+                        createdUserIds.add(location.substring(location.lastIndexOf('/') + 1));
+                    }
+                } else {
+                    context.recordFailure("bulk-op-POST", operationNanos, "HTTP " + status);
+                }
+            }
+            createdUsers.add(succeeded);
+            batchSizer.onBatchCompleted(indexes.length, succeeded, elapsedNanos);
+        }
+
+        long getCreatedUsers() {
+
+            return createdUsers.sum();
+        }
+
+        /**
+         * Take the indexes of the next batch, giving the operations skipped due to failOnErrors priority.
+         */
+        private int[] takeBatch(int size) {
+
+            List<Integer> indexes = new ArrayList<>(size);
+            Integer skippedIndex;
+            while (indexes.size() < size && (skippedIndex = skippedIndexes.poll()) != null) {
+                indexes.add(skippedIndex);
+            }
+            int remaining = size - indexes.size();
+            if (remaining > 0) {
+                int from = nextIndex.getAndAdd(remaining);
+                for (int index = from; index < Math.min(from + remaining, userCount); index++) {
+                    indexes.add(index);
+                }
+            }
+            return indexes.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * Build the body of a bulk request creating the users of the given indexes. The body is written directly
+     * instead of through a JSON object model, since the requests of the large batches are big.
+     */
+    private String buildBulkRequest(SeedDataGenerator generator, String domain, int[] indexes) {
+
+        StringBuilder body = new StringBuilder(indexes.length * 320 + 128);
+        body.append("{\"schemas\":[\"").append(BULK_REQUEST_SCHEMA).append("\"],");
+        if (failOnErrors > 0) {
+            body.append("\"failOnErrors\":").append(failOnErrors).append(',');
+        }
+        body.append("\"Operations\":[");
+        for (int i = 0; i < indexes.length; i++) {
+            SeedUser user = generator.generateUser(indexes[i]);
+            Map<String, String> attributes = user.getAttributes();
+            String userName = PRIMARY_DOMAIN.equals(domain) ? user.getUserName() : domain + "/" +
+                    user.getUserName();
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"method\":\"POST\",\"path\":\"/Users\",\"bulkId\":\"").append(BULK_ID_PREFIX)
+                    .append(indexes[i]).append("\",\"data\":{\"schemas\":[\"").append(USER_SCHEMA)
+                    .append("\"],\"userName\":\"").append(JSONValue.escape(userName))
+                    .append("\",\"password\":\"").append(JSONValue.escape(LOAD_TEST_USER_PASSWORD))
+                    .append("\",\"name\":{\"givenName\":\"").append(JSONValue.escape(attributes.get("givenName")))
+                    .append("\",\"familyName\":\"").append(JSONValue.escape(attributes.get("sn")))
+                    .append("\"},\"emails\":[{\"value\":\"").append(JSONValue.escape(attributes.get("mail")))
+                    .append("\",\"primary\":true}]}}");
+        }
+        return body.append("]}").toString();
+    }
+
+    /**
+     * Get the largest batch size accepted by the server, bounded by both the maximum number of operations and the
+     * maximum payload size of a bulk request.
+     */
+    private int getMaxBatchSize(SeedDataGenerator generator, String domain) {
+
+        // Leave room for users with longer attributes than the sample.
+        int operationSize = (buildBulkRequest(generator, domain, new int[]{userCount - 1}).length() * 5) / 4;
+        return Math.max(MIN_BATCH_SIZE, Math.min(maxOperations, maxPayloadSize / operationSize));
+    }
+
+    private void readBulkLimits() throws Exception {
+
+        maxOperations = DEFAULT_MAX_OPERATIONS;
+        maxPayloadSize = DEFAULT_MAX_PAYLOAD_SIZE;
+        HttpResponse<String> response = loadClient.send(newRequest(getTenantQualifiedURL(
+                serverURL + SERVICE_PROVIDER_CONFIG_PATH, tenantInfo.getDomain()))
+                .header(HttpLoadClient.AUTHORIZATION_HEADER, authorizationHeader)
+                .GET()
+                .build());
+        if (response.statusCode() == HTTP_OK) {
+            JSONObject bulk = (JSONObject) toJSONObject(response).get("bulk");
+            if (bulk != null) {
+                if (bulk.get("maxOperations") instanceof Number) {
+                    maxOperations = ((Number) bulk.get("maxOperations")).intValue();
+                }
+                if (bulk.get("maxPayloadSize") instanceof Number) {
+                    maxPayloadSize = ((Number) bulk.get("maxPayloadSize")).intValue();
+                }
+            }
+        }
+        LOG.info("SCIM2 Bulk limits: maxOperations=" + maxOperations + ", maxPayloadSize=" + maxPayloadSize);
+    }
+
+    /**
+     * Delete the created users with bulk requests of the largest accepted size. The deletion is not measured.
+     */
+    private void deleteCreatedUsers() throws Exception {
+
+        long startTime = System.nanoTime();
+        int deletedUsers = 0;
+        List<String> batch = new ArrayList<>(maxOperations);
+        String userId;
+        while ((userId = createdUserIds.poll()) != null) {
+            batch.add(userId);
+            if (batch.size() == maxOperations || createdUserIds.isEmpty()) {
+                StringBuilder body = new StringBuilder("{\"schemas\":[\"").append(BULK_REQUEST_SCHEMA)
+                        .append("\"],\"Operations\":[");
+                for (int i = 0; i < batch.size(); i++) {
+                    body.append(i > 0 ? "," : "").append("{\"method\":\"DELETE\",\"path\":\"/Users/")
+                            .append(batch.get(i)).append("\"}");
+                }
+                HttpResponse<String> response = loadClient.send(newRequest(bulkEndpoint)
+                        .header(HttpLoadClient.AUTHORIZATION_HEADER, authorizationHeader)
+                        .header(HttpLoadClient.CONTENT_TYPE_HEADER, SCIM_CONTENT_TYPE)
+                        .POST(HttpRequest.BodyPublishers.ofString(body.append("]}").toString()))
+                        .build());
+                if (response.statusCode() != HTTP_OK) {
+                    LOG.warn("Failed to delete a batch of bulk-loaded users: HTTP " + response.statusCode());
+                } else {
+                    deletedUsers += batch.size();
+                }
+                batch.clear();
+            }
+        }
+        LOG.info("Deleted " + deletedUsers + " bulk-loaded users in " +
+                Duration.ofNanos(System.nanoTime() - startTime).getSeconds() + "s.");
+    }
+
+    /**
+     * Get the status code of an operation of a bulk response, which is either a number, a string or an object with
+     * a "code" attribute depending on the server version.
+     *
+     * @return Status code, or 0 if the operation has no status.
+     */
+    private static int getStatusCode(JSONObject operationResult) {
+
+        Object status = operationResult.get("status");
+        if (status instanceof JSONObject) {
+            status = ((JSONObject) status).get("code");
+        }
+        if (status instanceof Number) {
+            return ((Number) status).intValue();
+        }
+        return status == null ? 0 : Integer.parseInt(status.toString().trim());
+    }
+}
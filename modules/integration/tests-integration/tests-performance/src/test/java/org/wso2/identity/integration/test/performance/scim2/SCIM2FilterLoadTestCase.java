@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.scim2;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.test.performance.PerformanceTestBase;
+import org.wso2.identity.integration.test.performance.common.LoadConfiguration;
+import org.wso2.identity.integration.test.performance.common.LoadContext;
+import org.wso2.identity.integration.test.performance.common.LoadGenerator;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.performance.common.LoadTask;
+import org.wso2.identity.integration.test.performance.common.PerformanceReport;
+import org.wso2.identity.integration.test.rest.api.user.common.model.Email;
+import org.wso2.identity.integration.test.rest.api.user.common.model.Name;
+import org.wso2.identity.integration.test.rest.api.user.common.model.UserObject;
+import org.wso2.identity.integration.test.utils.seeding.LDAPUserStoreSeeder;
+import org.wso2.identity.integration.test.utils.seeding.SeedDataGenerator;
+import org.wso2.identity.integration.test.utils.seeding.SeedUser;
+import org.wso2.identity.integration.test.utils.seeding.UserStoreSeedSpec;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the latency and throughput of SCIM2 user filtering, pagination and attribute projection as the user
+ * population grows, against the JDBC primary user store and read-write and read-only LDAP secondary user stores.
+ * <p>
+ * The populations are grown in steps on the same store and each operation is run in isolation for each step, so that
+ * the comparison report shows the population at which the latency of an operation stops scaling. The LDAP stores are
+ * backed by the embedded LDAP server of the suite and are seeded directly through its directory service, while the
+ * primary store is provisioned through SCIM2.
+ */
+public class SCIM2FilterLoadTestCase extends PerformanceTestBase {
+
+    private static final Log LOG = LogFactory.getLog(SCIM2FilterLoadTestCase.class);
+
+    public static final String POPULATIONS_PROPERTY = "perf.scim2.populations";
+    public static final String USER_STORES_PROPERTY = "perf.scim2.userstores";
+    public static final String OPERATION_DURATION_PROPERTY = "perf.scim2.operation.duration";
+    public static final String OPERATION_WARMUP_PROPERTY = "perf.scim2.operation.warmup";
+
+    private static final String DEFAULT_POPULATIONS = "1000,10000,100000";
+    private static final String PRIMARY_DOMAIN = "PRIMARY";
+    private static final String READ_WRITE_LDAP_DOMAIN = "PERFRWLDAP";
+    private static final String READ_ONLY_LDAP_DOMAIN = "PERFROLDAP";
+    private static final String DEFAULT_USER_STORES = String.join(",", PRIMARY_DOMAIN, READ_WRITE_LDAP_DOMAIN,
+            READ_ONLY_LDAP_DOMAIN);
+    private static final long DEFAULT_OPERATION_DURATION_SECONDS = 20;
+    private static final long DEFAULT_OPERATION_WARMUP_SECONDS = 5;
+
+    private static final String SEARCH_REQUEST_SCHEMA = "urn:ietf:params:scim:api:messages:2.0:SearchRequest";
+    private static final String TOTAL_RESULTS = "totalResults";
+    private static final int PAGE_SIZE = 50;
+    private static final int PROJECTION_PAGE_SIZE = 100;
+
+    private final Map<String, List<LoadResult>> comparison = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Queue<String> provisionedUserIds = new ConcurrentLinkedQueue<>();
+    private LoadGenerator operationLoadGenerator;
+    private int[] populations;
+
+    @BeforeClass(alwaysRun = true)
+    public void testInit() throws Exception {
+
+        initPerformanceTest(TestUserMode.SUPER_TENANT_ADMIN);
+        operationLoadGenerator = new LoadGenerator(loadConfiguration.withDuration(
+                Duration.ofSeconds(LoadConfiguration.getLongProperty(OPERATION_DURATION_PROPERTY,
+                        DEFAULT_OPERATION_DURATION_SECONDS)),
+                Duration.ofSeconds(LoadConfiguration.getLongProperty(OPERATION_WARMUP_PROPERTY,
+                        DEFAULT_OPERATION_WARMUP_SECONDS))));
+        populations = Arrays.stream(StringUtils.defaultIfBlank(System.getProperty(POPULATIONS_PROPERTY),
+                        DEFAULT_POPULATIONS).split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .sorted()
+                .toArray();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        try {
+            if (!comparison.isEmpty()) {
+                PerformanceReport.writeComparison(loadConfiguration, "scim2-filter-comparison", comparison);
+            }
+            if (!provisionedUserIds.isEmpty()) {
+                loadGenerator.runIterations("scim2-filter-cleanup", provisionedUserIds.size(), context -> {
+                    String userId = provisionedUserIds.poll();
+                    if (userId != null) {
+                        scim2RestClient.deleteUser(userId);
+                    }
+                });
+            }
+        } finally {
+            cleanUpPerformanceTest();
+        }
+    }
+
+    @DataProvider(name = "userStores")
+    public Object[][] userStores() {
+
+        return getUserStores().stream()
+                .map(domain -> new Object[]{domain})
+                .toArray(Object[][]::new);
+    }
+
+    @Test(description = "Benchmark of the SCIM2 user filters and pagination as the user population grows.",
+            dataProvider = "userStores")
+    public void testFilterPerformance(String domain) throws Exception {
+
+        // The spec covers the largest population, so that the user names stay the same as the population grows.
+        // The seed differs per store, so that the ids of the users seeded into the LDAP stores do not collide.
+        UserStoreSeedSpec seedSpec = new UserStoreSeedSpec()
+                .userCount(populations[populations.length - 1])
+                .randomSeed(domain.hashCode());
+        SeedDataGenerator seedDataGenerator = new SeedDataGenerator(seedSpec);
+        // Each LDAP store reads an organizational unit of its own, which is seeded directly since read-only stores
+        // cannot be written to through SCIM2.
+        LDAPUserStoreSeeder ldapSeeder = PRIMARY_DOMAIN.equals(domain) ? null :
+                createLDAPUserStore(domain, READ_ONLY_LDAP_DOMAIN.equals(domain));
+        int seededCount = 0;
+        for (int population : populations) {
+            if (ldapSeeder != null) {
+                ldapSeeder.seedUsers(seedSpec, seededCount, population);
+            } else {
+                provision(seedSpec, seededCount, population);
+            }
+            seededCount = population;
+
+            String variant = domain + "/" + population;
+            List<LoadResult> variantResults = new ArrayList<>();
+            comparison.put(variant, variantResults);
+            int size = population;
+            variantResults.add(runOperation(variant, "filter-eq-username", context ->
+                    filter(context, "filter-eq-username", "userName eq " +
+                            qualify(domain, userName(seedDataGenerator, size)))));
+            variantResults.add(runOperation(variant, "filter-sw-username", context -> {
+                String userName = userName(seedDataGenerator, size);
+                // Dropping the last two digits of the index matches a block of up to a hundred users.
+                filter(context, "filter-sw-username", "userName sw " +
+                        qualify(domain, userName.substring(0, userName.length() - 2)));
+            }));
+            variantResults.add(runOperation(variant, "filter-co-email", context ->
+                    search(context, "filter-co-email", domain, "emails co \"." + randomIndex(size) + "@\"",
+                            1, PAGE_SIZE, null)));
+            variantResults.add(runOperation(variant, "filter-and", context -> {
+                SeedUser user = seedDataGenerator.generateUser(randomIndex(size));
+                search(context, "filter-and", domain, "name.givenName eq \"" +
+                        user.getAttributes().get("givenName") + "\" and name.familyName eq \"" +
+                        user.getAttributes().get("sn") + "\"", 1, PAGE_SIZE, null);
+            }));
+            variantResults.add(runOperation(variant, "filter-or", context ->
+                    filter(context, "filter-or", "userName eq " +
+                            qualify(domain, userName(seedDataGenerator, size)) + " or userName eq " +
+                            qualify(domain, userName(seedDataGenerator, size)))));
+            variantResults.add(runOperation(variant, "page-first", context ->
+                    search(context, "page-first", domain, null, 1, PAGE_SIZE, null)));
+            variantResults.add(runOperation(variant, "page-middle", context ->
+                    search(context, "page-middle", domain, null, size / 2, PAGE_SIZE, null)));
+            variantResults.add(runOperation(variant, "page-last", context ->
+                    search(context, "page-last", domain, null, Math.max(1, size - PAGE_SIZE + 1), PAGE_SIZE,
+                            null)));
+            variantResults.add(runOperation(variant, "projection-all", context ->
+                    search(context, "projection-all", domain, null, 1, PROJECTION_PAGE_SIZE, null)));
+            variantResults.add(runOperation(variant, "projection-username", context ->
+                    search(context, "projection-username", domain, null, 1, PROJECTION_PAGE_SIZE,
+                            "userName")));
+        }
+    }
+
+    private LoadResult runOperation(String variant, String operation,
+                                    LoadTask task) throws Exception {
+
+        LoadResult result = operationLoadGenerator.run("scim2-" + variant.replace('/', '-') + "-" + operation,
+                task);
+        PerformanceReport.write(loadConfiguration, result);
+        return result;
+    }
+
+    /**
+     * Grow the population of the primary user store through SCIM2 from the current size to the target size.
+     */
+    private void provision(UserStoreSeedSpec seedSpec, int fromIndex, int toIndex) {
+
+        SeedDataGenerator seedDataGenerator = new SeedDataGenerator(seedSpec);
+        AtomicInteger nextIndex = new AtomicInteger(fromIndex);
+        LoadResult result = loadGenerator.runIterations("scim2-filter-provision-" + toIndex, toIndex - fromIndex,
+                context -> {
+                    SeedUser user = seedDataGenerator.generateUser(nextIndex.getAndIncrement());
+                    UserObject userObject = new UserObject()
+                            .userName(user.getUserName())
+                            .password(seedSpec.getPassword())
+                            .name(new Name()
+                                    .givenName(user.getAttributes().get("givenName"))
+                                    .familyName(user.getAttributes().get("sn")));
+                    userObject.addEmail(new Email().value(user.getAttributes().get("mail")));
+                    provisionedUserIds.add(measureRestCall(context, "provision", () ->
+                            scim2RestClient.createUser(userObject), StringUtils::isNotEmpty));
+                });
+        LOG.info("Provisioned " + (toIndex - fromIndex) + " users to " + PRIMARY_DOMAIN + " in " +
+                Duration.ofNanos(result.getElapsedNanos()).getSeconds() + "s.");
+    }
+
+    private void filter(LoadContext context, String operation, String filter) throws Exception {
+
+        measureRestCall(context, operation, () -> scim2RestClient.filterUsers(URLEncoder.encode(filter,
+                StandardCharsets.UTF_8)), SCIM2FilterLoadTestCase::isListResponse);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void search(LoadContext context, String operation, String domain, String filter, int startIndex,
+                        int count, String attribute) throws Exception {
+
+        JSONObject searchRequest = new JSONObject();
+        JSONArray schemas = new JSONArray();
+        schemas.add(SEARCH_REQUEST_SCHEMA);
+        searchRequest.put("schemas", schemas);
+        searchRequest.put("domain", domain);
+        searchRequest.put("startIndex", startIndex);
+        searchRequest.put("count", count);
+        if (filter != null) {
+            searchRequest.put("filter", filter);
+        }
+        if (attribute != null) {
+            JSONArray attributes = new JSONArray();
+            attributes.add(attribute);
+            searchRequest.put("attributes", attributes);
+        }
+        String body = searchRequest.toJSONString();
+        measureRestCall(context, operation, () -> scim2RestClient.searchUser(body),
+                SCIM2FilterLoadTestCase::isListResponse);
+    }
+
+    private static boolean isListResponse(JSONObject response) {
+
+        return response != null && response.get(TOTAL_RESULTS) != null;
+    }
+
+    private static String userName(SeedDataGenerator seedDataGenerator, int population) {
+
+        return seedDataGenerator.getUserName(randomIndex(population));
+    }
+
+    private static int randomIndex(int population) {
+
+        return ThreadLocalRandom.current().nextInt(population);
+    }
+
+    private static String qualify(String domain, String userName) {
+
+        return PRIMARY_DOMAIN.equals(domain) ? userName : domain + "/" + userName;
+    }
+
+    private static List<String> getUserStores() {
+
+        return Arrays.stream(StringUtils.defaultIfBlank(System.getProperty(USER_STORES_PROPERTY),
+                        DEFAULT_USER_STORES).split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .map(domain -> domain.toUpperCase(Locale.ENGLISH))
+                .collect(Collectors.toList());
+    }
+}
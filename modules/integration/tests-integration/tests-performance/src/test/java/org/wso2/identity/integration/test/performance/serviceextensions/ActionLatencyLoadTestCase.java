@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.serviceextensions;
+
+import com.github.tomakehurst.wiremock.http.Fault;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.test.oauth2.dataprovider.model.ApplicationConfig;
+import org.wso2.identity.integration.test.performance.PerformanceTestBase;
+import org.wso2.identity.integration.test.performance.common.LoadConfiguration;
+import org.wso2.identity.integration.test.performance.common.LoadGenerator;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.performance.common.PerformanceReport;
+import org.wso2.identity.integration.test.rest.api.server.action.management.v1.common.model.ActionModel;
+import org.wso2.identity.integration.test.rest.api.server.action.management.v1.common.model.AuthenticationType;
+import org.wso2.identity.integration.test.rest.api.server.action.management.v1.common.model.Endpoint;
+import org.wso2.identity.integration.test.rest.api.server.application.management.v1.model.OpenIDConnectConfiguration;
+import org.wso2.identity.integration.test.restclients.ActionsRestClient;
+import org.wso2.identity.integration.test.serviceextensions.mockservices.ServiceExtensionMockProfile;
+import org.wso2.identity.integration.test.serviceextensions.mockservices.ServiceExtensionMockServer;
+import org.wso2.identity.integration.test.utils.FileUtils;
+import org.wso2.identity.integration.test.utils.OAuth2Constant;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.identity.integration.test.performance.common.HttpLoadClient.newFormPost;
+
+/**
+ * Measures the latency and throughput of the token endpoint while the external service of a pre issue access token
+ * action degrades.
+ * <p>
+ * The client_credentials grant is driven once for each profile of "perf.actions.profiles". The "none" profile runs
+ * with the action deactivated and gives the baseline of the token endpoint. The other profiles run with the action
+ * active and the external service mocked by {@link ServiceExtensionMockServer} with the named
+ * {@link ServiceExtensionMockProfile}: answering at once, after a fixed or a log-normal delay, with keep-alive
+ * connections, with a ratio of failed, broken or timed out requests, or throttled above a rate. The token requests
+ * which fail because of the action are recorded as failures of the run, so the error rate of each profile shows how
+ * the server surfaces the degradation of the service to the clients.
+ */
+public class ActionLatencyLoadTestCase extends PerformanceTestBase {
+
+    private static final Log LOG = LogFactory.getLog(ActionLatencyLoadTestCase.class);
+
+    public static final String PROFILES_PROPERTY = "perf.actions.profiles";
+    public static final String CONCURRENCY_PROPERTY = "perf.actions.concurrency";
+    public static final String OPERATION_DURATION_PROPERTY = "perf.actions.operation.duration";
+    public static final String DELAY_PROPERTY = "perf.actions.delay";
+    public static final String FAILURE_PERCENTAGE_PROPERTY = "perf.actions.failure.percentage";
+    public static final String TIMEOUT_DELAY_PROPERTY = "perf.actions.timeout.delay";
+    public static final String THROTTLING_RATE_PROPERTY = "perf.actions.throttling.rate";
+
+    private static final String DEFAULT_PROFILES =
+            "none,instant,fixed,lognormal,keepalive,failures,faults,timeouts,throttled";
+    private static final int DEFAULT_CONCURRENCY = 50;
+    private static final long DEFAULT_OPERATION_DURATION_SECONDS = 60;
+    private static final int DEFAULT_DELAY_MILLIS = 100;
+    private static final int DEFAULT_FAILURE_PERCENTAGE = 5;
+    // Longer than the read timeout of the HTTP client which calls the actions.
+    private static final int DEFAULT_TIMEOUT_DELAY_MILLIS = 10000;
+    private static final int DEFAULT_THROTTLING_RATE = 100;
+    private static final double LOG_NORMAL_SIGMA = 0.5;
+    private static final List<String> PROFILE_COLUMNS = Arrays.asList("profile", "description", "action_requests",
+            "injected_failures", "injected_faults", "injected_timeouts", "throttled");
+
+    private static final String NO_ACTION_PROFILE = "none";
+    private static final String APPLICATION_NAME = "ActionLatencyLoadTestApp";
+    private static final String PRE_ISSUE_ACCESS_TOKEN_TYPE = "preIssueAccessToken";
+    private static final String ACTION_RESOURCE_PATH = "/test/action";
+    private static final String ACTION_URI = "http://localhost:8587" + ACTION_RESOURCE_PATH;
+    private static final String ACTION_USERNAME = "test";
+    private static final String ACTION_PASSWORD = "test";
+    private static final String ACTION_RESPONSE = "actions/response/pre-issue-access-token-response.json";
+    private static final int HTTP_OK = 200;
+
+    private final Map<String, List<LoadResult>> comparison = new LinkedHashMap<>();
+    private final List<List<String>> profileRows = new ArrayList<>();
+    private ActionsRestClient actionsRestClient;
+    private ServiceExtensionMockServer serviceExtensionMockServer;
+    private LoadConfiguration actionConfiguration;
+    private String actionId;
+    private String actionResponse;
+    private String clientId;
+    private String clientSecret;
+
+    @BeforeClass(alwaysRun = true)
+    public void testInit() throws Exception {
+
+        initPerformanceTest(TestUserMode.SUPER_TENANT_ADMIN);
+        actionConfiguration = loadConfiguration
+                .withConcurrency(LoadConfiguration.getIntProperty(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY))
+                .withDuration(Duration.ofSeconds(LoadConfiguration.getLongProperty(OPERATION_DURATION_PROPERTY,
+                        DEFAULT_OPERATION_DURATION_SECONDS)), loadConfiguration.getWarmup());
+        OpenIDConnectConfiguration oidcConfig = createLoadTestApplication(APPLICATION_NAME,
+                Collections.singletonList(OAuth2Constant.OAUTH2_GRANT_TYPE_CLIENT_CREDENTIALS),
+                ApplicationConfig.TokenType.JWT);
+        clientId = oidcConfig.getClientId();
+        clientSecret = oidcConfig.getClientSecret();
+        actionResponse = FileUtils.readFileInClassPathAsString(ACTION_RESPONSE);
+
+        serviceExtensionMockServer = new ServiceExtensionMockServer();
+        serviceExtensionMockServer.startServer();
+        actionsRestClient = new ActionsRestClient(serverURL, tenantInfo);
+        actionId = actionsRestClient.createActionType(newPreIssueAccessTokenAction(), PRE_ISSUE_ACCESS_TOKEN_TYPE);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        try {
+            if (!comparison.isEmpty()) {
+                PerformanceReport.writeComparison(actionConfiguration, "actions", comparison);
+                PerformanceReport.writeTable(actionConfiguration, "actions-profiles", PROFILE_COLUMNS,
+                        profileRows);
+            }
+        } finally {
+            if (actionsRestClient != null) {
+                if (actionId != null) {
+                    actionsRestClient.deleteActionType(PRE_ISSUE_ACCESS_TOKEN_TYPE, actionId);
+                }
+                actionsRestClient.closeHttpClient();
+            }
+            if (serviceExtensionMockServer != null) {
+                serviceExtensionMockServer.stopServer();
+            }
+            cleanUpPerformanceTest();
+        }
+    }
+
+    @Test(description = "Token issuance with a pre issue access token action backed by a degrading service.")
+    public void testTokenIssuanceWithDegradedAction() throws Exception {
+
+        HttpRequest request = newFormPost(tokenEndpoint, tokenRequestParameters(clientId, clientSecret,
+                OAuth2Constant.OAUTH2_GRANT_TYPE_CLIENT_CREDENTIALS)).build();
+        boolean actionActive = false;
+        for (String name : StringUtils.defaultIfBlank(System.getProperty(PROFILES_PROPERTY), DEFAULT_PROFILES)
+                .split(",")) {
+            String profileName = name.trim();
+            if (profileName.isEmpty()) {
+                continue;
+            }
+            ServiceExtensionMockProfile profile = null;
+            if (NO_ACTION_PROFILE.equals(profileName)) {
+                if (actionActive) {
+                    actionsRestClient.deactivateAction(PRE_ISSUE_ACCESS_TOKEN_TYPE, actionId);
+                    actionActive = false;
+                }
+            } else {
+                profile = newProfile(profileName);
+                // The latest stub of the path takes precedence over the stubs of the previous profiles.
+                serviceExtensionMockServer.setupStub(ACTION_RESOURCE_PATH, "Basic " +
+                        getBase64EncodedString(ACTION_USERNAME, ACTION_PASSWORD), actionResponse, HTTP_OK, profile);
+                serviceExtensionMockServer.resetRequests();
+                if (!actionActive) {
+                    actionsRestClient.activateAction(PRE_ISSUE_ACCESS_TOKEN_TYPE, actionId);
+                    actionActive = true;
+                }
+            }
+
+            LOG.info("Running token issuance with action profile " + profileName +
+                    (profile == null ? " (action inactive)" : " (" + profile + ")"));
+            LoadResult result = new LoadGenerator(actionConfiguration).run("actions-" + profileName, context ->
+                    loadClient.send(context, OAuth2Constant.OAUTH2_GRANT_TYPE_CLIENT_CREDENTIALS, request, HTTP_OK));
+            report(actionConfiguration, result);
+            comparison.put(profileName, Collections.singletonList(result));
+            profileRows.add(Arrays.asList(profileName,
+                    profile == null ? "action inactive" : profile.toString(),
+                    String.valueOf(serviceExtensionMockServer.getReceivedRequestCount(ACTION_RESOURCE_PATH)),
+                    profile == null ? "0" : String.valueOf(profile.getInjectedFailures()),
+                    profile == null ? "0" : String.valueOf(profile.getInjectedFaults()),
+                    profile == null ? "0" : String.valueOf(profile.getInjectedTimeouts()),
+                    profile == null ? "0" : String.valueOf(profile.getThrottledRequests())));
+        }
+    }
+
+    private ServiceExtensionMockProfile newProfile(String name) {
+
+        int delay = LoadConfiguration.getIntProperty(DELAY_PROPERTY, DEFAULT_DELAY_MILLIS);
+        double failureRatio = LoadConfiguration.getIntProperty(FAILURE_PERCENTAGE_PROPERTY,
+                DEFAULT_FAILURE_PERCENTAGE) / 100.0;
+        switch (name) {
+            case "instant":
+                return ServiceExtensionMockProfile.instant();
+            case "fixed":
+                return ServiceExtensionMockProfile.instant().fixedDelay(delay);
+            case "lognormal":
+                return ServiceExtensionMockProfile.instant().logNormalDelay(delay, LOG_NORMAL_SIGMA);
+            case "keepalive":
+                return ServiceExtensionMockProfile.instant().fixedDelay(delay).keepAlive(true);
+            case "failures":
+                return ServiceExtensionMockProfile.instant().fixedDelay(delay).failures(failureRatio, 500);
+            case "faults":
+                return ServiceExtensionMockProfile.instant().fixedDelay(delay)
+                        .faults(failureRatio, Fault.CONNECTION_RESET_BY_PEER);
+            case "timeouts":
+                return ServiceExtensionMockProfile.instant().fixedDelay(delay).timeouts(failureRatio,
+                        LoadConfiguration.getIntProperty(TIMEOUT_DELAY_PROPERTY, DEFAULT_TIMEOUT_DELAY_MILLIS));
+            case "throttled":
+                return ServiceExtensionMockProfile.instant().fixedDelay(delay).throttling(
+                        LoadConfiguration.getIntProperty(THROTTLING_RATE_PROPERTY, DEFAULT_THROTTLING_RATE));
+            default:
+                throw new IllegalArgumentException("Unknown action profile: " + name);
+        }
+    }
+
+    private ActionModel newPreIssueAccessTokenAction() {
+
+        AuthenticationType authenticationType = new AuthenticationType();
+        authenticationType.setType(AuthenticationType.TypeEnum.BASIC);
+        Map<String, Object> authProperties = new HashMap<>();
+        authProperties.put("username", ACTION_USERNAME);
+        authProperties.put("password", ACTION_PASSWORD);
+        authenticationType.setProperties(authProperties);
+
+        Endpoint endpoint = new Endpoint();
+        endpoint.setUri(ACTION_URI);
+        endpoint.setAuthentication(authenticationType);
+
+        ActionModel actionModel = new ActionModel();
+        actionModel.setName("Action Latency Load Test");
+        actionModel.setDescription("Pre issue access token action of the action latency load test");
+        actionModel.setEndpoint(endpoint);
+        return actionModel;
+    }
+}
@@ -0,0 +1,531 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.identity.integration.test.performance.webhooks;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.automation.engine.context.TestUserMode;
+import org.wso2.identity.integration.common.utils.await.Await;
+import org.wso2.identity.integration.test.performance.PerformanceTestBase;
+import org.wso2.identity.integration.test.performance.common.LoadConfiguration;
+import org.wso2.identity.integration.test.performance.common.LoadContext;
+import org.wso2.identity.integration.test.performance.common.LoadGenerator;
+import org.wso2.identity.integration.test.performance.common.LoadResult;
+import org.wso2.identity.integration.test.performance.common.PerformanceReport;
+import org.wso2.identity.integration.test.rest.api.server.roles.v2.model.RoleV2;
+import org.wso2.identity.integration.test.rest.api.server.webhook.management.v1.model.WebhookRequest;
+import org.wso2.identity.integration.test.rest.api.server.webhook.management.v1.model.WebhookRequestEventProfile;
+import org.wso2.identity.integration.test.rest.api.user.common.model.ListObject;
+import org.wso2.identity.integration.test.rest.api.user.common.model.PatchOperationRequestObject;
+import org.wso2.identity.integration.test.rest.api.user.common.model.RoleItemAddGroupobj;
+import org.wso2.identity.integration.test.rest.api.user.common.model.UserItemAddGroupobj;
+import org.wso2.identity.integration.test.rest.api.user.common.model.UserObject;
+import org.wso2.identity.integration.test.restclients.WebhooksRestClient;
+import org.wso2.identity.integration.test.webhooks.mockservice.WebhookDeliveryJournal;
+import org.wso2.identity.integration.test.webhooks.mockservice.WebhookMockService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Benchmark of the delivery of webhook events under a high volume of user and role management operations.
+ * <p>
+ * A webhook subscribed to the user and role channels is registered against {@link WebhookMockService}, which records
+ * each delivery in a {@link WebhookDeliveryJournal} with the time it was received. The virtual users then run the
+ * life cycle of "perf.webhooks.users" users and "perf.webhooks.roles" roles through the SCIM2 REST client: a user is
+ * created, updated "perf.webhooks.updates" times and deleted, and a role is created, given a member and deleted. The
+ * operations of a subject run one after the other, while the subjects run in parallel.
+ * <p>
+ * Once the events of all the operations are delivered, or "perf.webhooks.delivery.timeout" seconds elapse, the journal
+ * is matched with the operations by subject id and event type. The "webhook-delivery" report gives the delivery
+ * latency of each event type, measured from the start of the operation which triggered the event, and the delivery
+ * throughput. The "webhook-delivery-integrity" report gives the duplicate, missed and unexpected events of each event
+ * type and the subjects whose events were delivered out of order. The scenario fails if an event is missed.
+ */
+public class WebhookDeliveryLoadTestCase extends PerformanceTestBase {
+
+    private static final Log LOG = LogFactory.getLog(WebhookDeliveryLoadTestCase.class);
+
+    public static final String USERS_PROPERTY = "perf.webhooks.users";
+    public static final String ROLES_PROPERTY = "perf.webhooks.roles";
+    public static final String UPDATES_PROPERTY = "perf.webhooks.updates";
+    public static final String CONCURRENCY_PROPERTY = "perf.webhooks.concurrency";
+    public static final String DELIVERY_TIMEOUT_PROPERTY = "perf.webhooks.delivery.timeout";
+
+    private static final int DEFAULT_USERS = 1000;
+    private static final int DEFAULT_ROLES = 200;
+    private static final int DEFAULT_UPDATES = 2;
+    private static final int DEFAULT_CONCURRENCY = 20;
+    private static final long DEFAULT_DELIVERY_TIMEOUT_SECONDS = 300;
+    // Time given to late duplicates after all the events are delivered.
+    private static final Duration SETTLE_PERIOD = Duration.ofSeconds(5);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+
+    private static final String EVENT_PROFILE = "WSO2";
+    private static final String EVENT_PROFILE_URI = "https://schemas.identity.wso2.org/events";
+    private static final String USER_CHANNEL = EVENT_PROFILE_URI + "/user";
+    private static final String ROLE_CHANNEL = EVENT_PROFILE_URI + "/role";
+    private static final String USER_CREATED_EVENT = USER_CHANNEL + "/event-type/userCreated";
+    private static final String USER_PROFILE_UPDATED_EVENT = USER_CHANNEL + "/event-type/userProfileUpdated";
+    private static final String USER_DELETED_EVENT = USER_CHANNEL + "/event-type/userDeleted";
+    private static final String ROLE_CREATED_EVENT = ROLE_CHANNEL + "/event-type/roleCreated";
+    private static final String ROLE_USERS_UPDATED_EVENT = ROLE_CHANNEL + "/event-type/roleUsersUpdated";
+    private static final String ROLE_DELETED_EVENT = ROLE_CHANNEL + "/event-type/roleDeleted";
+    private static final List<String> INTEGRITY_COLUMNS = Arrays.asList("event", "triggered", "delivered",
+            "duplicates", "missed", "unexpected");
+
+    private static final String WEBHOOK_NAME = "WebhookDeliveryLoadTest";
+    private static final String WEBHOOK_PATH = "/perf/webhook";
+    private static final String USERNAME_PREFIX = "webhookloaduser";
+    private static final String ROLE_MEMBER_PREFIX = "webhookrolemember";
+    private static final String ROLE_NAME_PREFIX = "webhookloadrole";
+
+    private final Queue<Subject> subjects = new ConcurrentLinkedQueue<>();
+    private final Map<String, List<Trigger>> triggers = new ConcurrentHashMap<>();
+    private final Set<String> remainingUserIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> remainingRoleIds = ConcurrentHashMap.newKeySet();
+    private LoadConfiguration webhookConfiguration;
+    private int updates;
+    private String roleMemberId;
+    private WebhookMockService mockService;
+    private WebhookDeliveryJournal journal;
+    private WebhooksRestClient webhooksRestClient;
+    private String webhookId;
+
+    @BeforeClass(alwaysRun = true)
+    public void testInit() throws Exception {
+
+        initPerformanceTest(TestUserMode.SUPER_TENANT_ADMIN);
+        webhookConfiguration = loadConfiguration.withConcurrency(
+                LoadConfiguration.getIntProperty(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY));
+        int users = LoadConfiguration.getIntProperty(USERS_PROPERTY, DEFAULT_USERS);
+        int roles = LoadConfiguration.getIntProperty(ROLES_PROPERTY, DEFAULT_ROLES);
+        updates = LoadConfiguration.getIntProperty(UPDATES_PROPERTY, DEFAULT_UPDATES);
+        // Interleave the users and the roles so that both channels are loaded throughout the run.
+        for (int i = 0; i < Math.max(users, roles); i++) {
+            if (i < users) {
+                subjects.add(new Subject(false, i));
+            }
+            if (i < roles) {
+                subjects.add(new Subject(true, i));
+            }
+        }
+        // Created before the webhook, so that its own events are not delivered.
+        roleMemberId = getLoadTestUserId(createLoadTestUsers(ROLE_MEMBER_PREFIX, 1).get(0));
+
+        // Room for the expected events and as many unexpected ones.
+        journal = new WebhookDeliveryJournal(2 * (users * (updates + 2) + roles * 3) + 1000);
+        mockService = new WebhookMockService();
+        mockService.startServer(journal);
+        String webhookEndpoint = mockService.registerWebhookEndpoint(WEBHOOK_PATH);
+        webhooksRestClient = new WebhooksRestClient(serverURL, tenantInfo);
+        webhookId = webhooksRestClient.createWebhook(new WebhookRequest()
+                .name(WEBHOOK_NAME)
+                .endpoint(webhookEndpoint)
+                .secret("secretKey")
+                .status(WebhookRequest.StatusEnum.ACTIVE)
+                .eventProfile(new WebhookRequestEventProfile().name(EVENT_PROFILE).uri(EVENT_PROFILE_URI))
+                .addChannelsSubscribedItem(USER_CHANNEL)
+                .addChannelsSubscribedItem(ROLE_CHANNEL)).getId();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void atEnd() throws Exception {
+
+        try {
+            if (webhookId != null) {
+                webhooksRestClient.deleteWebhook(webhookId);
+            }
+            if (mockService != null) {
+                mockService.stopServer();
+            }
+            // Subjects left behind by failed life cycles.
+            for (String roleId : remainingRoleIds) {
+                scim2RestClient.attemptRoleV2Delete(roleId);
+            }
+            for (String userId : remainingUserIds) {
+                scim2RestClient.deleteUser(userId);
+            }
+        } finally {
+            if (webhooksRestClient != null) {
+                webhooksRestClient.closeHttpClient();
+            }
+            cleanUpPerformanceTest();
+        }
+    }
+
+    @Test(description = "Delivery latency, throughput and integrity of webhook events under load.")
+    public void testWebhookDelivery() throws Exception {
+
+        long firstTrigger = System.nanoTime();
+        LoadResult triggerResult = new LoadGenerator(webhookConfiguration).runWhile("webhook-triggers",
+                () -> !subjects.isEmpty(), this::runLifeCycle);
+        report(webhookConfiguration, triggerResult);
+
+        int expectedEvents = triggers.values().stream().mapToInt(List::size).sum();
+        DeliveryTracker tracker = new DeliveryTracker();
+        Duration timeout = Duration.ofSeconds(LoadConfiguration.getLongProperty(DELIVERY_TIMEOUT_PROPERTY,
+                DEFAULT_DELIVERY_TIMEOUT_SECONDS));
+        boolean delivered = Await.atMost(timeout)
+                .pollInterval(POLL_INTERVAL)
+                .until("delivery of " + expectedEvents + " webhook events", () -> {
+                    tracker.consume(journal);
+                    return tracker.countMatched(triggers) >= expectedEvents;
+                });
+        if (delivered) {
+            Thread.sleep(SETTLE_PERIOD.toMillis());
+        }
+        tracker.consume(journal);
+        LOG.info("Received " + journal.getReceivedCount() + " webhook deliveries for " + expectedEvents +
+                " triggered events.");
+
+        LoadResult deliveryResult = new LoadResult("webhook-delivery");
+        Map<String, long[]> integrity = new TreeMap<>();
+        int outOfOrderSubjects = tracker.analyze(triggers, deliveryResult, integrity);
+        deliveryResult.setElapsedNanos(tracker.getLastReceivedAtNanos() - firstTrigger);
+        report(webhookConfiguration, deliveryResult);
+
+        List<List<String>> rows = new ArrayList<>();
+        long missed = 0;
+        for (Map.Entry<String, long[]> entry : integrity.entrySet()) {
+            long[] counts = entry.getValue();
+            missed += counts[3];
+            List<String> row = new ArrayList<>();
+            row.add(entry.getKey());
+            for (long count : counts) {
+                row.add(String.valueOf(count));
+            }
+            rows.add(row);
+        }
+        rows.add(Arrays.asList("out-of-order-subjects", String.valueOf(outOfOrderSubjects), "", "", "", ""));
+        rows.add(Arrays.asList("dropped-deliveries", String.valueOf(journal.getDroppedCount()), "", "", "", ""));
+        PerformanceReport.writeTable(webhookConfiguration, "webhook-delivery-integrity", INTEGRITY_COLUMNS, rows);
+
+        if (outOfOrderSubjects > 0) {
+            LOG.warn(outOfOrderSubjects + " subjects received their webhook events out of order.");
+        }
+        Assert.assertEquals(missed, 0L, "Webhook events were not delivered within " + timeout.getSeconds() + "s.");
+    }
+
+    private void runLifeCycle(LoadContext context) throws Exception {
+
+        Subject subject = subjects.poll();
+        if (subject == null) {
+            return;
+        }
+        if (subject.role) {
+            runRoleLifeCycle(context, subject.index);
+        } else {
+            runUserLifeCycle(context, subject.index);
+        }
+    }
+
+    private void runUserLifeCycle(LoadContext context, int index) throws Exception {
+
+        String username = USERNAME_PREFIX + index;
+        List<Trigger> userTriggers = new ArrayList<>();
+        long createdAt = System.nanoTime();
+        String userId = measureRestCall(context, "create-user", () -> scim2RestClient.createUser(new UserObject()
+                .userName(username)
+                .password(LOAD_TEST_USER_PASSWORD)), id -> id != null);
+        if (userId == null) {
+            return;
+        }
+        remainingUserIds.add(userId);
+        userTriggers.add(new Trigger(USER_CREATED_EVENT, createdAt));
+        try {
+            for (int update = 0; update < updates; update++) {
+                UserItemAddGroupobj replaceGivenName = new UserItemAddGroupobj().op(UserItemAddGroupobj.OpEnum.REPLACE);
+                replaceGivenName.setPath("name:givenName");
+                replaceGivenName.setValue(username + "-" + update);
+                PatchOperationRequestObject patchRequest = new PatchOperationRequestObject()
+                        .addOperations(replaceGivenName);
+                long updatedAt = System.nanoTime();
+                measureRestCall(context, "update-user", () -> {
+                    scim2RestClient.updateUser(patchRequest, userId);
+                    return Boolean.TRUE;
+                }, Boolean.TRUE::equals);
+                userTriggers.add(new Trigger(USER_PROFILE_UPDATED_EVENT, updatedAt));
+            }
+            long deletedAt = System.nanoTime();
+            measureRestCall(context, "delete-user", () -> {
+                scim2RestClient.deleteUser(userId);
+                return Boolean.TRUE;
+            }, Boolean.TRUE::equals);
+            remainingUserIds.remove(userId);
+            userTriggers.add(new Trigger(USER_DELETED_EVENT, deletedAt));
+        } finally {
+            triggers.put(userId, userTriggers);
+        }
+    }
+
+    private void runRoleLifeCycle(LoadContext context, int index) throws Exception {
+
+        List<Trigger> roleTriggers = new ArrayList<>();
+        long createdAt = System.nanoTime();
+        String roleId = measureRestCall(context, "create-role", () -> scim2RestClient.addV2Role(new RoleV2(null,
+                ROLE_NAME_PREFIX + index, Collections.emptyList(), Collections.emptyList())), id -> id != null);
+        if (roleId == null) {
+            return;
+        }
+        remainingRoleIds.add(roleId);
+        roleTriggers.add(new Trigger(ROLE_CREATED_EVENT, createdAt));
+        try {
+            RoleItemAddGroupobj addMember = new RoleItemAddGroupobj();
+            addMember.setOp(RoleItemAddGroupobj.OpEnum.ADD);
+            addMember.setPath("users");
+            addMember.addValue(new ListObject().value(roleMemberId));
+            PatchOperationRequestObject patchRequest = new PatchOperationRequestObject().addOperations(addMember);
+            long updatedAt = System.nanoTime();
+            measureRestCall(context, "update-role-users", () -> {
+                scim2RestClient.updateUsersOfRoleV2(roleId, patchRequest);
+                return Boolean.TRUE;
+            }, Boolean.TRUE::equals);
+            roleTriggers.add(new Trigger(ROLE_USERS_UPDATED_EVENT, updatedAt));
+
+            long deletedAt = System.nanoTime();
+            measureRestCall(context, "delete-role", () -> {
+                scim2RestClient.deleteV2Role(roleId);
+                return Boolean.TRUE;
+            }, Boolean.TRUE::equals);
+            remainingRoleIds.remove(roleId);
+            roleTriggers.add(new Trigger(ROLE_DELETED_EVENT, deletedAt));
+        } finally {
+            triggers.put(roleId, roleTriggers);
+        }
+    }
+
+    private static String getEventType(String eventUri) {
+
+        return eventUri.substring(eventUri.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * User or role whose life cycle is run by a virtual user.
+     */
+    private static class Subject {
+
+        private final boolean role;
+        private final int index;
+
+        Subject(boolean role, int index) {
+
+            this.role = role;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Operation which triggers a webhook event.
+     */
+    private static class Trigger {
+
+        private final String eventUri;
+        private final long triggeredAtNanos;
+
+        Trigger(String eventUri, long triggeredAtNanos) {
+
+            this.eventUri = eventUri;
+            this.triggeredAtNanos = triggeredAtNanos;
+        }
+    }
+
+    /**
+     * Webhook event received for a subject.
+     */
+    private static class ReceivedEvent {
+
+        private final String eventUri;
+        private final long receivedAtNanos;
+
+        ReceivedEvent(String eventUri, long receivedAtNanos) {
+
+            this.eventUri = eventUri;
+            this.receivedAtNanos = receivedAtNanos;
+        }
+    }
+
+    /**
+     * Reads the journal incrementally and groups the received events by subject in the order of arrival. Used by the
+     * test thread only.
+     */
+    private static class DeliveryTracker {
+
+        private final JSONParser parser = new JSONParser();
+        private final Set<String> seenEventIds = new HashSet<>();
+        private final Map<String, List<ReceivedEvent>> receivedEvents = new HashMap<>();
+        private final Map<String, Long> duplicates = new HashMap<>();
+        private long cursor;
+        private long lastReceivedAtNanos;
+
+        /**
+         * Read the deliveries published since the last call. Stops at the first delivery which is not published yet,
+         * so that the events are read in the order of arrival.
+         */
+        void consume(WebhookDeliveryJournal journal) {
+
+            WebhookDeliveryJournal.Delivery delivery;
+            while ((delivery = journal.get(cursor)) != null) {
+                cursor++;
+                lastReceivedAtNanos = Math.max(lastReceivedAtNanos, delivery.getReceivedAtNanos());
+                JSONObject payload;
+                try {
+                    payload = (JSONObject) parser.parse(delivery.getBody());
+                } catch (ParseException | ClassCastException e) {
+                    LOG.warn("Invalid webhook payload at sequence " + delivery.getSequence());
+                    continue;
+                }
+                JSONObject events = (JSONObject) payload.get("events");
+                if (events == null) {
+                    continue;
+                }
+                boolean duplicate = !seenEventIds.add(String.valueOf(payload.get("jti")));
+                for (Object eventUri : events.keySet()) {
+                    if (duplicate) {
+                        duplicates.merge(getEventType((String) eventUri), 1L, Long::sum);
+                        continue;
+                    }
+                    String subjectId = getSubjectId((JSONObject) events.get(eventUri));
+                    receivedEvents.computeIfAbsent(String.valueOf(subjectId), key -> new ArrayList<>())
+                            .add(new ReceivedEvent((String) eventUri, delivery.getReceivedAtNanos()));
+                }
+            }
+        }
+
+        /**
+         * Count the triggered events for which an event of the same subject and type was received.
+         */
+        int countMatched(Map<String, List<Trigger>> triggers) {
+
+            int matched = 0;
+            for (Map.Entry<String, List<Trigger>> entry : triggers.entrySet()) {
+                Map<String, Integer> received = new HashMap<>();
+                for (ReceivedEvent event : receivedEvents.getOrDefault(entry.getKey(), Collections.emptyList())) {
+                    received.merge(event.eventUri, 1, Integer::sum);
+                }
+                for (Trigger trigger : entry.getValue()) {
+                    if (received.merge(trigger.eventUri, -1, Integer::sum) >= 0) {
+                        matched++;
+                    }
+                }
+            }
+            return matched;
+        }
+
+        /**
+         * Match the k-th event of each subject and type with the k-th operation of that subject and type, record the
+         * delivery latencies and count the integrity violations of each event type as triggered, delivered,
+         * duplicates, missed and unexpected.
+         *
+         * @return Number of subjects which received an event before an event of an earlier operation.
+         */
+        int analyze(Map<String, List<Trigger>> triggers, LoadResult deliveryResult, Map<String, long[]> integrity) {
+
+            int outOfOrderSubjects = 0;
+            Set<String> matchedSubjects = new HashSet<>();
+            for (Map.Entry<String, List<Trigger>> entry : triggers.entrySet()) {
+                matchedSubjects.add(entry.getKey());
+                List<ReceivedEvent> subjectEvents = receivedEvents.getOrDefault(entry.getKey(),
+                        Collections.emptyList());
+                Map<String, List<Trigger>> triggersByType = new LinkedHashMap<>();
+                for (Trigger trigger : entry.getValue()) {
+                    triggersByType.computeIfAbsent(trigger.eventUri, key -> new ArrayList<>()).add(trigger);
+                }
+                Map<String, Integer> deliveredByType = new HashMap<>();
+                List<String> triggerOrder = new ArrayList<>(triggersByType.keySet());
+                int highestRank = -1;
+                boolean outOfOrder = false;
+                for (ReceivedEvent event : subjectEvents) {
+                    long[] counts = integrity.computeIfAbsent(getEventType(event.eventUri), key -> new long[5]);
+                    List<Trigger> typeTriggers = triggersByType.get(event.eventUri);
+                    int occurrence = deliveredByType.merge(event.eventUri, 1, Integer::sum) - 1;
+                    if (typeTriggers == null || occurrence >= typeTriggers.size()) {
+                        counts[4]++;
+                        continue;
+                    }
+                    counts[1]++;
+                    deliveryResult.getOperation(getEventType(event.eventUri))
+                            .recordSuccess(event.receivedAtNanos - typeTriggers.get(occurrence).triggeredAtNanos);
+                    int rank = triggerOrder.indexOf(event.eventUri);
+                    if (rank < highestRank) {
+                        outOfOrder = true;
+                    }
+                    highestRank = Math.max(highestRank, rank);
+                }
+                for (Map.Entry<String, List<Trigger>> typeEntry : triggersByType.entrySet()) {
+                    long[] counts = integrity.computeIfAbsent(getEventType(typeEntry.getKey()), key -> new long[5]);
+                    int triggered = typeEntry.getValue().size();
+                    counts[0] += triggered;
+                    counts[3] += Math.max(0, triggered - deliveredByType.getOrDefault(typeEntry.getKey(), 0));
+                }
+                if (outOfOrder) {
+                    outOfOrderSubjects++;
+                }
+            }
+            for (Map.Entry<String, List<ReceivedEvent>> entry : receivedEvents.entrySet()) {
+                if (matchedSubjects.contains(entry.getKey())) {
+                    continue;
+                }
+                for (ReceivedEvent event : entry.getValue()) {
+                    integrity.computeIfAbsent(getEventType(event.eventUri), key -> new long[5])[4]++;
+                }
+            }
+            for (Map.Entry<String, Long> entry : duplicates.entrySet()) {
+                integrity.computeIfAbsent(entry.getKey(), key -> new long[5])[2] += entry.getValue();
+            }
+            return outOfOrderSubjects;
+        }
+
+        long getLastReceivedAtNanos() {
+
+            return lastReceivedAtNanos;
+        }
+
+        private static String getSubjectId(JSONObject event) {
+
+            for (String subject : new String[]{"user", "role"}) {
+                Object value = event.get(subject);
+                if (value instanceof JSONObject) {
+                    return (String) ((JSONObject) value).get("id");
+                }
+            }
+            return null;
+        }
+    }
+}
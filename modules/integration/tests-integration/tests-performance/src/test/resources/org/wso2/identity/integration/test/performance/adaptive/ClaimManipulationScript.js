@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+function onLoginRequest(context) {
+    executeStep(1, {
+        onSuccess: function (context) {
+            var subject = context.steps[1].subject;
+            var username = subject.localClaims['http://wso2.org/claims/username'];
+            var email = subject.localClaims['http://wso2.org/claims/emailaddress'];
+            var domain = email ? email.substring(email.indexOf('@') + 1) : 'unknown';
+            context.currentKnownSubject.claims['http://wso2.org/claims/nickname'] = username + '@' + domain;
+            subject.localClaims['http://wso2.org/claims/displayName'] = username + ' (' + domain + ')';
+        }
+    });
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+// Combines the other scripts of the library. The URLs of the risk and audit services are filled in by the benchmark.
+var privilegedRoles = ['admin', 'manager', 'auditor'];
+
+function onLoginRequest(context) {
+    httpGet('%1$s', {
+        "Accept": "application/json"
+    }, {
+        onSuccess: function (context, data) {
+            if (data.riskScore >= 50) {
+                fail();
+                return;
+            }
+            executeStep(1, {
+                onSuccess: function (context) {
+                    var user = context.currentKnownSubject;
+                    var subject = context.steps[1].subject;
+                    var email = subject.localClaims['http://wso2.org/claims/emailaddress'];
+                    var domain = email ? email.substring(email.indexOf('@') + 1) : 'unknown';
+                    var privileged = hasAnyOfTheRolesV2(context, privilegedRoles);
+                    user.claims['http://wso2.org/claims/nickname'] = user.username + '@' + domain;
+                    httpPost('%2$s', {
+                        "username": user.username,
+                        "tenantDomain": user.tenantDomain,
+                        "application": context.serviceProviderName,
+                        "privileged": privileged
+                    }, {
+                        "Content-Type": "application/json",
+                        "Accept": "application/json"
+                    }, {
+                        onSuccess: function (context, data) {
+                            if (data.status != 'SUCCESS') {
+                                fail();
+                            }
+                        },
+                        onFail: function (context, data) {
+                            fail();
+                        }
+                    });
+                }
+            });
+        },
+        onFail: function (context, data) {
+            fail();
+        }
+    });
+}
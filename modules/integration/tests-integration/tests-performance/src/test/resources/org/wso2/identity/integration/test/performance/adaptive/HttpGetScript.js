@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+// The URL of the risk service is filled in by the benchmark.
+function onLoginRequest(context) {
+    httpGet('%1$s', {
+        "Accept": "application/json"
+    }, {
+        onSuccess: function (context, data) {
+            if (data.riskScore < 50) {
+                executeStep(1);
+            } else {
+                fail();
+            }
+        },
+        onFail: function (context, data) {
+            fail();
+        }
+    });
+}
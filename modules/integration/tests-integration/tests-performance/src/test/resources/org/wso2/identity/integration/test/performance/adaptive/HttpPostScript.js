@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+// The URL of the audit service is filled in by the benchmark.
+function onLoginRequest(context) {
+    executeStep(1, {
+        onSuccess: function (context) {
+            var user = context.currentKnownSubject;
+            httpPost('%2$s', {
+                "username": user.username,
+                "tenantDomain": user.tenantDomain,
+                "application": context.serviceProviderName
+            }, {
+                "Content-Type": "application/json",
+                "Accept": "application/json"
+            }, {
+                onSuccess: function (context, data) {
+                    if (data.status != 'SUCCESS') {
+                        fail();
+                    }
+                },
+                onFail: function (context, data) {
+                    fail();
+                }
+            });
+        }
+    });
+}
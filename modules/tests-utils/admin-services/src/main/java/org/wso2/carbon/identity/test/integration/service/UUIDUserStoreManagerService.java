@@ -21,6 +21,9 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.test.integration.service.dao.Attribute;
 import org.wso2.carbon.identity.test.integration.service.dao.AuthenticationResultDTO;
+import org.wso2.carbon.identity.test.integration.service.dao.BulkOperationFailureDTO;
+import org.wso2.carbon.identity.test.integration.service.dao.BulkOperationResultDTO;
+import org.wso2.carbon.identity.test.integration.service.dao.BulkUserDTO;
 import org.wso2.carbon.identity.test.integration.service.dao.ClaimDTO;
 import org.wso2.carbon.identity.test.integration.service.dao.ClaimValue;
 import org.wso2.carbon.identity.test.integration.service.dao.ConditionDTO;
@@ -28,8 +31,10 @@ import org.wso2.carbon.identity.test.integration.service.dao.FailureReasonDTO;
 import org.wso2.carbon.identity.test.integration.service.dao.LoginIdentifierDTO;
 import org.wso2.carbon.identity.test.integration.service.dao.PermissionDTO;
 import org.wso2.carbon.identity.test.integration.service.dao.UniqueIDUserClaimSearchEntryDAO;
+import org.wso2.carbon.identity.test.integration.service.dao.UserClaimValuesDTO;
 import org.wso2.carbon.identity.test.integration.service.dao.UserClaimSearchEntryDAO;
 import org.wso2.carbon.identity.test.integration.service.dao.UserDTO;
+import org.wso2.carbon.identity.test.integration.service.dao.UserPageDTO;
 import org.wso2.carbon.identity.test.integration.service.dao.UserRoleListDTO;
 import org.wso2.carbon.identity.test.integration.service.dao.UserStoreException;
 import org.wso2.carbon.user.core.Permission;
@@ -51,6 +56,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Admin service to call methods using unique user id. This service currently only used for integration tests.
@@ -59,6 +65,8 @@ public class UUIDUserStoreManagerService {
 
     private static final Log log = LogFactory.getLog(UUIDUserStoreManagerService.class);
     private static final String NULL_REALM_MESSAGE = "UserRealm is null";
+    private static final int MAX_BULK_OPERATION_SIZE = 10000;
+    private static final int MAX_PAGE_SIZE = 5000;
 
     public UserDTO addUserWithID(String userName, String credential, String[] roleList, ClaimValue[] claims,
                                  String profileName) throws UserStoreException {
@@ -419,6 +427,150 @@ public class UUIDUserStoreManagerService {
         }
     }
 
+    /**
+     * Add the given users in one call. A user which cannot be added is reported in the result without stopping the
+     * operation.
+     *
+     * @param users Users to be added.
+     * @return Result with the ids of the added users. A user which cannot be added has no id in the result, so the ids
+     * follow the order of the request but not its indexes; the user is reported as a failure instead.
+     * @throws UserStoreException If the request is larger than the allowed bulk size.
+     */
+    public BulkOperationResultDTO addUsersWithID(BulkUserDTO[] users) throws UserStoreException {
+
+        AbstractUserStoreManager userStoreManager = getUserStoreManager();
+        return runBulkOperation("add users", users, BulkUserDTO::getUserName,
+                user -> userStoreManager.addUserWithID(user.getUserName(), user.getCredential(),
+                        user.getRoleList(), convertClaimValueToMap(user.getClaims()), user.getProfileName())
+                        .getUserID());
+    }
+
+    /**
+     * Delete the given users in one call. A user which cannot be deleted is reported in the result without stopping
+     * the operation.
+     *
+     * @param userIDs Ids of the users to be deleted.
+     * @return Result of the operation.
+     * @throws UserStoreException If the request is larger than the allowed bulk size.
+     */
+    public BulkOperationResultDTO deleteUsersWithID(String[] userIDs) throws UserStoreException {
+
+        AbstractUserStoreManager userStoreManager = getUserStoreManager();
+        return runBulkOperation("delete users", userIDs, userID -> userID, userID -> {
+            userStoreManager.deleteUserWithID(userID);
+            return null;
+        });
+    }
+
+    /**
+     * Set the given claim values of several users in one call. A user whose claims cannot be set is reported in the
+     * result without stopping the operation.
+     *
+     * @param users       Users and their claim values.
+     * @param profileName Profile name.
+     * @return Result of the operation.
+     * @throws UserStoreException If the request is larger than the allowed bulk size.
+     */
+    public BulkOperationResultDTO setUsersClaimValuesWithID(UserClaimValuesDTO[] users, String profileName)
+            throws UserStoreException {
+
+        AbstractUserStoreManager userStoreManager = getUserStoreManager();
+        return runBulkOperation("set user claim values", users, UserClaimValuesDTO::getUserID, user -> {
+            userStoreManager.setUserClaimValuesWithID(user.getUserID(), convertClaimValueToMap(user.getClaims()),
+                    profileName);
+            return null;
+        });
+    }
+
+    /**
+     * List a page of users. Unlike {@link #listUsersWithID(String, int)}, only the requested page is read from the
+     * user store, so that large user stores can be walked through page by page. A page may hold fewer users than the
+     * page size, as the user store caps the number of listed users, so only an empty page ends the listing.
+     *
+     * @param filter   Filter for the user names.
+     * @param cursor   Cursor returned with the previous page, or null for the first page.
+     * @param pageSize Maximum number of users in the page.
+     * @return Page of users, with a cursor for the next page unless the page is empty.
+     * @throws UserStoreException If the users cannot be listed.
+     */
+    public UserPageDTO listUsersPageWithID(String filter, String cursor, int pageSize) throws UserStoreException {
+
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new UserStoreException("Page size should be between 1 and " + MAX_PAGE_SIZE + ": " + pageSize);
+        }
+        int offset = getOffsetFromCursor(cursor);
+        try {
+            List<User> users = getUserStoreManager().listUsersWithID(filter, pageSize, offset);
+            UserPageDTO userPageDTO = new UserPageDTO();
+            userPageDTO.setUsers(getUserDTOListFromUser(users));
+            if (!users.isEmpty()) {
+                userPageDTO.setNextCursor(String.valueOf(offset + users.size()));
+            }
+            return userPageDTO;
+        } catch (org.wso2.carbon.user.core.UserStoreException e) {
+            log.error("Error while calling the service method.", e);
+            throw new UserStoreException(e.getMessage(), e.getErrorCode(), e.getCause());
+        }
+    }
+
+    private <T> BulkOperationResultDTO runBulkOperation(String operationName, T[] items,
+                                                        Function<T, String> identifierResolver,
+                                                        BulkItemOperation<T> operation)
+            throws UserStoreException {
+
+        int itemCount = items == null ? 0 : items.length;
+        if (itemCount > MAX_BULK_OPERATION_SIZE) {
+            throw new UserStoreException("Bulk operation size should not exceed " + MAX_BULK_OPERATION_SIZE + ": " +
+                    itemCount);
+        }
+
+        List<String> userIDs = new ArrayList<>();
+        List<BulkOperationFailureDTO> failures = new ArrayList<>();
+        int successCount = 0;
+        for (int i = 0; i < itemCount; i++) {
+            T item = items[i];
+            try {
+                String userID = operation.execute(item);
+                if (userID != null) {
+                    userIDs.add(userID);
+                }
+                successCount++;
+            } catch (org.wso2.carbon.user.core.UserStoreException e) {
+                failures.add(new BulkOperationFailureDTO(identifierResolver.apply(item), e.getErrorCode(),
+                        e.getMessage()));
+                if (log.isDebugEnabled()) {
+                    log.debug("Failed to " + operationName + " for: " + identifierResolver.apply(item), e);
+                }
+            }
+        }
+        if (!failures.isEmpty()) {
+            log.warn("Failed to " + operationName + " for " + failures.size() + " of " + itemCount + " items.");
+        }
+
+        BulkOperationResultDTO result = new BulkOperationResultDTO();
+        result.setSuccessCount(successCount);
+        result.setUserIDs(userIDs.toArray(new String[0]));
+        result.setFailures(failures.toArray(new BulkOperationFailureDTO[0]));
+        return result;
+    }
+
+    private int getOffsetFromCursor(String cursor) throws UserStoreException {
+
+        // The user store managers use 1 based offsets.
+        if (cursor == null || cursor.isEmpty()) {
+            return 1;
+        }
+        try {
+            int offset = Integer.parseInt(cursor);
+            if (offset < 1) {
+                throw new UserStoreException("Invalid cursor: " + cursor);
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw new UserStoreException("Invalid cursor: " + cursor, e);
+        }
+    }
+
     private UserDTO getUserDTO(User user) {
 
         UserDTO userDTO = new UserDTO();
@@ -584,6 +736,9 @@ public class UUIDUserStoreManagerService {
     private Map<String, String> convertClaimValueToMap(ClaimValue[] values) {
 
         Map<String, String> map = new HashMap<>();
+        if (values == null) {
+            return map;
+        }
         for (ClaimValue claimValue : values) {
             map.put(claimValue.getClaimUri(), claimValue.getClaimValue());
         }
@@ -644,4 +799,22 @@ public class UUIDUserStoreManagerService {
         userClaimSearchEntryDAO.setClaims(claimValues);
         return userClaimSearchEntryDAO;
     }
+
+    /**
+     * Operation applied to an item of a bulk operation.
+     *
+     * @param <T> Type of the item.
+     */
+    @FunctionalInterface
+    private interface BulkItemOperation<T> {
+
+        /**
+         * Apply the operation to the item.
+         *
+         * @param item Item.
+         * @return Id of the user added by the operation, or null.
+         * @throws org.wso2.carbon.user.core.UserStoreException If the operation fails for the item.
+         */
+        String execute(T item) throws org.wso2.carbon.user.core.UserStoreException;
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.test.integration.service.dao;
+
+/**
+ * Result of a bulk operation. A failed item does not stop the operation, it is reported in the failures instead.
+ */
+public class BulkOperationResultDTO {
+
+    private int successCount;
+    private String[] userIDs;
+    private BulkOperationFailureDTO[] failures;
+
+    public int getSuccessCount() {
+
+        return successCount;
+    }
+
+    public void setSuccessCount(int successCount) {
+
+        this.successCount = successCount;
+    }
+
+    /**
+     * Get the ids of the users added by the operation, in the order of the request. The users which could not be
+     * added are left out and reported in the failures.
+     *
+     * @return User ids. Empty for the operations which do not add users.
+     */
+    public String[] getUserIDs() {
+
+        return userIDs;
+    }
+
+    public void setUserIDs(String[] userIDs) {
+
+        this.userIDs = userIDs;
+    }
+
+    public BulkOperationFailureDTO[] getFailures() {
+
+        return failures;
+    }
+
+    public void setFailures(BulkOperationFailureDTO[] failures) {
+
+        this.failures = failures;
+    }
+}
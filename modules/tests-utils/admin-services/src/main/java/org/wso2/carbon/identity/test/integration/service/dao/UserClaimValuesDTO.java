@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.test.integration.service.dao;
+
+/**
+ * Claim values to be set to a user with a bulk operation.
+ */
+public class UserClaimValuesDTO {
+
+    private String userID;
+    private ClaimValue[] claims;
+
+    public String getUserID() {
+
+        return userID;
+    }
+
+    public void setUserID(String userID) {
+
+        this.userID = userID;
+    }
+
+    public ClaimValue[] getClaims() {
+
+        return claims;
+    }
+
+    public void setClaims(ClaimValue[] claims) {
+
+        this.claims = claims;
+    }
+}
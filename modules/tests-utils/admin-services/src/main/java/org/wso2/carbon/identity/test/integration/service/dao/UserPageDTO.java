@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.test.integration.service.dao;
+
+/**
+ * A page of users and the cursor to fetch the next page.
+ */
+public class UserPageDTO {
+
+    private UserDTO[] users;
+    private String nextCursor;
+
+    public UserDTO[] getUsers() {
+
+        return users;
+    }
+
+    public void setUsers(UserDTO[] users) {
+
+        this.users = users;
+    }
+
+    /**
+     * Get the cursor of the next page.
+     *
+     * @return Cursor, or null if the page is empty and there are no more users.
+     */
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+
+        this.nextCursor = nextCursor;
+    }
+}